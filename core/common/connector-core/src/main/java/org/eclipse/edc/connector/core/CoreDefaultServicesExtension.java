@@ -30,7 +30,9 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.agent.ParticipantIdMapper;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
@@ -39,7 +41,12 @@ import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.util.Collections;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
 
 /**
  * Provides default service implementations for fallback
@@ -62,6 +69,10 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
     private static final boolean DEFAULT_OK_HTTP_CLIENT_HTTPS_ENFORCE = false;
     private static final int DEFAULT_OK_HTTP_CLIENT_SEND_BUFFER_SIZE = 0;
     private static final int DEFAULT_OK_HTTP_CLIENT_RECEIVE_BUFFER_SIZE = 0;
+    private static final int DEFAULT_EVENTS_EXECUTOR_THREADS = 1;
+    private static final int DEFAULT_EVENTS_EXECUTOR_QUEUE_SIZE = 10_000;
+    private static final String EVENTS_EXECUTOR_REJECTION_CALLER_RUNS = "caller-runs";
+    private static final String EVENTS_EXECUTOR_REJECTION_DISCARD = "discard";
 
     @Setting(value = "RetryPolicy: Maximum retries before a failure is propagated", defaultValue = DEFAULT_RETRY_POLICY_MAX_RETRIES + "", type = "int")
     private static final String RETRY_POLICY_MAX_RETRIES = "edc.core.retry.retries.max";
@@ -89,6 +100,13 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
     private static final String OK_HTTP_CLIENT_SEND_BUFFER_SIZE = "edc.http.client.send.buffer.size";
     @Setting(value = "OkHttpClient: receive buffer size, in bytes", defaultValue = DEFAULT_OK_HTTP_CLIENT_RECEIVE_BUFFER_SIZE + "", type = "int", min = 1)
     private static final String OK_HTTP_CLIENT_RECEIVE_BUFFER_SIZE = "edc.http.client.receive.buffer.size";
+    @Setting(value = "Event executor: number of threads delivering events to asynchronous subscribers", defaultValue = DEFAULT_EVENTS_EXECUTOR_THREADS + "", type = "int", min = 1)
+    private static final String EVENTS_EXECUTOR_THREADS = "edc.events.executor.threads";
+    @Setting(value = "Event executor: maximum number of pending deliveries to asynchronous subscribers", defaultValue = DEFAULT_EVENTS_EXECUTOR_QUEUE_SIZE + "", type = "int", min = 1)
+    private static final String EVENTS_EXECUTOR_QUEUE_SIZE = "edc.events.executor.queue.size";
+    @Setting(value = "Event executor: what happens when the queue is full, either '" + EVENTS_EXECUTOR_REJECTION_CALLER_RUNS + "' (the publishing thread delivers the event) " +
+            "or '" + EVENTS_EXECUTOR_REJECTION_DISCARD + "' (the delivery is dropped and logged)", defaultValue = EVENTS_EXECUTOR_REJECTION_CALLER_RUNS)
+    private static final String EVENTS_EXECUTOR_REJECTION_POLICY = "edc.events.executor.rejection.policy";
 
     /**
      * An optional OkHttp {@link EventListener} that can be used to instrument OkHttp client for collecting metrics.
@@ -96,6 +114,9 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
     @Inject(required = false)
     private EventListener okHttpEventListener;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
     @Override
     public String name() {
         return NAME;
@@ -114,8 +135,15 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
     }
 
     @Provider(isDefault = true)
-    public EventExecutorServiceContainer eventExecutorServiceContainer() {
-        return new EventExecutorServiceContainer(Executors.newFixedThreadPool(1));
+    public EventExecutorServiceContainer eventExecutorServiceContainer(ServiceExtensionContext context) {
+        var threads = context.getSetting(EVENTS_EXECUTOR_THREADS, DEFAULT_EVENTS_EXECUTOR_THREADS);
+        var queueSize = context.getSetting(EVENTS_EXECUTOR_QUEUE_SIZE, DEFAULT_EVENTS_EXECUTOR_QUEUE_SIZE);
+        var rejectionPolicy = context.getSetting(EVENTS_EXECUTOR_REJECTION_POLICY, EVENTS_EXECUTOR_REJECTION_CALLER_RUNS);
+
+        var executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), rejectedExecutionHandler(rejectionPolicy));
+
+        return new EventExecutorServiceContainer(executorInstrumentation.instrument(executor, "event-router"));
     }
 
     @Provider
@@ -166,4 +194,12 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
         return new NoOpParticipantIdMapper();
     }
 
+    private RejectedExecutionHandler rejectedExecutionHandler(String rejectionPolicy) {
+        return switch (rejectionPolicy) {
+            case EVENTS_EXECUTOR_REJECTION_CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            // rejected deliveries are logged by the event router
+            case EVENTS_EXECUTOR_REJECTION_DISCARD -> new ThreadPoolExecutor.AbortPolicy();
+            default -> throw new EdcException(format("Invalid value '%s' for setting %s", rejectionPolicy, EVENTS_EXECUTOR_REJECTION_POLICY));
+        };
+    }
 }
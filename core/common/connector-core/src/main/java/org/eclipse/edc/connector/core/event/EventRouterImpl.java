@@ -21,13 +21,13 @@ import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.runAsync;
@@ -36,6 +36,9 @@ public class EventRouterImpl implements EventRouter {
 
     private final Map<Class<?>, List<EventSubscriber>> subscribers = new ConcurrentHashMap<>();
     private final Map<Class<?>, List<EventSubscriber>> syncSubscribers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<EventSubscriber>> resolvedSubscribers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<EventSubscriber>> resolvedSyncSubscribers = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
 
     private final Monitor monitor;
     private final ExecutorService executor;
@@ -47,41 +50,78 @@ public class EventRouterImpl implements EventRouter {
 
     @Override
     public <E extends Event> void registerSync(Class<E> eventKind, EventSubscriber subscriber) {
-        syncSubscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        syncSubscribers.computeIfAbsent(eventKind, s -> new CopyOnWriteArrayList<>()).add(subscriber);
+        generation.incrementAndGet();
+        resolvedSyncSubscribers.clear();
     }
 
     @Override
     public <E extends Event> void register(Class<E> eventKind, EventSubscriber subscriber) {
-        subscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        subscribers.computeIfAbsent(eventKind, s -> new CopyOnWriteArrayList<>()).add(subscriber);
+        generation.incrementAndGet();
+        resolvedSubscribers.clear();
     }
-    
+
     @Override
     public <E extends Event> void publish(EventEnvelope<E> event) {
-        subscriberFor(event, this::getSyncSubscribers).forEach(subscriber -> subscriber.on(event));
-
-        subscriberFor(event, this::getSubscribers)
-                .map(subscriber -> runAsync(() -> subscriber.on(event), executor).thenApply(v -> subscriber))
-                .forEach(future -> future.whenComplete((subscriber, throwable) -> {
-                    if (throwable != null) {
-                        var subscriberName = subscriber.getClass().getSimpleName();
-                        var eventName = event.getClass().getSimpleName();
-                        monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
-                    }
-                }));
+        var eventClass = event.getPayload().getClass();
+
+        resolved(eventClass, syncSubscribers, resolvedSyncSubscribers)
+                .forEach(subscriber -> subscriber.on(event));
+
+        resolved(eventClass, subscribers, resolvedSubscribers)
+                .forEach(subscriber -> publishAsync(subscriber, event));
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSubscribers() {
-        return subscribers;
+    private <E extends Event> void publishAsync(EventSubscriber subscriber, EventEnvelope<E> event) {
+        var eventName = event.getPayload().getClass().getSimpleName();
+        try {
+            runAsync(() -> subscriber.on(event), executor).whenComplete((v, throwable) -> {
+                if (throwable != null) {
+                    var subscriberName = subscriber.getClass().getSimpleName();
+                    monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            monitor.warning(format("Event executor is saturated, event %s has been discarded for subscriber %s", eventName, subscriber.getClass().getSimpleName()));
+        }
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSyncSubscribers() {
-        return syncSubscribers;
+    /**
+     * Returns the cached subscribers for the event class, resolving them if needed. The resolution is only cached if no
+     * subscriber got registered in the meantime, otherwise it could miss that subscriber and outlive the invalidation.
+     */
+    private List<EventSubscriber> resolved(Class<?> eventClass, Map<Class<?>, List<EventSubscriber>> registered,
+                                           Map<Class<?>, List<EventSubscriber>> resolvedCache) {
+        var cached = resolvedCache.get(eventClass);
+        if (cached != null) {
+            return cached;
+        }
+
+        var resolvedGeneration = generation.get();
+        var resolved = resolve(eventClass, registered);
+        if (generation.get() == resolvedGeneration) {
+            cached = resolvedCache.putIfAbsent(eventClass, resolved);
+            if (cached != null) {
+                return cached;
+            }
+            // a subscriber could have been registered between the check and the insertion
+            if (generation.get() != resolvedGeneration) {
+                resolvedCache.remove(eventClass, resolved);
+            }
+        }
+        return resolved;
     }
 
-    private <E extends Event> Stream<EventSubscriber> subscriberFor(EventEnvelope<E> envelope, Supplier<Map<Class<?>, List<EventSubscriber>>> supplier) {
-        return supplier.get().entrySet()
+    /**
+     * Collects the subscribers registered for the given event class or any of its supertypes. The result is cached
+     * per concrete event class until a new subscriber gets registered.
+     */
+    private List<EventSubscriber> resolve(Class<?> eventClass, Map<Class<?>, List<EventSubscriber>> registered) {
+        return registered.entrySet()
                 .stream()
-                .filter(entry -> entry.getKey().isAssignableFrom(envelope.getPayload().getClass()))
-                .flatMap(entry -> entry.getValue().stream());
+                .filter(entry -> entry.getKey().isAssignableFrom(eventClass))
+                .flatMap(entry -> entry.getValue().stream())
+                .toList();
     }
 }
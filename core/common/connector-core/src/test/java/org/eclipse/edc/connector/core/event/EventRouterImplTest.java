@@ -21,15 +21,19 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -149,6 +153,43 @@ class EventRouterImplTest {
         verifyNoInteractions(subscriberB);
     }
 
+    @Test
+    void shouldPublishToSubscriberRegisteredAfterFirstPublish() {
+        var subscriberA = mock(EventSubscriber.class);
+        var subscriberB = mock(EventSubscriber.class);
+        eventRouter.registerSync(TestEvent.class, subscriberA);
+
+        var event = EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+        eventRouter.publish(event);
+
+        eventRouter.registerSync(TestEventBase.class, subscriberB);
+        eventRouter.publish(event);
+
+        verify(subscriberA, times(2)).on(eq(event));
+        verify(subscriberB).on(eq(event));
+    }
+
+    @Test
+    void shouldDiscardAndWarn_whenExecutorRejectsDelivery() {
+        var executor = mock(ExecutorService.class);
+        doThrow(new RejectedExecutionException()).when(executor).execute(any());
+        var router = new EventRouterImpl(monitor, executor);
+        var subscriber = mock(EventSubscriber.class);
+        router.register(TestEvent.class, subscriber);
+
+        var event = EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+        router.publish(event);
+
+        verify(monitor).warning(anyString());
+        verifyNoInteractions(subscriber);
+    }
+
     private abstract static class TestEventBase extends Event {
     }
 
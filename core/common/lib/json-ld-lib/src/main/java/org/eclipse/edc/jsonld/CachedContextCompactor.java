@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jsonld;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.compaction.Compaction;
+import com.apicatalog.jsonld.compaction.UriCompaction;
+import com.apicatalog.jsonld.context.ActiveContext;
+import com.apicatalog.jsonld.document.JsonDocument;
+import com.apicatalog.jsonld.processor.ProcessingRuntime;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import org.eclipse.edc.jsonld.spi.JsonLdKeywords;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static jakarta.json.Json.createObjectBuilder;
+
+/**
+ * Compacts JSON-LD documents against the context of a scope, reusing the active context created for it.
+ * <p>
+ * The Titanium compaction algorithm processes the context from scratch on every call, including the remote contexts it
+ * references. The context of a scope only changes when a namespace or a context gets registered, so the active
+ * context is created once per scope and cached until {@link #clear()} is called. This follows the steps of the
+ * compaction processor, so the result is the same as the one of {@link com.apicatalog.jsonld.JsonLd#compact}.
+ */
+class CachedContextCompactor {
+
+    private final JsonLdOptions options;
+    private final Function<String, JsonValue> contextProvider;
+    private final Map<String, ScopedContext> contexts = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    CachedContextCompactor(JsonLdOptions options, Function<String, JsonValue> contextProvider) {
+        this.options = options;
+        this.contextProvider = contextProvider;
+    }
+
+    /**
+     * Compacts the document.
+     *
+     * @param document the document, an object or an array of objects.
+     * @param scope    the scope whose context is used for the compaction.
+     * @return the compacted document, with the context of the scope.
+     * @throws JsonLdError if the context cannot be processed or the document cannot be expanded or compacted.
+     */
+    JsonObject compact(JsonStructure document, String scope) throws JsonLdError {
+        var expanded = com.apicatalog.jsonld.JsonLd.expand(JsonDocument.of(document))
+                .options(options)
+                .ordered(false)
+                .get();
+
+        var context = scopedContext(scope);
+        var compacted = Compaction.with(context.activeContext())
+                .compactArrays(options.isCompactArrays())
+                .ordered(options.isOrdered())
+                .compact(expanded);
+
+        JsonObject output;
+        if (compacted instanceof JsonArray array) {
+            if (array.isEmpty()) {
+                output = JsonValue.EMPTY_JSON_OBJECT;
+            } else {
+                var graph = UriCompaction.with(context.activeContext()).vocab(true).compact(JsonLdKeywords.GRAPH);
+                output = createObjectBuilder().add(graph, array).build();
+            }
+        } else {
+            output = compacted.asJsonObject();
+        }
+
+        if (isEmpty(context.value())) {
+            return output;
+        }
+        return createObjectBuilder(output).add(JsonLdKeywords.CONTEXT, context.value()).build();
+    }
+
+    /**
+     * Drops all the cached active contexts, needed when the context of a scope or a remote context it references changes.
+     */
+    void clear() {
+        generation.incrementAndGet();
+        contexts.clear();
+    }
+
+    int size() {
+        return contexts.size();
+    }
+
+    private ScopedContext scopedContext(String scope) throws JsonLdError {
+        var cached = contexts.get(scope);
+        if (cached != null) {
+            return cached;
+        }
+
+        var createdGeneration = generation.get();
+        var value = contextProvider.apply(scope);
+        var activeContext = new ActiveContext(null, null, ProcessingRuntime.of(options)).newContext().create(value, null);
+        // the inverse context is created lazily on the first compaction, it must be complete before the active context is shared
+        if (activeContext.getInverseContext() == null) {
+            activeContext.createInverseContext();
+        }
+        var created = new ScopedContext(value, activeContext);
+
+        // a context created while a registration happened could miss it, and must not outlive the invalidation
+        if (generation.get() == createdGeneration) {
+            contexts.put(scope, created);
+            if (generation.get() != createdGeneration) {
+                contexts.remove(scope, created);
+            }
+        }
+        return created;
+    }
+
+    private boolean isEmpty(JsonValue value) {
+        return value == null || value.getValueType() == JsonValue.ValueType.NULL ||
+                value instanceof JsonArray array && array.isEmpty() ||
+                value instanceof JsonObject object && object.isEmpty();
+    }
+
+    private record ScopedContext(JsonValue value, ActiveContext activeContext) {
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jsonld;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.context.ActiveContext;
+import com.apicatalog.jsonld.expansion.Expansion;
+import com.apicatalog.jsonld.processor.ProcessingRuntime;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import org.eclipse.edc.jsonld.spi.JsonLdKeywords;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static jakarta.json.Json.createArrayBuilder;
+import static jakarta.json.Json.createObjectBuilder;
+
+/**
+ * Expands JSON-LD documents reusing the active contexts created for previously seen {@code @context} values.
+ * <p>
+ * The Titanium expansion algorithm processes the {@code @context} of every document from scratch. Almost all the
+ * documents received by a connector use one of a handful of contexts (DSP, ODRL, management API), so the active
+ * context is created once per distinct {@code @context} value, kept in a bounded LRU cache, and the remainder of the
+ * document is expanded against it. This follows the steps of the expansion processor, so the result is the same as
+ * the one of {@link com.apicatalog.jsonld.JsonLd#expand}.
+ */
+class CachedContextExpander {
+
+    private final JsonLdOptions options;
+    private final ActiveContext initialContext;
+    private final Map<JsonValue, ActiveContext> contexts;
+
+    CachedContextExpander(JsonLdOptions options, int maxSize) {
+        this.options = options;
+        this.initialContext = new ActiveContext(null, null, ProcessingRuntime.of(options));
+        this.contexts = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<JsonValue, ActiveContext> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * Expands the document.
+     *
+     * @param document the document, with its {@code @context}.
+     * @return the expanded document.
+     * @throws JsonLdError if the context cannot be processed or the document cannot be expanded.
+     */
+    JsonArray expand(JsonObject document) throws JsonLdError {
+        var activeContext = initialContext;
+        var element = document;
+
+        var localContext = document.get(JsonLdKeywords.CONTEXT);
+        if (localContext != null) {
+            activeContext = activeContext(localContext);
+            element = createObjectBuilder(document).remove(JsonLdKeywords.CONTEXT).build();
+        }
+
+        var expanded = Expansion.with(activeContext, element, null, null)
+                .ordered(options.isOrdered())
+                .compute();
+
+        if (expanded instanceof JsonObject object && object.size() == 1 && object.containsKey(JsonLdKeywords.GRAPH)) {
+            expanded = object.get(JsonLdKeywords.GRAPH);
+        }
+        if (expanded == null || expanded.getValueType() == JsonValue.ValueType.NULL) {
+            return JsonValue.EMPTY_JSON_ARRAY;
+        }
+        if (expanded instanceof JsonArray array) {
+            return array;
+        }
+        return createArrayBuilder().add(expanded).build();
+    }
+
+    /**
+     * Drops all the cached active contexts, needed when a remote context they could be based on changes.
+     */
+    void clear() {
+        contexts.clear();
+    }
+
+    int size() {
+        return contexts.size();
+    }
+
+    private ActiveContext activeContext(JsonValue localContext) throws JsonLdError {
+        var cached = contexts.get(localContext);
+        if (cached != null) {
+            return cached;
+        }
+        // created outside the lock, concurrent misses on the same context produce equivalent active contexts
+        var created = initialContext.newContext().create(localContext, null);
+        contexts.put(localContext, created);
+        return created;
+    }
+}
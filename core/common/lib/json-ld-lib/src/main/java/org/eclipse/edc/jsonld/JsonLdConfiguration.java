@@ -19,6 +19,7 @@ public class JsonLdConfiguration {
     private boolean httpEnabled = false;
     private boolean httpsEnabled = false;
     private boolean checkPrefixes = true;
+    private int contextCacheSize = 256;
 
     private JsonLdConfiguration() {
 
@@ -36,6 +37,10 @@ public class JsonLdConfiguration {
         return checkPrefixes;
     }
 
+    public int getContextCacheSize() {
+        return contextCacheSize;
+    }
+
     public static class Builder {
 
         private final JsonLdConfiguration configuration = new JsonLdConfiguration();
@@ -59,6 +64,11 @@ public class JsonLdConfiguration {
             return this;
         }
 
+        public Builder contextCacheSize(int contextCacheSize) {
+            configuration.contextCacheSize = contextCacheSize;
+            return this;
+        }
+
         public JsonLdConfiguration build() {
             return configuration;
         }
@@ -23,6 +23,7 @@ import com.apicatalog.jsonld.loader.DocumentLoaderOptions;
 import com.apicatalog.jsonld.loader.FileLoader;
 import com.apicatalog.jsonld.loader.HttpLoader;
 import com.apicatalog.jsonld.loader.SchemeRouter;
+import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonValue;
 import org.eclipse.edc.jsonld.document.JarLoader;
@@ -46,9 +47,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static jakarta.json.Json.createArrayBuilder;
-import static jakarta.json.Json.createBuilderFactory;
 import static jakarta.json.Json.createObjectBuilder;
-import static java.util.Optional.ofNullable;
 
 /**
  * Implementation of the {@link JsonLd} interface that uses the Titanium library for all JSON-LD operations.
@@ -62,6 +61,9 @@ public class TitaniumJsonLd implements JsonLd {
     private final Map<String, Map<String, String>> scopedNamespaces = new HashMap<>();
     private final Map<String, Set<String>> scopedContexts = new HashMap<>();
     private final CachedDocumentLoader documentLoader;
+    private final JsonLdOptions options;
+    private final CachedContextExpander expander;
+    private final CachedContextCompactor compactor;
 
     private final JsonObjectValidator validator;
 
@@ -74,6 +76,9 @@ public class TitaniumJsonLd implements JsonLd {
     public TitaniumJsonLd(Monitor monitor, JsonLdConfiguration configuration) {
         this.monitor = monitor;
         this.documentLoader = new CachedDocumentLoader(configuration, monitor);
+        this.options = new JsonLdOptions(documentLoader);
+        this.expander = configuration.getContextCacheSize() > 0 ? new CachedContextExpander(options, configuration.getContextCacheSize()) : null;
+        this.compactor = new CachedContextCompactor(options, this::createContext);
         this.shouldCheckPrefixes = configuration.shouldCheckPrefixes();
         this.validator = JsonObjectValidator.newValidator()
                 .verify((path) -> new MissingPrefixes(path, this::getAllPrefixes))
@@ -83,10 +88,7 @@ public class TitaniumJsonLd implements JsonLd {
     @Override
     public Result<JsonObject> expand(JsonObject json) {
         try {
-            var document = JsonDocument.of(injectVocab(json));
-            var expanded = com.apicatalog.jsonld.JsonLd.expand(document)
-                    .options(new JsonLdOptions(documentLoader))
-                    .get();
+            var expanded = expandDocument(injectVocab(json));
             if (!expanded.isEmpty()) {
                 var object = expanded.getJsonObject(0);
                 if (shouldCheckPrefixes) {
@@ -107,14 +109,7 @@ public class TitaniumJsonLd implements JsonLd {
     @Override
     public Result<JsonObject> compact(JsonObject json, String scope) {
         try {
-            var document = JsonDocument.of(json);
-            var jsonFactory = createBuilderFactory(Map.of());
-            var contextDocument = JsonDocument.of(jsonFactory.createObjectBuilder()
-                    .add(JsonLdKeywords.CONTEXT, createContext(scope))
-                    .build());
-            var compacted = com.apicatalog.jsonld.JsonLd.compact(document, contextDocument)
-                    .options(new JsonLdOptions(documentLoader))
-                    .get();
+            var compacted = compactor.compact(json, scope);
             return Result.success(compacted);
         } catch (JsonLdError e) {
             monitor.warning("Error compacting JSON-LD structure", e);
@@ -122,38 +117,82 @@ public class TitaniumJsonLd implements JsonLd {
         }
     }
 
+    /**
+     * Compacts all the objects as a single document, so that the context is processed once. The compacted objects are
+     * extracted from the resulting {@code @graph} and the context is added to each of them. Arrays containing values
+     * that are not objects, or objects that would be dropped by the compaction, are compacted one by one.
+     */
+    @Override
+    public Result<JsonArray> compactAll(JsonArray json, String scope) {
+        if (json.size() < 2 || !json.stream().allMatch(JsonObject.class::isInstance)) {
+            return JsonLd.super.compactAll(json, scope);
+        }
+        try {
+            var compacted = compactor.compact(json, scope);
+            if (!(compacted.get(JsonLdKeywords.GRAPH) instanceof JsonArray graph) || graph.size() != json.size()) {
+                return JsonLd.super.compactAll(json, scope);
+            }
+            var context = compacted.get(JsonLdKeywords.CONTEXT);
+            var builder = createArrayBuilder();
+            graph.forEach(item -> builder.add(withContext(item.asJsonObject(), context)));
+            return Result.success(builder.build());
+        } catch (JsonLdError e) {
+            monitor.warning("Error compacting JSON-LD structure", e);
+            return Result.failure(e.getMessage());
+        }
+    }
+
     @Override
     public void registerNamespace(String prefix, String contextIri, String scope) {
         var namespaces = scopedNamespaces.computeIfAbsent(scope, k -> new LinkedHashMap<>());
         namespaces.put(prefix, contextIri);
+        compactor.clear();
     }
 
     @Override
     public void registerContext(String contextIri, String scope) {
         var contexts = scopedContexts.computeIfAbsent(scope, k -> new LinkedHashSet<>());
         contexts.add(contextIri);
+        compactor.clear();
     }
 
     @Override
     public void registerCachedDocument(String contextUrl, URI uri) {
         documentLoader.register(contextUrl, uri);
+        compactor.clear();
+        if (expander != null) {
+            expander.clear();
+        }
     }
 
-    private JsonObject injectVocab(JsonObject json) {
-        var jsonObjectBuilder = createObjectBuilder(json);
+    private JsonArray expandDocument(JsonObject json) throws JsonLdError {
+        if (expander != null) {
+            return expander.expand(json);
+        }
+        return com.apicatalog.jsonld.JsonLd.expand(JsonDocument.of(json))
+                .options(options)
+                .get();
+    }
 
+    private JsonObject injectVocab(JsonObject json) {
         //only inject the vocab if the @context is an object, not a URL
-        if (json.get(JsonLdKeywords.CONTEXT) instanceof JsonObject) {
-            var contextObject = ofNullable(json.getJsonObject(JsonLdKeywords.CONTEXT)).orElseGet(() -> createObjectBuilder().build());
-            var contextBuilder = createObjectBuilder(contextObject);
-            if (!contextObject.containsKey(JsonLdKeywords.VOCAB)) {
-                var newContextObject = contextBuilder
-                        .add(JsonLdKeywords.VOCAB, CoreConstants.EDC_NAMESPACE)
-                        .build();
-                jsonObjectBuilder.add(JsonLdKeywords.CONTEXT, newContextObject);
-            }
+        if (json.get(JsonLdKeywords.CONTEXT) instanceof JsonObject contextObject && !contextObject.containsKey(JsonLdKeywords.VOCAB)) {
+            var newContextObject = createObjectBuilder(contextObject)
+                    .add(JsonLdKeywords.VOCAB, CoreConstants.EDC_NAMESPACE)
+                    .build();
+            return createObjectBuilder(json).add(JsonLdKeywords.CONTEXT, newContextObject).build();
         }
-        return jsonObjectBuilder.build();
+        return json;
+    }
+
+    private JsonObject withContext(JsonObject compacted, JsonValue context) {
+        if (context == null) {
+            return compacted;
+        }
+        return createObjectBuilder()
+                .add(JsonLdKeywords.CONTEXT, context)
+                .addAll(createObjectBuilder(compacted))
+                .build();
     }
 
     private JsonValue createContext(String scope) {
@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jsonld;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.JsonDocument;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.net.URISyntaxException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static jakarta.json.Json.createArrayBuilder;
+import static jakarta.json.Json.createObjectBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedContextCompactorTest {
+
+    private final JsonLdOptions options = new JsonLdOptions();
+
+    @ParameterizedTest
+    @ArgumentsSource(Documents.class)
+    void compact_shouldProduceSameResultAsTitanium(JsonStructure document, JsonValue context) throws JsonLdError {
+        var compactor = new CachedContextCompactor(options, scope -> context);
+
+        var expected = com.apicatalog.jsonld.JsonLd.compact(JsonDocument.of(document),
+                        JsonDocument.of(createObjectBuilder().add("@context", context).build()))
+                .options(options)
+                .get();
+
+        assertThat(compactor.compact(document, "scope")).isEqualTo(expected);
+        // second call is served by the cached active context
+        assertThat(compactor.compact(document, "scope")).isEqualTo(expected);
+    }
+
+    @Test
+    void compact_shouldCreateContextOncePerScope() throws JsonLdError {
+        var compactor = new CachedContextCompactor(options, scope -> createObjectBuilder().add(scope, "http://%s.org/".formatted(scope)).build());
+        var document = createObjectBuilder().add("http://a.org/key", "value").build();
+
+        compactor.compact(document, "a");
+        compactor.compact(document, "a");
+        compactor.compact(document, "b");
+
+        assertThat(compactor.size()).isEqualTo(2);
+    }
+
+    @Test
+    void clear_shouldCreateContextAgain() throws JsonLdError {
+        var prefix = new AtomicReference<>("a");
+        var compactor = new CachedContextCompactor(options, scope -> createObjectBuilder().add(prefix.get(), "http://test.org/").build());
+        var document = createObjectBuilder().add("http://test.org/key", "value").build();
+
+        assertThat(compactor.compact(document, "scope")).containsKey("a:key");
+        prefix.set("b");
+        compactor.clear();
+
+        assertThat(compactor.compact(document, "scope")).containsKey("b:key");
+    }
+
+    private static class Documents implements ArgumentsProvider {
+
+        @Override
+        public Stream<? extends Arguments> provideArguments(ExtensionContext extensionContext) throws URISyntaxException {
+            var fileContext = Thread.currentThread().getContextClassLoader().getResource("test-context.jsonld").toURI().toString();
+            var object = createObjectBuilder()
+                    .add("@id", "id")
+                    .add("@type", "http://test.org/context/Type")
+                    .add("https://w3id.org/edc/v0.0.1/ns/name", "value")
+                    .add("http://test.org/context/nested", createObjectBuilder().add("http://test.org/context/key", 1))
+                    .build();
+            var namespaces = createObjectBuilder()
+                    .add("@vocab", "https://w3id.org/edc/v0.0.1/ns/")
+                    .add("test", "http://test.org/context/")
+                    .build();
+
+            return Stream.of(
+                    Arguments.of(object, namespaces),
+                    Arguments.of(object, JsonValue.EMPTY_JSON_OBJECT),
+                    Arguments.of(object, createArrayBuilder().add(fileContext).add(namespaces).build()),
+                    Arguments.of(createArrayBuilder().add(object).add(createObjectBuilder(object).add("@id", "other")).build(), namespaces),
+                    Arguments.of(JsonValue.EMPTY_JSON_ARRAY, namespaces)
+            );
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jsonld;
+
+import com.apicatalog.jsonld.JsonLdError;
+import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.document.JsonDocument;
+import jakarta.json.JsonObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.net.URISyntaxException;
+import java.util.stream.Stream;
+
+import static jakarta.json.Json.createArrayBuilder;
+import static jakarta.json.Json.createObjectBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedContextExpanderTest {
+
+    private final JsonLdOptions options = new JsonLdOptions();
+
+    @ParameterizedTest
+    @ArgumentsSource(Documents.class)
+    void expand_shouldProduceSameResultAsTitanium(JsonObject document) throws JsonLdError {
+        var expander = new CachedContextExpander(options, 10);
+
+        var expected = com.apicatalog.jsonld.JsonLd.expand(JsonDocument.of(document)).options(options).get();
+
+        assertThat(expander.expand(document)).isEqualTo(expected);
+        // second call is served by the cached active context
+        assertThat(expander.expand(document)).isEqualTo(expected);
+    }
+
+    @Test
+    void expand_shouldReuseActiveContext_whenContextIsEqual() throws JsonLdError {
+        var expander = new CachedContextExpander(options, 10);
+        var context = createObjectBuilder().add("test", "http://test.org/context/");
+
+        expander.expand(createObjectBuilder().add("@context", context).add("test:key", "value1").build());
+        expander.expand(createObjectBuilder().add("@context", context).add("test:key", "value2").build());
+
+        assertThat(expander.size()).isEqualTo(1);
+    }
+
+    @Test
+    void expand_shouldEvictLeastRecentlyUsedContext_whenMaxSizeReached() throws JsonLdError {
+        var expander = new CachedContextExpander(options, 1);
+
+        expander.expand(createObjectBuilder().add("@context", createObjectBuilder().add("a", "http://a.org/")).add("a:key", "value").build());
+        expander.expand(createObjectBuilder().add("@context", createObjectBuilder().add("b", "http://b.org/")).add("b:key", "value").build());
+
+        assertThat(expander.size()).isEqualTo(1);
+    }
+
+    private static class Documents implements ArgumentsProvider {
+
+        @Override
+        public Stream<? extends Arguments> provideArguments(ExtensionContext extensionContext) throws URISyntaxException {
+            var fileContext = Thread.currentThread().getContextClassLoader().getResource("test-context.jsonld").toURI().toString();
+
+            return Stream.of(
+                    createObjectBuilder()
+                            .add("test:key", "value")
+                            .add("http://test.org/other", "value"),
+                    createObjectBuilder()
+                            .add("@context", createObjectBuilder()
+                                    .add("@vocab", "https://w3id.org/edc/v0.0.1/ns/")
+                                    .add("test", "http://test.org/context/"))
+                            .add("@id", "id")
+                            .add("@type", "test:Type")
+                            .add("name", "value")
+                            .add("test:nested", createObjectBuilder().add("test:key", 1).add("other", true)),
+                    createObjectBuilder()
+                            .add("@context", fileContext)
+                            .add("test:key", "value"),
+                    createObjectBuilder()
+                            .add("@context", createArrayBuilder()
+                                    .add(fileContext)
+                                    .add(createObjectBuilder().add("@vocab", "https://w3id.org/edc/v0.0.1/ns/")))
+                            .add("test:key", "value")
+                            .add("name", "value"),
+                    createObjectBuilder()
+                            .add("@context", createObjectBuilder()
+                                    .add("@vocab", "https://w3id.org/edc/v0.0.1/ns/")
+                                    .add("odrl", "http://www.w3.org/ns/odrl/2/")
+                                    .add("Policy", createObjectBuilder()
+                                            .add("@id", "odrl:Policy")
+                                            .add("@context", createObjectBuilder()
+                                                    .add("permission", createObjectBuilder().add("@id", "odrl:permission").add("@container", "@set"))))
+                                    .add("target", createObjectBuilder().add("@id", "odrl:target").add("@type", "@id")))
+                            .add("@id", "policy-id")
+                            .add("@type", "Policy")
+                            .add("permission", createArrayBuilder()
+                                    .add(createObjectBuilder().add("target", "asset-id").add("odrl:action", "use"))),
+                    createObjectBuilder()
+                            .add("@context", createObjectBuilder().add("test", "http://test.org/context/"))
+                            .add("@graph", createArrayBuilder()
+                                    .add(createObjectBuilder().add("@id", "first").add("test:key", "value"))
+                                    .add(createObjectBuilder().add("@id", "second").add("test:key", "value")))
+            ).map(builder -> Arguments.of(builder.build()));
+        }
+    }
+}
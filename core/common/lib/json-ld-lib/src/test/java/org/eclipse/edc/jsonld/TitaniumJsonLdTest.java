@@ -147,6 +147,60 @@ class TitaniumJsonLdTest {
         });
     }
 
+    @Test
+    void compactAll_shouldBeEqualToCompactingEachObject() {
+        var ns = "https://test.org/schema/";
+        var service = defaultService();
+        service.registerNamespace("test", ns);
+        var first = createObjectBuilder()
+                .add(JsonLdKeywords.ID, "first")
+                .add(JsonLdKeywords.TYPE, createArrayBuilder().add(ns + "TestItem"))
+                .add(ns + "key", createArrayBuilder().add(createObjectBuilder().add(JsonLdKeywords.VALUE, "value1")))
+                .build();
+        var second = createObjectBuilder()
+                .add(JsonLdKeywords.ID, "second")
+                .add(ns + "nested", createArrayBuilder().add(createObjectBuilder()
+                        .add(ns + "key", createArrayBuilder().add(createObjectBuilder().add(JsonLdKeywords.VALUE, 2)))))
+                .build();
+
+        var compacted = service.compactAll(createArrayBuilder().add(first).add(second).build(), JsonLd.DEFAULT_SCOPE);
+
+        assertThat(compacted).isSucceeded().satisfies(array -> Assertions.assertThat(array).containsExactly(
+                service.compact(first).getContent(),
+                service.compact(second).getContent()));
+    }
+
+    @Test
+    void compactAll_shouldKeepValuesThatAreNotObjects() {
+        var ns = "https://test.org/schema/";
+        var service = defaultService();
+        var object = createObjectBuilder()
+                .add(JsonLdKeywords.ID, "id")
+                .add(ns + "key", createArrayBuilder().add(createObjectBuilder().add(JsonLdKeywords.VALUE, "value")))
+                .build();
+
+        var compacted = service.compactAll(createArrayBuilder().add(object).add("string").build(), JsonLd.DEFAULT_SCOPE);
+
+        assertThat(compacted).isSucceeded().satisfies(array -> Assertions.assertThat(array).containsExactly(
+                service.compact(object).getContent(),
+                Json.createValue("string")));
+    }
+
+    @Test
+    void compact_shouldApplyNamespace_whenRegisteredAfterPreviousCompaction() {
+        var ns = "https://test.org/schema/";
+        var service = defaultService();
+        var expanded = createObjectBuilder()
+                .add(ns + "key", createArrayBuilder().add(createObjectBuilder().add(JsonLdKeywords.VALUE, "value")))
+                .build();
+
+        assertThat(service.compact(expanded)).isSucceeded().satisfies(c -> Assertions.assertThat(c).containsKey(ns + "key"));
+
+        service.registerNamespace("test", ns);
+
+        assertThat(service.compact(expanded)).isSucceeded().satisfies(c -> Assertions.assertThat(c).containsKey("test:key"));
+    }
+
     @Test
     void compact_withCustomPrefix() {
         var ns = "https://test.org/schema/";
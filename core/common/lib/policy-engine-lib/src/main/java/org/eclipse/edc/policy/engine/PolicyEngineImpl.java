@@ -34,6 +34,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 
 import static java.util.stream.Collectors.toList;
@@ -54,6 +56,8 @@ public class PolicyEngineImpl implements PolicyEngine {
     private final Map<String, List<RuleFunctionEntry<Rule>>> ruleFunctions = new TreeMap<>();
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> preValidators = new HashMap<>();
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> postValidators = new HashMap<>();
+    private final Map<String, EvaluationPlan> evaluationPlans = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
     private final ScopeFilter scopeFilter;
 
     public PolicyEngineImpl(ScopeFilter scopeFilter) {
@@ -67,48 +71,15 @@ public class PolicyEngineImpl implements PolicyEngine {
 
     @Override
     public Result<Void> evaluate(String scope, Policy policy, PolicyContext context) {
-        var delimitedScope = scope + ".";
+        var plan = evaluationPlan(scope);
 
-        var scopedPreValidators = preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-        for (var validator : scopedPreValidators) {
+        for (var validator : plan.preValidators) {
             if (!validator.apply(policy, context)) {
                 return failValidator("Pre-validator", validator, context);
             }
         }
 
-        var evalBuilder = PolicyEvaluator.Builder.newInstance();
-
-        ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            }
-        });
-
-        constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
-            }
-        });
-
-        dynamicConstraintFunctions.stream().filter(entry -> scopeFilter(entry.scope, delimitedScope)).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dynamicDutyFunction(entry.function::canHandle, (key, operator, value, duty) -> entry.function.evaluate(key, operator, value, duty, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dynamicPermissionFunction(entry.function::canHandle, (key, operator, value, permission) -> entry.function.evaluate(key, operator, value, permission, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dynamicProhibitionFunction(entry.function::canHandle, (key, operator, value, prohibition) -> entry.function.evaluate(key, operator, value, prohibition, context));
-            }
-        });
-
-        var evaluator = evalBuilder.build();
+        var evaluator = plan.evaluator(context);
 
         var filteredPolicy = scopeFilter.applyScope(policy, scope);
 
@@ -116,8 +87,7 @@ public class PolicyEngineImpl implements PolicyEngine {
 
         if (result.valid()) {
 
-            var scopedPostValidators = postValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-            for (var validator : scopedPostValidators) {
+            for (var validator : plan.postValidators) {
                 if (!validator.apply(policy, context)) {
                     return failValidator("Post-validator", validator, context);
                 }
@@ -133,28 +103,79 @@ public class PolicyEngineImpl implements PolicyEngine {
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintFunction<R> function) {
         constraintFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new ConstraintFunctionEntry(type, key, function));
+        invalidateEvaluationPlans();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule> void registerFunction(String scope, Class<R> type, DynamicAtomicConstraintFunction<R> function) {
         dynamicConstraintFunctions.add(new DynamicConstraintFunctionEntry(type, scope + DELIMITER, function));
+        invalidateEvaluationPlans();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule> void registerFunction(String scope, Class<R> type, RuleFunction<R> function) {
         ruleFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new RuleFunctionEntry(type, function));
+        invalidateEvaluationPlans();
     }
 
     @Override
     public void registerPreValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         preValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        invalidateEvaluationPlans();
     }
 
     @Override
     public void registerPostValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         postValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        invalidateEvaluationPlans();
+    }
+
+    /**
+     * Returns the cached plan for the scope, compiling it if needed. A plan is only cached if no registration happened
+     * while it was being compiled, otherwise it could miss that registration and outlive the invalidation.
+     */
+    private EvaluationPlan evaluationPlan(String scope) {
+        var plan = evaluationPlans.get(scope);
+        if (plan != null) {
+            return plan;
+        }
+
+        var compiledGeneration = generation.get();
+        plan = compile(scope);
+        if (generation.get() == compiledGeneration) {
+            var cached = evaluationPlans.putIfAbsent(scope, plan);
+            if (cached != null) {
+                return cached;
+            }
+            // a registration could have happened between the check and the insertion
+            if (generation.get() != compiledGeneration) {
+                evaluationPlans.remove(scope, plan);
+            }
+        }
+        return plan;
+    }
+
+    private void invalidateEvaluationPlans() {
+        generation.incrementAndGet();
+        evaluationPlans.clear();
+    }
+
+    /**
+     * Collects everything registered for the scope, so that evaluations don't need to scan all the registrations.
+     */
+    private EvaluationPlan compile(String scope) {
+        var delimitedScope = scope + ".";
+
+        var scopedPreValidators = preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
+        var scopedRuleFunctions = ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).toList();
+        var scopedConstraintFunctions = constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).toList();
+        var scopedDynamicConstraintFunctions = dynamicConstraintFunctions.stream().filter(entry -> scopeFilter(entry.scope, delimitedScope)).toList();
+        var scopedPostValidators = postValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
+
+        return new EvaluationPlan(scopedPreValidators, scopedRuleFunctions, scopedConstraintFunctions,
+                scopedDynamicConstraintFunctions, scopedPostValidators);
     }
 
     private boolean scopeFilter(String entry, String scope) {
@@ -166,6 +187,63 @@ public class PolicyEngineImpl implements PolicyEngine {
         return failure(context.hasProblems() ? context.getProblems() : List.of(type + " failed: " + validator.getClass().getName()));
     }
 
+    /**
+     * The registrations that apply to a single scope.
+     */
+    private static class EvaluationPlan {
+        private final List<BiFunction<Policy, PolicyContext, Boolean>> preValidators;
+        private final List<RuleFunctionEntry<Rule>> ruleFunctions;
+        private final List<ConstraintFunctionEntry<Rule>> constraintFunctions;
+        private final List<DynamicConstraintFunctionEntry<Rule>> dynamicConstraintFunctions;
+        private final List<BiFunction<Policy, PolicyContext, Boolean>> postValidators;
+
+        EvaluationPlan(List<BiFunction<Policy, PolicyContext, Boolean>> preValidators,
+                       List<RuleFunctionEntry<Rule>> ruleFunctions, List<ConstraintFunctionEntry<Rule>> constraintFunctions,
+                       List<DynamicConstraintFunctionEntry<Rule>> dynamicConstraintFunctions, List<BiFunction<Policy, PolicyContext, Boolean>> postValidators) {
+            this.preValidators = preValidators;
+            this.ruleFunctions = ruleFunctions;
+            this.constraintFunctions = constraintFunctions;
+            this.dynamicConstraintFunctions = dynamicConstraintFunctions;
+            this.postValidators = postValidators;
+        }
+
+        PolicyEvaluator evaluator(PolicyContext context) {
+            var evalBuilder = PolicyEvaluator.Builder.newInstance();
+
+            for (var entry : ruleFunctions) {
+                if (Duty.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
+                } else if (Permission.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.permissionRuleFunction((rule) -> entry.function.evaluate(rule, context));
+                } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
+                }
+            }
+
+            for (var entry : constraintFunctions) {
+                if (Duty.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
+                } else if (Permission.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
+                } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
+                }
+            }
+
+            for (var entry : dynamicConstraintFunctions) {
+                if (Duty.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.dynamicDutyFunction(entry.function::canHandle, (key, operator, value, duty) -> entry.function.evaluate(key, operator, value, duty, context));
+                } else if (Permission.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.dynamicPermissionFunction(entry.function::canHandle, (key, operator, value, permission) -> entry.function.evaluate(key, operator, value, permission, context));
+                } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.dynamicProhibitionFunction(entry.function::canHandle, (key, operator, value, prohibition) -> entry.function.evaluate(key, operator, value, prohibition, context));
+                }
+            }
+
+            return evalBuilder.build();
+        }
+    }
+
     private static class ConstraintFunctionEntry<R extends Rule> {
         Class<R> type;
         String key;
@@ -385,6 +385,56 @@ class PolicyEngineImplTest {
         verifyNoInteractions(function);
     }
 
+    @Test
+    void shouldApplyFunctionRegisteredAfterEvaluation() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var context = PolicyContextImpl.Builder.newInstance().build();
+        var left = new LiteralExpression("foo");
+        var right = new LiteralExpression("bar");
+        var constraint = AtomicConstraint.Builder.newInstance().leftExpression(left).operator(EQ).rightExpression(right).build();
+        var permission = Permission.Builder.newInstance().constraint(constraint).build();
+        var policy = Policy.Builder.newInstance().permission(permission).build();
+
+        policyEngine.registerFunction(ALL_SCOPES, Permission.class, "foo", (op, rv, duty, ctx) -> true);
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, context)).isSucceeded();
+
+        policyEngine.registerPostValidator(TEST_SCOPE, (p, ctx) -> false);
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, context)).isFailed();
+    }
+
+    @Test
+    void shouldApplyRuleBoundAfterEvaluation() {
+        policyEngine.registerFunction(ALL_SCOPES, Permission.class, "foo", (op, rv, duty, ctx) -> false);
+        var context = PolicyContextImpl.Builder.newInstance().build();
+        var left = new LiteralExpression("foo");
+        var right = new LiteralExpression("bar");
+        var constraint = AtomicConstraint.Builder.newInstance().leftExpression(left).operator(EQ).rightExpression(right).build();
+        var permission = Permission.Builder.newInstance().constraint(constraint).build();
+        var policy = Policy.Builder.newInstance().permission(permission).build();
+
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, context)).isSucceeded();
+
+        bindingRegistry.bind("foo", TEST_SCOPE);
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, context)).isFailed();
+    }
+
+    @Test
+    void shouldEvaluateSamePolicyWithDifferentContexts() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        policyEngine.registerFunction(ALL_SCOPES, Permission.class, "foo", (op, rv, duty, ctx) -> ctx.getContextData(String.class) != null);
+        var left = new LiteralExpression("foo");
+        var right = new LiteralExpression("bar");
+        var constraint = AtomicConstraint.Builder.newInstance().leftExpression(left).operator(EQ).rightExpression(right).build();
+        var permission = Permission.Builder.newInstance().constraint(constraint).build();
+        var policy = Policy.Builder.newInstance().permission(permission).build();
+
+        var granted = policyEngine.evaluate(TEST_SCOPE, policy, PolicyContextImpl.Builder.newInstance().additional(String.class, "data").build());
+        var denied = policyEngine.evaluate(TEST_SCOPE, policy, PolicyContextImpl.Builder.newInstance().build());
+
+        assertThat(granted).isSucceeded();
+        assertThat(denied).isFailed();
+    }
+
     private Policy createTestPolicy() {
         var left = new LiteralExpression("foo");
         var right = new LiteralExpression("bar");
@@ -20,6 +20,7 @@ plugins {
 
 dependencies {
     api(project(":spi:common:core-spi"))
+    api(project(":spi:common:transaction-spi"))
     testImplementation(libs.awaitility)
 
 }
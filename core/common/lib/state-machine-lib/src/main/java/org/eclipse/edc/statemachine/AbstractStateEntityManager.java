@@ -39,11 +39,13 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
 
     public static final long DEFAULT_ITERATION_WAIT = 1000;
     public static final int DEFAULT_BATCH_SIZE = 20;
+    public static final int DEFAULT_WORKERS = 1;
     public static final int DEFAULT_SEND_RETRY_LIMIT = 7;
     public static final long DEFAULT_SEND_RETRY_BASE_DELAY = 1000L;
 
     protected Monitor monitor;
     protected int batchSize = DEFAULT_BATCH_SIZE;
+    protected int workers = DEFAULT_WORKERS;
     protected WaitStrategy waitStrategy = () -> DEFAULT_ITERATION_WAIT;
     protected ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
     protected Telemetry telemetry = new Telemetry();
@@ -57,7 +59,8 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     public void start() {
         entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration);
         var stateMachineManagerBuilder = StateMachineManager.Builder
-                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy);
+                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy)
+                .workers(workers);
         stateMachineManager = configureStateMachineManager(stateMachineManagerBuilder).build();
 
         stateMachineManager.start();
@@ -70,6 +73,13 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
         }
     }
 
+    @Override
+    public void wakeUp() {
+        if (stateMachineManager != null) {
+            stateMachineManager.wakeUp();
+        }
+    }
+
     /**
      * configures the State Machine Manager builder
      *
@@ -114,6 +124,11 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        public B workers(int workers) {
+            manager.workers = workers;
+            return self();
+        }
+
         public B waitStrategy(WaitStrategy waitStrategy) {
             manager.waitStrategy = waitStrategy;
             return self();
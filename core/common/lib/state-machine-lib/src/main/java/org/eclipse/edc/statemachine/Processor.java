@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.statemachine;
 
+import java.util.concurrent.Executor;
+
 /**
  * Interface that declares an abstraction for a component that process some entities and return the number of the processed ones.
  * Used by {@link StateMachineManager} to decide whether to apply wait strategy in loop iteration
@@ -28,4 +30,15 @@ public interface Processor {
      * @return the processed states count
      */
     Long process();
+
+    /**
+     * Process states concurrently on the passed executor. By default, entities are processed sequentially on the
+     * calling thread.
+     *
+     * @param executor the executor on which the entities are processed.
+     * @return the processed states count
+     */
+    default Long process(Executor executor) {
+        return process();
+    }
 }
@@ -15,13 +15,17 @@
 package org.eclipse.edc.statemachine;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
-import static java.util.function.Predicate.isEqual;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 /**
  * Describes the processing flow applied by a state machine. The entities are provided by a supplier.
@@ -33,6 +37,8 @@ import static java.util.function.Predicate.isEqual;
  * Additional features:
  * - An {@link Guard} can be registered, if its predicate is verified, the guard processor is executed instead of the standard one.
  * - A onNotProcessed listener can be registered, that will be called on every entity that has not been processed.
+ * - Entities can be processed concurrently on an executor. Every entity is fetched once per batch and the whole batch
+ * completes before the next one is fetched, so an entity is never processed by two tasks at the same time.
  *
  * @param <E> the entity that is processed
  */
@@ -50,18 +56,58 @@ public class ProcessorImpl<E> implements Processor {
     @Override
     public Long process() {
         return entities.get().stream()
-                .map(entity -> {
-                    var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
-                    var hasBeenProcessed = actualProcess.apply(entity);
-                    if (!hasBeenProcessed) {
-                        onNotProcessed.accept(entity);
-                    }
-                    return hasBeenProcessed;
-                })
-                .filter(isEqual(true))
+                .filter(this::processEntity)
                 .count();
     }
 
+    @Override
+    public Long process(Executor executor) {
+        var batch = entities.get();
+        if (batch.isEmpty()) {
+            return 0L;
+        }
+
+        var tasks = batch.stream()
+                .map(entity -> supplyAsync(() -> processEntity(entity) ? 1L : 0L, executor))
+                .toList();
+
+        return awaitAll(tasks);
+    }
+
+    private boolean processEntity(E entity) {
+        var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
+        var hasBeenProcessed = actualProcess.apply(entity);
+        if (!hasBeenProcessed) {
+            onNotProcessed.accept(entity);
+        }
+        return hasBeenProcessed;
+    }
+
+    /**
+     * Waits for every task to complete, so that no entity of the batch is still being processed on return. The first
+     * failure is then rethrown as it would have been by the sequential processing.
+     */
+    private long awaitAll(List<CompletableFuture<Long>> tasks) {
+        var processed = 0L;
+        Throwable failure = null;
+        for (var task : tasks) {
+            try {
+                processed += task.join();
+            } catch (CompletionException e) {
+                failure = failure == null ? e.getCause() : failure;
+            }
+        }
+
+        if (failure instanceof Error error) {
+            throw error;
+        } else if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (failure != null) {
+            throw new CompletionException(failure);
+        }
+        return processed;
+    }
+
     public static class Builder<E> {
 
         private final ProcessorImpl<E> processor;
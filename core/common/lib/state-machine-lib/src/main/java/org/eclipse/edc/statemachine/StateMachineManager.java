@@ -22,10 +22,13 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -35,21 +38,30 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * Handles a loop that processes entities continuously.
  * On every iteration it runs all the set processors sequentially,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * When more than one worker is configured, the entities fetched by every processor are processed concurrently on a
+ * dedicated worker pool.
+ * The wait can be interrupted by calling {@link #wakeUp()}, e.g. when new entities have been stored.
  */
 public class StateMachineManager {
 
     private final List<Processor> processors = new ArrayList<>();
     private final ScheduledExecutorService executor;
     private final AtomicBoolean active = new AtomicBoolean();
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
     private final WaitStrategy waitStrategy;
     private final Monitor monitor;
     private final String name;
+    private final ExecutorInstrumentation instrumentation;
     private int shutdownTimeout = 10;
+    private int workers = 1;
+    private ExecutorService workerExecutor;
+    private ScheduledFuture<?> nextIteration;
 
     private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
         this.name = name;
         this.monitor = monitor;
         this.waitStrategy = waitStrategy;
+        this.instrumentation = instrumentation;
         executor = instrumentation.instrument(
                 Executors.newSingleThreadScheduledExecutor(r -> {
                     var thread = Executors.defaultThreadFactory().newThread(r);
@@ -78,7 +90,12 @@ public class StateMachineManager {
 
         return CompletableFuture.supplyAsync(() -> {
             try {
-                return executor.awaitTermination(shutdownTimeout, SECONDS);
+                var stopped = executor.awaitTermination(shutdownTimeout, SECONDS);
+                if (workerExecutor != null) {
+                    workerExecutor.shutdown();
+                    stopped &= workerExecutor.awaitTermination(shutdownTimeout, SECONDS);
+                }
+                return stopped;
             } catch (InterruptedException e) {
                 monitor.severe(format("StateMachineManager [%s] await termination failed", name), e);
                 return false;
@@ -95,6 +112,22 @@ public class StateMachineManager {
         return active.get();
     }
 
+    /**
+     * Signals that there could be new entities to process: if the loop is waiting, the next iteration is run
+     * immediately, if it is running, the next iteration won't apply the wait strategy.
+     */
+    public void wakeUp() {
+        if (!active.get()) {
+            return;
+        }
+        wakeUpRequested.set(true);
+        synchronized (this) {
+            if (nextIteration != null && nextIteration.getDelay(MILLISECONDS) > 0 && nextIteration.cancel(false)) {
+                nextIteration = executor.schedule(loop(), 0L, MILLISECONDS);
+            }
+        }
+    }
+
     private Runnable loop() {
         return () -> {
             if (active.get()) {
@@ -104,16 +137,17 @@ public class StateMachineManager {
     }
 
     private void performLogic() {
+        wakeUpRequested.set(false);
         try {
             var processed = processors.stream()
-                    .mapToLong(Processor::process)
+                    .mapToLong(this::process)
                     .sum();
 
             waitStrategy.success();
 
-            var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
+            var delay = processed == 0 && !wakeUpRequested.get() ? waitStrategy.waitForMillis() : 0;
 
-            scheduleNextIterationIn(delay);
+            scheduleNextIterationUnlessWokenUp(delay);
         } catch (Error e) {
             active.set(false);
             monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
@@ -123,9 +157,26 @@ public class StateMachineManager {
         }
     }
 
+    private long process(Processor processor) {
+        if (workerExecutor == null) {
+            return processor.process();
+        }
+        return processor.process(workerExecutor);
+    }
+
+    /**
+     * Schedules the next iteration, immediately if a wake-up has been requested since the current one started. The
+     * check and the scheduling happen under the lock taken by {@link #wakeUp()}, so a wake-up requested after the delay
+     * has been computed either sees the scheduled iteration and reschedules it, or is seen here.
+     */
+    private synchronized void scheduleNextIterationUnlessWokenUp(long delayMillis) {
+        scheduleNextIterationIn(wakeUpRequested.get() ? 0L : delayMillis);
+    }
+
     @NotNull
-    private Future<?> scheduleNextIterationIn(long delayMillis) {
-        return executor.schedule(loop(), delayMillis, MILLISECONDS);
+    private synchronized Future<?> scheduleNextIterationIn(long delayMillis) {
+        nextIteration = executor.schedule(loop(), delayMillis, MILLISECONDS);
+        return nextIteration;
     }
 
     public static class Builder {
@@ -150,7 +201,25 @@ public class StateMachineManager {
             return this;
         }
 
+        /**
+         * Number of threads on which the entities are processed. With a single worker (default) entities are
+         * processed sequentially on the loop thread.
+         */
+        public Builder workers(int workers) {
+            loop.workers = workers;
+            return this;
+        }
+
         public StateMachineManager build() {
+            if (loop.workers > 1) {
+                var counter = new AtomicInteger();
+                loop.workerExecutor = loop.instrumentation.instrument(
+                        Executors.newFixedThreadPool(loop.workers, r -> {
+                            var thread = Executors.defaultThreadFactory().newThread(r);
+                            thread.setName("StateMachineManager-" + loop.name + "-worker-" + counter.incrementAndGet());
+                            return thread;
+                        }), loop.name + "-workers");
+            }
             return loop;
         }
     }
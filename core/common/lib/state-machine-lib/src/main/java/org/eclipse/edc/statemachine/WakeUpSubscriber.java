@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.entity.StateEntityManager;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.util.List;
+
+import static org.eclipse.edc.transaction.spi.TransactionContext.TransactionSynchronization.afterCompletion;
+
+/**
+ * Wakes up the state machines of the managers every time an event is published, so the entity that changed gets
+ * processed without waiting for the next polling iteration.
+ * The signal is sent after the transaction in which the event was published completes, otherwise the state machine
+ * could try to fetch the entity before it gets committed.
+ */
+public class WakeUpSubscriber implements EventSubscriber {
+
+    private final TransactionContext transactionContext;
+    private final List<StateEntityManager> managers;
+
+    public WakeUpSubscriber(TransactionContext transactionContext, StateEntityManager... managers) {
+        this.transactionContext = transactionContext;
+        this.managers = List.of(managers);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        transactionContext.execute(() -> transactionContext.registerSynchronization(afterCompletion(this::wakeUp)));
+    }
+
+    private void wakeUp() {
+        managers.forEach(StateEntityManager::wakeUp);
+    }
+}
@@ -14,14 +14,18 @@
 
 package org.eclipse.edc.statemachine;
 
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.statemachine.retry.TestEntity;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -117,4 +121,38 @@ class ProcessorImplTest {
 
         verifyNoInteractions(onNotProcessed);
     }
+
+    @Test
+    void shouldProcessEntitiesOnExecutor() {
+        var entities = List.of(TestEntity.Builder.newInstance().id("1").build(), TestEntity.Builder.newInstance().id("2").build(),
+                TestEntity.Builder.newInstance().id("3").build());
+        var executor = Executors.newFixedThreadPool(2);
+        var threads = ConcurrentHashMap.<String>newKeySet();
+        var processor = ProcessorImpl.Builder.newInstance(() -> entities)
+                .process(e -> {
+                    threads.add(Thread.currentThread().getName());
+                    return !e.getId().equals("3");
+                })
+                .build();
+
+        var count = processor.process(executor);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(threads).isNotEmpty().doesNotContain(Thread.currentThread().getName());
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldRethrowFailure_whenProcessingOnExecutor() {
+        var entity = TestEntity.Builder.newInstance().id("id").build();
+        var executor = Executors.newSingleThreadExecutor();
+        var processor = ProcessorImpl.Builder.<TestEntity>newInstance(() -> List.of(entity))
+                .process(e -> {
+                    throw new EdcException("error");
+                })
+                .build();
+
+        assertThatThrownBy(() -> processor.process(executor)).isInstanceOf(EdcException.class);
+        executor.shutdownNow();
+    }
 }
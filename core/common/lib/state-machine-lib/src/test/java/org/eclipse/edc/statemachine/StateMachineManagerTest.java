@@ -28,6 +28,7 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -135,4 +136,38 @@ class StateMachineManagerTest {
             verify(waitStrategy).retryInMillis();
         });
     }
+
+    @Test
+    void shouldRunNextIterationImmediately_whenWokenUp() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+
+        stateMachine.start();
+        await().untilAsserted(() -> verify(waitStrategy).waitForMillis());
+
+        stateMachine.wakeUp();
+
+        await().atMost(1, SECONDS).untilAsserted(() -> verify(processor, times(2)).process());
+    }
+
+    @Test
+    void shouldRunNextIterationImmediately_whenWokenUpWhileComputingTheDelay() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+        when(waitStrategy.waitForMillis()).thenAnswer(i -> {
+            stateMachine.wakeUp();
+            return 60_000L;
+        }).thenReturn(60_000L);
+
+        stateMachine.start();
+
+        await().atMost(1, SECONDS).untilAsserted(() -> verify(processor, times(2)).process());
+    }
 }
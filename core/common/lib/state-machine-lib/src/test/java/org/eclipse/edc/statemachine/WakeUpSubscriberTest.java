@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.entity.StateEntityManager;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class WakeUpSubscriberTest {
+
+    private final StateEntityManager manager = mock();
+    private final StateEntityManager anotherManager = mock();
+
+    @Test
+    void on_shouldWakeUpManagers() {
+        var subscriber = new WakeUpSubscriber(new NoopTransactionContext(), manager, anotherManager);
+
+        subscriber.on(envelope());
+
+        verify(manager).wakeUp();
+        verify(anotherManager).wakeUp();
+    }
+
+    @Test
+    void on_shouldWakeUpManagersOnlyWhenTransactionCompletes() {
+        var transactionContext = mock(TransactionContext.class);
+        doAnswer(i -> {
+            i.getArgument(0, TransactionContext.TransactionBlock.class).execute();
+            return null;
+        }).when(transactionContext).execute(any(TransactionContext.TransactionBlock.class));
+        var subscriber = new WakeUpSubscriber(transactionContext, manager);
+
+        subscriber.on(envelope());
+
+        var captor = ArgumentCaptor.forClass(TransactionContext.TransactionSynchronization.class);
+        verify(transactionContext).registerSynchronization(captor.capture());
+        captor.getValue().beforeCompletion();
+        verifyNoInteractions(manager);
+
+        captor.getValue().afterCompletion();
+        verify(manager).wakeUp();
+    }
+
+    private EventEnvelope<Event> envelope() {
+        return EventEnvelope.Builder.newInstance().id("id").at(0).payload(mock(Event.class)).build();
+    }
+}
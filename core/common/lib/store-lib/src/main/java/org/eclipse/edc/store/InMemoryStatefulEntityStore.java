@@ -29,6 +29,7 @@ import org.jetbrains.annotations.Nullable;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,8 +52,8 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     private final QueryResolver<T> queryResolver;
     private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock());
     private final String lockId;
-    private final Clock clock;
     private final Map<String, Lease> leases = new HashMap<>();
+    protected final Clock clock;
     protected final CriterionOperatorRegistry criterionOperatorRegistry;
 
     public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
@@ -73,12 +74,26 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
 
     @Override
     public @NotNull List<T> nextNotLeased(int max, Criterion... criteria) {
+        return nextNotLeased(max, x -> true, comparingLong(StatefulEntity::getStateTimestamp), criteria); //order by state timestamp, oldest first
+    }
+
+    /**
+     * Leases and returns at most {@code max} entities that are not leased and satisfy both the criteria and the
+     * additional filter, in the given order.
+     *
+     * @param max the max number of entities.
+     * @param filter additional filter, for conditions that cannot be expressed as {@link Criterion}.
+     * @param order the order in which entities are selected.
+     * @param criteria the selection criteria.
+     * @return the leased entities.
+     */
+    protected @NotNull List<T> nextNotLeased(int max, Predicate<T> filter, Comparator<T> order, Criterion... criteria) {
         return lockManager.writeLock(() -> {
-            var filterPredicate = Arrays.stream(criteria).map(criterionOperatorRegistry::toPredicate).reduce(x -> true, Predicate::and);
+            var filterPredicate = Arrays.stream(criteria).map(criterionOperatorRegistry::<T>toPredicate).reduce(filter, Predicate::and);
             var entities = entitiesById.values().stream()
                     .filter(filterPredicate)
                     .filter(e -> !isLeased(e.getId()))
-                    .sorted(comparingLong(StatefulEntity::getStateTimestamp)) //order by state timestamp, oldest first
+                    .sorted(order)
                     .limit(max)
                     .toList();
             entities.forEach(i -> acquireLease(i.getId()));
@@ -18,7 +18,12 @@ import java.time.Clock;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 /**
@@ -28,6 +33,11 @@ import java.util.function.Function;
  * Values are not stored directly, but are wrapped in a {@link TimestampedValue}. When getting values from the cache, one has to provide
  * a {@code cacheEntryUpdateFunction}, which encapsulates the re-fetching of the expired value.
  * <p>
+ * If a refresh {@link Executor} is provided, expired values are re-fetched in the background, while the stale value
+ * keeps being returned until the refresh completes. Only the very first fetch of a key blocks the caller. A stale value
+ * is returned for at most twice the validity period: past that, the value is re-fetched in a blocking fashion, so that
+ * failures to fetch it reach the caller.
+ * <p>
  * This cache is thread-safe.
  */
 public class Cache<K, V> {
@@ -36,15 +46,38 @@ public class Cache<K, V> {
     private final Function<K, V> cacheEntryUpdateFunction;
     private final long validity;
     private final Clock clock;
+    private final Executor refreshExecutor;
+    private final BiConsumer<K, RuntimeException> refreshFailureListener;
+    private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
 
     public Cache(Function<K, V> cacheEntryUpdateFunction, long validity) {
         this(cacheEntryUpdateFunction, validity, Clock.systemUTC());
     }
 
     public Cache(Function<K, V> cacheEntryUpdateFunction, long validity, Clock clock) {
+        this(cacheEntryUpdateFunction, validity, clock, null);
+    }
+
+    public Cache(Function<K, V> cacheEntryUpdateFunction, long validity, Clock clock, Executor refreshExecutor) {
+        this(cacheEntryUpdateFunction, validity, clock, refreshExecutor, (key, exception) -> { });
+    }
+
+    /**
+     * Creates a cache that refreshes expired values in the background.
+     *
+     * @param cacheEntryUpdateFunction fetches the value of a key.
+     * @param validity                 the validity of a value in milliseconds.
+     * @param clock                    the clock.
+     * @param refreshExecutor          the executor on which background refreshes run.
+     * @param refreshFailureListener   notified when a background refresh fails, the stale value is kept.
+     */
+    public Cache(Function<K, V> cacheEntryUpdateFunction, long validity, Clock clock, Executor refreshExecutor,
+                 BiConsumer<K, RuntimeException> refreshFailureListener) {
         this.cacheEntryUpdateFunction = cacheEntryUpdateFunction;
         this.validity = validity;
         this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshFailureListener = refreshFailureListener;
     }
 
     /**
@@ -54,6 +87,16 @@ public class Cache<K, V> {
      * @return the value
      */
     public V get(K key) {
+        if (refreshExecutor != null) {
+            var entry = getEntry(key);
+            if (entry != null && !entry.isOlderThan(2 * validity, clock)) {
+                if (entry.isExpired(clock)) {
+                    refreshInBackground(key);
+                }
+                return entry.value();
+            }
+        }
+
         V value;
         lock.readLock().lock();
         try {
@@ -78,6 +121,41 @@ public class Cache<K, V> {
         return value;
     }
 
+    private TimestampedValue<V> getEntry(K key) {
+        lock.readLock().lock();
+        try {
+            return cache.get(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void refreshInBackground(K key) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    var newEntry = cacheEntryUpdateFunction.apply(key);
+                    lock.writeLock().lock();
+                    try {
+                        cache.put(key, new TimestampedValue<>(newEntry, Instant.now(), validity));
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                } catch (RuntimeException e) {
+                    // the stale value is kept, the refresh will be attempted again on the next access
+                    refreshFailureListener.accept(key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
     private boolean isEntryExpired(K key) {
         var timestampedValue = cache.get(key);
         if (timestampedValue == null) return true;
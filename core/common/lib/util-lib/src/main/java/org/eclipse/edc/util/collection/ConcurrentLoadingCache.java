@@ -0,0 +1,381 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A thread-safe cache with size and time-to-live based eviction, backed by a {@link ConcurrentHashMap}:
+ * <ul>
+ *     <li>reads don't take any lock</li>
+ *     <li>concurrent misses on the same key are coalesced, only one thread loads the value while the others wait
+ *     for it</li>
+ *     <li>entries accessed when their remaining time-to-live is shorter than the refresh-ahead period are re-loaded in
+ *     the background on the refresh executor, the current value is returned meanwhile</li>
+ *     <li>when the maximum size is exceeded, entries are evicted in insertion order, except the ones accessed since they
+ *     were last considered, that get a second chance (CLOCK approximation of least recently used). Each eviction
+ *     takes constant amortized time</li>
+ * </ul>
+ * Loaded values are cached only if they satisfy the {@code cacheable} predicate (by default, if they're not null).
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ */
+public class ConcurrentLoadingCache<K, V> {
+
+    private static final int PURGE_THRESHOLD = 64;
+
+    private final Map<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry<K, V>> evictionQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private int maximumSize = Integer.MAX_VALUE;
+    private long ttlMillis = Long.MAX_VALUE;
+    private long refreshAheadMillis = 0;
+    private Predicate<V> cacheable = Objects::nonNull;
+    private Clock clock = Clock.systemUTC();
+    private Executor refreshExecutor;
+    private BiConsumer<K, RuntimeException> refreshFailureListener = (key, e) -> {};
+
+    private ConcurrentLoadingCache() {
+    }
+
+    /**
+     * Returns the cached value, or null if there's no valid entry for the key.
+     *
+     * @param key the key.
+     * @return the value, null if not cached.
+     */
+    public V get(K key) {
+        var entry = getValidEntry(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Returns the cached value or, if there's no valid entry for the key, loads it. Only a single load per key
+     * runs at a time, concurrent callers wait for its result. Exceptions and errors thrown by the loader are propagated to
+     * all of them, and nothing gets cached.
+     *
+     * @param key    the key.
+     * @param loader the function that loads the value.
+     * @return the value.
+     */
+    public V get(K key, Function<K, V> loader) {
+        var entry = getValidEntry(key);
+        if (entry != null) {
+            hits.increment();
+            if (refreshAheadMillis > 0 && entry.expiresAt - clock.millis() < refreshAheadMillis) {
+                refreshInBackground(key, loader);
+            }
+            return entry.value;
+        }
+
+        misses.increment();
+        var future = new CompletableFuture<V>();
+        var inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return join(inFlight);
+        }
+
+        try {
+            // the value could have been loaded between the lookup and the registration of the future
+            var loaded = getValidEntry(key);
+            V value;
+            if (loaded != null) {
+                value = loaded.value;
+            } else {
+                value = loader.apply(key);
+                if (cacheable.test(value)) {
+                    put(key, value);
+                }
+            }
+            future.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // the callers waiting for this load must be released whatever the loader threw
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    /**
+     * Puts the value in the cache, evicting other entries if the maximum size is exceeded.
+     *
+     * @param key   the key.
+     * @param value the value.
+     */
+    public void put(K key, V value) {
+        var now = clock.millis();
+        var expiresAt = ttlMillis > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + ttlMillis;
+        var entry = new Entry<>(key, value, expiresAt);
+        entries.put(key, entry);
+        evictionQueue.add(entry);
+        var queueLength = queued.incrementAndGet();
+        if (entries.size() > maximumSize) {
+            evict(now);
+        } else if (queueLength > 2 * entries.size() + PURGE_THRESHOLD) {
+            purge();
+        }
+    }
+
+    /**
+     * Removes the entry for the key, if present.
+     *
+     * @param key the key.
+     */
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public void clear() {
+        entries.clear();
+        purge();
+    }
+
+    /**
+     * Returns the number of entries, including the expired ones that have not been evicted yet.
+     *
+     * @return the size.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the cache statistics collected since the creation.
+     *
+     * @return the statistics.
+     */
+    public Statistics statistics() {
+        return new Statistics(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private Entry<K, V> getValidEntry(K key) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        var now = clock.millis();
+        if (entry.expiresAt <= now) {
+            entries.remove(key, entry);
+            return null;
+        }
+        if (!entry.accessed) {
+            entry.accessed = true;
+        }
+        return entry;
+    }
+
+    private void refreshInBackground(K key, Function<K, V> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    var value = loader.apply(key);
+                    if (cacheable.test(value)) {
+                        put(key, value);
+                    }
+                } catch (RuntimeException e) {
+                    // the current value is kept until it expires, the refresh will be attempted again on the next access
+                    refreshFailureListener.accept(key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * Walks the eviction queue from its head until the size is back under the maximum. Entries that have been replaced or
+     * removed are dropped from the queue, accessed ones are moved to its tail.
+     */
+    private synchronized void evict(long now) {
+        while (entries.size() > maximumSize) {
+            var entry = evictionQueue.poll();
+            if (entry == null) {
+                return;
+            }
+            queued.decrementAndGet();
+            if (entries.get(entry.key) != entry) {
+                continue;
+            }
+            if (entry.accessed && entry.expiresAt > now) {
+                entry.accessed = false;
+                evictionQueue.add(entry);
+                queued.incrementAndGet();
+            } else if (entries.remove(entry.key, entry)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Drops the queued entries that have been replaced or removed, so that the queue doesn't grow beyond the cache size
+     * when the maximum size is never reached.
+     */
+    private synchronized void purge() {
+        evictionQueue.removeIf(entry -> entries.get(entry.key) != entry);
+        queued.set(evictionQueue.size());
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Statistics of the cache usage.
+     *
+     * @param hits      number of lookups that found a valid entry.
+     * @param misses    number of lookups that didn't find a valid entry.
+     * @param evictions number of entries evicted because expired or because the maximum size was exceeded.
+     */
+    public record Statistics(long hits, long misses, long evictions) {
+
+        public double hitRate() {
+            var total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private static class Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final long expiresAt;
+        private volatile boolean accessed;
+
+        Entry(K key, V value, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    public static class Builder<K, V> {
+
+        private final ConcurrentLoadingCache<K, V> cache = new ConcurrentLoadingCache<>();
+
+        private Builder() {
+        }
+
+        public static <K, V> Builder<K, V> newInstance() {
+            return new Builder<>();
+        }
+
+        /**
+         * Maximum number of entries. Pass 0 to effectively deactivate the cache.
+         */
+        public Builder<K, V> maximumSize(int maximumSize) {
+            cache.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Time after which an entry expires, by default entries never expire.
+         */
+        public Builder<K, V> timeToLive(Duration timeToLive) {
+            cache.ttlMillis = timeToLive.toMillis();
+            return this;
+        }
+
+        /**
+         * Period before the expiry of an entry in which an access triggers a background refresh. 0 (default) disables
+         * the refresh-ahead.
+         */
+        public Builder<K, V> refreshAhead(Duration refreshAhead) {
+            cache.refreshAheadMillis = refreshAhead.toMillis();
+            return this;
+        }
+
+        /**
+         * Predicate that tells if a loaded value should be cached.
+         */
+        public Builder<K, V> cacheable(Predicate<V> cacheable) {
+            cache.cacheable = cacheable;
+            return this;
+        }
+
+        public Builder<K, V> clock(Clock clock) {
+            cache.clock = clock;
+            return this;
+        }
+
+        /**
+         * Executor on which the background refreshes run, mandatory if refresh-ahead is enabled.
+         */
+        public Builder<K, V> refreshExecutor(Executor refreshExecutor) {
+            cache.refreshExecutor = refreshExecutor;
+            return this;
+        }
+
+        /**
+         * Listener notified when a background refresh fails, the current value being kept until it expires.
+         */
+        public Builder<K, V> refreshFailureListener(BiConsumer<K, RuntimeException> refreshFailureListener) {
+            cache.refreshFailureListener = refreshFailureListener;
+            return this;
+        }
+
+        public ConcurrentLoadingCache<K, V> build() {
+            if (cache.refreshAheadMillis > 0) {
+                Objects.requireNonNull(cache.refreshExecutor, "refreshExecutor is mandatory when refresh-ahead is enabled");
+            }
+            return cache;
+        }
+    }
+}
@@ -33,6 +33,10 @@ record TimestampedValue<V>(V value, Instant lastUpdatedAt, long validityMillis)
     }
 
     public boolean isExpired(Clock clock) {
-        return lastUpdatedAt == null || lastUpdatedAt.plus(validityMillis, ChronoUnit.MILLIS).isBefore(Instant.now(clock));
+        return isOlderThan(validityMillis, clock);
+    }
+
+    public boolean isOlderThan(long millis, Clock clock) {
+        return lastUpdatedAt == null || lastUpdatedAt.plus(millis, ChronoUnit.MILLIS).isBefore(Instant.now(clock));
     }
 }
@@ -20,9 +20,11 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -77,6 +79,76 @@ class CacheTest {
         assertThat(testObject).isNull();
     }
 
+    @Test
+    void get_whenPresent_expired_withRefreshExecutor_shouldReturnStaleValueAndRefresh() {
+        var clock = expiredButNotTooStaleClock();
+        cache = new Cache<>(updateFunction, VALIDITY, clock, Runnable::run);
+        when(updateFunction.apply(anyString())).thenReturn(new TestObject(42), new TestObject(43));
+
+        assertThat(cache.get("foo").value()).isEqualTo(42); // no entry there -> expect blocking update
+        assertThat(cache.get("foo").value()).isEqualTo(42); // entry expired -> stale value returned, refreshed in background
+        assertThat(cache.get("foo").value()).isEqualTo(43);
+    }
+
+    @Test
+    void get_whenPresent_expired_withRefreshExecutor_shouldRefreshOnlyOnce() {
+        var clock = expiredButNotTooStaleClock();
+        var tasks = new ArrayList<Runnable>();
+        cache = new Cache<>(updateFunction, VALIDITY, clock, tasks::add);
+        when(updateFunction.apply(anyString())).thenReturn(new TestObject(42));
+
+        cache.get("foo");
+        cache.get("foo");
+        cache.get("foo");
+
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+        cache.get("foo");
+        assertThat(tasks).hasSize(2);
+        verify(updateFunction, times(2)).apply(anyString());
+    }
+
+    @Test
+    void get_whenPresent_expired_withRefreshExecutor_updateFails_shouldKeepStaleValue() {
+        var clock = expiredButNotTooStaleClock();
+        cache = new Cache<>(updateFunction, VALIDITY, clock, Runnable::run);
+        when(updateFunction.apply(anyString())).thenReturn(new TestObject(42)).thenThrow(new RuntimeException("download failed"));
+
+        cache.get("foo");
+        cache.get("foo");
+
+        assertThat(cache.get("foo").value()).isEqualTo(42);
+    }
+
+    @Test
+    void get_whenPresent_expired_withRefreshExecutor_updateFails_shouldNotifyListener() {
+        var failures = new ArrayList<String>();
+        cache = new Cache<>(updateFunction, VALIDITY, expiredButNotTooStaleClock(), Runnable::run, (key, e) -> failures.add(key));
+        when(updateFunction.apply(anyString())).thenReturn(new TestObject(42)).thenThrow(new RuntimeException("download failed"));
+
+        cache.get("foo");
+        cache.get("foo");
+
+        assertThat(failures).containsExactly("foo");
+    }
+
+    @Test
+    void get_whenPresent_tooStale_withRefreshExecutor_shouldUpdateBlocking() {
+        var clock = Clock.fixed(Instant.now().plus(1, ChronoUnit.DAYS), ZoneId.systemDefault());
+        var tasks = new ArrayList<Runnable>();
+        cache = new Cache<>(updateFunction, VALIDITY, clock, tasks::add);
+        when(updateFunction.apply(anyString())).thenReturn(new TestObject(42)).thenThrow(new RuntimeException("download failed"));
+
+        cache.get("foo");
+
+        assertThatThrownBy(() -> cache.get("foo")).hasMessage("download failed");
+        assertThat(tasks).isEmpty();
+    }
+
+    private Clock expiredButNotTooStaleClock() {
+        return Clock.fixed(Instant.now().plus(VALIDITY + 60_000, ChronoUnit.MILLIS), ZoneId.systemDefault());
+    }
+
     private record TestObject(int value) {
 
     }
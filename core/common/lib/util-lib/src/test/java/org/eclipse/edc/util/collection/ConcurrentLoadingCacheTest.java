@@ -0,0 +1,261 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrentLoadingCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final Function<String, String> loader = mock();
+    private final Clock clock = mock();
+
+    @Test
+    void get_shouldLoadOnlyOnce_whenPresent() {
+        when(clock.millis()).thenReturn(NOW.toEpochMilli());
+        when(loader.apply(anyString())).thenReturn("value");
+        var cache = cacheBuilder().build();
+
+        assertThat(cache.get("key", loader)).isEqualTo("value");
+        assertThat(cache.get("key", loader)).isEqualTo("value");
+
+        verify(loader, times(1)).apply("key");
+        assertThat(cache.statistics().hits()).isEqualTo(1);
+        assertThat(cache.statistics().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldReload_whenExpired() {
+        when(clock.millis()).thenReturn(NOW.toEpochMilli());
+        when(loader.apply(anyString())).thenReturn("value", "new-value");
+        var cache = cacheBuilder().timeToLive(Duration.ofSeconds(10)).build();
+        cache.get("key", loader);
+
+        when(clock.millis()).thenReturn(NOW.plusSeconds(10).toEpochMilli());
+
+        assertThat(cache.get("key")).isNull();
+        assertThat(cache.get("key", loader)).isEqualTo("new-value");
+        verify(loader, times(2)).apply("key");
+    }
+
+    @Test
+    void get_shouldRefreshInBackground_whenAccessedInRefreshAheadPeriod() {
+        when(clock.millis()).thenReturn(NOW.toEpochMilli());
+        when(loader.apply(anyString())).thenReturn("value", "new-value");
+        var tasks = new ArrayList<Runnable>();
+        var cache = cacheBuilder().timeToLive(Duration.ofSeconds(10)).refreshAhead(Duration.ofSeconds(2)).refreshExecutor(tasks::add).build();
+        cache.get("key", loader);
+
+        when(clock.millis()).thenReturn(NOW.plusSeconds(7).toEpochMilli());
+        cache.get("key", loader);
+        assertThat(tasks).isEmpty();
+
+        when(clock.millis()).thenReturn(NOW.plusSeconds(9).toEpochMilli());
+        assertThat(cache.get("key", loader)).isEqualTo("value");
+        assertThat(cache.get("key", loader)).isEqualTo("value");
+        assertThat(tasks).hasSize(1);
+
+        tasks.get(0).run();
+
+        assertThat(cache.get("key", loader)).isEqualTo("new-value");
+    }
+
+    @Test
+    void get_shouldNotifyListenerAndKeepValue_whenBackgroundRefreshFails() {
+        when(clock.millis()).thenReturn(NOW.toEpochMilli());
+        var failure = new IllegalStateException("failure");
+        when(loader.apply(anyString())).thenReturn("value").thenThrow(failure);
+        var tasks = new ArrayList<Runnable>();
+        BiConsumer<String, RuntimeException> listener = mock();
+        var cache = cacheBuilder().timeToLive(Duration.ofSeconds(10)).refreshAhead(Duration.ofSeconds(2))
+                .refreshExecutor(tasks::add).refreshFailureListener(listener).build();
+        cache.get("key", loader);
+
+        when(clock.millis()).thenReturn(NOW.plusSeconds(9).toEpochMilli());
+        cache.get("key", loader);
+        tasks.get(0).run();
+
+        verify(listener).accept("key", failure);
+        assertThat(cache.get("key", loader)).isEqualTo("value");
+    }
+
+    @Test
+    void build_shouldFail_whenRefreshAheadWithoutExecutor() {
+        var builder = cacheBuilder().refreshAhead(Duration.ofSeconds(2));
+
+        assertThatThrownBy(builder::build).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void get_shouldNotCache_whenNotCacheable() {
+        when(clock.millis()).thenReturn(NOW.toEpochMilli());
+        when(loader.apply(anyString())).thenReturn("invalid");
+        var cache = cacheBuilder().cacheable(value -> !value.equals("invalid")).build();
+
+        assertThat(cache.get("key", loader)).isEqualTo("invalid");
+        assertThat(cache.get("key", loader)).isEqualTo("invalid");
+
+        verify(loader, times(2)).apply("key");
+    }
+
+    @Test
+    void get_shouldPropagateException_andNotCache() {
+        when(clock.millis()).thenReturn(NOW.toEpochMilli());
+        when(loader.apply(anyString())).thenThrow(new IllegalStateException("failure"));
+        var cache = cacheBuilder().build();
+
+        assertThatThrownBy(() -> cache.get("key", loader)).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_shouldLoadOnce_whenConcurrentMisses() throws InterruptedException {
+        var cache = ConcurrentLoadingCache.Builder.<String, String>newInstance().build();
+        var loads = new AtomicInteger();
+        var loading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Function<String, String> slowLoader = key -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return "value";
+        };
+        var executor = Executors.newFixedThreadPool(4);
+        var results = new ArrayList<String>();
+
+        executor.submit(() -> cache.get("key", slowLoader));
+        loading.await();
+        var futures = new ArrayList<Future<String>>();
+        for (var i = 0; i < 3; i++) {
+            futures.add(executor.submit(() -> cache.get("key", slowLoader)));
+        }
+        release.countDown();
+        for (var future : futures) {
+            try {
+                results.add(future.get(5, TimeUnit.SECONDS));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+        executor.shutdown();
+
+        assertThat(results).containsOnly("value");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_shouldReleaseWaitingCallers_whenLoaderThrowsError() throws Exception {
+        var cache = ConcurrentLoadingCache.Builder.<String, String>newInstance().build();
+        var loading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Function<String, String> failingLoader = key -> {
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            throw new AssertionError("failure");
+        };
+        var executor = Executors.newFixedThreadPool(2);
+
+        var loader = executor.submit(() -> cache.get("key", failingLoader));
+        loading.await();
+        var waiting = executor.submit(() -> cache.get("key", key -> "value"));
+        while (cache.statistics().misses() < 2) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThatThrownBy(() -> loader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+        assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyAccessed_whenMaximumSizeExceeded() {
+        when(clock.millis()).thenReturn(NOW.toEpochMilli());
+        var cache = cacheBuilder().maximumSize(2).build();
+        cache.put("foo", "foo");
+        when(clock.millis()).thenReturn(NOW.plusMillis(1).toEpochMilli());
+        cache.put("bar", "bar");
+        when(clock.millis()).thenReturn(NOW.plusMillis(2).toEpochMilli());
+        cache.get("foo");
+
+        when(clock.millis()).thenReturn(NOW.plusMillis(3).toEpochMilli());
+        cache.put("baz", "baz");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("foo")).isEqualTo("foo");
+        assertThat(cache.get("baz")).isEqualTo("baz");
+        assertThat(cache.get("bar")).isNull();
+        assertThat(cache.statistics().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void put_shouldEvictOldestEntry_whenReplacedEntriesAreQueued() {
+        when(clock.millis()).thenReturn(NOW.toEpochMilli());
+        var cache = cacheBuilder().maximumSize(2).build();
+        cache.put("foo", "foo");
+        cache.put("bar", "bar");
+        cache.put("foo", "new-foo");
+
+        cache.put("baz", "baz");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("bar")).isNull();
+        assertThat(cache.get("foo")).isEqualTo("new-foo");
+        assertThat(cache.statistics().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void put_shouldNotCache_whenMaximumSizeIsZero() {
+        when(clock.millis()).thenReturn(NOW.toEpochMilli());
+        var cache = cacheBuilder().maximumSize(0).build();
+
+        cache.put("foo", "foo");
+
+        assertThat(cache.get("foo")).isNull();
+    }
+
+    private ConcurrentLoadingCache.Builder<String, String> cacheBuilder() {
+        return ConcurrentLoadingCache.Builder.<String, String>newInstance().clock(clock);
+    }
+}
@@ -26,6 +26,7 @@ import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.edc.validator.spi.DataAddressValidatorRegistry;
 
+import java.util.HashSet;
 import java.util.List;
 
 import static java.lang.String.format;
@@ -34,6 +35,7 @@ public class AssetServiceImpl implements AssetService {
 
     private static final String ASSET_ID_QUERY = "contractAgreement.assetId";
     private static final String DUPLICATED_KEYS_MESSAGE = "Duplicate keys in properties and private properties are not allowed";
+    private static final String DUPLICATED_IDS_MESSAGE = "Duplicate asset ids are not allowed: %s";
     private final AssetIndex index;
     private final ContractNegotiationStore contractNegotiationStore;
     private final TransactionContext transactionContext;
@@ -68,13 +70,9 @@ public class AssetServiceImpl implements AssetService {
 
     @Override
     public ServiceResult<Asset> create(Asset asset) {
-        if (asset.hasDuplicatePropertyKeys()) {
-            return ServiceResult.badRequest(DUPLICATED_KEYS_MESSAGE);
-        }
-
-        var validDataAddress = dataAddressValidator.validateSource(asset.getDataAddress());
-        if (validDataAddress.failed()) {
-            return ServiceResult.badRequest(validDataAddress.getFailureMessages());
+        var validation = validate(asset);
+        if (validation.failed()) {
+            return validation;
         }
 
         return transactionContext.execute(() -> {
@@ -87,6 +85,31 @@ public class AssetServiceImpl implements AssetService {
         });
     }
 
+    @Override
+    public ServiceResult<List<Asset>> createAll(List<Asset> assets) {
+        var ids = new HashSet<String>();
+        var duplicatedIds = assets.stream().map(Asset::getId).filter(id -> !ids.add(id)).distinct().toList();
+        if (!duplicatedIds.isEmpty()) {
+            return ServiceResult.badRequest(format(DUPLICATED_IDS_MESSAGE, String.join(", ", duplicatedIds)));
+        }
+
+        for (var asset : assets) {
+            var validation = validate(asset);
+            if (validation.failed()) {
+                return validation.mapFailure();
+            }
+        }
+
+        return transactionContext.execute(() -> {
+            var createResult = index.createAll(assets);
+            if (createResult.succeeded()) {
+                assets.forEach(asset -> observable.invokeForEach(l -> l.created(asset)));
+                return ServiceResult.success(assets);
+            }
+            return ServiceResult.fromFailure(createResult);
+        });
+    }
+
     @Override
     public ServiceResult<Asset> delete(String assetId) {
         return transactionContext.execute(() -> {
@@ -109,6 +132,19 @@ public class AssetServiceImpl implements AssetService {
 
     @Override
     public ServiceResult<Asset> update(Asset asset) {
+        var validation = validate(asset);
+        if (validation.failed()) {
+            return validation;
+        }
+
+        return transactionContext.execute(() -> {
+            var updatedAsset = index.updateAsset(asset);
+            updatedAsset.onSuccess(a -> observable.invokeForEach(l -> l.updated(a)));
+            return ServiceResult.from(updatedAsset);
+        });
+    }
+
+    private ServiceResult<Asset> validate(Asset asset) {
         if (asset.hasDuplicatePropertyKeys()) {
             return ServiceResult.badRequest(DUPLICATED_KEYS_MESSAGE);
         }
@@ -117,12 +153,7 @@ public class AssetServiceImpl implements AssetService {
         if (validDataAddress.failed()) {
             return ServiceResult.badRequest(validDataAddress.getFailureMessages());
         }
-
-        return transactionContext.execute(() -> {
-            var updatedAsset = index.updateAsset(asset);
-            updatedAsset.onSuccess(a -> observable.invokeForEach(l -> l.updated(a)));
-            return ServiceResult.from(updatedAsset);
-        });
+        return ServiceResult.success(asset);
     }
 
     private List<Asset> queryAssets(QuerySpec query) {
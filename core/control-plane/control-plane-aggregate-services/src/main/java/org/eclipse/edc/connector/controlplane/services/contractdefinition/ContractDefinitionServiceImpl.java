@@ -23,6 +23,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.util.HashSet;
 import java.util.List;
 
 import static java.lang.String.format;
@@ -67,6 +68,25 @@ public class ContractDefinitionServiceImpl implements ContractDefinitionService
         });
     }
 
+    @Override
+    public ServiceResult<List<ContractDefinition>> createAll(List<ContractDefinition> contractDefinitions) {
+        var ids = new HashSet<String>();
+        var duplicatedIds = contractDefinitions.stream().map(ContractDefinition::getId).filter(id -> !ids.add(id)).distinct().toList();
+        if (!duplicatedIds.isEmpty()) {
+            return ServiceResult.badRequest(format("Duplicate contract definition ids are not allowed: %s", String.join(", ", duplicatedIds)));
+        }
+
+        return transactionContext.execute(() -> {
+            var saveResult = store.saveAll(contractDefinitions);
+            if (saveResult.succeeded()) {
+                contractDefinitions.forEach(contractDefinition -> observable.invokeForEach(l -> l.created(contractDefinition)));
+                return ServiceResult.success(contractDefinitions);
+            } else {
+                return ServiceResult.fromFailure(saveResult);
+            }
+        });
+    }
+
     @Override
     public ServiceResult<Void> update(ContractDefinition contractDefinition) {
         return transactionContext.execute(() -> {
@@ -33,6 +33,7 @@ import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -107,6 +108,23 @@ public class PolicyDefinitionServiceImpl implements PolicyDefinitionService {
         });
     }
 
+    @Override
+    public @NotNull ServiceResult<List<PolicyDefinition>> createAll(List<PolicyDefinition> policyDefinitions) {
+        var ids = new HashSet<String>();
+        var duplicatedIds = policyDefinitions.stream().map(PolicyDefinition::getId).filter(id -> !ids.add(id)).distinct().toList();
+        if (!duplicatedIds.isEmpty()) {
+            return ServiceResult.badRequest(format("Duplicate policy definition ids are not allowed: %s", String.join(", ", duplicatedIds)));
+        }
+
+        return transactionContext.execute(() -> {
+            var saveResult = policyStore.createAll(policyDefinitions);
+            if (saveResult.succeeded()) {
+                policyDefinitions.forEach(policyDefinition -> observable.invokeForEach(l -> l.created(policyDefinition)));
+                return ServiceResult.success(policyDefinitions);
+            }
+            return ServiceResult.fromFailure(saveResult);
+        });
+    }
 
     @Override
     public ServiceResult<PolicyDefinition> update(PolicyDefinition policyDefinition) {
@@ -44,6 +44,7 @@ import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -158,6 +159,50 @@ class AssetServiceImplTest {
         verifyNoInteractions(index);
     }
 
+    @Test
+    void createAll_shouldCreateAllAssets() {
+        when(dataAddressValidator.validateSource(any())).thenReturn(ValidationResult.success());
+        var assets = List.of(createAsset("assetId1"), createAsset("assetId2"));
+        when(index.createAll(assets)).thenReturn(StoreResult.success());
+
+        var result = service.createAll(assets);
+
+        assertThat(result).isSucceeded().isEqualTo(assets);
+        verify(observable, times(2)).invokeForEach(any());
+    }
+
+    @Test
+    void createAll_shouldFail_whenIdsAreDuplicated() {
+        when(dataAddressValidator.validateSource(any())).thenReturn(ValidationResult.success());
+
+        var result = service.createAll(List.of(createAsset("assetId"), createAsset("assetId")));
+
+        assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(BAD_REQUEST);
+        verifyNoInteractions(index);
+    }
+
+    @Test
+    void createAll_shouldNotCreateAnyAsset_whenOneDataAddressIsInvalid() {
+        when(dataAddressValidator.validateSource(any())).thenReturn(ValidationResult.success())
+                .thenReturn(ValidationResult.failure(violation("Data address is invalid", "path")));
+
+        var result = service.createAll(List.of(createAsset("assetId1"), createAsset("assetId2")));
+
+        assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(BAD_REQUEST);
+        verifyNoInteractions(index);
+    }
+
+    @Test
+    void createAll_shouldFail_whenAnAssetAlreadyExists() {
+        when(dataAddressValidator.validateSource(any())).thenReturn(ValidationResult.success());
+        when(index.createAll(any())).thenReturn(StoreResult.alreadyExists("test"));
+
+        var result = service.createAll(List.of(createAsset("assetId1"), createAsset("assetId2")));
+
+        assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(CONFLICT);
+        verifyNoInteractions(observable);
+    }
+
     @Test
     void createAsset_shouldFail_whenPropertiesAreDuplicated() {
         var asset = createAssetBuilder("assetId").property("property", "value").privateProperty("property", "other-value").build();
@@ -34,12 +34,14 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.BAD_REQUEST;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.CONFLICT;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.NOT_FOUND;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -50,6 +52,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -148,6 +151,40 @@ class ContractDefinitionServiceImplTest {
         verifyNoInteractions(listener);
     }
 
+    @Test
+    void createAll_shouldCreateAllDefinitions() {
+        var definitions = List.of(createContractDefinition(), createContractDefinition());
+        when(store.saveAll(definitions)).thenReturn(StoreResult.success());
+
+        var inserted = service.createAll(definitions);
+
+        assertThat(inserted.succeeded()).isTrue();
+        assertThat(inserted.getContent()).isEqualTo(definitions);
+        verify(listener, times(2)).created(any());
+    }
+
+    @Test
+    void createAll_shouldNotCreateDefinitions_whenOneAlreadyExists() {
+        when(store.saveAll(any())).thenReturn(StoreResult.alreadyExists(""));
+
+        var inserted = service.createAll(List.of(createContractDefinition(), createContractDefinition()));
+
+        assertThat(inserted.failed()).isTrue();
+        assertThat(inserted.reason()).isEqualTo(CONFLICT);
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void createAll_shouldFail_whenIdsAreDuplicated() {
+        var definition = createContractDefinition();
+
+        var inserted = service.createAll(List.of(definition, definition));
+
+        assertThat(inserted.failed()).isTrue();
+        assertThat(inserted.reason()).isEqualTo(BAD_REQUEST);
+        verifyNoInteractions(store);
+    }
+
     @Test
     void create_shouldNotCreateDefinitionIfTheStoreFails() {
         var definition = createContractDefinition();
@@ -22,6 +22,7 @@ import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionS
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.ServiceFailure;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
@@ -33,12 +34,14 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.BAD_REQUEST;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.CONFLICT;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.NOT_FOUND;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -46,7 +49,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -115,6 +120,25 @@ class PolicyDefinitionServiceImplTest {
         verifyNoMoreInteractions(policyStore);
     }
 
+    @Test
+    void createAll_shouldCreateAllPolicies() {
+        var policies = List.of(createPolicy("policyId1"), createPolicy("policyId2"));
+        when(policyStore.createAll(policies)).thenReturn(StoreResult.success());
+
+        var inserted = policyServiceImpl.createAll(policies);
+
+        assertThat(inserted).isSucceeded().isEqualTo(policies);
+        verify(observable, times(2)).invokeForEach(any());
+    }
+
+    @Test
+    void createAll_shouldFail_whenIdsAreDuplicated() {
+        var inserted = policyServiceImpl.createAll(List.of(createPolicy("policyId"), createPolicy("policyId")));
+
+        assertThat(inserted).isFailed().extracting(ServiceFailure::getReason).isEqualTo(BAD_REQUEST);
+        verifyNoInteractions(policyStore);
+    }
+
     @Test
     void createPolicy_shouldNotCreatePolicyIfItAlreadyExists() {
         var policy = createPolicy("policyId");
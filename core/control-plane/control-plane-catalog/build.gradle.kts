@@ -23,6 +23,8 @@ dependencies {
     api(project(":spi:control-plane:asset-spi"))
 
     implementation(project(":spi:common:data-address:data-address-http-data-spi"))
+    implementation(project(":spi:common:transaction-spi"))
+    implementation(project(":spi:common:verifiable-credentials-spi"))
     testImplementation(project(":tests:junit-base"))
 
     testImplementation(project(":core:common:connector-core"))
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetCache;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.edc.transaction.spi.TransactionContext.TransactionSynchronization.afterCompletion;
+
+/**
+ * {@link DatasetResolver} that caches the datasets resolved by the delegate for the same participant agent and query.
+ * The cache key is derived from the agent attributes, all the claims except the ignored ones, which should only be the
+ * claims that change on every token (e.g. issuance and expiry times), and the query spec. A claim that is evaluated by an
+ * access policy must therefore never be ignored. Claim values are reduced to a stable representation: verifiable
+ * credentials are represented by their id, types, issuer and subjects, collections and maps by their elements.
+ * <p>
+ * The cache is invalidated, as an {@link EventSubscriber}, when assets, policy definitions or contract definitions
+ * change, once the transaction in which the change happened is completed. Only the events published by this runtime
+ * invalidate the cache: with a shared {@link DatasetCache} all the replicas see the invalidation, with a local one the
+ * other replicas keep serving their cached datasets until they expire. Datasets resolved by id are not cached.
+ */
+public class CachingDatasetResolver implements DatasetResolver, EventSubscriber {
+
+    private final DatasetResolver delegate;
+    private final DatasetCache cache;
+    private final Set<String> ignoredClaims;
+    private final TransactionContext transactionContext;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CachingDatasetResolver(DatasetResolver delegate, DatasetCache cache, Set<String> ignoredClaims, TransactionContext transactionContext) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.ignoredClaims = ignoredClaims;
+        this.transactionContext = transactionContext;
+    }
+
+    @Override
+    @NotNull
+    public Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec) {
+        var key = cacheKey(agent, querySpec);
+        var cached = cache.get(key);
+        if (cached != null) {
+            return cached.stream();
+        }
+
+        var invalidationsBeforeQuery = invalidations.get();
+        try (var stream = delegate.query(agent, querySpec)) {
+            var datasets = stream.toList();
+            // datasets resolved while an asset, policy or definition changed must not be cached
+            if (invalidations.get() == invalidationsBeforeQuery) {
+                cache.put(key, datasets);
+            }
+            return datasets.stream();
+        }
+    }
+
+    @Override
+    public Dataset getById(ParticipantAgent participantAgent, String id) {
+        return delegate.getById(participantAgent, id);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        // datasets cached before the change is committed would be stale, so the cache is invalidated afterward
+        transactionContext.execute(() -> transactionContext.registerSynchronization(afterCompletion(this::invalidate)));
+    }
+
+    private void invalidate() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private String cacheKey(ParticipantAgent agent, QuerySpec querySpec) {
+        var claims = new TreeMap<String, String>();
+        agent.getClaims().forEach((name, value) -> {
+            if (!ignoredClaims.contains(name)) {
+                claims.put(name, value == null ? null : stableRepresentation(value));
+            }
+        });
+        var key = "%s|%s|%s".formatted(new TreeMap<>(agent.getAttributes()), claims, querySpec);
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private String stableRepresentation(Object value) {
+        if (value instanceof VerifiableCredential credential) {
+            var subjects = credential.getCredentialSubject().stream()
+                    .map(subject -> subject.getId() + stableRepresentation(subject.getClaims()))
+                    .sorted()
+                    .toList();
+            var issuer = credential.getIssuer() != null ? credential.getIssuer().id() : null;
+            return "VC(%s|%s|%s|%s)".formatted(credential.getId(), credential.getType().stream().sorted().toList(), issuer, subjects);
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.stream().map(this::stableRepresentation).sorted().toList().toString();
+        }
+        if (value instanceof Map<?, ?> map) {
+            var sorted = new TreeMap<String, String>();
+            map.forEach((k, v) -> sorted.put(String.valueOf(k), v == null ? null : stableRepresentation(v)));
+            return sorted.toString();
+        }
+        return String.valueOf(value);
+    }
+}
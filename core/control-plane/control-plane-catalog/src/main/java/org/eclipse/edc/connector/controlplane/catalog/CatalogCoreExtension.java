@@ -14,22 +14,42 @@
 
 package org.eclipse.edc.connector.controlplane.catalog;
 
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetEvent;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetCache;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DistributionResolver;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.ContractDefinitionResolver;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
 
 @Extension(CatalogCoreExtension.NAME)
 public class CatalogCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Catalog Core";
 
+    private static final String DEFAULT_IGNORED_CLAIMS = "iat,exp,nbf,jti";
+
+    @Setting(value = "Whether the datasets resolved for a catalog request are cached per participant agent and query", defaultValue = "false", type = "boolean")
+    public static final String CATALOG_CACHE_ENABLED = "edc.catalog.cache.enabled";
+
+    @Setting(value = "Comma-separated list of the claims that are left out of the dataset cache key, as they change on every token. " +
+            "It must not contain any claim evaluated by the access policies of the contract definitions", defaultValue = DEFAULT_IGNORED_CLAIMS)
+    public static final String CATALOG_CACHE_IGNORED_CLAIMS = "edc.catalog.cache.ignored-claims";
+
     @Inject
     private ContractDefinitionResolver contractDefinitionResolver;
 
@@ -45,14 +65,38 @@ public class CatalogCoreExtension implements ServiceExtension {
     @Inject
     private CriterionOperatorRegistry criterionOperatorRegistry;
 
+    @Inject
+    private DatasetCache datasetCache;
+
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private TransactionContext transactionContext;
+
     @Override
     public String name() {
         return NAME;
     }
 
     @Provider
-    public DatasetResolver datasetResolver() {
-        return new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyDefinitionStore,
+    public DatasetResolver datasetResolver(ServiceExtensionContext context) {
+        var datasetResolver = new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyDefinitionStore,
                 distributionResolver, criterionOperatorRegistry);
+
+        var config = context.getConfig();
+        if (!config.getBoolean(CATALOG_CACHE_ENABLED, false)) {
+            return datasetResolver;
+        }
+
+        var ignoredClaims = Arrays.stream(config.getString(CATALOG_CACHE_IGNORED_CLAIMS, DEFAULT_IGNORED_CLAIMS).split(","))
+                .map(String::trim)
+                .filter(it -> !it.isEmpty())
+                .collect(Collectors.toSet());
+        var cachingDatasetResolver = new CachingDatasetResolver(datasetResolver, datasetCache, ignoredClaims, transactionContext);
+        eventRouter.registerSync(AssetEvent.class, cachingDatasetResolver);
+        eventRouter.registerSync(PolicyDefinitionEvent.class, cachingDatasetResolver);
+        eventRouter.registerSync(ContractDefinitionEvent.class, cachingDatasetResolver);
+        return cachingDatasetResolver;
     }
 }
@@ -15,22 +15,36 @@
 package org.eclipse.edc.connector.controlplane.catalog;
 
 import org.eclipse.edc.connector.controlplane.catalog.spi.DataServiceRegistry;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetCache;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DistributionResolver;
 import org.eclipse.edc.connector.controlplane.transfer.spi.flow.DataFlowManager;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+
 @Extension(value = CatalogDefaultServicesExtension.NAME)
 public class CatalogDefaultServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Catalog Default Services";
 
+    @Setting(value = "The time-to-live (ttl) of the entries of the default dataset cache in seconds", defaultValue = "60", type = "long")
+    public static final String CATALOG_CACHE_TTL = "edc.catalog.cache.ttl";
+
+    @Setting(value = "The maximum number of entries of the default dataset cache", defaultValue = "1000", type = "int")
+    public static final String CATALOG_CACHE_MAX_SIZE = "edc.catalog.cache.max-size";
+
     @Inject
     private DataFlowManager dataFlowManager;
 
+    @Inject
+    private Clock clock;
+
     private DataServiceRegistry dataServiceRegistry;
 
     @Override
@@ -52,4 +66,11 @@ public class CatalogDefaultServicesExtension implements ServiceExtension {
     public DistributionResolver distributionResolver() {
         return new DefaultDistributionResolver(dataServiceRegistry, dataFlowManager);
     }
+
+    @Provider(isDefault = true)
+    public DatasetCache datasetCache(ServiceExtensionContext context) {
+        var config = context.getConfig();
+        var ttl = Duration.ofSeconds(config.getLong(CATALOG_CACHE_TTL, 60L));
+        return new InMemoryDatasetCache(clock, ttl, config.getInteger(CATALOG_CACHE_MAX_SIZE, 1000));
+    }
 }
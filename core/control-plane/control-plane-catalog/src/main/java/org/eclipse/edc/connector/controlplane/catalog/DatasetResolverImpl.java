@@ -26,14 +26,18 @@ import org.eclipse.edc.connector.controlplane.contract.spi.offer.ContractDefinit
 import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema;
+import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.policy.model.PolicyType;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -61,10 +65,30 @@ public class DatasetResolverImpl implements DatasetResolver {
     @Override
     @NotNull
     public Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
-        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression()).build();
+        var offerDefinitions = resolveOfferDefinitions(agent);
+        if (offerDefinitions.isEmpty()) {
+            return Stream.empty();
+        }
+
+        var commonSelector = commonSelector(offerDefinitions);
+        var filter = new ArrayList<>(querySpec.getFilterExpression());
+        commonSelector.stream().filter(criterion -> !filter.contains(criterion)).forEach(filter::add);
+
+        // when every definition selects exactly the pushed down criteria, each asset returned by the index has offers
+        // for all the definitions, so the predicates can be skipped and paging can be done by the index
+        var exactPushDown = offerDefinitions.stream().allMatch(it -> it.remainingSelector(commonSelector).isEmpty());
+        if (exactPushDown) {
+            var assetsQuery = QuerySpec.Builder.newInstance()
+                    .offset(querySpec.getOffset()).limit(querySpec.getLimit())
+                    .filter(filter)
+                    .build();
+            return assetIndex.queryAssets(assetsQuery)
+                    .map(asset -> toDataset(offerDefinitions, asset, definition -> true));
+        }
+
+        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(filter).build();
         return assetIndex.queryAssets(assetsQuery)
-                .map(asset -> toDataset(contractDefinitions, asset))
+                .map(asset -> toDataset(offerDefinitions, asset, definition -> definition.selects(asset)))
                 .filter(Dataset::hasOffers)
                 .skip(querySpec.getOffset())
                 .limit(querySpec.getLimit());
@@ -72,10 +96,10 @@ public class DatasetResolverImpl implements DatasetResolver {
 
     @Override
     public Dataset getById(ParticipantAgent agent, String id) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
+        var offerDefinitions = resolveOfferDefinitions(agent);
         return Optional.of(id)
                 .map(assetIndex::findById)
-                .map(asset -> toDataset(contractDefinitions, asset))
+                .map(asset -> toDataset(offerDefinitions, asset, definition -> definition.selects(asset)))
                 .orElse(null);
     }
 
@@ -92,7 +116,7 @@ public class DatasetResolverImpl implements DatasetResolver {
                         .build());
     }
 
-    private Dataset toDataset(List<ContractDefinition> contractDefinitions, Asset asset) {
+    private Dataset toDataset(List<OfferDefinition> offerDefinitions, Asset asset, Predicate<OfferDefinition> selection) {
 
         var distributions = distributionResolver.getDistributions(asset);
         var datasetBuilder = buildDataset(asset)
@@ -100,22 +124,59 @@ public class DatasetResolverImpl implements DatasetResolver {
                 .distributions(distributions)
                 .properties(asset.getProperties());
 
-        contractDefinitions.stream()
-                .filter(definition -> definition.getAssetsSelector().stream()
-                        .map(criterionOperatorRegistry::toPredicate)
-                        .reduce(x -> true, Predicate::and)
-                        .test(asset)
-                )
-                .forEach(contractDefinition -> {
-                    var policyDefinition = policyDefinitionStore.findById(contractDefinition.getContractPolicyId());
-                    if (policyDefinition != null) {
-                        var contractId = ContractOfferId.create(contractDefinition.getId(), asset.getId());
-                        var offerPolicy = policyDefinition.getPolicy().toBuilder().type(PolicyType.OFFER).build();
-                        datasetBuilder.offer(contractId.toString(), offerPolicy);
-                    }
+        offerDefinitions.stream()
+                .filter(selection)
+                .forEach(offerDefinition -> {
+                    var contractId = ContractOfferId.create(offerDefinition.contractDefinition().getId(), asset.getId());
+                    datasetBuilder.offer(contractId.toString(), offerDefinition.offerPolicy());
                 });
 
         return datasetBuilder.build();
     }
 
+    /**
+     * Resolves the contract definitions applicable to the agent, compiling their assets selector and looking up their
+     * contract policy only once per request. Definitions whose contract policy cannot be found are discarded, as they
+     * cannot produce any offer.
+     */
+    private List<OfferDefinition> resolveOfferDefinitions(ParticipantAgent agent) {
+        return contractDefinitionResolver.definitionsFor(agent)
+                .map(contractDefinition -> {
+                    var policyDefinition = policyDefinitionStore.findById(contractDefinition.getContractPolicyId());
+                    if (policyDefinition == null) {
+                        return null;
+                    }
+                    var offerPolicy = policyDefinition.getPolicy().toBuilder().type(PolicyType.OFFER).build();
+                    var selector = contractDefinition.getAssetsSelector().stream()
+                            .map(criterionOperatorRegistry::<Asset>toPredicate)
+                            .reduce(x -> true, Predicate::and);
+                    return new OfferDefinition(contractDefinition, offerPolicy, selector);
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Returns the criteria that are part of the assets selector of every definition: an asset that does not satisfy
+     * them cannot be offered by any definition, so they can be evaluated by the {@link AssetIndex}.
+     */
+    private List<Criterion> commonSelector(List<OfferDefinition> offerDefinitions) {
+        var common = new ArrayList<>(offerDefinitions.get(0).contractDefinition().getAssetsSelector());
+        offerDefinitions.stream().skip(1)
+                .map(it -> it.contractDefinition().getAssetsSelector())
+                .forEach(common::retainAll);
+        return common;
+    }
+
+    private record OfferDefinition(ContractDefinition contractDefinition, Policy offerPolicy, Predicate<Asset> selector) {
+
+        boolean selects(Asset asset) {
+            return selector.test(asset);
+        }
+
+        List<Criterion> remainingSelector(List<Criterion> pushedDown) {
+            return contractDefinition.getAssetsSelector().stream().filter(it -> !pushedDown.contains(it)).toList();
+        }
+    }
+
 }
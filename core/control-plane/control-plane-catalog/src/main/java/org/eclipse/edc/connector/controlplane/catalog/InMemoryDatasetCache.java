@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Default {@link DatasetCache}, local to the runtime. Entries expire after a fixed time-to-live and the least recently
+ * used entries are evicted once the maximum size is reached.
+ */
+public class InMemoryDatasetCache implements DatasetCache {
+
+    private final Clock clock;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+
+    public InMemoryDatasetCache(Clock clock, Duration ttl, int maxSize) {
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public @Nullable List<Dataset> get(String key) {
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= clock.millis()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.datasets;
+        }
+    }
+
+    @Override
+    public void put(String key, List<Dataset> datasets) {
+        synchronized (entries) {
+            entries.put(key, new Entry(List.copyOf(datasets), clock.millis() + ttlMillis));
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private record Entry(List<Dataset> datasets, long expiresAt) {
+    }
+}
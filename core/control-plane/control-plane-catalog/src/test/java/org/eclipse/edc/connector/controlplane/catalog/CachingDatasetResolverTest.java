@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.event.AssetUpdated;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialSubject;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.Issuer;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDatasetResolverTest {
+
+    private final DatasetResolver delegate = mock();
+    private final InMemoryDatasetCache cache = new InMemoryDatasetCache(Clock.systemUTC(), Duration.ofMinutes(1), 100);
+    private final CachingDatasetResolver resolver = new CachingDatasetResolver(delegate, cache, Set.of("iat"), new NoopTransactionContext());
+
+    @Test
+    void query_shouldCacheDatasetsPerAgentAndQuery() {
+        var dataset = Dataset.Builder.newInstance().id("dataset").build();
+        when(delegate.query(any(), any())).thenAnswer(i -> Stream.of(dataset));
+        var querySpec = QuerySpec.Builder.newInstance().limit(10).build();
+
+        var first = resolver.query(agent("participant", "credential", 1), querySpec).toList();
+        var second = resolver.query(agent("participant", "credential", 2), QuerySpec.Builder.newInstance().limit(10).build()).toList();
+
+        assertThat(first).containsExactly(dataset);
+        assertThat(second).containsExactly(dataset);
+        verify(delegate).query(any(), any());
+    }
+
+    @Test
+    void query_shouldNotShareEntries_whenAgentCredentialsOrQueryDiffer() {
+        when(delegate.query(any(), any())).thenAnswer(i -> Stream.of(Dataset.Builder.newInstance().build()));
+        var querySpec = QuerySpec.Builder.newInstance().limit(10).build();
+
+        resolver.query(agent("participant", "credential", 1), querySpec).toList();
+        resolver.query(agent("another-participant", "credential", 1), querySpec).toList();
+        resolver.query(agent("participant", "another-credential", 1), querySpec).toList();
+        resolver.query(agent("participant", "credential", 1), QuerySpec.Builder.newInstance().limit(20).build()).toList();
+
+        verify(delegate, times(4)).query(any(), any());
+    }
+
+    @Test
+    void query_shouldNotShareEntries_whenOtherClaimsDiffer() {
+        when(delegate.query(any(), any())).thenAnswer(i -> Stream.of(Dataset.Builder.newInstance().build()));
+        var querySpec = QuerySpec.Builder.newInstance().limit(10).build();
+        var identity = Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, "participant");
+
+        resolver.query(new ParticipantAgent(Map.of("region", "eu", "scope", "catalog", "iat", 1L), identity), querySpec).toList();
+        resolver.query(new ParticipantAgent(Map.of("region", "us", "scope", "catalog", "iat", 1L), identity), querySpec).toList();
+        resolver.query(new ParticipantAgent(Map.of("region", "eu", "scope", "catalog negotiation", "iat", 2L), identity), querySpec).toList();
+        resolver.query(new ParticipantAgent(Map.of("region", "eu", "scope", "catalog", "iat", 3L), identity), querySpec).toList();
+
+        verify(delegate, times(3)).query(any(), any());
+    }
+
+    @Test
+    void on_shouldInvalidateCache() {
+        when(delegate.query(any(), any())).thenAnswer(i -> Stream.of(Dataset.Builder.newInstance().build()));
+        var querySpec = QuerySpec.Builder.newInstance().build();
+        resolver.query(agent("participant", "credential", 1), querySpec).toList();
+
+        resolver.on(assetUpdated());
+        resolver.query(agent("participant", "credential", 1), querySpec).toList();
+
+        verify(delegate, times(2)).query(any(), any());
+    }
+
+    @Test
+    void on_shouldInvalidateCache_afterTransactionCompletion() {
+        var transactionContext = mock(TransactionContext.class);
+        doAnswer(i -> {
+            i.<TransactionContext.TransactionBlock>getArgument(0).execute();
+            return null;
+        }).when(transactionContext).execute(any(TransactionContext.TransactionBlock.class));
+        var resolver = new CachingDatasetResolver(delegate, cache, Set.of("iat"), transactionContext);
+        when(delegate.query(any(), any())).thenAnswer(i -> Stream.of(Dataset.Builder.newInstance().build()));
+        var querySpec = QuerySpec.Builder.newInstance().build();
+        resolver.query(agent("participant", "credential", 1), querySpec).toList();
+
+        resolver.on(assetUpdated());
+
+        var captor = ArgumentCaptor.forClass(TransactionContext.TransactionSynchronization.class);
+        verify(transactionContext).registerSynchronization(captor.capture());
+        resolver.query(agent("participant", "credential", 1), querySpec).toList();
+        verify(delegate, times(1)).query(any(), any());
+
+        captor.getValue().afterCompletion();
+        resolver.query(agent("participant", "credential", 1), querySpec).toList();
+        verify(delegate, times(2)).query(any(), any());
+    }
+
+    @Test
+    void query_shouldNotCache_whenInvalidatedWhileQuerying() {
+        when(delegate.query(any(), any())).thenAnswer(i -> {
+            resolver.on(assetUpdated());
+            return Stream.of(Dataset.Builder.newInstance().build());
+        });
+        var querySpec = QuerySpec.Builder.newInstance().build();
+
+        resolver.query(agent("participant", "credential", 1), querySpec).toList();
+        resolver.query(agent("participant", "credential", 1), querySpec).toList();
+
+        verify(delegate, times(2)).query(any(), any());
+    }
+
+    private EventEnvelope<AssetUpdated> assetUpdated() {
+        return EventEnvelope.Builder.newInstance().at(1).payload(AssetUpdated.Builder.newInstance().assetId("asset").build()).build();
+    }
+
+    private ParticipantAgent agent(String identity, String credentialId, long issuedAt) {
+        // a new credential instance on every request, as it is when the claims are extracted from a presentation
+        var credential = VerifiableCredential.Builder.newInstance()
+                .id(credentialId)
+                .type("MembershipCredential")
+                .issuer(new Issuer("did:web:issuer"))
+                .issuanceDate(Instant.now())
+                .credentialSubject(CredentialSubject.Builder.newInstance().id(identity).claim("level", "gold").build())
+                .build();
+        return new ParticipantAgent(Map.of("vc", List.of(credential), "iat", issuedAt), Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, identity));
+    }
+}
@@ -57,6 +57,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class DatasetResolverImplTest {
@@ -166,7 +167,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> paginated(assets, i.getArgument(0)));
         when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(2, 5)).build();
 
@@ -181,7 +182,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> paginated(assets, i.getArgument(0)));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(7, 15)).build();
 
@@ -196,7 +197,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 20).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> paginated(assets, i.getArgument(0)));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 14)).build();
 
@@ -211,7 +212,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> paginated(assets, i.getArgument(0)));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 8)).build();
 
@@ -222,6 +223,35 @@ class DatasetResolverImplTest {
                 .map(getId()).containsExactly("6", "7");
     }
 
+    @Test
+    void query_shouldPushDownCommonSelectorAndFilterInMemory_whenDefinitionsSelectDifferentAssets() {
+        var commonCriterion = new Criterion("id", "in", List.of("1", "3", "4"));
+        var contractDefinitions = List.of(
+                contractDefinitionBuilder("definition1").assetsSelector(List.of(commonCriterion, new Criterion("id", "=", "1"))).build(),
+                contractDefinitionBuilder("definition2").assetsSelector(List.of(commonCriterion, new Criterion("id", "=", "3"))).build()
+        );
+        var contractPolicy = Policy.Builder.newInstance().build();
+        var assets = range(0, 5).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+        assertThat(datasets).hasSize(2).map(getId()).containsExactly("1", "3");
+        verify(assetIndex).queryAssets(argThat(q -> q.getFilterExpression().equals(List.of(commonCriterion)) && q.getOffset() == 0));
+    }
+
+    @Test
+    void query_shouldNotQueryAssets_whenNoDefinitionApplies() {
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.empty());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+        assertThat(datasets).isEmpty();
+        verifyNoInteractions(assetIndex);
+    }
+
     @Test
     void query_shouldReturnCatalogWithinCatalog_whenAssetIsCatalogAsset() {
         var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
@@ -296,6 +326,10 @@ class DatasetResolverImplTest {
         assertThat(dataset).isNull();
     }
 
+    private Stream<Asset> paginated(List<Asset> assets, QuerySpec querySpec) {
+        return assets.stream().skip(querySpec.getOffset()).limit(querySpec.getLimit());
+    }
+
     private ContractDefinition.Builder contractDefinitionBuilder(String id) {
         return ContractDefinition.Builder.newInstance()
                 .id(id)
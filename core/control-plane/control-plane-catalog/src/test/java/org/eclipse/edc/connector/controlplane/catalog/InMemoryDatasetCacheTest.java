@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemoryDatasetCacheTest {
+
+    private final Clock clock = mock();
+    private final InMemoryDatasetCache cache = new InMemoryDatasetCache(clock, Duration.ofSeconds(10), 2);
+
+    @Test
+    void get_shouldReturnCachedDatasets() {
+        when(clock.millis()).thenReturn(0L);
+        var datasets = List.of(Dataset.Builder.newInstance().build());
+
+        cache.put("key", datasets);
+
+        assertThat(cache.get("key")).isEqualTo(datasets);
+        assertThat(cache.get("unknown")).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_whenExpired() {
+        when(clock.millis()).thenReturn(0L, 10_000L);
+
+        cache.put("key", List.of(Dataset.Builder.newInstance().build()));
+
+        assertThat(cache.get("key")).isNull();
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsed_whenMaxSizeReached() {
+        when(clock.millis()).thenReturn(0L);
+        cache.put("key1", List.of());
+        cache.put("key2", List.of());
+        cache.get("key1");
+
+        cache.put("key3", List.of());
+
+        assertThat(cache.get("key1")).isNotNull();
+        assertThat(cache.get("key2")).isNull();
+        assertThat(cache.get("key3")).isNotNull();
+    }
+
+    @Test
+    void invalidateAll_shouldRemoveAllEntries() {
+        when(clock.millis()).thenReturn(0L);
+        cache.put("key1", List.of());
+        cache.put("key2", List.of());
+
+        cache.invalidateAll();
+
+        assertThat(cache.get("key1")).isNull();
+        assertThat(cache.get("key2")).isNull();
+    }
+}
@@ -22,6 +22,7 @@ import org.eclipse.edc.connector.controlplane.contract.listener.ContractNegotiat
 import org.eclipse.edc.connector.controlplane.contract.negotiation.ConsumerContractNegotiationManagerImpl;
 import org.eclipse.edc.connector.controlplane.contract.negotiation.ProviderContractNegotiationManagerImpl;
 import org.eclipse.edc.connector.controlplane.contract.policy.PolicyEquality;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationEvent;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ConsumerContractNegotiationManager;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ContractNegotiationPendingGuard;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.NegotiationWaitStrategy;
@@ -51,7 +52,9 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.statemachine.WakeUpSubscriber;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
@@ -63,6 +66,7 @@ import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BA
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_WORKERS;
 
 @Provides({
         ContractValidationService.class, ConsumerContractNegotiationManager.class,
@@ -83,6 +87,12 @@ public class ContractCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the provider negotiation state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE = "edc.negotiation.provider.state-machine.batch-size";
 
+    @Setting(value = "the number of threads on which the consumer negotiation state machine processes the entities. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String NEGOTIATION_CONSUMER_STATE_MACHINE_WORKERS = "edc.negotiation.consumer.state-machine.workers";
+
+    @Setting(value = "the number of threads on which the provider negotiation state machine processes the entities. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_WORKERS = "edc.negotiation.provider.state-machine.workers";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the consumer negotiation with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String NEGOTIATION_CONSUMER_SEND_RETRY_LIMIT = "edc.negotiation.consumer.send.retry.limit";
 
@@ -144,6 +154,9 @@ public class ContractCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private TransactionContext transactionContext;
+
     @Override
     public String name() {
         return NAME;
@@ -202,6 +215,7 @@ public class ContractCoreExtension implements ServiceExtension {
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_WORKERS, DEFAULT_WORKERS))
                 .entityRetryProcessConfiguration(consumerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
@@ -219,11 +233,14 @@ public class ContractCoreExtension implements ServiceExtension {
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_WORKERS, DEFAULT_WORKERS))
                 .entityRetryProcessConfiguration(providerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
                 .build();
 
+        eventRouter.registerSync(ContractNegotiationEvent.class, new WakeUpSubscriber(transactionContext, consumerNegotiationManager, providerNegotiationManager));
+
         context.registerService(ConsumerContractNegotiationManager.class, consumerNegotiationManager);
         context.registerService(ProviderContractNegotiationManager.class, providerNegotiationManager);
     }
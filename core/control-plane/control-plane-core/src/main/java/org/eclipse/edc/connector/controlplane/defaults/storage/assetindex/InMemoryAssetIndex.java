@@ -55,13 +55,12 @@ public class InMemoryAssetIndex implements AssetIndex {
     public Stream<Asset> queryAssets(QuerySpec querySpec) {
         lock.readLock().lock();
         try {
-            var comparator = querySpec.getSortField() == null
-                    ? (Comparator<Asset>) (o1, o2) -> 0
-                    : new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder());
+            var assets = filterBy(querySpec.getFilterExpression());
+            if (querySpec.getSortField() != null) {
+                assets = assets.sorted(new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder()));
+            }
 
-            return filterBy(querySpec.getFilterExpression())
-                    .sorted(comparator)
-                    .skip(querySpec.getOffset()).limit(querySpec.getLimit());
+            return assets.skip(querySpec.getOffset()).limit(querySpec.getLimit());
 
         } finally {
             lock.readLock().unlock();
@@ -96,6 +95,21 @@ public class InMemoryAssetIndex implements AssetIndex {
         return StoreResult.success();
     }
 
+    @Override
+    public StoreResult<Void> createAll(List<Asset> assets) {
+        lock.writeLock().lock();
+        try {
+            var existingIds = assets.stream().map(Asset::getId).filter(cache::containsKey).toList();
+            if (!existingIds.isEmpty()) {
+                return StoreResult.alreadyExists(format(ASSET_EXISTS_TEMPLATE, String.join(", ", existingIds)));
+            }
+            assets.forEach(asset -> add(asset, asset.getDataAddress()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return StoreResult.success();
+    }
+
     @Override
     public StoreResult<Asset> deleteById(String assetId) {
         lock.writeLock().lock();
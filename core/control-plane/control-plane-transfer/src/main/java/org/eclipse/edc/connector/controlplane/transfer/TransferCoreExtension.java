@@ -28,6 +28,7 @@ import org.eclipse.edc.connector.controlplane.transfer.provision.ProvisionRespon
 import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessManager;
 import org.eclipse.edc.connector.controlplane.transfer.spi.TransferProcessPendingGuard;
 import org.eclipse.edc.connector.controlplane.transfer.spi.edr.EndpointDataReferenceReceiverRegistry;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessEvent;
 import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessStarted;
 import org.eclipse.edc.connector.controlplane.transfer.spi.flow.DataFlowManager;
 import org.eclipse.edc.connector.controlplane.transfer.spi.observe.TransferProcessObservable;
@@ -53,7 +54,9 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.statemachine.WakeUpSubscriber;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
@@ -63,6 +66,7 @@ import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BA
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_WORKERS;
 
 /**
  * Provides core data transfer services to the system.
@@ -80,6 +84,9 @@ public class TransferCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the transfer process state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String TRANSFER_STATE_MACHINE_BATCH_SIZE = "edc.transfer.state-machine.batch-size";
 
+    @Setting(value = "the number of threads on which the transfer process state machine processes the entities. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String TRANSFER_STATE_MACHINE_WORKERS = "edc.transfer.state-machine.workers";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the transfer with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String TRANSFER_SEND_RETRY_LIMIT = "edc.transfer.send.retry.limit";
 
@@ -140,6 +147,9 @@ public class TransferCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private TransactionContext transactionContext;
+
     private TransferProcessManagerImpl processManager;
 
     @Override
@@ -184,6 +194,7 @@ public class TransferCoreExtension implements ServiceExtension {
                 .store(transferProcessStore)
                 .policyArchive(policyArchive)
                 .batchSize(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(TRANSFER_STATE_MACHINE_WORKERS, DEFAULT_WORKERS))
                 .addressResolver(addressResolver)
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
                 .protocolWebhook(protocolWebhook)
@@ -192,6 +203,8 @@ public class TransferCoreExtension implements ServiceExtension {
                 .pendingGuard(pendingGuard)
                 .build();
 
+        eventRouter.registerSync(TransferProcessEvent.class, new WakeUpSubscriber(transactionContext, processManager));
+
         context.registerService(TransferProcessManager.class, processManager);
 
         registry.register(new AddProvisionedResourceCommandHandler(transferProcessStore, provisionResponsesHandler));
@@ -20,6 +20,7 @@ import org.eclipse.edc.policy.engine.spi.PolicyContext;
 import org.eclipse.edc.policy.model.Operator;
 import org.eclipse.edc.policy.model.Permission;
 import org.eclipse.edc.spi.EdcException;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -102,6 +103,32 @@ public class ContractExpiryCheckFunction implements AtomicConstraintFunction<Per
         return false;
     }
 
+    /**
+     * Resolves the right value of an "inForceDate" constraint into the point in time it refers to, either a fixed time
+     * or a duration expression relative to the signing date of the contract agreement.
+     *
+     * @param rightValue the right value of the constraint.
+     * @param agreement the contract agreement.
+     * @return the {@link Instant}, or null if the right value is not supported.
+     */
+    public @Nullable Instant resolveBound(Object rightValue, ContractAgreement agreement) {
+        if (!(rightValue instanceof String rightValueStr)) {
+            return null;
+        }
+
+        var bound = asInstant(rightValueStr);
+        if (bound != null) {
+            return bound;
+        }
+
+        var duration = asDuration(rightValueStr);
+        if (duration != null) {
+            return Instant.ofEpochSecond(agreement.getContractSigningDate()).plus(duration);
+        }
+
+        return null;
+    }
+
     /**
      * Checks whether an input string fits the regex {@link ContractExpiryCheckFunction#EXPRESSION_REGEX}, e.g. "contractAgreement+50m"
      * and parses that string into a {@link Duration} if successful.
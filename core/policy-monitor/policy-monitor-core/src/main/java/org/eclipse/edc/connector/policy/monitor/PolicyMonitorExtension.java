@@ -18,6 +18,7 @@ import org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryChec
 import org.eclipse.edc.connector.controlplane.services.spi.contractagreement.ContractAgreementService;
 import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
 import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessStarted;
+import org.eclipse.edc.connector.policy.monitor.manager.PolicyEvaluationScheduler;
 import org.eclipse.edc.connector.policy.monitor.manager.PolicyMonitorManagerImpl;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorManager;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorStore;
@@ -38,9 +39,11 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 
 import java.time.Clock;
+import java.time.Duration;
 
 import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
 import static org.eclipse.edc.connector.policy.monitor.PolicyMonitorExtension.NAME;
+import static org.eclipse.edc.connector.policy.monitor.manager.PolicyMonitorManagerImpl.DEFAULT_MAX_EVALUATION_INTERVAL;
 import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.ODRL_USE_ACTION_ATTRIBUTE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
@@ -57,6 +60,10 @@ public class PolicyMonitorExtension implements ServiceExtension {
     @Setting(value = "the batch size in the policy monitor state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String POLICY_MONITOR_BATCH_SIZE = "edc.policy.monitor.state-machine.batch-size";
 
+    @Setting(value = "the maximum time in milliseconds between two evaluations of a monitored policy. Policies are evaluated " +
+            "earlier when one of their time-based constraints changes outcome. Default value " + DEFAULT_MAX_EVALUATION_INTERVAL, type = "long")
+    private static final String POLICY_MONITOR_MAX_EVALUATION_INTERVAL_MILLIS = "edc.policy.monitor.max-evaluation-interval-millis";
+
     @PolicyScope
     public static final String POLICY_MONITOR_SCOPE = "policy.monitor";
 
@@ -93,6 +100,7 @@ public class PolicyMonitorExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var iterationWaitMillis = context.getSetting(POLICY_MONITOR_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
         var waitStrategy = new ExponentialWaitStrategy(iterationWaitMillis);
+        var maxEvaluationInterval = context.getSetting(POLICY_MONITOR_MAX_EVALUATION_INTERVAL_MILLIS, DEFAULT_MAX_EVALUATION_INTERVAL);
 
         ruleBindingRegistry.bind(ODRL_USE_ACTION_ATTRIBUTE, POLICY_MONITOR_SCOPE);
         ruleBindingRegistry.bind(CONTRACT_EXPIRY_EVALUATION_KEY, POLICY_MONITOR_SCOPE);
@@ -108,6 +116,7 @@ public class PolicyMonitorExtension implements ServiceExtension {
                 .contractAgreementService(contractAgreementService)
                 .policyEngine(policyEngine)
                 .transferProcessService(transferProcessService)
+                .evaluationScheduler(new PolicyEvaluationScheduler(Duration.ofMillis(maxEvaluationInterval)))
                 .store(policyMonitorStore)
                 .build();
 
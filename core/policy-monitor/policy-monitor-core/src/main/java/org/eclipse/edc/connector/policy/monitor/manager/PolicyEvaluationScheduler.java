@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.policy.monitor.manager;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.Constraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.MultiplicityConstraint;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.policy.model.Rule;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
+
+/**
+ * Computes when a monitored policy needs to be evaluated again. The result of a time-based constraint
+ * ({@link ContractExpiryCheckFunction}) can only change when its bound is crossed, so the next evaluation is scheduled
+ * on the earliest upcoming bound. Since the outcome of other constraints cannot be predicted, the time between two
+ * evaluations is capped by a maximum interval.
+ */
+public class PolicyEvaluationScheduler {
+
+    private final ContractExpiryCheckFunction contractExpiryCheckFunction = new ContractExpiryCheckFunction();
+    private final Duration maxInterval;
+
+    public PolicyEvaluationScheduler(Duration maxInterval) {
+        this.maxInterval = maxInterval;
+    }
+
+    /**
+     * Returns the point in time (epoch millis) at which the policy needs to be evaluated again.
+     *
+     * @param policy the policy.
+     * @param contractAgreement the contract agreement the policy belongs to.
+     * @param now the current time.
+     * @return the next evaluation time.
+     */
+    public long nextEvaluation(Policy policy, ContractAgreement contractAgreement, Instant now) {
+        var latest = now.plus(maxInterval);
+        return rules(policy)
+                .flatMap(rule -> rule.getConstraints().stream())
+                .flatMap(this::atomicConstraints)
+                .filter(constraint -> constraint.getLeftExpression() instanceof LiteralExpression left &&
+                        CONTRACT_EXPIRY_EVALUATION_KEY.equals(left.getValue()))
+                .map(constraint -> nextChange(constraint, contractAgreement, now))
+                .filter(Objects::nonNull)
+                .filter(latest::isAfter)
+                .min(Instant::compareTo)
+                .orElse(latest)
+                .toEpochMilli();
+    }
+
+    /**
+     * The result of comparing the current time against a bound can change at the bound itself (for the GEQ/LT
+     * operators) or right after it (for the GT/LEQ operators, and for EQ/NEQ which change at both), so the earliest
+     * of these instants that is still in the future is returned.
+     */
+    private Instant nextChange(AtomicConstraint constraint, ContractAgreement contractAgreement, Instant now) {
+        if (!(constraint.getRightExpression() instanceof LiteralExpression right)) {
+            return null;
+        }
+
+        var bound = contractExpiryCheckFunction.resolveBound(right.getValue(), contractAgreement);
+        if (bound == null) {
+            return null;
+        }
+
+        return Stream.of(bound, bound.plusMillis(1))
+                .filter(now::isBefore)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Stream<Rule> rules(Policy policy) {
+        var permissions = policy.getPermissions().stream()
+                .flatMap(permission -> Stream.<Rule>concat(Stream.of(permission), permission.getDuties().stream()));
+        var others = Stream.<Rule>concat(policy.getProhibitions().stream(), policy.getObligations().stream());
+        return Stream.concat(permissions, others);
+    }
+
+    private Stream<AtomicConstraint> atomicConstraints(Constraint constraint) {
+        if (constraint instanceof AtomicConstraint atomicConstraint) {
+            return Stream.of(atomicConstraint);
+        }
+        if (constraint instanceof MultiplicityConstraint multiplicityConstraint) {
+            return multiplicityConstraint.getConstraints().stream().flatMap(this::atomicConstraints);
+        }
+        return Stream.empty();
+    }
+}
@@ -31,6 +31,7 @@ import org.eclipse.edc.statemachine.Processor;
 import org.eclipse.edc.statemachine.ProcessorImpl;
 import org.eclipse.edc.statemachine.StateMachineManager;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.function.Function;
 
@@ -44,9 +45,12 @@ import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyMonitorEntry, PolicyMonitorStore>
         implements PolicyMonitorManager {
 
+    public static final long DEFAULT_MAX_EVALUATION_INTERVAL = 300_000;
+
     private PolicyEngine policyEngine;
     private TransferProcessService transferProcessService;
     private ContractAgreementService contractAgreementService;
+    private PolicyEvaluationScheduler evaluationScheduler;
 
     private PolicyMonitorManagerImpl() {
 
@@ -93,8 +97,9 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
         }
 
         var policy = contractAgreement.getPolicy();
+        var now = clock.instant();
         var policyContext = PolicyContextImpl.Builder.newInstance()
-                .additional(Instant.class, Instant.now(clock))
+                .additional(Instant.class, now)
                 .additional(ContractAgreement.class, contractAgreement)
                 .build();
 
@@ -108,15 +113,19 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
                 update(entry);
                 return true;
             }
+
+            breakLease(entry);
+            return true;
         }
 
+        entry.scheduleEvaluation(evaluationScheduler.nextEvaluation(policy, contractAgreement, now));
         breakLease(entry);
         return true;
     }
 
     private Processor processEntriesInState(PolicyMonitorEntryStates state, Function<PolicyMonitorEntry, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()) };
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
+        return ProcessorImpl.Builder.newInstance(() -> store.nextDueNotLeased(batchSize, filter))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
                 .build();
@@ -148,6 +157,20 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
             return this;
         }
 
+        public Builder evaluationScheduler(PolicyEvaluationScheduler evaluationScheduler) {
+            manager.evaluationScheduler = evaluationScheduler;
+            return this;
+        }
+
+        @Override
+        public PolicyMonitorManagerImpl build() {
+            super.build();
+            if (manager.evaluationScheduler == null) {
+                manager.evaluationScheduler = new PolicyEvaluationScheduler(Duration.ofMillis(DEFAULT_MAX_EVALUATION_INTERVAL));
+            }
+            return manager;
+        }
+
         @Override
         public Builder self() {
             return this;
@@ -16,12 +16,17 @@ package org.eclipse.edc.connector.policy.monitor.store.sql;
 
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntry;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorStore;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.store.InMemoryStatefulEntityStore;
+import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.List;
 import java.util.UUID;
 
+import static java.util.Comparator.comparingLong;
+
 /**
  * In-memory implementation of the {@link PolicyMonitorStore}
  */
@@ -34,4 +39,10 @@ public class InMemoryPolicyMonitorStore extends InMemoryStatefulEntityStore<Poli
     public InMemoryPolicyMonitorStore(String owner, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
         super(PolicyMonitorEntry.class, owner, clock, criterionOperatorRegistry);
     }
+
+    @Override
+    public @NotNull List<PolicyMonitorEntry> nextDueNotLeased(int max, Criterion... criteria) {
+        var now = clock.millis();
+        return nextNotLeased(max, e -> e.getNextEvaluation() <= now, comparingLong(PolicyMonitorEntry::getNextEvaluation), criteria);
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.policy.monitor.manager;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.policy.model.AndConstraint;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.Constraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
+
+class PolicyEvaluationSchedulerTest {
+
+    private static final Duration MAX_INTERVAL = Duration.ofHours(1);
+    private final Instant now = Instant.parse("2024-01-01T00:00:00Z");
+    private final PolicyEvaluationScheduler scheduler = new PolicyEvaluationScheduler(MAX_INTERVAL);
+
+    @Test
+    void shouldReturnMaxInterval_whenPolicyHasNoTimeConstraint() {
+        var policy = Policy.Builder.newInstance().permission(Permission.Builder.newInstance().build()).build();
+
+        var result = scheduler.nextEvaluation(policy, contractAgreement(policy), now);
+
+        assertThat(result).isEqualTo(now.plus(MAX_INTERVAL).toEpochMilli());
+    }
+
+    @Test
+    void shouldReturnBound_whenFixedDateIsBeforeMaxInterval() {
+        var policy = policy(inForceDate(Operator.LT, "2024-01-01T00:10:00Z"));
+
+        var result = scheduler.nextEvaluation(policy, contractAgreement(policy), now);
+
+        assertThat(result).isEqualTo(Instant.parse("2024-01-01T00:10:00Z").toEpochMilli());
+    }
+
+    @Test
+    void shouldReturnEarliestUpcomingBound_whenConstraintsAreNested() {
+        var constraint = AndConstraint.Builder.newInstance()
+                .constraint(inForceDate(Operator.GEQ, "2023-12-31T00:00:00Z"))
+                .constraint(inForceDate(Operator.LEQ, "contractAgreement+30m"))
+                .build();
+        var policy = policy(constraint);
+
+        var result = scheduler.nextEvaluation(policy, contractAgreement(policy), now);
+
+        var signingDate = Instant.ofEpochSecond(contractAgreement(policy).getContractSigningDate());
+        assertThat(result).isEqualTo(signingDate.plus(Duration.ofMinutes(30)).toEpochMilli());
+    }
+
+    @Test
+    void shouldReturnMaxInterval_whenBoundIsAfterIt() {
+        var policy = policy(inForceDate(Operator.LT, "2025-01-01T00:00:00Z"));
+
+        var result = scheduler.nextEvaluation(policy, contractAgreement(policy), now);
+
+        assertThat(result).isEqualTo(now.plus(MAX_INTERVAL).toEpochMilli());
+    }
+
+    private Policy policy(Constraint constraint) {
+        return Policy.Builder.newInstance()
+                .permission(Permission.Builder.newInstance().constraint(constraint).build())
+                .build();
+    }
+
+    private AtomicConstraint inForceDate(Operator operator, String rightValue) {
+        return AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(CONTRACT_EXPIRY_EVALUATION_KEY))
+                .operator(operator)
+                .rightExpression(new LiteralExpression(rightValue))
+                .build();
+    }
+
+    private ContractAgreement contractAgreement(Policy policy) {
+        return ContractAgreement.Builder.newInstance()
+                .id("agreementId")
+                .providerId("providerId")
+                .consumerId("consumerId")
+                .assetId("assetId")
+                .contractSigningDate(now.minus(Duration.ofMinutes(5)).getEpochSecond())
+                .policy(policy)
+                .build();
+    }
+}
@@ -34,12 +34,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.List;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.eclipse.edc.connector.policy.monitor.PolicyMonitorExtension.POLICY_MONITOR_SCOPE;
+import static org.eclipse.edc.connector.policy.monitor.manager.PolicyMonitorManagerImpl.DEFAULT_MAX_EVALUATION_INTERVAL;
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.COMPLETED;
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.FAILED;
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.STARTED;
@@ -63,6 +68,7 @@ class PolicyMonitorManagerImplTest {
     private final ContractAgreementService contractAgreementService = mock();
     private final TransferProcessService transferProcessService = mock();
     private final PolicyEngine policyEngine = mock();
+    private final Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
     private PolicyMonitorManager manager;
 
     @BeforeEach
@@ -70,7 +76,7 @@ class PolicyMonitorManagerImplTest {
         manager = PolicyMonitorManagerImpl.Builder.newInstance()
                 .executorInstrumentation(ExecutorInstrumentation.noop())
                 .monitor(mock())
-                .clock(mock())
+                .clock(clock)
                 .contractAgreementService(contractAgreementService)
                 .policyEngine(policyEngine)
                 .transferProcessService(transferProcessService)
@@ -99,7 +105,7 @@ class PolicyMonitorManagerImplTest {
                 .build();
         var policy = Policy.Builder.newInstance().build();
         var contractAgreement = createContractAgreement(policy);
-        when(store.nextNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
+        when(store.nextDueNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
         when(transferProcessService.findById(entry.getId()))
                 .thenReturn(TransferProcess.Builder.newInstance().state(TransferProcessStates.STARTED.code()).build());
         when(contractAgreementService.findById(any())).thenReturn(contractAgreement);
@@ -127,7 +133,7 @@ class PolicyMonitorManagerImplTest {
                 .state(STARTED.code())
                 .build();
         var policy = Policy.Builder.newInstance().build();
-        when(store.nextNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
+        when(store.nextDueNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
         when(transferProcessService.findById(entry.getId()))
                 .thenReturn(TransferProcess.Builder.newInstance().state(TransferProcessStates.STARTED.code()).build());
         when(contractAgreementService.findById(any())).thenReturn(createContractAgreement(policy));
@@ -149,7 +155,7 @@ class PolicyMonitorManagerImplTest {
                 .state(STARTED.code())
                 .build();
         var policy = Policy.Builder.newInstance().build();
-        when(store.nextNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
+        when(store.nextDueNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
         when(transferProcessService.findById(entry.getId()))
                 .thenReturn(TransferProcess.Builder.newInstance().state(TransferProcessStates.STARTED.code()).build());
         when(contractAgreementService.findById(any())).thenReturn(createContractAgreement(policy));
@@ -163,6 +169,28 @@ class PolicyMonitorManagerImplTest {
         });
     }
 
+    @Test
+    void started_shouldScheduleNextEvaluation_whenPolicyIsValid() {
+        var entry = PolicyMonitorEntry.Builder.newInstance()
+                .id("transferProcessId")
+                .contractId("contractId")
+                .state(STARTED.code())
+                .build();
+        var policy = Policy.Builder.newInstance().build();
+        when(store.nextDueNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
+        when(transferProcessService.findById(entry.getId()))
+                .thenReturn(TransferProcess.Builder.newInstance().state(TransferProcessStates.STARTED.code()).build());
+        when(contractAgreementService.findById(any())).thenReturn(createContractAgreement(policy));
+        when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenReturn(Result.success());
+
+        manager.start();
+
+        var expectedNextEvaluation = clock.instant().plus(Duration.ofMillis(DEFAULT_MAX_EVALUATION_INTERVAL)).toEpochMilli();
+        await().untilAsserted(() -> {
+            verify(store).save(argThat(it -> it.getState() == STARTED.code() && it.getNextEvaluation() == expectedNextEvaluation));
+        });
+    }
+
     @Test
     void started_shouldTransitionToCompleted_whenTransferProcessIsAlreadyCompletedOrTerminated() {
         var entry = PolicyMonitorEntry.Builder.newInstance()
@@ -170,7 +198,7 @@ class PolicyMonitorManagerImplTest {
                 .contractId("contractId")
                 .state(STARTED.code())
                 .build();
-        when(store.nextNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
+        when(store.nextDueNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
         when(transferProcessService.findById(entry.getId()))
                 .thenReturn(TransferProcess.Builder.newInstance().state(TransferProcessStates.COMPLETED.code()).build());
 
@@ -189,7 +217,7 @@ class PolicyMonitorManagerImplTest {
                 .contractId("contractId")
                 .state(STARTED.code())
                 .build();
-        when(store.nextNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
+        when(store.nextDueNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
         when(transferProcessService.findById(any())).thenReturn(null);
 
         manager.start();
@@ -207,7 +235,7 @@ class PolicyMonitorManagerImplTest {
                 .contractId("contractId")
                 .state(STARTED.code())
                 .build();
-        when(store.nextNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
+        when(store.nextDueNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
         when(contractAgreementService.findById(any())).thenReturn(null);
 
         manager.start();
@@ -31,6 +31,7 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogProtocolService;
+import org.eclipse.edc.protocol.dsp.catalog.http.api.stream.StreamingCatalogSerializer;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenManager;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.http.spi.message.GetDspRequest;
@@ -55,11 +56,14 @@ public class DspCatalogApiController {
     private final CatalogProtocolService service;
     private final DspRequestHandler dspRequestHandler;
     private final ContinuationTokenManager continuationTokenManager;
+    private final StreamingCatalogSerializer catalogSerializer;
 
-    public DspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler, ContinuationTokenManager continuationTokenManager) {
+    public DspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler, ContinuationTokenManager continuationTokenManager,
+                                   StreamingCatalogSerializer catalogSerializer) {
         this.service = service;
         this.dspRequestHandler = dspRequestHandler;
         this.continuationTokenManager = continuationTokenManager;
+        this.catalogSerializer = catalogSerializer;
     }
 
     @POST
@@ -83,7 +87,7 @@ public class DspCatalogApiController {
                 .build();
 
         var responseDecorator = continuationTokenManager.createResponseDecorator(uriInfo.getAbsolutePath().toString());
-        return dspRequestHandler.createResource(request, responseDecorator);
+        return dspRequestHandler.createResource(request, responseDecorator, catalogSerializer::serialize);
     }
 
     @GET
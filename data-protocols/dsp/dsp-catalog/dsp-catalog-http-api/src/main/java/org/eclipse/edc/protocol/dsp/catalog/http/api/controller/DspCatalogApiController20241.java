@@ -18,6 +18,7 @@ import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogProtocolService;
+import org.eclipse.edc.protocol.dsp.catalog.http.api.stream.StreamingCatalogSerializer;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenManager;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.spi.version.DspVersions;
@@ -34,7 +35,7 @@ import static org.eclipse.edc.protocol.dsp.catalog.http.api.CatalogApiPaths.BASE
 public class DspCatalogApiController20241 extends DspCatalogApiController {
 
     public DspCatalogApiController20241(CatalogProtocolService service, DspRequestHandler dspRequestHandler,
-                                        ContinuationTokenManager responseDecorator) {
-        super(service, dspRequestHandler, responseDecorator);
+                                        ContinuationTokenManager responseDecorator, StreamingCatalogSerializer catalogSerializer) {
+        super(service, dspRequestHandler, responseDecorator, catalogSerializer);
     }
 }
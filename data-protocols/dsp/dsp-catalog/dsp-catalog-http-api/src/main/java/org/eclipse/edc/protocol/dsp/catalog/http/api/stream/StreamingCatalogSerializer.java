@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.catalog.http.api.stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.ws.rs.InternalServerErrorException;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+
+/**
+ * Serializes a {@link Catalog} to compacted JSON-LD by writing its datasets one by one to the response stream, so the
+ * JSON representation of the whole catalog is never held in memory.
+ * <p>
+ * The catalog envelope (everything but the datasets) is transformed and compacted before the response is committed, so
+ * its failures still result in an error response. A dataset that cannot be transformed or compacted aborts the
+ * response after it has been committed. As with the compaction of the whole catalog, a single dataset is written as
+ * an object rather than as an array.
+ */
+public class StreamingCatalogSerializer {
+
+    private static final String DCAT_DATASET_COMPACTED = DCAT_PREFIX + ":dataset";
+
+    private final TypeTransformerRegistry transformerRegistry;
+    private final JsonLd jsonLd;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter valueWriter;
+    private final String scope;
+
+    public StreamingCatalogSerializer(TypeTransformerRegistry transformerRegistry, JsonLd jsonLd, ObjectMapper objectMapper, String scope) {
+        this.transformerRegistry = transformerRegistry;
+        this.jsonLd = jsonLd;
+        this.objectMapper = objectMapper;
+        // the generator is flushed once, when closed, instead of after every field
+        this.valueWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.scope = scope;
+    }
+
+    /**
+     * Prepares the serialization of the catalog.
+     *
+     * @param catalog the catalog.
+     * @return the {@link StreamingOutput} that writes the catalog, failure if the catalog envelope cannot be serialized.
+     */
+    public Result<StreamingOutput> serialize(Catalog catalog) {
+        var envelope = Catalog.Builder.newInstance()
+                .id(catalog.getId())
+                .distributions(catalog.getDistributions())
+                .dataServices(catalog.getDataServices())
+                .participantId(catalog.getParticipantId())
+                .properties(catalog.getProperties())
+                .build();
+
+        return transformerRegistry.transform(envelope, JsonObject.class)
+                .compose(json -> jsonLd.compact(json, scope))
+                .map(compacted -> (StreamingOutput) output -> write(compacted, catalog, output));
+    }
+
+    private void write(JsonObject envelope, Catalog catalog, OutputStream outputStream) throws IOException {
+        var datasetsKey = envelope.containsKey(DCAT_DATASET_COMPACTED) ? DCAT_DATASET_COMPACTED : DCAT_DATASET_ATTRIBUTE;
+        try (var generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            for (var entry : envelope.entrySet()) {
+                if (entry.getKey().equals(datasetsKey)) {
+                    writeDatasets(generator, datasetsKey, catalog);
+                } else {
+                    writeField(generator, entry.getKey(), entry.getValue());
+                }
+            }
+            if (!envelope.containsKey(datasetsKey)) {
+                writeDatasets(generator, datasetsKey, catalog);
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeDatasets(JsonGenerator generator, String key, Catalog catalog) throws IOException {
+        var datasets = catalog.getDatasets();
+        generator.writeFieldName(key);
+        if (datasets.size() == 1) {
+            writeDataset(generator, datasets.get(0));
+            return;
+        }
+
+        generator.writeStartArray();
+        for (var dataset : datasets) {
+            writeDataset(generator, dataset);
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeDataset(JsonGenerator generator, Dataset dataset) throws IOException {
+        generator.writeStartObject();
+        for (var entry : compact(dataset).entrySet()) {
+            if (!entry.getKey().equals(CONTEXT)) {
+                writeField(generator, entry.getKey(), entry.getValue());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeField(JsonGenerator generator, String key, JsonValue value) throws IOException {
+        generator.writeFieldName(key);
+        valueWriter.writeValue(generator, value);
+    }
+
+    private JsonObject compact(Dataset dataset) {
+        return transformerRegistry.transform(dataset, JsonObject.class)
+                .compose(json -> jsonLd.compact(json, scope))
+                .orElseThrow(f -> new InternalServerErrorException("Failed to serialize dataset %s: %s".formatted(dataset.getId(), f.getFailureDetail())));
+    }
+}
@@ -19,12 +19,14 @@ import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.connector.controlplane.services.spi.catalog.CatalogProtocolService;
 import org.eclipse.edc.jsonld.spi.JsonLdKeywords;
 import org.eclipse.edc.junit.annotations.ApiTest;
+import org.eclipse.edc.protocol.dsp.catalog.http.api.stream.StreamingCatalogSerializer;
 import org.eclipse.edc.protocol.dsp.http.spi.message.ContinuationTokenManager;
 import org.eclipse.edc.protocol.dsp.http.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.http.spi.message.GetDspRequest;
@@ -37,6 +39,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.util.function.Function;
+
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
 import static jakarta.json.Json.createObjectBuilder;
@@ -63,6 +67,7 @@ class DspCatalogApiControllerTest extends RestControllerTestBase {
     private final CatalogProtocolService service = mock();
     private final DspRequestHandler dspRequestHandler = mock();
     private final ContinuationTokenManager continuationTokenManager = mock();
+    private final StreamingCatalogSerializer catalogSerializer = mock();
 
     @Nested
     class RequestCatalog {
@@ -72,7 +77,7 @@ class DspCatalogApiControllerTest extends RestControllerTestBase {
             var requestBody = createObjectBuilder().add(TYPE, DSPACE_TYPE_CATALOG_REQUEST_MESSAGE).build();
             var catalog = createObjectBuilder().add(JsonLdKeywords.TYPE, "catalog").build();
             when(transformerRegistry.transform(any(Catalog.class), eq(JsonObject.class))).thenReturn(Result.success(catalog));
-            when(dspRequestHandler.createResource(any(), any())).thenReturn(Response.ok().type(APPLICATION_JSON_TYPE).build());
+            when(dspRequestHandler.createResource(any(), any(), any())).thenReturn(Response.ok().type(APPLICATION_JSON_TYPE).build());
             when(continuationTokenManager.createResponseDecorator(any())).thenReturn(mock());
 
             baseRequest()
@@ -84,7 +89,7 @@ class DspCatalogApiControllerTest extends RestControllerTestBase {
                     .contentType(JSON);
 
             var captor = ArgumentCaptor.forClass(PostDspRequest.class);
-            verify(dspRequestHandler).createResource(captor.capture(), isA(ResponseDecorator.class));
+            verify(dspRequestHandler).createResource(captor.capture(), isA(ResponseDecorator.class), any());
             var request = captor.getValue();
             assertThat(request.getInputClass()).isEqualTo(CatalogRequestMessage.class);
             assertThat(request.getResultClass()).isEqualTo(Catalog.class);
@@ -95,12 +100,35 @@ class DspCatalogApiControllerTest extends RestControllerTestBase {
             verify(continuationTokenManager).createResponseDecorator("http://localhost:%d/catalog/request".formatted(port));
         }
 
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldStreamCatalogWithSerializer() {
+            var requestBody = createObjectBuilder().add(TYPE, DSPACE_TYPE_CATALOG_REQUEST_MESSAGE).build();
+            var catalog = Catalog.Builder.newInstance().build();
+            when(dspRequestHandler.createResource(any(), any(), any())).thenReturn(Response.ok().type(APPLICATION_JSON_TYPE).build());
+            when(continuationTokenManager.createResponseDecorator(any())).thenReturn(mock());
+            when(catalogSerializer.serialize(any())).thenReturn(Result.success(mock(StreamingOutput.class)));
+
+            baseRequest()
+                    .contentType(JSON)
+                    .body(requestBody)
+                    .post(CATALOG_REQUEST)
+                    .then()
+                    .statusCode(200);
+
+            var captor = ArgumentCaptor.forClass(Function.class);
+            verify(dspRequestHandler).createResource(any(), any(), captor.capture());
+            var body = (Result<?>) captor.getValue().apply(catalog);
+            assertThat(body.succeeded()).isTrue();
+            verify(catalogSerializer).serialize(catalog);
+        }
+
         @Test
         void shouldApplyContinuationToken_whenPassed() {
             var requestBody = createObjectBuilder().add(TYPE, DSPACE_TYPE_CATALOG_REQUEST_MESSAGE).build();
             var catalog = createObjectBuilder().add(JsonLdKeywords.TYPE, "catalog").build();
             when(transformerRegistry.transform(any(Catalog.class), eq(JsonObject.class))).thenReturn(Result.success(catalog));
-            when(dspRequestHandler.createResource(any(), any())).thenReturn(Response.ok().type(APPLICATION_JSON_TYPE).build());
+            when(dspRequestHandler.createResource(any(), any(), any())).thenReturn(Response.ok().type(APPLICATION_JSON_TYPE).build());
             when(continuationTokenManager.createResponseDecorator(any())).thenReturn(mock());
             var enrichedRequestBody = createObjectBuilder(requestBody).add("query", Json.createObjectBuilder()).build();
             when(continuationTokenManager.applyQueryFromToken(any(), any())).thenReturn(Result.success(enrichedRequestBody));
@@ -114,7 +142,7 @@ class DspCatalogApiControllerTest extends RestControllerTestBase {
                     .contentType(JSON);
 
             var captor = ArgumentCaptor.forClass(PostDspRequest.class);
-            verify(dspRequestHandler).createResource(captor.capture(), isA(ResponseDecorator.class));
+            verify(dspRequestHandler).createResource(captor.capture(), isA(ResponseDecorator.class), any());
             var request = captor.getValue();
             assertThat(request.getMessage()).isSameAs(enrichedRequestBody);
             verify(continuationTokenManager).applyQueryFromToken(requestBody, "pagination-token");
@@ -157,7 +185,7 @@ class DspCatalogApiControllerTest extends RestControllerTestBase {
 
     @Override
     protected Object controller() {
-        return new DspCatalogApiController(service, dspRequestHandler, continuationTokenManager);
+        return new DspCatalogApiController(service, dspRequestHandler, continuationTokenManager, catalogSerializer);
     }
 
     private RequestSpecification baseRequest() {
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.catalog.http.api.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.InternalServerErrorException;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.util.JacksonJsonLd.createObjectMapper;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StreamingCatalogSerializerTest {
+
+    private static final String SCOPE = "scope";
+
+    private final TypeTransformerRegistry transformerRegistry = mock();
+    private final JsonLd jsonLd = mock();
+    private final ObjectMapper objectMapper = createObjectMapper();
+    private final StreamingCatalogSerializer serializer = new StreamingCatalogSerializer(transformerRegistry, jsonLd, objectMapper, SCOPE);
+
+    @Test
+    void shouldWriteDatasetsIntoCompactedEnvelope() throws Exception {
+        var catalog = Catalog.Builder.newInstance().id("catalogId")
+                .dataset(Dataset.Builder.newInstance().id("dataset-1").build())
+                .dataset(Dataset.Builder.newInstance().id("dataset-2").build())
+                .build();
+        when(transformerRegistry.transform(any(Catalog.class), eq(JsonObject.class)))
+                .thenReturn(Result.success(Json.createObjectBuilder().add(ID, "catalogId").build()));
+        when(jsonLd.compact(argThat(json -> json != null && json.getString(ID).equals("catalogId")), eq(SCOPE))).thenReturn(Result.success(Json.createObjectBuilder()
+                .add(CONTEXT, Json.createObjectBuilder().add("dcat", "http://www.w3.org/ns/dcat#"))
+                .add(ID, "catalogId")
+                .add("dcat:dataset", Json.createArrayBuilder())
+                .add("dcat:service", Json.createArrayBuilder())
+                .build()));
+        when(transformerRegistry.transform(argThat(it -> it != null && !(it instanceof Catalog)), eq(JsonObject.class)))
+                .thenAnswer(i -> Result.success(Json.createObjectBuilder().add(ID, ((Dataset) i.getArgument(0)).getId()).build()));
+        when(jsonLd.compact(argThat(json -> json != null && json.getString(ID).startsWith("dataset")), eq(SCOPE)))
+                .thenAnswer(i -> Result.success(Json.createObjectBuilder(i.<JsonObject>getArgument(0))
+                        .add(CONTEXT, Json.createObjectBuilder().add("dcat", "http://www.w3.org/ns/dcat#"))
+                        .build()));
+
+        var result = serializer.serialize(catalog);
+
+        assertThat(result).isSucceeded();
+        var output = new ByteArrayOutputStream();
+        result.getContent().write(output);
+        var json = objectMapper.readValue(output.toByteArray(), JsonObject.class);
+        assertThat(json.getJsonObject(CONTEXT).getString("dcat")).isEqualTo("http://www.w3.org/ns/dcat#");
+        assertThat(json.getString(ID)).isEqualTo("catalogId");
+        assertThat(json.getJsonArray("dcat:service")).isEmpty();
+        assertThat(json.getJsonArray("dcat:dataset")).hasSize(2).allSatisfy(dataset -> {
+            assertThat(dataset.asJsonObject()).doesNotContainKey(CONTEXT);
+        });
+        assertThat(json.getJsonArray("dcat:dataset").getJsonObject(0).getString(ID)).isEqualTo("dataset-1");
+        assertThat(json.getJsonArray("dcat:dataset").getJsonObject(1).getString(ID)).isEqualTo("dataset-2");
+    }
+
+    @Test
+    void shouldWriteSingleDatasetAsObject() throws Exception {
+        var catalog = Catalog.Builder.newInstance().id("catalogId")
+                .dataset(Dataset.Builder.newInstance().id("dataset-1").build())
+                .build();
+        when(transformerRegistry.transform(any(Catalog.class), eq(JsonObject.class)))
+                .thenReturn(Result.success(Json.createObjectBuilder().add(ID, "catalogId").build()));
+        when(jsonLd.compact(argThat(json -> json != null && json.getString(ID).equals("catalogId")), eq(SCOPE)))
+                .thenReturn(Result.success(Json.createObjectBuilder().add(ID, "catalogId").add("dcat:dataset", Json.createArrayBuilder()).build()));
+        when(transformerRegistry.transform(argThat(it -> it != null && !(it instanceof Catalog)), eq(JsonObject.class)))
+                .thenReturn(Result.success(Json.createObjectBuilder().add(ID, "dataset-1").build()));
+        when(jsonLd.compact(argThat(json -> json != null && json.getString(ID).equals("dataset-1")), eq(SCOPE)))
+                .thenAnswer(i -> Result.success(i.getArgument(0)));
+
+        var result = serializer.serialize(catalog);
+
+        assertThat(result).isSucceeded();
+        var output = new ByteArrayOutputStream();
+        result.getContent().write(output);
+        var json = objectMapper.readValue(output.toByteArray(), JsonObject.class);
+        assertThat(json.getJsonObject("dcat:dataset").getString(ID)).isEqualTo("dataset-1");
+    }
+
+    @Test
+    void shouldFail_whenEnvelopeCannotBeCompacted() {
+        var catalog = Catalog.Builder.newInstance().id("catalogId").build();
+        when(transformerRegistry.transform(any(Catalog.class), eq(JsonObject.class)))
+                .thenReturn(Result.success(Json.createObjectBuilder().add(ID, "catalogId").build()));
+        when(jsonLd.compact(any(), any())).thenReturn(Result.failure("error"));
+
+        var result = serializer.serialize(catalog);
+
+        assertThat(result).isFailed();
+    }
+
+    @Test
+    void shouldThrowWhileWriting_whenDatasetCannotBeTransformed() {
+        var catalog = Catalog.Builder.newInstance().id("catalogId")
+                .dataset(Dataset.Builder.newInstance().id("dataset-1").build())
+                .build();
+        when(transformerRegistry.transform(any(Catalog.class), eq(JsonObject.class)))
+                .thenReturn(Result.success(Json.createObjectBuilder().add(ID, "catalogId").build()));
+        when(jsonLd.compact(any(), eq(SCOPE)))
+                .thenReturn(Result.success(Json.createObjectBuilder().add(ID, "catalogId").add("dcat:dataset", Json.createArrayBuilder()).build()));
+        when(transformerRegistry.transform(argThat(it -> it != null && !(it instanceof Catalog)), eq(JsonObject.class)))
+                .thenReturn(Result.failure("error"));
+
+        var result = serializer.serialize(catalog);
+
+        assertThat(result).isSucceeded();
+        assertThatThrownBy(() -> result.getContent().write(new ByteArrayOutputStream()))
+                .isInstanceOf(InternalServerErrorException.class);
+    }
+}
@@ -32,6 +32,7 @@ import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.engine.spi.PolicyScope;
+import org.eclipse.edc.protocol.dsp.http.dispatcher.ClientCredentialsCache;
 import org.eclipse.edc.protocol.dsp.http.dispatcher.DspHttpRemoteMessageDispatcherImpl;
 import org.eclipse.edc.protocol.dsp.http.message.DspRequestHandlerImpl;
 import org.eclipse.edc.protocol.dsp.http.serialization.JsonLdRemoteMessageSerializerImpl;
@@ -41,10 +42,12 @@ import org.eclipse.edc.protocol.dsp.http.spi.serialization.JsonLdRemoteMessageSe
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.iam.AudienceResolver;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -52,6 +55,12 @@ import org.eclipse.edc.token.spi.TokenDecorator;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 import static org.eclipse.edc.protocol.dsp.spi.type.DspConstants.DSP_SCOPE;
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
 
@@ -83,6 +92,22 @@ public class DspHttpCoreExtension implements ServiceExtension {
     @PolicyScope
     private static final String CATALOGING_REQUEST_SCOPE = "request.catalog";
 
+    private static final boolean DEFAULT_TOKEN_CACHE_ENABLED = false;
+    @Setting(value = "Whether the client credentials obtained for outgoing protocol messages should be cached and reused until they expire.", defaultValue = DEFAULT_TOKEN_CACHE_ENABLED + "", type = "boolean")
+    private static final String TOKEN_CACHE_ENABLED = "edc.dsp.client.token.cache.enabled";
+
+    private static final long DEFAULT_TOKEN_CACHE_EXPIRY_MARGIN = 30;
+    @Setting(value = "Safety margin in seconds before their expiry, from which cached client credentials are not reused anymore.", defaultValue = DEFAULT_TOKEN_CACHE_EXPIRY_MARGIN + "", type = "long")
+    private static final String TOKEN_CACHE_EXPIRY_MARGIN = "edc.dsp.client.token.cache.expiry-margin";
+
+    private static final int DEFAULT_TOKEN_CACHE_SIZE = 1000;
+    @Setting(value = "Maximum number of cached client credentials.", defaultValue = DEFAULT_TOKEN_CACHE_SIZE + "", type = "int")
+    private static final String TOKEN_CACHE_SIZE = "edc.dsp.client.token.cache.size";
+
+    private static final long DEFAULT_TOKEN_CACHE_STATISTICS_INTERVAL = 300;
+    @Setting(value = "Interval in seconds at which the client credentials cache statistics are reported on the debug log. 0 deactivates the report.", defaultValue = DEFAULT_TOKEN_CACHE_STATISTICS_INTERVAL + "", type = "long")
+    private static final String TOKEN_CACHE_STATISTICS_INTERVAL = "edc.dsp.client.token.cache.statistics-interval";
+
     @Inject
     private RemoteMessageDispatcherRegistry dispatcherRegistry;
     @Inject
@@ -108,11 +133,30 @@ public class DspHttpCoreExtension implements ServiceExtension {
     @Inject
     private JsonObjectValidatorRegistry validatorRegistry;
 
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ClientCredentialsCache clientCredentialsCache;
+    private ScheduledExecutorService statisticsReporter;
+
     @Override
     public String name() {
         return NAME;
     }
 
+    @Override
+    public void shutdown() {
+        if (statisticsReporter != null) {
+            statisticsReporter.shutdownNow();
+        }
+        if (clientCredentialsCache != null) {
+            monitor.info(clientCredentialsCacheStatistics());
+        }
+    }
+
     @Provider
     public DspHttpRemoteMessageDispatcher dspHttpRemoteMessageDispatcher(ServiceExtensionContext context) {
         TokenDecorator td; // either a decorator, or noop
@@ -123,7 +167,7 @@ public class DspHttpCoreExtension implements ServiceExtension {
             td = bldr -> bldr;
         }
 
-        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine, audienceResolver);
+        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, clientCredentialsProvider(context), td, policyEngine, audienceResolver);
         registerNegotiationPolicyScopes(dispatcher);
         registerTransferProcessPolicyScopes(dispatcher);
         registerCatalogPolicyScopes(dispatcher);
@@ -131,6 +175,28 @@ public class DspHttpCoreExtension implements ServiceExtension {
         return dispatcher;
     }
 
+    private IdentityService clientCredentialsProvider(ServiceExtensionContext context) {
+        if (!context.getSetting(TOKEN_CACHE_ENABLED, DEFAULT_TOKEN_CACHE_ENABLED)) {
+            return identityService;
+        }
+        var expiryMargin = Duration.ofSeconds(context.getSetting(TOKEN_CACHE_EXPIRY_MARGIN, DEFAULT_TOKEN_CACHE_EXPIRY_MARGIN));
+        var capacity = context.getSetting(TOKEN_CACHE_SIZE, DEFAULT_TOKEN_CACHE_SIZE);
+        clientCredentialsCache = new ClientCredentialsCache(identityService, clock, expiryMargin, capacity);
+
+        var statisticsInterval = context.getSetting(TOKEN_CACHE_STATISTICS_INTERVAL, DEFAULT_TOKEN_CACHE_STATISTICS_INTERVAL);
+        if (statisticsInterval > 0) {
+            statisticsReporter = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "dsp-client-credentials-cache-statistics");
+            statisticsReporter.scheduleAtFixedRate(() -> monitor.debug(clientCredentialsCacheStatistics()), statisticsInterval, statisticsInterval, TimeUnit.SECONDS);
+        }
+        return clientCredentialsCache;
+    }
+
+    private String clientCredentialsCacheStatistics() {
+        var statistics = clientCredentialsCache.statistics();
+        return "DSP client credentials cache: %d hits, %d misses (hit rate %.2f), %d evictions, %d ms saved"
+                .formatted(statistics.hits(), statistics.misses(), statistics.hitRate(), statistics.evictions(), statistics.timeSaved().toMillis());
+    }
+
     @Provider
     public DspRequestHandler dspRequestHandler() {
         return new DspRequestHandlerImpl(monitor, validatorRegistry, transformerRegistry.forContext("dsp-api"));
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.dispatcher;
+
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.iam.VerificationContext;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.ConcurrentLoadingCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * {@link IdentityService} decorator that caches the client credentials obtained for outgoing messages, keyed by audience,
+ * scopes and all the other token parameters. A token is reused until the safety margin before its expiry is reached,
+ * tokens that don't declare their expiry are never cached. When the capacity is exceeded, the least recently used tokens
+ * are evicted first, see {@link ConcurrentLoadingCache}.
+ * Hits, misses, evictions and the time saved by not obtaining new tokens are tracked in the {@link Statistics}.
+ */
+public class ClientCredentialsCache implements IdentityService {
+
+    private static final String SCOPE_CLAIM = "scope";
+
+    private final IdentityService identityService;
+    private final Clock clock;
+    private final Duration expiryMargin;
+    private final ConcurrentLoadingCache<Key, Entry> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder savedNanos = new LongAdder();
+
+    public ClientCredentialsCache(IdentityService identityService, Clock clock, Duration expiryMargin, int capacity) {
+        this.identityService = identityService;
+        this.clock = clock;
+        this.expiryMargin = expiryMargin;
+        this.cache = ConcurrentLoadingCache.Builder.<Key, Entry>newInstance()
+                .maximumSize(capacity)
+                .clock(clock)
+                .build();
+    }
+
+    @Override
+    public Result<TokenRepresentation> obtainClientCredentials(TokenParameters parameters) {
+        var key = Key.of(parameters);
+        var entry = cache.get(key);
+        if (entry != null) {
+            if (entry.usableUntil().isAfter(clock.instant())) {
+                hits.increment();
+                savedNanos.add(entry.obtainNanos());
+                return Result.success(entry.token());
+            }
+            cache.remove(key);
+        }
+
+        misses.increment();
+        var start = System.nanoTime();
+        var result = identityService.obtainClientCredentials(parameters);
+        var obtainNanos = System.nanoTime() - start;
+
+        if (result.succeeded() && result.getContent().getExpiresIn() != null) {
+            var usableUntil = clock.instant().plusSeconds(result.getContent().getExpiresIn()).minus(expiryMargin);
+            if (usableUntil.isAfter(clock.instant())) {
+                cache.put(key, new Entry(result.getContent(), usableUntil, obtainNanos));
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public Result<ClaimToken> verifyJwtToken(TokenRepresentation tokenRepresentation, VerificationContext context) {
+        return identityService.verifyJwtToken(tokenRepresentation, context);
+    }
+
+    /**
+     * Returns the cache statistics collected since startup.
+     */
+    public Statistics statistics() {
+        return new Statistics(hits.sum(), misses.sum(), cache.statistics().evictions(), Duration.ofNanos(savedNanos.sum()));
+    }
+
+    /**
+     * Statistics of the cache usage.
+     *
+     * @param hits      number of tokens served from the cache.
+     * @param misses    number of tokens obtained from the identity service.
+     * @param evictions number of tokens evicted because the capacity was exceeded.
+     * @param timeSaved the cumulated time the identity service took to obtain the tokens that have been served from the cache.
+     */
+    public record Statistics(long hits, long misses, long evictions, Duration timeSaved) {
+
+        public double hitRate() {
+            var total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private record Key(Map<String, Object> claims, Map<String, Object> headers) {
+
+        static Key of(TokenParameters parameters) {
+            var claims = new HashMap<>(parameters.getClaims());
+            // the order of the scopes is not relevant
+            if (claims.get(SCOPE_CLAIM) instanceof String scope) {
+                claims.put(SCOPE_CLAIM, Arrays.stream(scope.split(" ")).collect(Collectors.toSet()));
+            }
+            return new Key(claims, new HashMap<>(parameters.getHeaders()));
+        }
+    }
+
+    private record Entry(TokenRepresentation token, Instant usableUntil, long obtainNanos) {
+    }
+}
@@ -30,6 +30,7 @@ import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.eclipse.edc.protocol.dsp.http.spi.error.DspErrorResponse.type;
 import static org.eclipse.edc.protocol.dsp.http.spi.types.HttpMessageProtocol.DATASPACE_PROTOCOL_HTTP;
@@ -76,6 +77,12 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
 
     @Override
     public <I extends RemoteMessage, R> Response createResource(PostDspRequest<I, R> request, ResponseDecorator<I, R> responseDecorator) {
+        return createResource(request, responseDecorator, resource -> transformerRegistry.transform(resource, JsonObject.class));
+    }
+
+    @Override
+    public <I extends RemoteMessage, R> Response createResource(PostDspRequest<I, R> request, ResponseDecorator<I, R> responseDecorator,
+                                                                Function<R, Result<?>> bodyFactory) {
         monitor.debug(() -> "DSP: Incoming %s for %s process%s".formatted(
                 request.getInputClass().getSimpleName(),
                 request.getResultClass(),
@@ -116,7 +123,7 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
 
         var resource = serviceResult.getContent();
 
-        var outputTransformation = transformerRegistry.transform(resource, JsonObject.class);
+        var outputTransformation = bodyFactory.apply(resource);
         if (outputTransformation.failed()) {
             var errorCode = UUID.randomUUID();
             monitor.warning("Error transforming %s, error id %s: %s".formatted(request.getResultClass().getSimpleName(), errorCode, outputTransformation.getFailureDetail()));
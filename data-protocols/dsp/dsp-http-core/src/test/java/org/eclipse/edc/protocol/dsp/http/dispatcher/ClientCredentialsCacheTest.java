@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.dispatcher;
+
+import org.assertj.core.api.Assertions;
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClientCredentialsCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final IdentityService identityService = mock();
+    private final Clock clock = mock();
+    private final ClientCredentialsCache cache = new ClientCredentialsCache(identityService, clock, Duration.ofSeconds(10), 100);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+    }
+
+    @Test
+    void obtainClientCredentials_shouldReuseToken_whenAudienceAndScopesMatch() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(token("token", 60L)));
+
+        var first = cache.obtainClientCredentials(parameters("audience", "scope1 scope2"));
+        var second = cache.obtainClientCredentials(parameters("audience", "scope2 scope1"));
+
+        assertThat(first).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token");
+        assertThat(second).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token");
+        verify(identityService, times(1)).obtainClientCredentials(any());
+        Assertions.assertThat(cache.statistics().hits()).isEqualTo(1);
+        Assertions.assertThat(cache.statistics().misses()).isEqualTo(1);
+        Assertions.assertThat(cache.statistics().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void obtainClientCredentials_shouldObtainNewToken_whenParametersDiffer() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(token("token", 60L)));
+
+        cache.obtainClientCredentials(parameters("audience", "scope1"));
+        cache.obtainClientCredentials(parameters("another-audience", "scope1"));
+        cache.obtainClientCredentials(parameters("audience", "scope2"));
+
+        verify(identityService, times(3)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldObtainNewToken_whenExpiryMarginReached() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(token("token", 60L)));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(49));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+        verify(identityService, times(1)).obtainClientCredentials(any());
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(50));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+        verify(identityService, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldNotCache_whenExpiryUnknown() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(token("token", null)));
+
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+
+        verify(identityService, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldNotCache_whenFailed() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.failure("error"));
+
+        assertThat(cache.obtainClientCredentials(parameters("audience", "scope"))).isFailed();
+        assertThat(cache.obtainClientCredentials(parameters("audience", "scope"))).isFailed();
+
+        verify(identityService, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldEvictLeastRecentlyUsed_whenCapacityExceeded() {
+        var cache = new ClientCredentialsCache(identityService, clock, Duration.ofSeconds(10), 2);
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(token("token", 60L)));
+        cache.obtainClientCredentials(parameters("audience-1", "scope"));
+        cache.obtainClientCredentials(parameters("audience-2", "scope"));
+        cache.obtainClientCredentials(parameters("audience-1", "scope"));
+
+        cache.obtainClientCredentials(parameters("audience-3", "scope"));
+        cache.obtainClientCredentials(parameters("audience-1", "scope"));
+
+        verify(identityService, times(3)).obtainClientCredentials(any());
+        Assertions.assertThat(cache.statistics().evictions()).isEqualTo(1);
+    }
+
+    private TokenParameters parameters(String audience, String scope) {
+        return TokenParameters.Builder.newInstance().claims("aud", audience).claims("scope", scope).build();
+    }
+
+    private TokenRepresentation token(String token, Long expiresIn) {
+        return TokenRepresentation.Builder.newInstance().token(token).expiresIn(expiresIn).build();
+    }
+}
@@ -43,6 +43,7 @@ import static org.eclipse.edc.validator.spi.Violation.violation;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -267,6 +268,34 @@ class DspRequestHandlerImplTest {
             assertThat(result.getHeaderString("test")).isEqualTo("test");
         }
 
+        @Test
+        void shouldUseBodyFactory_whenSpecified() {
+            var message = mock(TestProcessRemoteMessage.class);
+            var content = new Object();
+            var body = new Object();
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(TestProcessRemoteMessage.class))).thenReturn(Result.success(message));
+            var request = postDspRequestBuilder().serviceCall((i, c) -> ServiceResult.success(content)).build();
+
+            var result = handler.createResource(request, (r, i, o) -> r, resource -> Result.success(body));
+
+            assertThat(result.getStatus()).isEqualTo(200);
+            assertThat(result.getEntity()).isSameAs(body);
+            verify(transformerRegistry, never()).transform(any(), eq(JsonObject.class));
+        }
+
+        @Test
+        void shouldReturnInternalServerError_whenBodyFactoryFails() {
+            var message = mock(TestProcessRemoteMessage.class);
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(TestProcessRemoteMessage.class))).thenReturn(Result.success(message));
+            var request = postDspRequestBuilder().build();
+
+            var result = handler.createResource(request, (r, i, o) -> r, resource -> Result.failure("error"));
+
+            assertThat(result.getStatus()).isEqualTo(500);
+        }
+
         private PostDspRequest.Builder<TestProcessRemoteMessage, Object> postDspRequestBuilder() {
             return PostDspRequest.Builder
                     .newInstance(TestProcessRemoteMessage.class, Object.class)
@@ -15,8 +15,11 @@
 package org.eclipse.edc.protocol.dsp.http.spi.message;
 
 import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
 
+import java.util.function.Function;
+
 /**
  * Handles incoming DSP requests
  */
@@ -55,6 +58,21 @@ public interface DspRequestHandler {
      */
     <I extends RemoteMessage, R> Response createResource(PostDspRequest<I, R> request, ResponseDecorator<I, R> responseDecorator);
 
+    /**
+     * Verify identity, validate incoming message, transform, call the service to create the resource, create the
+     * response body with the given factory instead of transforming the resource, decorate the response and return it.
+     * This permits to stream large resources to the client without building their whole JSON representation.
+     *
+     * @param request the request.
+     * @param responseDecorator the response decorator.
+     * @param bodyFactory creates the response entity from the resource.
+     * @return the response to be returned to the client.
+     * @param <I> the input type.
+     * @param <R> the result type.
+     */
+    <I extends RemoteMessage, R> Response createResource(PostDspRequest<I, R> request, ResponseDecorator<I, R> responseDecorator,
+                                                         Function<R, Result<?>> bodyFactory);
+
     /**
      * Verify identity, validate incoming message, transform and call the service.
      *
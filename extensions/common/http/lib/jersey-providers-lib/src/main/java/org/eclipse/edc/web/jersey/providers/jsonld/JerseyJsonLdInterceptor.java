@@ -14,7 +14,11 @@
 
 package org.eclipse.edc.web.jersey.providers.jsonld;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.BadRequestException;
@@ -26,55 +30,72 @@ import jakarta.ws.rs.ext.ReaderInterceptorContext;
 import jakarta.ws.rs.ext.WriterInterceptor;
 import jakarta.ws.rs.ext.WriterInterceptorContext;
 import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.jetbrains.annotations.Nullable;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
 
 @Provider
 public class JerseyJsonLdInterceptor implements ReaderInterceptor, WriterInterceptor {
+    private static final int COMPACTION_BATCH_SIZE = 500;
+
     private final JsonLd jsonLd;
     private final ObjectMapper objectMapper;
+    private final ObjectWriter itemWriter;
 
     private final String scope;
 
     public JerseyJsonLdInterceptor(JsonLd jsonLd, ObjectMapper objectMapper, String scope) {
         this.jsonLd = jsonLd;
         this.objectMapper = objectMapper;
+        // items are flushed once, when the generator is closed, instead of one by one
+        this.itemWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
         this.scope = scope;
     }
 
+    /**
+     * Expands inbound {@link JsonObject} and {@link JsonArray} bodies. The expanded document is returned as the entity
+     * directly, so the body is parsed only once and no other reader is invoked.
+     */
     @Override
     public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException, WebApplicationException {
         if (context.getType().equals(JsonObject.class)) {
-            var bytes = context.getInputStream().readAllBytes();
-            if (bytes.length > 0) {
-                var jsonObject = objectMapper.readValue(bytes, JsonObject.class);
-
-                var expanded = jsonLd.expand(jsonObject)
-                        .orElseThrow(f -> new BadRequestException("Failed to expand JsonObject: " + f.getFailureDetail()));
-
-                var expandedBytes = objectMapper.writeValueAsBytes(expanded);
-                context.setInputStream(new ByteArrayInputStream(expandedBytes));
+            var input = nonEmpty(context.getInputStream());
+            if (input != null) {
+                return expand(objectMapper.readValue(input, JsonObject.class));
+            }
+        } else if (context.getType().equals(JsonArray.class)) {
+            var input = nonEmpty(context.getInputStream());
+            if (input != null) {
+                return objectMapper.readValue(input, JsonArray.class).stream().map(it -> {
+                    if (it instanceof JsonObject jsonObject) {
+                        return expand(jsonObject);
+                    } else {
+                        return it;
+                    }
+                }).collect(toJsonArray());
             }
         }
 
         return context.proceed();
     }
 
+    /**
+     * Compacts outbound {@link JsonObject} and {@link JsonArray} entities. Arrays larger than a batch are compacted
+     * batch by batch and written directly to the output stream, so the whole compacted array is never held in memory.
+     */
     @Override
     public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
         if (context.getEntity() instanceof JsonArray jsonArray) {
-            var compacted = jsonArray.stream().map(it -> {
-                if (it instanceof JsonObject jsonObject) {
-                    return this.compact(jsonObject);
-                } else {
-                    return it;
-                }
-            }).collect(toJsonArray());
-
-            context.setEntity(compacted);
+            if (jsonArray.size() > COMPACTION_BATCH_SIZE) {
+                writeCompacted(jsonArray, context.getOutputStream());
+                return;
+            }
+            context.setEntity(compact(jsonArray));
         } else if (context.getEntity() instanceof JsonObject jsonObject) {
             context.setEntity(compact(jsonObject));
         }
@@ -82,6 +103,48 @@ public class JerseyJsonLdInterceptor implements ReaderInterceptor, WriterInterce
         context.proceed();
     }
 
+    private void writeCompacted(JsonArray jsonArray, OutputStream outputStream) throws IOException {
+        // the first batch is compacted before writing anything, so that a failure still results in an error response
+        var batch = compact(batch(jsonArray, 0));
+        try (var generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            for (var from = 0; from < jsonArray.size(); from += COMPACTION_BATCH_SIZE) {
+                if (from > 0) {
+                    batch = compact(batch(jsonArray, from));
+                }
+                for (var item : batch) {
+                    itemWriter.writeValue(generator, item);
+                }
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private JsonArray batch(JsonArray jsonArray, int from) {
+        return Json.createArrayBuilder(jsonArray.subList(from, Math.min(from + COMPACTION_BATCH_SIZE, jsonArray.size()))).build();
+    }
+
+    private @Nullable InputStream nonEmpty(InputStream inputStream) throws IOException {
+        var pushbackInputStream = new PushbackInputStream(inputStream);
+        var first = pushbackInputStream.read();
+        if (first == -1) {
+            return null;
+        }
+        pushbackInputStream.unread(first);
+        return pushbackInputStream;
+    }
+
+    private JsonObject expand(JsonObject jsonObject) {
+        return jsonLd.expand(jsonObject)
+                .orElseThrow(f -> new BadRequestException("Failed to expand JsonObject: " + f.getFailureDetail()));
+    }
+
+    private JsonArray compact(JsonArray jsonArray) {
+        return jsonLd.compactAll(jsonArray, scope)
+                .orElseThrow(f -> new InternalServerErrorException("Failed to compact JsonArray: " + f.getFailureDetail()));
+    }
+
     private JsonObject compact(JsonObject jsonObject) {
         return jsonLd.compact(jsonObject, scope)
                 .orElseThrow(f -> new InternalServerErrorException("Failed to compact JsonObject: " + f.getFailureDetail()));
@@ -20,21 +20,27 @@ import jakarta.json.JsonObject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.ext.ReaderInterceptorContext;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -43,6 +49,7 @@ import static org.mockito.Mockito.when;
 class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
 
     private static final String SCOPE = "scope";
+    private static final int LARGE_ARRAY_SIZE = 800;
     private final JsonLd jsonLd = mock();
     private final JerseyJsonLdInterceptor interceptor = new JerseyJsonLdInterceptor(jsonLd, objectMapper, SCOPE);
 
@@ -76,6 +83,34 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
         verify(jsonLd).expand(compactedJson());
     }
 
+    @Test
+    void expansion_shouldExpandEveryElement_whenInputIsJsonArray() {
+        when(jsonLd.expand(any())).thenReturn(Result.success(expandedJson()));
+
+        given()
+                .port(port)
+                .contentType(JSON)
+                .body(Json.createArrayBuilder().add(compactedJson()).add(compactedJson()).build())
+                .post("/create/json-array")
+                .then()
+                .statusCode(204);
+
+        verify(jsonLd, times(2)).expand(compactedJson());
+    }
+
+    @Test
+    void expansion_shouldReturnExpandedEntityWithoutProceeding() throws IOException {
+        when(jsonLd.expand(any())).thenReturn(Result.success(expandedJson()));
+        var context = mock(ReaderInterceptorContext.class);
+        when(context.getType()).thenAnswer(i -> JsonObject.class);
+        when(context.getInputStream()).thenReturn(new ByteArrayInputStream(objectMapper.writeValueAsBytes(compactedJson())));
+
+        var result = interceptor.aroundReadFrom(context);
+
+        assertThat(result).isEqualTo(expandedJson());
+        verify(context, never()).proceed();
+    }
+
     @Test
     void expansion_shouldNotHappen_whenInputIsNullJsonObject() {
         given()
@@ -142,7 +177,7 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
 
     @Test
     void compaction_multiple_shouldSucceed_whenOutputIsJsonObject() {
-        when(jsonLd.compact(any(), eq(SCOPE))).thenReturn(Result.success(compactedJson()));
+        when(jsonLd.compactAll(any(), eq(SCOPE))).thenReturn(Result.success(Json.createArrayBuilder().add(compactedJson()).build()));
 
         given()
                 .port(port)
@@ -153,12 +188,33 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
                 .body("size()", is(1))
                 .body("[0].compacted-key", is("compacted-value"));
 
-        verify(jsonLd).compact(expandedJson(), SCOPE);
+        verify(jsonLd).compactAll(Json.createArrayBuilder().add(expandedJson()).build(), SCOPE);
+    }
+
+    @Test
+    void compaction_multiple_shouldCompactInBatchesAndStream_whenOutputIsLarge() {
+        when(jsonLd.compactAll(any(), eq(SCOPE))).thenAnswer(i -> {
+            JsonArray batch = i.getArgument(0);
+            var builder = Json.createArrayBuilder();
+            batch.forEach(it -> builder.add(compactedJson()));
+            return Result.success(builder.build());
+        });
+
+        given()
+                .port(port)
+                .accept(JSON)
+                .get("/get/multiple/json-object/large")
+                .then()
+                .statusCode(200)
+                .body("size()", is(LARGE_ARRAY_SIZE))
+                .body("[700].compacted-key", is("compacted-value"));
+
+        verify(jsonLd, times(2)).compactAll(any(), eq(SCOPE));
     }
 
     @Test
     void compaction_multiple_shouldReturnInternalServerError_whenCompactionFails() {
-        when(jsonLd.compact(any(), eq(SCOPE))).thenReturn(Result.failure("compaction failure"));
+        when(jsonLd.compactAll(any(), eq(SCOPE))).thenReturn(Result.failure("compaction failure"));
 
         given()
                 .port(port)
@@ -213,6 +269,14 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
             }
         }
 
+        @POST
+        @Path("/create/json-array")
+        public void createJsonArray(JsonArray jsonArray) {
+            if (jsonArray.stream().anyMatch(it -> !it.equals(expandedJson()))) {
+                throw new RuntimeException("expansion not happened");
+            }
+        }
+
         @POST
         @Path("/create/not-json-object")
         public void createNotJsonObject(Map<String, String> notJsonObject) {
@@ -237,6 +301,16 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
             return Json.createArrayBuilder().add(expandedJson()).build();
         }
 
+        @GET
+        @Path("/get/multiple/json-object/large")
+        public JsonArray getLargeMultipleJsonObject() {
+            var builder = Json.createArrayBuilder();
+            for (var i = 0; i < LARGE_ARRAY_SIZE; i++) {
+                builder.add(expandedJson());
+            }
+            return builder.build();
+        }
+
         @GET
         @Path("/get/multiple/not-json-object")
         public List<Map<String, String>> getMultipleNotJsonObject() {
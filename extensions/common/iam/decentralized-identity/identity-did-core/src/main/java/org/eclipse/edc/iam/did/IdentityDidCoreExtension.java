@@ -22,18 +22,49 @@ import org.eclipse.edc.keys.spi.KeyParserRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.iam.did.resolution.DidResolverRegistryImpl.DEFAULT_CACHE_REFRESH_AHEAD;
+import static org.eclipse.edc.iam.did.resolution.DidResolverRegistryImpl.DEFAULT_CACHE_SIZE;
+import static org.eclipse.edc.iam.did.resolution.DidResolverRegistryImpl.DEFAULT_CACHE_TTL;
+
 
 @Provides({ DidResolverRegistry.class, DidPublicKeyResolver.class })
 @Extension(value = IdentityDidCoreExtension.NAME)
 public class IdentityDidCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Identity Did Core";
+    private static final int DID_REFRESH_QUEUE_SIZE = 100;
+
+    @Setting(value = "Maximum number of cached DID documents. 0 deactivates the cache.", defaultValue = DEFAULT_CACHE_SIZE + "", type = "int")
+    public static final String DID_CACHE_SIZE = "edc.iam.did.cache.size";
+    @Setting(value = "Time in milliseconds after which a cached DID document expires.", defaultValue = "300000", type = "long")
+    public static final String DID_CACHE_TTL = "edc.iam.did.cache.ttl";
+    @Setting(value = "Period in milliseconds before the expiry of a cached DID document in which an access triggers a background refresh.", defaultValue = "60000", type = "long")
+    public static final String DID_CACHE_REFRESH_AHEAD = "edc.iam.did.cache.refresh-ahead";
+
     @Inject
     private KeyParserRegistry keyParserRegistry;
 
+    @Inject
+    private Monitor monitor;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private DidResolverRegistryImpl didResolverRegistry;
+    private ExecutorService didRefreshExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -41,11 +72,29 @@ public class IdentityDidCoreExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var didResolverRegistry = new DidResolverRegistryImpl();
+        var cacheSize = context.getSetting(DID_CACHE_SIZE, DEFAULT_CACHE_SIZE);
+        var cacheTtl = Duration.ofMillis(context.getSetting(DID_CACHE_TTL, DEFAULT_CACHE_TTL.toMillis()));
+        var cacheRefreshAhead = Duration.ofMillis(context.getSetting(DID_CACHE_REFRESH_AHEAD, DEFAULT_CACHE_REFRESH_AHEAD.toMillis()));
+        // documents are refreshed with blocking resolutions, on a dedicated executor that does not grow unbounded
+        didRefreshExecutor = executorInstrumentation.instrument(new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(DID_REFRESH_QUEUE_SIZE)), "did-document-refresh");
+        didResolverRegistry = new DidResolverRegistryImpl(cacheSize, cacheTtl, cacheRefreshAhead, didRefreshExecutor, monitor);
         context.registerService(DidResolverRegistry.class, didResolverRegistry);
 
         var publicKeyResolver = new DidPublicKeyResolverImpl(keyParserRegistry, didResolverRegistry);
         context.registerService(DidPublicKeyResolver.class, publicKeyResolver);
     }
 
+    @Override
+    public void shutdown() {
+        if (didRefreshExecutor != null) {
+            didRefreshExecutor.shutdownNow();
+        }
+        if (didResolverRegistry != null) {
+            var statistics = didResolverRegistry.cacheStatistics();
+            monitor.info("DID document cache: %d hits, %d misses (hit rate %.2f), %d evictions"
+                    .formatted(statistics.hits(), statistics.misses(), statistics.hitRate(), statistics.evictions()));
+        }
+    }
+
 }
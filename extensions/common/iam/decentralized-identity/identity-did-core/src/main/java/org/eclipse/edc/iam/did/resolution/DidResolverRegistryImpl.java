@@ -17,37 +17,63 @@ package org.eclipse.edc.iam.did.resolution;
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
-import org.eclipse.edc.util.collection.ConcurrentLruCache;
+import org.eclipse.edc.util.collection.ConcurrentLoadingCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
- * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link ConcurrentLruCache}
+ * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link ConcurrentLoadingCache}.
+ * Cached documents expire after the configured time-to-live, so that key rotations get picked up, and are refreshed in the
+ * background when they are accessed shortly before expiring. Concurrent resolutions of the same DID are coalesced.
  */
 public class DidResolverRegistryImpl implements DidResolverRegistry {
     public static final String DID_SEPARATOR = ":";
     private static final String DID = "did";
     private static final int DID_PREFIX = 0;
     private static final int DID_METHOD_NAME = 1;
-    private final ConcurrentLruCache<String, DidDocument> didCache;
+    public static final int DEFAULT_CACHE_SIZE = 50;
+    public static final Duration DEFAULT_CACHE_TTL = Duration.ofMinutes(5);
+    public static final Duration DEFAULT_CACHE_REFRESH_AHEAD = Duration.ofMinutes(1);
+    private final ConcurrentLoadingCache<String, Result<DidDocument>> didCache;
     private final Map<String, DidResolver> resolvers = new HashMap<>();
 
     public DidResolverRegistryImpl() {
-        didCache = new ConcurrentLruCache<>(50);
+        this(DEFAULT_CACHE_SIZE);
     }
 
     /**
-     * Constructs a DidResolverRegistryImpl object with the specified cache size.
+     * Constructs a DidResolverRegistryImpl object with the specified cache size. Cached documents are not refreshed in
+     * the background, they are resolved again once expired.
      *
      * @param cacheSize the maximum number of entries that the cache can hold. Pass 0 to effectively deactivate the cache.
      */
     public DidResolverRegistryImpl(int cacheSize) {
-        didCache = new ConcurrentLruCache<>(cacheSize);
+        didCache = cacheBuilder(cacheSize, DEFAULT_CACHE_TTL).build();
+    }
+
+    /**
+     * Constructs a DidResolverRegistryImpl object with the specified cache configuration.
+     *
+     * @param cacheSize       the maximum number of entries that the cache can hold. Pass 0 to effectively deactivate the cache.
+     * @param ttl             the time after which a cached document expires.
+     * @param refreshAhead    the period before the expiry in which an access triggers a background refresh of the document.
+     * @param refreshExecutor the executor on which the background refreshes run.
+     * @param monitor         the monitor on which failed background refreshes are reported.
+     */
+    public DidResolverRegistryImpl(int cacheSize, Duration ttl, Duration refreshAhead, Executor refreshExecutor, Monitor monitor) {
+        didCache = cacheBuilder(cacheSize, ttl)
+                .refreshAhead(refreshAhead)
+                .refreshExecutor(refreshExecutor)
+                .refreshFailureListener((did, e) -> monitor.warning("Failed to refresh cached DID document %s".formatted(did), e))
+                .build();
     }
 
     @Override
@@ -86,19 +112,22 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
         return resolvers.get(methodName);
     }
 
+    /**
+     * Returns the statistics of the DID document cache.
+     */
+    public ConcurrentLoadingCache.Statistics cacheStatistics() {
+        return didCache.statistics();
+    }
+
     @NotNull
     private Result<DidDocument> resolveCachedDocument(String didKey, DidResolver resolver) {
-        var didDocument = didCache.get(didKey);
-        if (didDocument == null) {
-
-            var resolveResult = resolver.resolve(didKey);
-            if (resolveResult.failed()) {
-                return resolveResult;
-            }
-            didDocument = resolveResult.getContent();
-            didCache.put(didKey, didDocument);
-        }
+        return didCache.get(didKey, resolver::resolve);
+    }
 
-        return Result.success(didDocument);
+    private static ConcurrentLoadingCache.Builder<String, Result<DidDocument>> cacheBuilder(int cacheSize, Duration ttl) {
+        return ConcurrentLoadingCache.Builder.<String, Result<DidDocument>>newInstance()
+                .maximumSize(cacheSize)
+                .timeToLive(ttl)
+                .cacheable(Result::succeeded);
     }
 }
@@ -21,6 +21,8 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -60,6 +62,41 @@ class DidResolverRegistryImplTest {
         assertNotNull(result.getContent());
     }
 
+    @Test
+    void resolve_shouldCacheResolvedDocument() {
+        var resolver = new MockResolver();
+        registry.register(resolver);
+
+        registry.resolve("did:foo:id");
+        registry.resolve("did:foo:id");
+
+        assertThat(resolver.resolutions).hasValue(1);
+        assertThat(registry.cacheStatistics().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void resolve_shouldNotCacheFailure() {
+        var resolver = new MockResolver(Result.failure("not found"));
+        registry.register(resolver);
+
+        assertThat(registry.resolve("did:foo:id").failed()).isTrue();
+        assertThat(registry.resolve("did:foo:id").failed()).isTrue();
+
+        assertThat(resolver.resolutions).hasValue(2);
+    }
+
+    @Test
+    void resolve_shouldResolveAgain_whenCacheDisabled() {
+        registry = new DidResolverRegistryImpl(0);
+        var resolver = new MockResolver();
+        registry.register(resolver);
+
+        registry.resolve("did:foo:id");
+        registry.resolve("did:foo:id");
+
+        assertThat(resolver.resolutions).hasValue(2);
+    }
+
     @Test
     void isSupported() {
         registry.register(new MockResolver());
@@ -72,6 +109,17 @@ class DidResolverRegistryImplTest {
      */
     private static class MockResolver implements DidResolver {
 
+        private final AtomicInteger resolutions = new AtomicInteger();
+        private final Result<DidDocument> result;
+
+        MockResolver() {
+            this(Result.success(DidDocument.Builder.newInstance().build()));
+        }
+
+        MockResolver(Result<DidDocument> result) {
+            this.result = result;
+        }
+
         @Override
         public @NotNull String getMethod() {
             return FOO_METHOD;
@@ -80,7 +128,8 @@ class DidResolverRegistryImplTest {
         @Override
         @NotNull
         public Result<DidDocument> resolve(String didKey) {
-            return Result.success(DidDocument.Builder.newInstance().build());
+            resolutions.incrementAndGet();
+            return result;
         }
     }
 
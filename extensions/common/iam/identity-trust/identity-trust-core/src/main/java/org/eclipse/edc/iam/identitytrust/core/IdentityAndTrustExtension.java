@@ -21,6 +21,7 @@ import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.iam.identitytrust.core.defaults.DefaultCredentialServiceClient;
 import org.eclipse.edc.iam.identitytrust.service.DidCredentialServiceUrlResolver;
 import org.eclipse.edc.iam.identitytrust.service.IdentityAndTrustService;
+import org.eclipse.edc.iam.identitytrust.service.VerifiedPresentationCache;
 import org.eclipse.edc.iam.identitytrust.service.verification.MultiFormatPresentationVerifier;
 import org.eclipse.edc.iam.identitytrust.spi.ClaimTokenCreatorFunction;
 import org.eclipse.edc.iam.identitytrust.spi.CredentialServiceClient;
@@ -41,6 +42,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.security.signature.jws2020.Jws2020SignatureSuite;
 import org.eclipse.edc.spi.agent.ParticipantAgentService;
 import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -62,6 +64,10 @@ import org.jetbrains.annotations.NotNull;
 import java.net.URISyntaxException;
 import java.time.Clock;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.eclipse.edc.iam.verifiablecredentials.spi.VcConstants.STATUSLIST_2021_URL;
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
@@ -73,11 +79,18 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     public static final long DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS = 15 * 60 * 1000L;
     @Setting(value = "Validity period of cached StatusList2021 credential entries in milliseconds.", defaultValue = DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS + "", type = "long")
     public static final String REVOCATION_CACHE_VALIDITY = "edc.iam.credential.revocation.cache.validity";
+    public static final long DEFAULT_PRESENTATION_CACHE_VALIDITY_MILLIS = 0L;
+    @Setting(value = "Validity period of cached verified presentations in milliseconds. 0 disables the cache.", defaultValue = DEFAULT_PRESENTATION_CACHE_VALIDITY_MILLIS + "", type = "long")
+    public static final String PRESENTATION_CACHE_VALIDITY = "edc.iam.credential.presentation.cache.validity";
+    public static final int DEFAULT_PRESENTATION_CACHE_SIZE = 1000;
+    @Setting(value = "Maximum number of cached verified presentations.", defaultValue = DEFAULT_PRESENTATION_CACHE_SIZE + "", type = "int")
+    public static final String PRESENTATION_CACHE_SIZE = "edc.iam.credential.presentation.cache.size";
     @Setting(value = "DID of this connector", required = true)
     public static final String CONNECTOR_DID_PROPERTY = "edc.iam.issuer.id";
     public static final String DCP_SELF_ISSUED_TOKEN_CONTEXT = "dcp-si";
 
     public static final String JSON_2020_SIGNATURE_SUITE = "JsonWebSignature2020";
+    private static final int REVOCATION_REFRESH_QUEUE_SIZE = 100;
 
 
     @Inject
@@ -123,9 +136,13 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     @Inject
     private DcpParticipantAgentServiceExtension participantAgentServiceExtension;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
     private PresentationVerifier presentationVerifier;
     private CredentialServiceClient credentialServiceClient;
     private RevocationListService revocationListService;
+    private ExecutorService revocationRefreshExecutor;
 
     @Override
     public void initialize(ServiceExtensionContext context) {
@@ -154,6 +171,13 @@ public class IdentityAndTrustExtension implements ServiceExtension {
         participantAgentService.register(participantAgentServiceExtension);
     }
 
+    @Override
+    public void shutdown() {
+        if (revocationRefreshExecutor != null) {
+            revocationRefreshExecutor.shutdownNow();
+        }
+    }
+
     @Provider
     public IdentityService createIdentityService(ServiceExtensionContext context) {
         var credentialServiceUrlResolver = new DidCredentialServiceUrlResolver(didResolverRegistry);
@@ -162,9 +186,13 @@ public class IdentityAndTrustExtension implements ServiceExtension {
         var credentialValidationService = new VerifiableCredentialValidationServiceImpl(createPresentationVerifier(context),
                 trustedIssuerRegistry, createRevocationListService(context), clock);
 
+        var presentationCacheValidity = context.getConfig().getLong(PRESENTATION_CACHE_VALIDITY, DEFAULT_PRESENTATION_CACHE_VALIDITY_MILLIS);
+        var presentationCacheSize = context.getConfig().getInteger(PRESENTATION_CACHE_SIZE, DEFAULT_PRESENTATION_CACHE_SIZE);
+        var verifiedPresentationCache = new VerifiedPresentationCache(presentationCacheSize, presentationCacheValidity, clock, createRevocationListService(context));
+
         return new IdentityAndTrustService(secureTokenService, getOwnDid(context),
                 getCredentialServiceClient(context), validationAction, credentialServiceUrlResolver, claimTokenFunction,
-                credentialValidationService);
+                credentialValidationService, verifiedPresentationCache);
     }
 
     @Provider
@@ -198,7 +226,10 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     public RevocationListService createRevocationListService(ServiceExtensionContext context) {
         if (revocationListService == null) {
             var validity = context.getConfig().getLong(REVOCATION_CACHE_VALIDITY, DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS);
-            revocationListService = new StatusList2021RevocationService(typeManager.getMapper(), validity);
+            // status lists are refreshed with blocking downloads, on a dedicated executor that does not grow unbounded
+            revocationRefreshExecutor = executorInstrumentation.instrument(new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(REVOCATION_REFRESH_QUEUE_SIZE)), "status-list-refresh");
+            revocationListService = new StatusList2021RevocationService(typeManager.getMapper(), validity, revocationRefreshExecutor, context.getMonitor());
         }
         return revocationListService;
     }
@@ -58,6 +58,8 @@ import static org.eclipse.edc.spi.result.Result.success;
  *     <li>Performs a presentation request against a CredentialService</li>
  *     <li>Validates and verifies the VerifiablePresentation</li>
  * </ul>
+ * The claims obtained from verified presentations are kept in a {@link VerifiedPresentationCache}, so subsequent requests
+ * of the same issuer with the same scopes don't need to request and verify the presentations again.
  * This service is intended to be used together with the Identity And Trust Protocols.
  * Details about the scope string can be found <a href="https://github.com/eclipse-tractusx/identity-trust/blob/main/specifications/M1/verifiable.presentation.protocol.md#31-access-scopes">here</a>
  */
@@ -71,19 +73,22 @@ public class IdentityAndTrustService implements IdentityService {
     private final CredentialServiceUrlResolver credentialServiceUrlResolver;
     private final ClaimTokenCreatorFunction claimTokenCreatorFunction;
     private final VerifiableCredentialValidationService verifiableCredentialValidationService;
+    private final VerifiedPresentationCache verifiedPresentationCache;
 
     /**
      * Constructs a new instance of the {@link IdentityAndTrustService}.
      *
-     * @param secureTokenService Instance of an STS, which can create SI tokens
-     * @param myOwnDid           The DID which belongs to "this connector"
+     * @param secureTokenService        Instance of an STS, which can create SI tokens
+     * @param myOwnDid                  The DID which belongs to "this connector"
+     * @param verifiedPresentationCache Cache for the claims of already verified presentations
      */
     public IdentityAndTrustService(SecureTokenService secureTokenService, String myOwnDid,
                                    CredentialServiceClient credentialServiceClient,
                                    TokenValidationAction tokenValidationAction,
                                    CredentialServiceUrlResolver csUrlResolver,
                                    ClaimTokenCreatorFunction claimTokenCreatorFunction,
-                                   VerifiableCredentialValidationService verifiableCredentialValidationService) {
+                                   VerifiableCredentialValidationService verifiableCredentialValidationService,
+                                   VerifiedPresentationCache verifiedPresentationCache) {
         this.secureTokenService = secureTokenService;
         this.myOwnDid = myOwnDid;
         this.credentialServiceClient = credentialServiceClient;
@@ -91,6 +96,7 @@ public class IdentityAndTrustService implements IdentityService {
         this.credentialServiceUrlResolver = csUrlResolver;
         this.claimTokenCreatorFunction = claimTokenCreatorFunction;
         this.verifiableCredentialValidationService = verifiableCredentialValidationService;
+        this.verifiedPresentationCache = verifiedPresentationCache;
     }
 
     @Override
@@ -133,6 +139,12 @@ public class IdentityAndTrustService implements IdentityService {
         var claimToken = claimTokenResult.getContent();
         var accessToken = claimToken.getStringClaim(PRESENTATION_TOKEN_CLAIM);
         var issuer = claimToken.getStringClaim(ISSUER);
+        var scopes = context.getScopes();
+
+        var cachedClaims = verifiedPresentationCache.get(issuer, scopes);
+        if (cachedClaims != null) {
+            return success(cachedClaims);
+        }
 
         var siTokenClaims = Map.of(PRESENTATION_TOKEN_CLAIM, accessToken,
                 ISSUED_AT, Instant.now().toString(),
@@ -148,7 +160,7 @@ public class IdentityAndTrustService implements IdentityService {
 
         // get CS Url, execute VP request
         var vpResponse = credentialServiceUrlResolver.resolve(issuer)
-                .compose(url -> credentialServiceClient.requestPresentation(url, siTokenString, context.getScopes().stream().toList()));
+                .compose(url -> credentialServiceClient.requestPresentation(url, siTokenString, scopes.stream().toList()));
 
         if (vpResponse.failed()) {
             return vpResponse.mapTo();
@@ -158,11 +170,14 @@ public class IdentityAndTrustService implements IdentityService {
 
         var result = verifiableCredentialValidationService.validate(presentations, getAdditionalValidations());
 
+        var credentials = presentations.stream().map(p -> p.presentation().getCredentials().stream())
+                .reduce(Stream.empty(), Stream::concat)
+                .toList();
+
         return result
                 .compose(u -> verifyPresentationIssuer(issuer, presentations))
-                .compose(u -> claimTokenCreatorFunction.apply(presentations.stream().map(p -> p.presentation().getCredentials().stream())
-                        .reduce(Stream.empty(), Stream::concat)
-                        .toList()));
+                .compose(u -> claimTokenCreatorFunction.apply(credentials))
+                .onSuccess(claims -> verifiedPresentationCache.put(issuer, scopes, credentials, claims));
     }
 
     /**
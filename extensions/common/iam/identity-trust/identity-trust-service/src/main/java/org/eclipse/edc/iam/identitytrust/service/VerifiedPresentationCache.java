@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.service;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.RevocationListService;
+import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.util.collection.ConcurrentLoadingCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Bounded cache of the claims obtained from the verified presentations of a counter-party, keyed by issuer and requested
+ * scopes. An entry is valid until the configured validity period elapses or until the first of its credentials expires,
+ * whichever comes first. On every hit the credentials are checked for revocation, and revoked or suspended ones evict
+ * the entry.
+ * A validity of 0 disables the cache.
+ */
+public class VerifiedPresentationCache {
+
+    private final ConcurrentLoadingCache<Key, Entry> cache;
+    private final long validityMillis;
+    private final Clock clock;
+    private final RevocationListService revocationListService;
+
+    public VerifiedPresentationCache(int capacity, long validityMillis, Clock clock, RevocationListService revocationListService) {
+        this.cache = ConcurrentLoadingCache.Builder.<Key, Entry>newInstance()
+                .maximumSize(capacity)
+                .clock(clock)
+                .build();
+        this.validityMillis = validityMillis;
+        this.clock = clock;
+        this.revocationListService = revocationListService;
+    }
+
+    /**
+     * Returns the cached claims for the issuer and scopes, null if there's no valid entry.
+     */
+    @Nullable
+    public ClaimToken get(String issuer, Collection<String> scopes) {
+        if (validityMillis <= 0) {
+            return null;
+        }
+        var key = new Key(issuer, Set.copyOf(scopes));
+        var entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        if (!entry.expiresAt().isAfter(clock.instant()) || isAnyRevoked(entry.credentials())) {
+            cache.remove(key);
+            return null;
+        }
+
+        return entry.claimToken();
+    }
+
+    /**
+     * Caches the claims obtained from the verified credentials.
+     */
+    public void put(String issuer, Collection<String> scopes, List<VerifiableCredential> credentials, ClaimToken claimToken) {
+        if (validityMillis <= 0) {
+            return;
+        }
+        var expiresAt = credentials.stream()
+                .map(VerifiableCredential::getExpirationDate)
+                .filter(Objects::nonNull)
+                .reduce(clock.instant().plusMillis(validityMillis), (first, second) -> first.isBefore(second) ? first : second);
+
+        if (expiresAt.isAfter(clock.instant())) {
+            cache.put(new Key(issuer, Set.copyOf(scopes)), new Entry(claimToken, credentials, expiresAt));
+        }
+    }
+
+    private boolean isAnyRevoked(List<VerifiableCredential> credentials) {
+        return credentials.stream().anyMatch(credential -> revocationListService.checkValidity(credential).failed());
+    }
+
+    private record Key(String issuer, Set<String> scopes) {
+    }
+
+    private record Entry(ClaimToken claimToken, List<VerifiableCredential> credentials, Instant expiresAt) {
+    }
+}
@@ -21,6 +21,7 @@ import org.eclipse.edc.iam.identitytrust.spi.CredentialServiceClient;
 import org.eclipse.edc.iam.identitytrust.spi.CredentialServiceUrlResolver;
 import org.eclipse.edc.iam.identitytrust.spi.SecureTokenService;
 import org.eclipse.edc.iam.identitytrust.spi.validation.TokenValidationAction;
+import org.eclipse.edc.iam.verifiablecredentials.spi.RevocationListService;
 import org.eclipse.edc.iam.verifiablecredentials.spi.VerifiableCredentialValidationService;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialFormat;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.CredentialSubject;
@@ -40,6 +41,7 @@ import org.junit.jupiter.params.provider.EmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.Clock;
 import java.util.List;
 
 import static org.eclipse.edc.iam.identitytrust.spi.SelfIssuedTokenConstants.PRESENTATION_TOKEN_CLAIM;
@@ -58,6 +60,7 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -73,7 +76,7 @@ class IdentityAndTrustServiceTest {
     private final VerifiableCredentialValidationService credentialValidationServiceMock = mock();
     private final IdentityAndTrustService service = new IdentityAndTrustService(mockedSts, EXPECTED_OWN_DID, mockedClient,
             actionMock, credentialServiceUrlResolverMock, vcs -> Result.success(ClaimToken.Builder.newInstance().claim("vc", vcs).build()),
-            credentialValidationServiceMock
+            credentialValidationServiceMock, new VerifiedPresentationCache(10, 0, Clock.systemUTC(), mock())
     );
 
     @BeforeEach
@@ -337,4 +340,59 @@ class IdentityAndTrustServiceTest {
                     });
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class VerifyJwtTokenWithCache {
+
+        private final RevocationListService revocationListService = mock();
+        private final IdentityAndTrustService cachingService = new IdentityAndTrustService(mockedSts, EXPECTED_OWN_DID, mockedClient,
+                actionMock, credentialServiceUrlResolverMock, vcs -> Result.success(ClaimToken.Builder.newInstance().claim("vc", vcs).build()),
+                credentialValidationServiceMock, new VerifiedPresentationCache(10, 60_000, Clock.systemUTC(), revocationListService)
+        );
+
+        @BeforeEach
+        void setup() {
+            var presentation = createPresentationBuilder()
+                    .holder(CONSUMER_DID)
+                    .type("VerifiablePresentation")
+                    .build();
+            var vpContainer = new VerifiablePresentationContainer("test-vp", CredentialFormat.JSON_LD, presentation);
+            when(mockedClient.requestPresentation(any(), any(), any())).thenReturn(success(List.of(vpContainer)));
+            when(revocationListService.checkValidity(any())).thenReturn(success());
+        }
+
+        @Test
+        void shouldNotRequestPresentationAgain_whenCached() {
+            var token = createJwt(CONSUMER_DID, EXPECTED_OWN_DID);
+
+            assertThat(cachingService.verifyJwtToken(token, verificationContext())).isSucceeded();
+            assertThat(cachingService.verifyJwtToken(token, verificationContext())).isSucceeded();
+
+            verify(mockedClient, times(1)).requestPresentation(any(), any(), any());
+            verify(credentialValidationServiceMock, times(1)).validate(anyList(), anyCollection());
+            verify(actionMock, times(2)).apply(any());
+        }
+
+        @Test
+        void shouldRequestPresentationAgain_whenCachedCredentialRevoked() {
+            var token = createJwt(CONSUMER_DID, EXPECTED_OWN_DID);
+            assertThat(cachingService.verifyJwtToken(token, verificationContext())).isSucceeded();
+            when(revocationListService.checkValidity(any())).thenReturn(failure("revoked"));
+
+            cachingService.verifyJwtToken(token, verificationContext());
+
+            verify(mockedClient, times(2)).requestPresentation(any(), any(), any());
+        }
+
+        @Test
+        void shouldNotCache_whenVerificationFails() {
+            when(credentialValidationServiceMock.validate(anyList(), anyCollection())).thenReturn(failure("invalid"));
+            var token = createJwt(CONSUMER_DID, EXPECTED_OWN_DID);
+
+            assertThat(cachingService.verifyJwtToken(token, verificationContext())).isFailed();
+            assertThat(cachingService.verifyJwtToken(token, verificationContext())).isFailed();
+
+            verify(mockedClient, times(2)).requestPresentation(any(), any(), any());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.service;
+
+import org.eclipse.edc.iam.verifiablecredentials.spi.RevocationListService;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.iam.verifiablecredentials.spi.TestFunctions.createCredentialBuilder;
+import static org.eclipse.edc.spi.result.Result.failure;
+import static org.eclipse.edc.spi.result.Result.success;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VerifiedPresentationCacheTest {
+
+    private static final String ISSUER = "did:web:issuer";
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final RevocationListService revocationListService = mock();
+    private final Clock clock = mock();
+    private final ClaimToken claimToken = ClaimToken.Builder.newInstance().claim("foo", "bar").build();
+    private final VerifiedPresentationCache cache = new VerifiedPresentationCache(10, 1000, clock, revocationListService);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+        when(revocationListService.checkValidity(any())).thenReturn(success());
+    }
+
+    @Test
+    void get_shouldReturnCachedClaims_whenIssuerAndScopesMatch() {
+        cache.put(ISSUER, Set.of("scope1", "scope2"), List.of(createCredentialBuilder().build()), claimToken);
+
+        assertThat(cache.get(ISSUER, List.of("scope2", "scope1"))).isSameAs(claimToken);
+        assertThat(cache.get(ISSUER, Set.of("scope1"))).isNull();
+        assertThat(cache.get("did:web:another", Set.of("scope1", "scope2"))).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_whenValidityElapsed() {
+        cache.put(ISSUER, Set.of(), List.of(createCredentialBuilder().build()), claimToken);
+
+        when(clock.instant()).thenReturn(NOW.plusMillis(999));
+        assertThat(cache.get(ISSUER, Set.of())).isSameAs(claimToken);
+
+        when(clock.instant()).thenReturn(NOW.plusMillis(1000));
+        assertThat(cache.get(ISSUER, Set.of())).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_whenCredentialExpired() {
+        var credential = createCredentialBuilder().expirationDate(NOW.plusMillis(500)).build();
+        cache.put(ISSUER, Set.of(), List.of(credential), claimToken);
+
+        when(clock.instant()).thenReturn(NOW.plusMillis(500));
+
+        assertThat(cache.get(ISSUER, Set.of())).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_whenCredentialRevoked() {
+        cache.put(ISSUER, Set.of(), List.of(createCredentialBuilder().build()), claimToken);
+        when(revocationListService.checkValidity(any())).thenReturn(failure("revoked"));
+
+        assertThat(cache.get(ISSUER, Set.of())).isNull();
+    }
+
+    @Test
+    void put_shouldNotCache_whenDisabled() {
+        var disabledCache = new VerifiedPresentationCache(10, 0, clock, revocationListService);
+
+        disabledCache.put(ISSUER, Set.of(), List.of(createCredentialBuilder().build()), claimToken);
+
+        assertThat(disabledCache.get(ISSUER, Set.of())).isNull();
+    }
+}
@@ -72,7 +72,12 @@ public class EmbeddedSecureTokenService implements SecureTokenService {
                 .compose(v -> {
                     var keyIdDecorator = new KeyIdDecorator(publicKeyId.get());
                     return tokenGenerationService.generate(privateKeySupplier, keyIdDecorator, new SelfIssuedTokenDecorator(selfIssuedClaims, clock, validity));
-                });
+                })
+                .map(token -> TokenRepresentation.Builder.newInstance()
+                        .token(token.getToken())
+                        .additional(token.getAdditional())
+                        .expiresIn(validity)
+                        .build());
     }
 
     private Result<Void> createAndAcceptAccessToken(Map<String, String> claims, String scope, BiConsumer<String, String> consumer) {
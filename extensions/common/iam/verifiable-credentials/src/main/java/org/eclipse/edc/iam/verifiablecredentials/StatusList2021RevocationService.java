@@ -21,13 +21,16 @@ import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.statuslist.BitString;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.statuslist.StatusList2021Credential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.statuslist.StatusListStatus;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.util.collection.Cache;
 
 import java.io.IOException;
 import java.net.URI;
+import java.time.Clock;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import static org.eclipse.edc.spi.result.Result.success;
@@ -39,16 +42,24 @@ import static org.eclipse.edc.spi.result.Result.success;
  * To achieve that, the {@link VerifiableCredential#getCredentialStatus()} object is inspected and checked against the status list credential referenced therein.
  * <p>
  * To limit traffic on the actual StatusList2021 credential, it is cached in a thread-safe {@link Map}, and only re-downloaded if the cache is expired.
+ * The encoded list is decoded once per download, and the resulting {@link BitString} is cached alongside the status purpose.
+ * If a refresh {@link Executor} is provided, expired entries are re-downloaded in the background and the stale entry is used
+ * until then, for at most twice the cache validity. Past that, the status list is downloaded again before checking, and a
+ * download failure fails the check.
  */
 public class StatusList2021RevocationService implements RevocationListService {
     private final ObjectMapper objectMapper;
-    private final Cache<String, VerifiableCredential> cache;
+    private final Cache<String, Result<StatusList>> cache;
 
     public StatusList2021RevocationService(ObjectMapper objectMapper, long cacheValidity) {
-        this.objectMapper = objectMapper.copy()
-                .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY) // technically, credential subjects and credential status can be objects AND Arrays
-                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES); // let's make sure this is disabled, because the "@context" would cause problems
-        cache = new Cache<>(this::downloadStatusListCredential, cacheValidity);
+        this.objectMapper = configure(objectMapper);
+        cache = new Cache<>(this::loadStatusList, cacheValidity);
+    }
+
+    public StatusList2021RevocationService(ObjectMapper objectMapper, long cacheValidity, Executor refreshExecutor, Monitor monitor) {
+        this.objectMapper = configure(objectMapper);
+        cache = new Cache<>(this::loadStatusList, cacheValidity, Clock.systemUTC(), refreshExecutor,
+                (url, exception) -> monitor.warning("Failed to refresh StatusList2021 credential %s, the cached one is kept".formatted(url), exception));
     }
 
     @Override
@@ -97,22 +108,20 @@ public class StatusList2021RevocationService implements RevocationListService {
     private Result<String> getStatusInternal(StatusListStatus status) {
         var index = status.getStatusListIndex();
         var slCredUrl = status.getStatusListCredential();
-        var credential = cache.get(slCredUrl);
-        var slCred = StatusList2021Credential.parse(credential);
+        var statusListResult = cache.get(slCredUrl);
+        if (statusListResult.failed()) {
+            return statusListResult.mapTo();
+        }
+        var statusList = statusListResult.getContent();
 
         // check that the "statusPurpose" values match
         var purpose = status.getStatusListPurpose();
-        var slCredPurpose = slCred.statusPurpose();
+        var slCredPurpose = statusList.purpose();
         if (!purpose.equalsIgnoreCase(slCredPurpose)) {
             return Result.failure("Credential's statusPurpose value must match the status list's purpose: '%s' != '%s'".formatted(purpose, slCredPurpose));
         }
 
-        var bitStringResult = BitString.Parser.newInstance().parse(slCred.encodedList());
-
-        if (bitStringResult.failed()) {
-            return bitStringResult.mapTo();
-        }
-        var bitString = bitStringResult.getContent();
+        var bitString = statusList.bitString();
 
         // check that the value at index in the bitset is "1"
         if (bitString.get(index)) {
@@ -121,6 +130,12 @@ public class StatusList2021RevocationService implements RevocationListService {
         return success(null);
     }
 
+    private Result<StatusList> loadStatusList(String credentialUrl) {
+        var slCred = StatusList2021Credential.parse(downloadStatusListCredential(credentialUrl));
+        return BitString.Parser.newInstance().parse(slCred.encodedList())
+                .map(bitString -> new StatusList(slCred.statusPurpose(), bitString));
+    }
+
     private VerifiableCredential downloadStatusListCredential(String credentialUrl) {
         try {
             return objectMapper.readValue(URI.create(credentialUrl).toURL(), VerifiableCredential.class);
@@ -128,4 +143,13 @@ public class StatusList2021RevocationService implements RevocationListService {
             throw new RuntimeException(e);
         }
     }
+
+    private static ObjectMapper configure(ObjectMapper objectMapper) {
+        return objectMapper.copy()
+                .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY) // technically, credential subjects and credential status can be objects AND Arrays
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES); // let's make sure this is disabled, because the "@context" would cause problems
+    }
+
+    private record StatusList(String purpose, BitString bitString) {
+    }
 }
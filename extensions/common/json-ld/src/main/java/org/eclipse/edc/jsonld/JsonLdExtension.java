@@ -70,6 +70,9 @@ public class JsonLdExtension implements ServiceExtension {
     private static final boolean DEFAULT_CHECK_PREFIXES = true;
     @Setting(value = "If true a validation on expended object will be made against configured prefixes", type = "boolean", defaultValue = DEFAULT_CHECK_PREFIXES + "")
     private static final String CHECK_PREFIXES = "edc.jsonld.prefixes.check";
+    private static final int DEFAULT_CONTEXT_CACHE_SIZE = 256;
+    @Setting(value = "Maximum number of active contexts cached for JSON-LD expansion, 0 disables the cache", type = "int", defaultValue = DEFAULT_CONTEXT_CACHE_SIZE + "")
+    private static final String CONTEXT_CACHE_SIZE = "edc.jsonld.context.cache.size";
 
     @Inject
     private TypeManager typeManager;
@@ -91,6 +94,7 @@ public class JsonLdExtension implements ServiceExtension {
                 .httpEnabled(config.getBoolean(HTTP_ENABLE_SETTING, DEFAULT_HTTP_HTTPS_RESOLUTION))
                 .httpsEnabled(config.getBoolean(HTTPS_ENABLE_SETTING, DEFAULT_HTTP_HTTPS_RESOLUTION))
                 .checkPrefixes(config.getBoolean(CHECK_PREFIXES, DEFAULT_CHECK_PREFIXES))
+                .contextCacheSize(config.getInteger(CONTEXT_CACHE_SIZE, DEFAULT_CONTEXT_CACHE_SIZE))
                 .build();
         var monitor = context.getMonitor();
         var service = new TitaniumJsonLd(monitor, configuration);
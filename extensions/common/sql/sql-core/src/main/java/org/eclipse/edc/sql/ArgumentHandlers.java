@@ -19,18 +19,14 @@ import java.math.BigDecimal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.Date;
 
 enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code int} argument into its corresponding position of a statement
      */
-    INT {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Integer;
-        }
-
+    INT(Integer.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setInt(position, (int) argument);
@@ -39,12 +35,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code long} argument into its corresponding position of a statement
      */
-    LONG {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Long;
-        }
-
+    LONG(Long.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setLong(position, (long) argument);
@@ -53,12 +44,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code double} argument into its corresponding position of a statement
      */
-    DOUBLE {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Double;
-        }
-
+    DOUBLE(Double.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setDouble(position, (double) argument);
@@ -67,12 +53,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code float} argument into its corresponding position of a statement
      */
-    FLOAT {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Float;
-        }
-
+    FLOAT(Float.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setFloat(position, (float) argument);
@@ -81,12 +62,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code short} argument into its corresponding position of a statement
      */
-    SHORT {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Short;
-        }
-
+    SHORT(Short.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setShort(position, (short) argument);
@@ -95,12 +71,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code java.math.BigDecimal} argument into its corresponding position of a statement
      */
-    BIG_DECIMAL {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof BigDecimal;
-        }
-
+    BIG_DECIMAL(BigDecimal.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setBigDecimal(position, (BigDecimal) argument);
@@ -109,12 +80,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code java.lang.String} argument into its corresponding position of a statement
      */
-    STRING {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof String;
-        }
-
+    STRING(String.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setString(position, (String) argument);
@@ -123,12 +89,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code boolean} argument into its corresponding position of a statement
      */
-    BOOLEAN {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Boolean;
-        }
-
+    BOOLEAN(Boolean.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setBoolean(position, (Boolean) argument);
@@ -137,12 +98,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code java.util.Date} argument into its corresponding position of a statement
      */
-    DATE {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Date;
-        }
-
+    DATE(Date.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setTimestamp(position, new Timestamp(((Date) argument).getTime()));
@@ -151,12 +107,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code byte} argument into its corresponding position of a statement
      */
-    BYTE {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Byte;
-        }
-
+    BYTE(Byte.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setByte(position, (Byte) argument);
@@ -165,12 +116,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code byte[]} array argument into its corresponding position of a statement
      */
-    BYTES {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof byte[];
-        }
-
+    BYTES(byte[].class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setBytes(position, (byte[]) argument);
@@ -179,12 +125,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code java.io.InputStream} argument into its corresponding position of a statement
      */
-    INPUT_STREAM {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof InputStream;
-        }
-
+    INPUT_STREAM(InputStream.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setBlob(position, (InputStream) argument);
@@ -193,15 +134,50 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code null} argument into its corresponding position of a statement
      */
-    NULL {
+    NULL(null) {
         @Override
-        public boolean accepts(Object value) {
-            return value == null;
+        public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
+            statement.setNull(position, java.sql.Types.NULL);
         }
-
+    },
+    /**
+     * Sets an argument of any other type into its corresponding position of a statement
+     */
+    OBJECT(Object.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
-            statement.setNull(position, java.sql.Types.NULL);
+            statement.setObject(position, argument);
         }
+    };
+
+    private static final ClassValue<ArgumentHandler> HANDLERS_BY_CLASS = new ClassValue<>() {
+        @Override
+        protected ArgumentHandler computeValue(Class<?> argumentClass) {
+            return Arrays.stream(values())
+                    .filter(handler -> handler.type != null && handler.type.isAssignableFrom(argumentClass))
+                    .findFirst()
+                    .orElse(OBJECT);
+        }
+    };
+
+    private final Class<?> type;
+
+    ArgumentHandlers(Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns the handler for the argument, looked up by its class.
+     *
+     * @param argument the argument, can be null.
+     * @return the handler.
+     */
+    static ArgumentHandler forArgument(Object argument) {
+        return argument == null ? NULL : HANDLERS_BY_CLASS.get(argument.getClass());
+    }
+
+    @Override
+    public boolean accepts(Object value) {
+        return type == null ? value == null : type.isInstance(value);
     }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql;
 
 import java.sql.Connection;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -31,6 +32,17 @@ public interface QueryExecutor {
      */
     int execute(Connection connection, String sql, Object... arguments);
 
+    /**
+     * Intended for bulk mutating queries.
+     * The statement is executed once for every entry of the arguments, which are sent to the database in JDBC batches.
+     *
+     * @param connection the connection to be used to execute the statements.
+     * @param sql the parametrized sql query
+     * @param arguments the parameters to interpolate with the parametrized sql query, one array per execution
+     * @return rowsChanged by every execution, in the same order as the arguments
+     */
+    int[] executeBatch(Connection connection, String sql, List<Object[]> arguments);
+
     /**
      * Intended for reading queries.
      * The resulting {@link Stream} must be closed with the "close()" when a terminal operation is used on the stream
@@ -31,6 +31,10 @@ public class SqlCoreExtension implements ServiceExtension {
     @Setting(value = "Fetch size value used in SQL queries", defaultValue = DEFAULT_EDC_SQL_FETCH_SIZE)
     public static final String EDC_SQL_FETCH_SIZE = "edc.sql.fetch.size";
 
+    public static final String DEFAULT_EDC_SQL_BATCH_SIZE = "1000";
+    @Setting(value = "Maximum number of statements sent to the database in a single JDBC batch", defaultValue = DEFAULT_EDC_SQL_BATCH_SIZE)
+    public static final String EDC_SQL_BATCH_SIZE = "edc.sql.batch.size";
+
     @Override
     public String name() {
         return NAME;
@@ -39,7 +43,8 @@ public class SqlCoreExtension implements ServiceExtension {
     @Provider
     public QueryExecutor sqlQueryExecutor(ServiceExtensionContext context) {
         var fetchSize = context.getSetting(EDC_SQL_FETCH_SIZE, parseInt(DEFAULT_EDC_SQL_FETCH_SIZE));
-        var configuration = new SqlQueryExecutorConfiguration(fetchSize);
+        var batchSize = context.getSetting(EDC_SQL_BATCH_SIZE, parseInt(DEFAULT_EDC_SQL_BATCH_SIZE));
+        var configuration = new SqlQueryExecutorConfiguration(fetchSize, batchSize);
         return new SqlQueryExecutor(configuration);
     }
 
@@ -22,7 +22,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -52,7 +52,7 @@ public class SqlQueryExecutor implements QueryExecutor {
         Objects.requireNonNull(sql, "sql");
         Objects.requireNonNull(arguments, "arguments");
 
-        try (var statement = connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
+        try (var statement = connection.prepareStatement(sql)) {
             setArguments(statement, arguments);
             return statement.execute() ? 0 : statement.getUpdateCount();
         } catch (Exception exception) {
@@ -60,6 +60,36 @@ public class SqlQueryExecutor implements QueryExecutor {
         }
     }
 
+    @Override
+    public int[] executeBatch(Connection connection, String sql, List<Object[]> arguments) {
+        Objects.requireNonNull(connection, "connection");
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(arguments, "arguments");
+
+        var rowsChanged = new int[arguments.size()];
+        if (arguments.isEmpty()) {
+            return rowsChanged;
+        }
+
+        try (var statement = connection.prepareStatement(sql)) {
+            var batchStart = 0;
+            for (var index = 0; index < arguments.size(); index++) {
+                setArguments(statement, arguments.get(index));
+                statement.addBatch();
+
+                var batchEnd = index + 1;
+                if (batchEnd - batchStart == configuration.batchSize() || batchEnd == arguments.size()) {
+                    var batchRowsChanged = statement.executeBatch();
+                    System.arraycopy(batchRowsChanged, 0, rowsChanged, batchStart, batchRowsChanged.length);
+                    batchStart = batchEnd;
+                }
+            }
+            return rowsChanged;
+        } catch (Exception exception) {
+            throw new EdcPersistenceException(exception.getMessage(), exception);
+        }
+    }
+
     @Override
     public <T> T single(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
         try (var stream = query(connection, closeConnection, resultSetMapper, sql, arguments)) {
@@ -106,14 +136,7 @@ public class SqlQueryExecutor implements QueryExecutor {
     }
 
     private void setArgument(PreparedStatement statement, int position, Object argument) throws SQLException {
-        var argumentHandler = Arrays.stream(ArgumentHandlers.values()).filter(it -> it.accepts(argument))
-                .findFirst().orElse(null);
-
-        if (argumentHandler != null) {
-            argumentHandler.handle(statement, position, argument);
-        } else {
-            statement.setObject(position, argument);
-        }
+        ArgumentHandlers.forArgument(argument).handle(statement, position, argument);
     }
 
     @NotNull
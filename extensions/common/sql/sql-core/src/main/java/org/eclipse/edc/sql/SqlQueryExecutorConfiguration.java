@@ -14,15 +14,16 @@
 
 package org.eclipse.edc.sql;
 
+import static org.eclipse.edc.sql.SqlCoreExtension.DEFAULT_EDC_SQL_BATCH_SIZE;
 import static org.eclipse.edc.sql.SqlCoreExtension.DEFAULT_EDC_SQL_FETCH_SIZE;
 
 /**
  * Configuration class for {@link SqlQueryExecutor}
  */
-public record SqlQueryExecutorConfiguration(int fetchSize) {
+public record SqlQueryExecutorConfiguration(int fetchSize, int batchSize) {
 
     public static SqlQueryExecutorConfiguration ofDefaults() {
-        return new SqlQueryExecutorConfiguration(Integer.parseInt(DEFAULT_EDC_SQL_FETCH_SIZE));
+        return new SqlQueryExecutorConfiguration(Integer.parseInt(DEFAULT_EDC_SQL_FETCH_SIZE), Integer.parseInt(DEFAULT_EDC_SQL_BATCH_SIZE));
     }
 
 }
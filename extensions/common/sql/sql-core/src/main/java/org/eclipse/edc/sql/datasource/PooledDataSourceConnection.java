@@ -58,6 +58,10 @@ class PooledDataSourceConnection implements Connection {
 
     @Override
     public PreparedStatement prepareStatement(String sql) throws SQLException {
+        var statementCache = connectionPool.getStatementCache(connection);
+        if (statementCache != null) {
+            return statementCache.prepareStatement(connection, sql);
+        }
         return connection.prepareStatement(sql);
     }
 
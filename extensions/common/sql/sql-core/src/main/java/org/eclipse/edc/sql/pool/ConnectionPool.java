@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.sql.pool;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.sql.Connection;
 
 /**
@@ -35,4 +37,14 @@ public interface ConnectionPool extends AutoCloseable {
      * @param connection to be returned to the pool
      */
     void returnConnection(Connection connection);
+
+    /**
+     * Returns the cache of prepared statements that belongs to a connection managed by the pool.
+     *
+     * @param connection the connection obtained from {@link #getConnection()}.
+     * @return the statement cache, or null if the pool does not cache statements.
+     */
+    default @Nullable StatementCache getStatementCache(Connection connection) {
+        return null;
+    }
 }
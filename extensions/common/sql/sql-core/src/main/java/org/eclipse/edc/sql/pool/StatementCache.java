@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.pool;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the idle {@link PreparedStatement}s of a single physical {@link Connection}, keyed by their SQL, so that they
+ * can be reused instead of being prepared again on every call.
+ * <p>
+ * Statements handed out by {@link #prepareStatement(Connection, String)} are returned to the cache when they get
+ * closed. The least recently used idle statements are closed once the cache exceeds its maximum size.
+ */
+public class StatementCache implements AutoCloseable {
+
+    private final Map<String, PreparedStatement> idleStatements;
+    private boolean closed = false;
+
+    public StatementCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Statement cache size must be positive, was " + maxSize);
+        }
+        idleStatements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() > maxSize) {
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns a prepared statement for the SQL, reusing an idle one if available. Closing the returned statement
+     * puts it back into the cache.
+     *
+     * @param connection the physical connection the cache belongs to.
+     * @param sql        the SQL statement.
+     * @return the prepared statement.
+     * @throws SQLException if the statement could not be prepared.
+     */
+    public PreparedStatement prepareStatement(Connection connection, String sql) throws SQLException {
+        var statement = takeIdle(sql);
+        if (statement == null) {
+            statement = connection.prepareStatement(sql);
+        }
+        return cached(sql, statement);
+    }
+
+    /**
+     * Returns the number of idle statements currently held.
+     *
+     * @return the number of idle statements.
+     */
+    public synchronized int size() {
+        return idleStatements.size();
+    }
+
+    @Override
+    public void close() {
+        ArrayList<PreparedStatement> statements;
+        synchronized (this) {
+            closed = true;
+            statements = new ArrayList<>(idleStatements.values());
+            idleStatements.clear();
+        }
+        statements.forEach(this::closeQuietly);
+    }
+
+    private synchronized PreparedStatement takeIdle(String sql) throws SQLException {
+        var statement = idleStatements.remove(sql);
+        if (statement != null && statement.isClosed()) {
+            return null;
+        }
+        return statement;
+    }
+
+    private void release(String sql, PreparedStatement statement) throws SQLException {
+        if (statement.isClosed()) {
+            return;
+        }
+        statement.clearParameters();
+        statement.clearBatch();
+
+        PreparedStatement replaced;
+        synchronized (this) {
+            if (closed) {
+                replaced = statement;
+            } else {
+                replaced = idleStatements.put(sql, statement);
+            }
+        }
+        if (replaced != null) {
+            closeQuietly(replaced);
+        }
+    }
+
+    private PreparedStatement cached(String sql, PreparedStatement statement) {
+        var released = new AtomicBoolean(false);
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ PreparedStatement.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "close" -> {
+                        if (released.compareAndSet(false, true)) {
+                            release(sql, statement);
+                        }
+                        yield null;
+                    }
+                    case "isClosed" -> released.get() || statement.isClosed();
+                    default -> invoke(statement, method, args);
+                });
+    }
+
+    private Object invoke(PreparedStatement statement, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(statement, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+            // the statement is discarded anyway
+        }
+    }
+}
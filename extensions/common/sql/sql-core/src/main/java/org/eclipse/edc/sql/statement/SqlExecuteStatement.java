@@ -78,6 +78,18 @@ public class SqlExecuteStatement {
         return this;
     }
 
+    /**
+     * Add a new column whose value is the given SQL expression instead of a statement parameter.
+     *
+     * @param columnName the column name.
+     * @param value the SQL expression, e.g. {@code NULL}.
+     * @return the {@link SqlExecuteStatement}.
+     */
+    public SqlExecuteStatement column(String columnName, String value) {
+        columnEntries.add(new ColumnEntry(columnName, value));
+        return this;
+    }
+
     /**
      * Add a new json column
      *
@@ -105,6 +117,44 @@ public class SqlExecuteStatement {
         return format("INSERT INTO %s (%s) VALUES (%s);", tableName, columnValues.columnName(), columnValues.value());
     }
 
+    /**
+     * Gives a SQL upsert statement: the row gets inserted or, if one with the same value on the conflict column already
+     * exists, all the other columns of the existing row get updated.
+     *
+     * @param tableName the table name.
+     * @param conflictColumn the column with a unique constraint, usually the primary key.
+     * @return sql upsert statement.
+     */
+    public String upsertInto(String tableName, String conflictColumn) {
+        return upsertInto(tableName, conflictColumn, null);
+    }
+
+    /**
+     * Gives a SQL upsert statement: the row gets inserted or, if one with the same value on the conflict column already
+     * exists, all the other columns of the existing row get updated, only if it satisfies the update condition.
+     *
+     * @param tableName the table name.
+     * @param conflictColumn the column with a unique constraint, usually the primary key.
+     * @param updateCondition the condition the existing row has to satisfy to be updated, can be null.
+     * @return sql upsert statement.
+     */
+    public String upsertInto(String tableName, String conflictColumn, String updateCondition) {
+        if (columnEntries.isEmpty()) {
+            throw new IllegalArgumentException(format("Cannot create UPSERT statement on %s because no columns are registered", tableName));
+        }
+
+        var columnValues = columnEntries.stream().reduce(ColumnEntry::append).orElseThrow();
+        var updates = columnEntries.stream()
+                .map(ColumnEntry::columnName)
+                .filter(columnName -> !columnName.equals(conflictColumn))
+                .map(columnName -> format("%s = EXCLUDED.%s", columnName, columnName))
+                .collect(joining(", "));
+        var where = updateCondition == null ? "" : " WHERE " + updateCondition;
+
+        return format("INSERT INTO %s (%s) VALUES (%s) ON CONFLICT (%s) DO UPDATE SET %s%s;",
+                tableName, columnValues.columnName(), columnValues.value(), conflictColumn, updates, where);
+    }
+
     /**
      * Gives a SQL update statement.
      *
@@ -124,15 +174,19 @@ public class SqlExecuteStatement {
      * @return sql update statement.
      */
     public String update(String tableName, Criterion where) {
-        if (columnEntries.isEmpty()) {
-            throw new IllegalArgumentException(format("Cannot create UPDATE statement on %s because no columns are registered", tableName));
-        }
-
-        var statement = columnEntries.stream()
-                .map(ColumnEntry::asString)
-                .collect(joining(", "));
+        return updateWhere(tableName, where.toString());
+    }
 
-        return format("UPDATE %s SET %s WHERE %s;", tableName, statement, where);
+    /**
+     * Gives a SQL update statement that only updates the row if it satisfies the update condition.
+     *
+     * @param tableName the table name.
+     * @param whereColumn the column that will be used for the where condition
+     * @param updateCondition the condition the row has to satisfy to be updated.
+     * @return sql update statement.
+     */
+    public String update(String tableName, String whereColumn, String updateCondition) {
+        return updateWhere(tableName, format("%s AND (%s)", equalTo(whereColumn), updateCondition));
     }
 
     /**
@@ -160,4 +214,16 @@ public class SqlExecuteStatement {
 
         return format("DELETE FROM %s WHERE %s;", tableName, where);
     }
+
+    private String updateWhere(String tableName, String where) {
+        if (columnEntries.isEmpty()) {
+            throw new IllegalArgumentException(format("Cannot create UPDATE statement on %s because no columns are registered", tableName));
+        }
+
+        var statement = columnEntries.stream()
+                .map(ColumnEntry::asString)
+                .collect(joining(", "));
+
+        return format("UPDATE %s SET %s WHERE %s;", tableName, statement, where);
+    }
 }
@@ -25,6 +25,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Objects;
 import javax.sql.DataSource;
 
@@ -95,6 +96,31 @@ public abstract class AbstractSqlStore {
         }
     }
 
+    /**
+     * Like {@link #fromJson(String, TypeReference)}, but the value gets decoded only when it is accessed.
+     */
+    protected <T> LazyJson<T> lazyFromJson(String json, TypeReference<T> typeReference) {
+        return LazyJson.of(json, it -> fromJson(it, typeReference));
+    }
+
+    /**
+     * Like {@link #fromJson(String, Class)}, but the value gets decoded only when it is accessed.
+     */
+    protected <T> LazyJson<T> lazyFromJson(String json, Class<T> type) {
+        return LazyJson.of(json, it -> fromJson(it, type));
+    }
+
+    /**
+     * Returns which of the given ids are already stored. The query takes the ids as a single array parameter and
+     * returns the existing ones in its first column.
+     */
+    protected List<String> findExistingIds(Connection connection, String sql, List<String> ids) throws SQLException {
+        var idArray = connection.createArrayOf("varchar", ids.toArray());
+        try (var stream = queryExecutor.query(connection, false, resultSet -> resultSet.getString(1), sql, idArray)) {
+            return stream.toList();
+        }
+    }
+
     @NotNull
     protected <T> TypeReference<T> getTypeRef() {
         return new TypeReference<>() {
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.store;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Value of a JSON column that gets decoded only when it is accessed for the first time, so that mapping a row does not
+ * pay for decoding the columns that are never read. The decoded value is retained, subsequent accesses return the same
+ * instance.
+ *
+ * @param <T> the type of the decoded value.
+ */
+public class LazyJson<T> implements Supplier<T> {
+
+    private final Function<String, T> decoder;
+    private String json;
+    private T value;
+
+    private LazyJson(String json, Function<String, T> decoder) {
+        this.json = json;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Create a lazy value for a JSON column.
+     *
+     * @param json the raw content of the column, can be null.
+     * @param decoder the function that decodes the raw content.
+     * @return the lazy value.
+     */
+    public static <T> LazyJson<T> of(@Nullable String json, Function<String, T> decoder) {
+        return new LazyJson<>(json, decoder);
+    }
+
+    @Override
+    public synchronized T get() {
+        if (json != null) {
+            value = decoder.apply(json);
+            json = null;
+        }
+        return value;
+    }
+
+    /**
+     * Whether the column content has been decoded already.
+     *
+     * @return true if it has been decoded.
+     */
+    public synchronized boolean isDecoded() {
+        return json == null;
+    }
+}
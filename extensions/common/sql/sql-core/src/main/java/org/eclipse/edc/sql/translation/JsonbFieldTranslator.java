@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.translation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.util.reflection.PathItem;
+
+import java.util.List;
+
+import static org.eclipse.edc.sql.translation.FieldTranslator.PREPARED_STATEMENT_PLACEHOLDER;
+
+/**
+ * {@link FieldTranslator} for columns stored as Postgres {@code JSONB}. Equality and {@code contains} criteria on scalar
+ * values are translated into the containment operator ({@code @>}), which can be served by a GIN index on the whole
+ * column. All other operators fall back to the path expressions of the {@link JsonFieldTranslator}.
+ */
+public class JsonbFieldTranslator extends JsonFieldTranslator {
+
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    public JsonbFieldTranslator(String columnName) {
+        super(columnName);
+    }
+
+    @Override
+    public WhereClause toWhereClause(List<PathItem> path, Criterion criterion, SqlOperator operator) {
+        var value = toJsonNode(criterion.getOperandRight());
+        if (value == null) {
+            return super.toWhereClause(path, criterion, operator);
+        }
+
+        return switch (operator.representation()) {
+            case "=" -> containment(path, value);
+            case "??" -> containment(path, NODE_FACTORY.arrayNode().add(value));
+            default -> super.toWhereClause(path, criterion, operator);
+        };
+    }
+
+    private WhereClause containment(List<PathItem> path, JsonNode value) {
+        var document = value;
+        for (var i = path.size() - 1; i >= 0; i--) {
+            document = NODE_FACTORY.objectNode().set(path.get(i).toString(), document);
+        }
+
+        return new WhereClause("%s @> %s::jsonb".formatted(columnName, PREPARED_STATEMENT_PLACEHOLDER), document.toString());
+    }
+
+    private JsonNode toJsonNode(Object value) {
+        if (value instanceof String string) {
+            return NODE_FACTORY.textNode(string);
+        }
+        if (value instanceof Integer integer) {
+            return NODE_FACTORY.numberNode(integer);
+        }
+        if (value instanceof Boolean bool) {
+            return NODE_FACTORY.booleanNode(bool);
+        }
+        return null;
+    }
+}
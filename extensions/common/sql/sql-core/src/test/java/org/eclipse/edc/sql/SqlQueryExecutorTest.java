@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -26,11 +27,13 @@ import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.List;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,7 +46,7 @@ class SqlQueryExecutorTest {
     void setArgumentCorrectType(Object argument, MockitoPreparedStatementVerification verification) throws SQLException {
         var connection = Mockito.mock(Connection.class);
         var preparedStatement = Mockito.mock(PreparedStatement.class);
-        when(connection.prepareStatement(DUMMY_SQL, Statement.RETURN_GENERATED_KEYS)).thenReturn(preparedStatement);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
         when(preparedStatement.execute()).thenReturn(true);
 
         executor.execute(connection, DUMMY_SQL, argument);
@@ -51,6 +54,22 @@ class SqlQueryExecutorTest {
         verification.verify(preparedStatement);
     }
 
+    @Test
+    void executeBatch_shouldSplitArgumentsInBatches() throws SQLException {
+        var batchExecutor = new SqlQueryExecutor(new SqlQueryExecutorConfiguration(1, 2));
+        var connection = Mockito.mock(Connection.class);
+        var preparedStatement = Mockito.mock(PreparedStatement.class);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{ 1, 0 }, new int[]{ 1 });
+
+        var rowsChanged = batchExecutor.executeBatch(connection, DUMMY_SQL, List.of(new Object[]{ "a" }, new Object[]{ "b" }, new Object[]{ "c" }));
+
+        assertThat(rowsChanged).containsExactly(1, 0, 1);
+        verify(preparedStatement, times(3)).addBatch();
+        verify(preparedStatement, times(2)).executeBatch();
+        verify(preparedStatement).setString(1, "c");
+    }
+
     static class TestExecuteParametrizedArgumentProvider implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
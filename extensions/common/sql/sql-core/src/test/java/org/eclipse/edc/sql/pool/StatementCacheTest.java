@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.pool;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatementCacheTest {
+
+    private final Connection connection = mock();
+
+    @Test
+    void prepareStatement_shouldReuseReleasedStatement() throws SQLException {
+        var physical = mock(PreparedStatement.class);
+        when(connection.prepareStatement("sql")).thenReturn(physical);
+        var cache = new StatementCache(2);
+
+        var first = cache.prepareStatement(connection, "sql");
+        first.setString(1, "value");
+        first.close();
+        var second = cache.prepareStatement(connection, "sql");
+
+        assertThat(first.isClosed()).isTrue();
+        assertThat(second.isClosed()).isFalse();
+        verify(connection, times(1)).prepareStatement("sql");
+        verify(physical).setString(1, "value");
+        verify(physical).clearParameters();
+        verify(physical, never()).close();
+    }
+
+    @Test
+    void prepareStatement_shouldPrepareNew_whenStatementIsInUse() throws SQLException {
+        when(connection.prepareStatement("sql")).thenReturn(mock(), mock());
+        var cache = new StatementCache(2);
+
+        cache.prepareStatement(connection, "sql");
+        cache.prepareStatement(connection, "sql");
+
+        verify(connection, times(2)).prepareStatement("sql");
+    }
+
+    @Test
+    void release_shouldCloseLeastRecentlyUsed_whenMaxSizeExceeded() throws SQLException {
+        var eldest = mock(PreparedStatement.class);
+        when(connection.prepareStatement("sql1")).thenReturn(eldest);
+        when(connection.prepareStatement("sql2")).thenReturn(mock());
+        var cache = new StatementCache(1);
+
+        cache.prepareStatement(connection, "sql1").close();
+        cache.prepareStatement(connection, "sql2").close();
+
+        assertThat(cache.size()).isEqualTo(1);
+        verify(eldest).close();
+    }
+
+    @Test
+    void close_shouldCloseIdleAndReleasedStatements() throws SQLException {
+        var idle = mock(PreparedStatement.class);
+        var inUse = mock(PreparedStatement.class);
+        when(connection.prepareStatement("sql1")).thenReturn(idle);
+        when(connection.prepareStatement("sql2")).thenReturn(inUse);
+        var cache = new StatementCache(2);
+        cache.prepareStatement(connection, "sql1").close();
+        var statement = cache.prepareStatement(connection, "sql2");
+
+        cache.close();
+        statement.close();
+
+        assertThat(cache.size()).isZero();
+        verify(idle).close();
+        verify(inUse).close();
+    }
+}
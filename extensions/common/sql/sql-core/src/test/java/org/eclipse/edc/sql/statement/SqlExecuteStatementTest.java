@@ -81,6 +81,49 @@ class SqlExecuteStatementTest {
 
             assertThat(statement).isEqualToIgnoringCase("update table_name set column_name = ?::json where id = ?;");
         }
+
+        @Test
+        void shouldReturnStatement_withUpdateCondition() {
+            var statement = SqlExecuteStatement.newInstance("::json")
+                    .column("column_name")
+                    .column("lease_id", "NULL")
+                    .update("table_name", "id", "lease_id IS NULL");
+
+            assertThat(statement).isEqualToIgnoringCase("update table_name set column_name = ?, lease_id = null where id = ? and (lease_id is null);");
+        }
+    }
+
+    @Nested
+    class Upsert {
+
+        @Test
+        void shouldThrowException_whenNoColumnSpecified() {
+            assertThatThrownBy(() -> SqlExecuteStatement.newInstance("::json").upsertInto("table_name", "id"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldReturnStatement_updatingAllColumnsButTheConflictOne() {
+            var statement = SqlExecuteStatement.newInstance("::json")
+                    .column("id")
+                    .column("column_name")
+                    .jsonColumn("json_column")
+                    .upsertInto("table_name", "id");
+
+            assertThat(statement).isEqualToIgnoringCase("insert into table_name (id, column_name, json_column) values (?, ?, ?::json) " +
+                    "on conflict (id) do update set column_name = excluded.column_name, json_column = excluded.json_column;");
+        }
+
+        @Test
+        void shouldReturnStatement_withUpdateCondition() {
+            var statement = SqlExecuteStatement.newInstance("::json")
+                    .column("id")
+                    .column("lease_id", "NULL")
+                    .upsertInto("table_name", "id", "table_name.lease_id IS NULL");
+
+            assertThat(statement).isEqualToIgnoringCase("insert into table_name (id, lease_id) values (?, null) " +
+                    "on conflict (id) do update set lease_id = excluded.lease_id where table_name.lease_id is null;");
+        }
     }
 
     @Nested
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LazyJsonTest {
+
+    @Test
+    void get_shouldDecodeOnFirstAccessOnly() {
+        var decodings = new AtomicInteger();
+        var lazyJson = LazyJson.of("{\"key\":\"value\"}", json -> {
+            decodings.incrementAndGet();
+            return json.length();
+        });
+
+        assertThat(lazyJson.isDecoded()).isFalse();
+        assertThat(decodings).hasValue(0);
+
+        assertThat(lazyJson.get()).isEqualTo(15);
+        assertThat(lazyJson.get()).isEqualTo(15);
+        assertThat(lazyJson.isDecoded()).isTrue();
+        assertThat(decodings).hasValue(1);
+    }
+
+    @Test
+    void get_shouldReturnNull_whenColumnIsNull() {
+        var lazyJson = LazyJson.of(null, json -> {
+            throw new AssertionError("should not decode null");
+        });
+
+        assertThat(lazyJson.get()).isNull();
+        assertThat(lazyJson.isDecoded()).isTrue();
+    }
+}
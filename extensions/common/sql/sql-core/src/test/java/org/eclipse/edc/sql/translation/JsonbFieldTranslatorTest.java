@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.translation;
+
+import org.eclipse.edc.util.reflection.PathItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class JsonbFieldTranslatorTest {
+
+    private final JsonbFieldTranslator translator = new JsonbFieldTranslator("column_name");
+
+    @Test
+    void shouldUseContainment_whenOperatorIsEqual() {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.nested.field", "=", "value");
+
+        var result = translator.toWhereClause(PathItem.parse("nested.'https://w3id.org/field'"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name @> ?::jsonb");
+        assertThat(result.parameters()).containsExactly("{\"nested\":{\"https://w3id.org/field\":\"value\"}}");
+    }
+
+    @Test
+    void shouldKeepValueType_whenRightOperandIsNotString() {
+        var operator = new SqlOperator("=", Object.class);
+
+        var integer = translator.toWhereClause(PathItem.parse("field"), criterion("json.field", "=", 100), operator);
+        var bool = translator.toWhereClause(PathItem.parse("field"), criterion("json.field", "=", true), operator);
+
+        assertThat(integer.parameters()).containsExactly("{\"field\":100}");
+        assertThat(bool.parameters()).containsExactly("{\"field\":true}");
+    }
+
+    @Test
+    void shouldUseContainmentOnArray_whenOperatorIsContains() {
+        var operator = new SqlOperator("??", Object.class);
+        var criterion = criterion("json.field", "contains", "value");
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name @> ?::jsonb");
+        assertThat(result.parameters()).containsExactly("{\"field\":[\"value\"]}");
+    }
+
+    @Test
+    void shouldFallbackToPathExpression_whenOperatorCannotBeContainment() {
+        var like = translator.toWhereClause(PathItem.parse("field"), criterion("json.field", "like", "val%"), new SqlOperator("like", String.class));
+        var in = translator.toWhereClause(PathItem.parse("field"), criterion("json.field", "in", List.of("a", "b")), new SqlOperator("in", List.class));
+
+        assertThat(like.sql()).isEqualTo("column_name ->> 'field' like ?");
+        assertThat(in.sql()).isEqualTo("column_name ->> 'field' in (?,?)");
+        assertThat(in.parameters()).containsExactly("a", "b");
+    }
+}
@@ -14,8 +14,11 @@
 
 package org.eclipse.edc.sql.lease;
 
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
 import org.eclipse.edc.sql.statement.SqlStatements;
 
+import java.util.Collections;
+
 import static java.lang.String.format;
 
 /**
@@ -30,6 +33,77 @@ public interface LeaseStatements extends SqlStatements {
 
     String getFindLeaseByEntityTemplate();
 
+    /**
+     * Name of the table that contains the leased entities.
+     */
+    String getLeasedEntityTableName();
+
+    /**
+     * Name of the column that contains the id of the leased entities.
+     */
+    String getLeasedEntityIdColumn();
+
+    /**
+     * Deletes the expired leases held on {@code count} entities. Parameters are the current time in millis followed by
+     * the entity ids.
+     */
+    default String getDeleteExpiredLeasesTemplate(int count) {
+        return format("DELETE FROM %s WHERE ? > (%s + %s) AND %s IN (SELECT %s FROM %s WHERE %s IN (%s))",
+                getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn(), getLeaseIdColumn(),
+                getLeaseIdColumn(), getLeasedEntityTableName(), getLeasedEntityIdColumn(), placeholders(count));
+    }
+
+    /**
+     * Inserts a lease for each one of {@code count} entities that are not leased. The id of every lease is the entity id
+     * prefixed by the first parameter, the following ones are lease holder, leased at and lease duration, then the
+     * entity ids.
+     */
+    default String getInsertLeasesTemplate(int count) {
+        return format("INSERT INTO %s (%s, %s, %s, %s) SELECT ? || %s, ?, ?, ? FROM %s WHERE %s IS NULL AND %s IN (%s)",
+                getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn(),
+                getLeasedEntityIdColumn(), getLeasedEntityTableName(), getLeaseIdColumn(), getLeasedEntityIdColumn(), placeholders(count));
+    }
+
+    /**
+     * Links {@code count} entities that are not leased to the leases created with {@link #getInsertLeasesTemplate(int)}.
+     * Parameters are the lease id prefix followed by the entity ids.
+     */
+    default String getUpdateLeasesTemplate(int count) {
+        return format("UPDATE %s SET %s = ? || %s WHERE %s IS NULL AND %s IN (%s)",
+                getLeasedEntityTableName(), getLeaseIdColumn(), getLeasedEntityIdColumn(), getLeaseIdColumn(),
+                getLeasedEntityIdColumn(), placeholders(count));
+    }
+
+    /**
+     * Inserts or updates a leased entity and releases the lease held on it, with a single statement. An existing entity
+     * is only updated if it is not leased or if the lease is held by the lease holder. Parameters are the entity id and
+     * the lease holder, followed by the values of the {@code entityColumns}, then the lease holder again.
+     *
+     * @param entityColumns the columns of the entity, the id column included.
+     */
+    default String getUpsertAndReleaseLeaseTemplate(SqlExecuteStatement entityColumns) {
+        var upsert = entityColumns
+                .column(getLeaseIdColumn(), "NULL")
+                .upsertInto(getLeasedEntityTableName(), getLeasedEntityIdColumn(), leasedByHolderCondition());
+
+        return releasingLease(upsert);
+    }
+
+    /**
+     * Updates some columns of a leased entity and releases the lease held on it, with a single statement. The entity is
+     * only updated if it is not leased or if the lease is held by the lease holder. Parameters are the entity id and the
+     * lease holder, followed by the values of the {@code entityColumns}, then the entity id and the lease holder again.
+     *
+     * @param entityColumns the columns of the entity to be updated.
+     */
+    default String getUpdateAndReleaseLeaseTemplate(SqlExecuteStatement entityColumns) {
+        var update = entityColumns
+                .column(getLeaseIdColumn(), "NULL")
+                .update(getLeasedEntityTableName(), getLeasedEntityIdColumn(), leasedByHolderCondition());
+
+        return releasingLease(update);
+    }
+
     default String getNotLeasedFilter() {
         return format("(%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s))))",
                 getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(),
@@ -56,4 +130,20 @@ public interface LeaseStatements extends SqlStatements {
         return "lease_id";
     }
 
+    private String leasedByHolderCondition() {
+        var entityTable = getLeasedEntityTableName();
+        return format("%s.%s IS NULL OR %s.%s IN (SELECT %s FROM %s WHERE %s = ?)",
+                entityTable, getLeaseIdColumn(), entityTable, getLeaseIdColumn(), getLeaseIdColumn(), getLeaseTableName(), getLeasedByColumn());
+    }
+
+    private String releasingLease(String statement) {
+        return format("WITH released_lease AS (DELETE FROM %s WHERE %s = (SELECT %s FROM %s WHERE %s = ?) AND %s = ?) %s",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getLeasedEntityTableName(), getLeasedEntityIdColumn(),
+                getLeasedByColumn(), statement);
+    }
+
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
 }
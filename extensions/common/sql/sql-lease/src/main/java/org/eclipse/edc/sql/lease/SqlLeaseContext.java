@@ -26,8 +26,14 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static java.util.function.Function.identity;
 
 /**
  * SQL-based implementation of the LeaseContext.
@@ -101,6 +107,83 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    /**
+     * Acquires a lease on every entity with a fixed number of statements, independently of how many they are: expired
+     * leases get deleted, then a lease is created and assigned to every entity at once.
+     * Throws an {@link IllegalStateException} if any of the entities is currently leased, in which case the surrounding
+     * transaction is expected to be rolled back.
+     *
+     * @param entityIds The ids of the entities to be leased.
+     */
+    public void acquireLeases(List<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+
+        trxContext.execute(() -> {
+            var now = clock.millis();
+            var count = entityIds.size();
+
+            //clean out old leases if present
+            var deleteStmt = statements.getDeleteExpiredLeasesTemplate(count);
+            queryExecutor.execute(connection, deleteStmt, arguments(entityIds, now));
+
+            // create new leases in DB, lease ids are derived from the entity id
+            var leaseIdPrefix = UUID.randomUUID() + "-";
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+            var insertStmt = statements.getInsertLeasesTemplate(count);
+            queryExecutor.execute(connection, insertStmt, arguments(entityIds, leaseIdPrefix, leaseHolder, now, duration));
+
+            //update entities with lease -> effectively lease entities
+            var updateStmt = statements.getUpdateLeasesTemplate(count);
+            var leased = queryExecutor.execute(connection, updateStmt, arguments(entityIds, leaseIdPrefix));
+            if (leased != count) {
+                throw new IllegalStateException(format("%d out of %d entities are currently leased!", count - leased, count));
+            }
+        });
+    }
+
+    /**
+     * Inserts or updates an entity and breaks the lease held on it with a single statement, that has to be created with
+     * {@link LeaseStatements#getUpsertAndReleaseLeaseTemplate(org.eclipse.edc.sql.statement.SqlExecuteStatement)}.
+     * Throws an {@link IllegalStateException} if the entity is leased by someone else.
+     *
+     * @param entityId The id of the entity.
+     * @param upsertStatement The upsert statement.
+     * @param entityValues The values of the entity columns, in the order they have been passed to the statement.
+     */
+    public void upsertAndBreakLease(String entityId, String upsertStatement, Object... entityValues) {
+        trxContext.execute(() -> {
+            var arguments = Stream.of(Stream.of(entityId, leaseHolder), Arrays.stream(entityValues), Stream.of(leaseHolder))
+                    .flatMap(identity())
+                    .toArray();
+
+            var affected = queryExecutor.execute(connection, upsertStatement, arguments);
+            if (affected == 0) {
+                throw new IllegalStateException("Current runtime does not hold the lease for Object (id [" + entityId + "]), cannot break lease!");
+            }
+        });
+    }
+
+    /**
+     * Updates some columns of an entity and breaks the lease held on it with a single statement, that has to be created
+     * with {@link LeaseStatements#getUpdateAndReleaseLeaseTemplate(org.eclipse.edc.sql.statement.SqlExecuteStatement)}.
+     *
+     * @param entityId The id of the entity.
+     * @param updateStatement The update statement.
+     * @param entityValues The values of the entity columns, in the order they have been passed to the statement.
+     * @return false if the entity has not been updated, because it does not exist or because it is leased by someone else.
+     */
+    public boolean updateAndBreakLease(String entityId, String updateStatement, Object... entityValues) {
+        return trxContext.execute(() -> {
+            var arguments = Stream.of(Stream.of(entityId, leaseHolder), Arrays.stream(entityValues), Stream.of(entityId, leaseHolder))
+                    .flatMap(identity())
+                    .toArray();
+
+            return queryExecutor.execute(connection, updateStatement, arguments) > 0;
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
@@ -112,6 +195,10 @@ public class SqlLeaseContext implements LeaseContext {
         return queryExecutor.single(connection, false, this::mapLease, stmt, entityId);
     }
 
+    private Object[] arguments(List<String> entityIds, Object... leading) {
+        return Stream.concat(Arrays.stream(leading), entityIds.stream()).toArray();
+    }
+
     private SqlLease mapLease(ResultSet resultSet) throws SQLException {
         var lease = new SqlLease(resultSet.getString(statements.getLeasedByColumn()),
                 resultSet.getLong(statements.getLeasedAtColumn()),
@@ -36,6 +36,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -175,6 +176,141 @@ class PostgresLeaseContextTest {
         assertThat(newLease.getLeaseId()).isNotEqualTo(leaseId);
     }
 
+    @Test
+    void acquireLeases(Connection connection) {
+        var ids = List.of("id1", "id2", "id3");
+        ids.forEach(id -> insertTestEntity(id, connection));
+
+        leaseContext.acquireLeases(ids);
+
+        assertThat(ids).allSatisfy(id -> {
+            assertThat(isLeased(id, connection)).isTrue();
+            var leaseAssert = assertThat(leaseContext.getLease(id));
+            leaseAssert.extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+            leaseAssert.extracting(SqlLease::getLeasedAt).isEqualTo(now.toEpochMilli());
+            leaseAssert.extracting(SqlLease::getLeaseDuration).isEqualTo(60_000L);
+        });
+        assertThat(ids.stream().map(leaseContext::getLease).map(SqlLease::getLeaseId).distinct()).hasSize(3);
+    }
+
+    @Test
+    void acquireLeases_shouldBreakLeasesIndividually(Connection connection) {
+        var ids = List.of("id1", "id2");
+        ids.forEach(id -> insertTestEntity(id, connection));
+        leaseContext.acquireLeases(ids);
+
+        leaseContext.breakLease("id1");
+
+        assertThat(isLeased("id1", connection)).isFalse();
+        assertThat(isLeased("id2", connection)).isTrue();
+    }
+
+    @Test
+    void acquireLeases_whenOneLeasedByOther_throwsException(Connection connection) {
+        var ids = List.of("id1", "id2");
+        ids.forEach(id -> insertTestEntity(id, connection));
+        builder.by("someone-else").withConnection(connection).acquireLease("id2");
+
+        assertThatThrownBy(() -> leaseContext.acquireLeases(ids)).isInstanceOf(IllegalStateException.class);
+        assertThat(leaseContext.getLease("id2")).extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+    }
+
+    @Test
+    void acquireLeases_whenExpiredLeasePresent_shouldDeleteOldLeaseAndAcquireNewLease(Connection connection) {
+        var ids = List.of("id1", "id2");
+        ids.forEach(id -> insertTestEntity(id, connection));
+        builder.by("someone-else").withConnection(connection).acquireLease("id2");
+        var oldLeaseId = leaseContext.getLease("id2").getLeaseId();
+
+        var twoMinutesAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(2, ChronoUnit.MINUTES));
+        var twoMinutesAheadContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, twoMinutesAheadClock, queryExecutor)
+                .withConnection(connection);
+        twoMinutesAheadContext.acquireLeases(ids);
+
+        assertThat(ids).allSatisfy(id -> assertThat(twoMinutesAheadContext.getLease(id))
+                .extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER));
+        assertThat(twoMinutesAheadContext.getLease("id2").getLeaseId()).isNotEqualTo(oldLeaseId);
+    }
+
+    @Test
+    void upsertAndBreakLease_shouldInsert_whenEntityDoesNotExist(Connection connection) {
+        leaseContext.upsertAndBreakLease("id1", dialect.getUpsertTemplate());
+
+        assertThat(getTestEntity("id1", connection)).isNotNull();
+        assertThat(isLeased("id1", connection)).isFalse();
+    }
+
+    @Test
+    void upsertAndBreakLease_shouldUpdateAndBreakLease_whenLeasedBySelf(Connection connection) {
+        insertTestEntity("id1", connection);
+        leaseContext.acquireLease("id1");
+
+        leaseContext.upsertAndBreakLease("id1", dialect.getUpsertTemplate());
+
+        assertThat(isLeased("id1", connection)).isFalse();
+        assertThat(leaseContext.getLease("id1")).isNull();
+    }
+
+    @Test
+    void upsertAndBreakLease_shouldUpdate_whenNotLeased(Connection connection) {
+        insertTestEntity("id1", connection);
+
+        leaseContext.upsertAndBreakLease("id1", dialect.getUpsertTemplate());
+
+        assertThat(isLeased("id1", connection)).isFalse();
+    }
+
+    @Test
+    void upsertAndBreakLease_whenLeasedByOther_throwsException(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+
+        assertThatThrownBy(() -> leaseContext.upsertAndBreakLease("id1", dialect.getUpsertTemplate()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(leaseContext.getLease("id1")).extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+    }
+
+    @Test
+    void updateAndBreakLease_shouldUpdateAndBreakLease_whenLeasedBySelf(Connection connection) {
+        insertTestEntity("id1", connection);
+        leaseContext.acquireLease("id1");
+
+        var updated = leaseContext.updateAndBreakLease("id1", dialect.getUpdateTemplate());
+
+        assertThat(updated).isTrue();
+        assertThat(isLeased("id1", connection)).isFalse();
+        assertThat(leaseContext.getLease("id1")).isNull();
+    }
+
+    @Test
+    void updateAndBreakLease_shouldUpdate_whenNotLeased(Connection connection) {
+        insertTestEntity("id1", connection);
+
+        var updated = leaseContext.updateAndBreakLease("id1", dialect.getUpdateTemplate());
+
+        assertThat(updated).isTrue();
+        assertThat(isLeased("id1", connection)).isFalse();
+    }
+
+    @Test
+    void updateAndBreakLease_shouldNotUpdate_whenEntityDoesNotExist(Connection connection) {
+        var updated = leaseContext.updateAndBreakLease("id1", dialect.getUpdateTemplate());
+
+        assertThat(updated).isFalse();
+        assertThat(getTestEntity("id1", connection)).isNull();
+    }
+
+    @Test
+    void updateAndBreakLease_shouldNotUpdate_whenLeasedByOther(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+
+        var updated = leaseContext.updateAndBreakLease("id1", dialect.getUpdateTemplate());
+
+        assertThat(updated).isFalse();
+        assertThat(leaseContext.getLease("id1")).extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+    }
+
     protected boolean isLeased(String entityId, Connection connection) {
         return transactionContext.execute(() -> {
             var entity = getTestEntity(entityId, connection);
@@ -232,9 +368,27 @@ class PostgresLeaseContextTest {
             return "SELECT * FROM edc_lease WHERE lease_id = (SELECT lease_id FROM " + getEntityTableName() + " WHERE id=?)";
         }
 
+        @Override
+        public String getLeasedEntityTableName() {
+            return getEntityTableName();
+        }
+
+        @Override
+        public String getLeasedEntityIdColumn() {
+            return "id";
+        }
+
         public String getEntityTableName() {
             return "edc_test_entity";
         }
+
+        public String getUpsertTemplate() {
+            return getUpsertAndReleaseLeaseTemplate(executeStatement().column("id"));
+        }
+
+        public String getUpdateTemplate() {
+            return getUpdateAndReleaseLeaseTemplate(executeStatement());
+        }
     }
 
     protected static class TestEntity {
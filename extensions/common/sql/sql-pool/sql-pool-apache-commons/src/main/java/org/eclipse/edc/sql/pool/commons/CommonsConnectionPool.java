@@ -23,17 +23,23 @@ import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.sql.pool.ConnectionPool;
+import org.eclipse.edc.sql.pool.StatementCache;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Objects;
 import javax.sql.DataSource;
 
 public final class CommonsConnectionPool implements ConnectionPool, AutoCloseable {
     private final GenericObjectPool<Connection> connectionObjectPool;
     private final CommonsConnectionPoolConfig poolConfig;
+    private final Map<Connection, StatementCache> statementCaches = Collections.synchronizedMap(new IdentityHashMap<>());
 
     public CommonsConnectionPool(DataSource dataSource, CommonsConnectionPoolConfig commonsConnectionPoolConfig, Monitor monitor) {
         this.poolConfig = commonsConnectionPoolConfig;
@@ -41,7 +47,7 @@ public final class CommonsConnectionPool implements ConnectionPool, AutoCloseabl
         Objects.requireNonNull(commonsConnectionPoolConfig, "commonsConnectionPoolConfig");
 
         this.connectionObjectPool = new GenericObjectPool<>(
-                new PooledConnectionObjectFactory(dataSource, commonsConnectionPoolConfig.getTestQuery(), monitor),
+                new PooledConnectionObjectFactory(dataSource, commonsConnectionPoolConfig.getTestQuery(), commonsConnectionPoolConfig.getStatementCacheSize(), statementCaches, monitor),
                 getGenericObjectPoolConfig(commonsConnectionPoolConfig));
     }
 
@@ -79,6 +85,11 @@ public final class CommonsConnectionPool implements ConnectionPool, AutoCloseabl
         connectionObjectPool.returnObject(connection);
     }
 
+    @Override
+    public @Nullable StatementCache getStatementCache(Connection connection) {
+        return statementCaches.get(connection);
+    }
+
     @Override
     public void close() {
         connectionObjectPool.close();
@@ -91,18 +102,27 @@ public final class CommonsConnectionPool implements ConnectionPool, AutoCloseabl
     private static class PooledConnectionObjectFactory extends BasePooledObjectFactory<Connection> {
         private final String testQuery;
         private final DataSource dataSource;
+        private final int statementCacheSize;
+        private final Map<Connection, StatementCache> statementCaches;
 
         private final Monitor monitor;
 
-        PooledConnectionObjectFactory(@NotNull DataSource dataSource, @NotNull String testQuery, Monitor monitor) {
+        PooledConnectionObjectFactory(@NotNull DataSource dataSource, @NotNull String testQuery, int statementCacheSize,
+                                      Map<Connection, StatementCache> statementCaches, Monitor monitor) {
             this.dataSource = Objects.requireNonNull(dataSource);
             this.testQuery = Objects.requireNonNull(testQuery);
+            this.statementCacheSize = statementCacheSize;
+            this.statementCaches = statementCaches;
             this.monitor = monitor;
         }
 
         @Override
         public Connection create() throws SQLException {
-            return dataSource.getConnection();
+            var connection = dataSource.getConnection();
+            if (statementCacheSize > 0) {
+                statementCaches.put(connection, new StatementCache(statementCacheSize));
+            }
+            return connection;
         }
 
         @Override
@@ -132,6 +152,11 @@ public final class CommonsConnectionPool implements ConnectionPool, AutoCloseabl
 
             Connection connection = pooledObject.getObject();
 
+            var statementCache = statementCaches.remove(connection);
+            if (statementCache != null) {
+                statementCache.close();
+            }
+
             if (connection != null && !connection.isClosed()) {
                 connection.close();
             }
@@ -32,6 +32,7 @@ public class CommonsConnectionPoolConfig {
     private final boolean testConnectionOnReturn;
     private final boolean testConnectionWhileIdle;
     private final String testQuery;
+    private final int statementCacheSize;
 
     private CommonsConnectionPoolConfig(
             int maxIdleConnections,
@@ -41,7 +42,8 @@ public class CommonsConnectionPoolConfig {
             boolean testConnectionOnCreate,
             boolean testConnectionOnReturn,
             boolean testConnectionWhileIdle,
-            @NotNull String testQuery) {
+            @NotNull String testQuery,
+            int statementCacheSize) {
         this.maxIdleConnections = maxIdleConnections;
         this.maxTotalConnections = maxTotalConnections;
         this.minIdleConnections = minIdleConnections;
@@ -50,6 +52,7 @@ public class CommonsConnectionPoolConfig {
         this.testConnectionOnReturn = testConnectionOnReturn;
         this.testConnectionWhileIdle = testConnectionWhileIdle;
         this.testQuery = Objects.requireNonNull(testQuery);
+        this.statementCacheSize = statementCacheSize;
     }
 
     public int getMaxIdleConnections() {
@@ -84,6 +87,10 @@ public class CommonsConnectionPoolConfig {
         return testQuery;
     }
 
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
     public static final class Builder {
         private int maxIdleConnections = 4;
         private int maxTotalConnections = 8;
@@ -93,6 +100,7 @@ public class CommonsConnectionPoolConfig {
         private boolean testConnectionOnReturn = false;
         private boolean testConnectionWhileIdle = false;
         private String testQuery = "SELECT 1;";
+        private int statementCacheSize = 64;
 
         private Builder() {
         }
@@ -141,6 +149,11 @@ public class CommonsConnectionPoolConfig {
             return this;
         }
 
+        public Builder statementCacheSize(int statementCacheSize) {
+            this.statementCacheSize = statementCacheSize;
+            return this;
+        }
+
         public CommonsConnectionPoolConfig build() {
             return new CommonsConnectionPoolConfig(
                     maxIdleConnections,
@@ -150,7 +163,8 @@ public class CommonsConnectionPoolConfig {
                     testConnectionOnCreate,
                     testConnectionOnReturn,
                     testConnectionWhileIdle,
-                    testQuery
+                    testQuery,
+                    statementCacheSize
             );
         }
     }
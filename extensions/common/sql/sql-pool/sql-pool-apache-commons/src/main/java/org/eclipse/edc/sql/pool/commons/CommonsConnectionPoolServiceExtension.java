@@ -56,6 +56,7 @@ public class CommonsConnectionPoolServiceExtension implements ServiceExtension {
     public static final String POOL_CONNECTION_TEST_ON_RETURN = "pool.connection.test.on-return";
     public static final String POOL_CONNECTION_TEST_WHILE_IDLE = "pool.connection.test.while-idle";
     public static final String POOL_CONNECTION_TEST_QUERY = "pool.connection.test.query";
+    public static final String POOL_STATEMENTS_CACHE_SIZE = "pool.statements.cache-size";
 
     @Setting(required = true)
     public static final String URL = "url";
@@ -184,6 +185,7 @@ public class CommonsConnectionPoolServiceExtension implements ServiceExtension {
         setIfProvidedBoolean(POOL_CONNECTION_TEST_ON_RETURN, builder::testConnectionOnReturn, config);
         setIfProvidedBoolean(POOL_CONNECTION_TEST_WHILE_IDLE, builder::testConnectionWhileIdle, config);
         setIfProvidedString(POOL_CONNECTION_TEST_QUERY, builder::testQuery, config);
+        setIfProvidedInt(POOL_STATEMENTS_CACHE_SIZE, builder::statementCacheSize, config);
 
         return new CommonsConnectionPool(unPooledDataSource, builder.build(), monitor);
     }
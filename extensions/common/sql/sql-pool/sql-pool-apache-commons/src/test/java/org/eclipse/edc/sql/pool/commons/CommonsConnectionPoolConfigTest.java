@@ -34,6 +34,7 @@ class CommonsConnectionPoolConfigTest {
         assertFalse(commonsConnectionPoolConfig.getTestConnectionOnReturn());
         assertFalse(commonsConnectionPoolConfig.getTestConnectionWhileIdle());
         assertEquals("SELECT 1;", commonsConnectionPoolConfig.getTestQuery());
+        assertEquals(64, commonsConnectionPoolConfig.getStatementCacheSize());
     }
 
     @Test
@@ -46,6 +47,7 @@ class CommonsConnectionPoolConfigTest {
         var testConnectionWhileIdle = true;
         var testConnectionOnReturn = false;
         var testQuery = "testquery";
+        var statementCacheSize = 16;
 
         var commonsConnectionPoolConfig = CommonsConnectionPoolConfig.Builder.newInstance()
                 .maxIdleConnections(maxIdleConnections)
@@ -56,6 +58,7 @@ class CommonsConnectionPoolConfigTest {
                 .testConnectionOnReturn(testConnectionOnReturn)
                 .testConnectionWhileIdle(testConnectionWhileIdle)
                 .testQuery(testQuery)
+                .statementCacheSize(statementCacheSize)
                 .build();
 
         assertEquals(maxIdleConnections, commonsConnectionPoolConfig.getMaxIdleConnections());
@@ -66,5 +69,6 @@ class CommonsConnectionPoolConfigTest {
         assertEquals(testConnectionOnReturn, commonsConnectionPoolConfig.getTestConnectionOnReturn());
         assertEquals(testConnectionWhileIdle, commonsConnectionPoolConfig.getTestConnectionWhileIdle());
         assertEquals(testQuery, commonsConnectionPoolConfig.getTestQuery());
+        assertEquals(statementCacheSize, commonsConnectionPoolConfig.getStatementCacheSize());
     }
 }
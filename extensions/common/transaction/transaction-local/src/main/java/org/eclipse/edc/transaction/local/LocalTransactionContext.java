@@ -83,6 +83,7 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
             if (startedTransaction) {
                 // notify syncs before resources are called
                 transaction.getSynchronizations().forEach(TransactionSynchronization::beforeCompletion);
+                var committed = !transaction.isRollbackOnly();
                 if (transaction.isRollbackOnly()) {
                     resources.forEach(localTransactionResource -> {
                         try {
@@ -92,15 +93,26 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
                         }
                     });
                 } else {
-                    resources.forEach(localTransactionResource -> {
+                    for (var localTransactionResource : resources) {
                         try {
                             localTransactionResource.commit();
                         } catch (Exception e) {
+                            committed = false;
                             monitor.severe("Error committing resource", e);
                         }
-                    });
+                    }
                 }
                 transactions.remove();
+                for (var sync : transaction.getSynchronizations()) {
+                    try {
+                        sync.afterCompletion();
+                        if (committed) {
+                            sync.afterCommit();
+                        }
+                    } catch (Exception e) {
+                        monitor.severe("Error notifying transaction synchronization", e);
+                    }
+                }
             }
         }
     }
@@ -24,7 +24,9 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -152,6 +154,52 @@ class LocalTransactionContextTest {
         });
 
         verify(sync, times(1)).beforeCompletion();
+        verify(sync, times(1)).afterCompletion();
+    }
+
+    @Test
+    void verifySynchronization_afterCompletionCalledAfterCommit() {
+        var sync = mock(TransactionContext.TransactionSynchronization.class);
+
+        transactionContext.execute(() -> transactionContext.registerSynchronization(sync));
+
+        var inOrder = inOrder(sync, dsResource);
+        inOrder.verify(sync).beforeCompletion();
+        inOrder.verify(dsResource).commit();
+        inOrder.verify(sync).afterCompletion();
+    }
+
+    @Test
+    void verifySynchronization_afterCommitCalledOnlyOnCommit() {
+        var sync = mock(TransactionContext.TransactionSynchronization.class);
+
+        transactionContext.execute(() -> transactionContext.registerSynchronization(sync));
+
+        verify(sync).afterCommit();
+    }
+
+    @Test
+    void verifySynchronization_afterCommitNotCalledOnRollback() {
+        var sync = mock(TransactionContext.TransactionSynchronization.class);
+
+        assertThrows(EdcException.class, () -> transactionContext.execute(() -> {
+            transactionContext.registerSynchronization(sync);
+            throw new RuntimeException();
+        }));
+
+        verify(sync).afterCompletion();
+        verify(sync, never()).afterCommit();
+    }
+
+    @Test
+    void verifySynchronization_afterCommitNotCalledOnCommitFailure() {
+        var sync = mock(TransactionContext.TransactionSynchronization.class);
+        doThrow(new RuntimeException()).when(dsResource).commit();
+
+        transactionContext.execute(() -> transactionContext.registerSynchronization(sync));
+
+        verify(sync).afterCompletion();
+        verify(sync, never()).afterCommit();
     }
 
     @BeforeEach
@@ -18,12 +18,14 @@ package org.eclipse.edc.vault.hashicorp;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.vault.hashicorp.cache.SecretCache;
 import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultClient;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * Implements a vault backed by Hashicorp Vault.
+ * Implements a vault backed by Hashicorp Vault. If a {@link SecretCache} is provided, resolved secrets are served from
+ * it and invalidated whenever they are stored or deleted through this vault.
  */
 public class HashicorpVault implements Vault {
 
@@ -31,33 +33,53 @@ public class HashicorpVault implements Vault {
     private final HashicorpVaultClient hashicorpVaultClient;
     @NotNull
     private final Monitor monitor;
+    @Nullable
+    private final SecretCache cache;
 
     public HashicorpVault(@NotNull HashicorpVaultClient hashicorpVaultClient, @NotNull Monitor monitor) {
+        this(hashicorpVaultClient, monitor, null);
+    }
+
+    public HashicorpVault(@NotNull HashicorpVaultClient hashicorpVaultClient, @NotNull Monitor monitor, @Nullable SecretCache cache) {
         this.hashicorpVaultClient = hashicorpVaultClient;
         this.monitor = monitor;
+        this.cache = cache;
     }
 
     @Override
     public @Nullable String resolveSecret(String key) {
-        var result = hashicorpVaultClient.getSecretValue(key);
-
-        if (result.failed()) {
-            monitor.debug("Failed to resolve secret '%s': %s".formatted(key, result.getFailureMessages()));
-            return null;
-        }
-
-        return result.getContent();
+        return cache != null ? cache.get(key, this::fetchSecret) : fetchSecret(key);
     }
 
     @Override
     public Result<Void> storeSecret(String key, String value) {
         var result = hashicorpVaultClient.setSecret(key, value);
+        invalidate(key);
 
         return result.succeeded() ? Result.success() : Result.failure(result.getFailureMessages());
     }
 
     @Override
     public Result<Void> deleteSecret(String key) {
-        return hashicorpVaultClient.destroySecret(key);
+        var result = hashicorpVaultClient.destroySecret(key);
+        invalidate(key);
+        return result;
+    }
+
+    private @Nullable String fetchSecret(String key) {
+        var result = hashicorpVaultClient.getSecretValue(key);
+
+        if (result.failed()) {
+            monitor.debug("Failed to resolve secret '%s': %s".formatted(key, result.getFailureMessages()));
+            return null;
+        }
+
+        return result.getContent();
+    }
+
+    private void invalidate(String key) {
+        if (cache != null) {
+            cache.invalidate(key);
+        }
     }
 }
@@ -26,10 +26,17 @@ import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.vault.hashicorp.cache.SecretCache;
 import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultClient;
 import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultSettings;
 import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultTokenRenewTask;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 
 @Extension(value = HashicorpVaultExtension.NAME)
@@ -43,6 +50,11 @@ public class HashicorpVaultExtension implements ServiceExtension {
     public static final long VAULT_TOKEN_RENEW_BUFFER_DEFAULT = 30;
     public static final long VAULT_TOKEN_TTL_DEFAULT = 300;
     public static final String VAULT_API_SECRET_PATH_DEFAULT = "/v1/secret";
+    public static final boolean VAULT_CACHE_ENABLED_DEFAULT = false;
+    public static final long VAULT_CACHE_TTL_DEFAULT = 60;
+    public static final int VAULT_CACHE_MAX_SIZE_DEFAULT = 1000;
+    public static final boolean VAULT_CACHE_ENCRYPTED_DEFAULT = false;
+    public static final long VAULT_CACHE_STATISTICS_INTERVAL_DEFAULT = 300;
 
     @Setting(value = "The URL of the Hashicorp Vault", required = true)
     public static final String VAULT_URL = "edc.vault.hashicorp.url";
@@ -71,13 +83,33 @@ public class HashicorpVaultExtension implements ServiceExtension {
     @Setting(value = "The URL path of the vault's /secret endpoint", defaultValue = VAULT_API_SECRET_PATH_DEFAULT)
     public static final String VAULT_API_SECRET_PATH = "edc.vault.hashicorp.api.secret.path";
 
+    @Setting(value = "Whether resolved secrets are cached in memory", defaultValue = "false", type = "boolean")
+    public static final String VAULT_CACHE_ENABLED = "edc.vault.hashicorp.cache.enabled";
+
+    @Setting(value = "The time-to-live (ttl) of a cached secret in seconds", defaultValue = "60", type = "long")
+    public static final String VAULT_CACHE_TTL = "edc.vault.hashicorp.cache.ttl";
+
+    @Setting(value = "The maximum number of cached secrets", defaultValue = "1000", type = "int")
+    public static final String VAULT_CACHE_MAX_SIZE = "edc.vault.hashicorp.cache.max-size";
+
+    @Setting(value = "Whether cached secrets are encrypted in memory", defaultValue = "false", type = "boolean")
+    public static final String VAULT_CACHE_ENCRYPTED = "edc.vault.hashicorp.cache.encrypted";
+
+    @Setting(value = "Interval in seconds at which the secret cache statistics are reported on the debug log. 0 deactivates the report.", defaultValue = VAULT_CACHE_STATISTICS_INTERVAL_DEFAULT + "", type = "long")
+    public static final String VAULT_CACHE_STATISTICS_INTERVAL = "edc.vault.hashicorp.cache.statistics-interval";
+
     @Inject
     private EdcHttpClient httpClient;
 
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private Clock clock;
+
     private HashicorpVaultClient client;
+    private SecretCache secretCache;
+    private ScheduledExecutorService statisticsReporter;
     private HashicorpVaultTokenRenewTask tokenRenewalTask;
     private Monitor monitor;
     private HashicorpVaultSettings settings;
@@ -105,7 +137,7 @@ public class HashicorpVaultExtension implements ServiceExtension {
 
     @Provider
     public Vault hashicorpVault() {
-        return new HashicorpVault(hashicorpVaultClient(), monitor);
+        return new HashicorpVault(hashicorpVaultClient(), monitor, secretCache);
     }
 
     @Override
@@ -118,6 +150,20 @@ public class HashicorpVaultExtension implements ServiceExtension {
                 hashicorpVaultClient(),
                 settings.renewBuffer(),
                 monitor);
+
+        if (context.getSetting(VAULT_CACHE_ENABLED, VAULT_CACHE_ENABLED_DEFAULT)) {
+            secretCache = new SecretCache(
+                    clock,
+                    Duration.ofSeconds(context.getSetting(VAULT_CACHE_TTL, VAULT_CACHE_TTL_DEFAULT)),
+                    context.getSetting(VAULT_CACHE_MAX_SIZE, VAULT_CACHE_MAX_SIZE_DEFAULT),
+                    context.getSetting(VAULT_CACHE_ENCRYPTED, VAULT_CACHE_ENCRYPTED_DEFAULT));
+
+            var statisticsInterval = context.getSetting(VAULT_CACHE_STATISTICS_INTERVAL, VAULT_CACHE_STATISTICS_INTERVAL_DEFAULT);
+            if (statisticsInterval > 0) {
+                statisticsReporter = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "hashicorp-vault-secret-cache-statistics");
+                statisticsReporter.scheduleAtFixedRate(() -> monitor.debug(secretCacheStatistics()), statisticsInterval, statisticsInterval, TimeUnit.SECONDS);
+            }
+        }
     }
 
     @Override
@@ -132,6 +178,18 @@ public class HashicorpVaultExtension implements ServiceExtension {
         if (tokenRenewalTask.isRunning()) {
             tokenRenewalTask.stop();
         }
+        if (statisticsReporter != null) {
+            statisticsReporter.shutdownNow();
+        }
+        if (secretCache != null) {
+            monitor.debug(secretCacheStatistics());
+        }
+    }
+
+    private String secretCacheStatistics() {
+        var statistics = secretCache.statistics();
+        return "Secret cache: %d hits, %d misses (hit rate %.2f), %d evictions, %d entries"
+                .formatted(statistics.hits(), statistics.misses(), statistics.hitRate(), statistics.evictions(), secretCache.size());
     }
 
     private HashicorpVaultSettings getSettings(ServiceExtensionContext context) {
@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.hashicorp.cache;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.util.collection.ConcurrentLoadingCache;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Read-through cache for secrets resolved from the vault, backed by a {@link ConcurrentLoadingCache}. Entries expire
+ * after a fixed time-to-live and the least recently used entries are evicted once the maximum size is reached. Secrets
+ * that cannot be resolved are not cached.
+ * <p>
+ * Optionally, cached values are encrypted with an AES-GCM key that is generated when the cache is created and never
+ * leaves the process, so that secrets do not appear in plain text in heap dumps.
+ */
+public class SecretCache {
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+
+    private final ConcurrentLoadingCache<String, CachedSecret> entries;
+    private final SecretKey encryptionKey;
+    private final SecureRandom random = new SecureRandom();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public SecretCache(Clock clock, Duration ttl, int maxSize, boolean encrypted) {
+        this.entries = ConcurrentLoadingCache.Builder.<String, CachedSecret>newInstance()
+                .clock(clock)
+                .timeToLive(ttl)
+                .maximumSize(maxSize)
+                // a secret updated or deleted while loading must not be cached with its stale value
+                .cacheable(secret -> secret != null && secret.invalidations() == invalidations.get())
+                .build();
+        this.encryptionKey = encrypted ? generateKey() : null;
+    }
+
+    /**
+     * Returns the cached secret, or resolves it with the loader and caches it if it is not cached or expired.
+     *
+     * @param key    the secret key.
+     * @param loader resolves the secret from the vault, returns null if the secret does not exist.
+     * @return the secret, null if it does not exist.
+     */
+    public @Nullable String get(String key, Function<String, String> loader) {
+        var loaded = new AtomicBoolean();
+        var invalidationsBeforeLoad = invalidations.get();
+        var secret = entries.get(key, k -> {
+            loaded.set(true);
+            var value = loader.apply(k);
+            return value != null ? new CachedSecret(encode(value), invalidationsBeforeLoad) : null;
+        });
+        if (secret == null) {
+            return null;
+        }
+        // the secret could have been invalidated between the cacheable check and its insertion
+        if (loaded.get() && invalidations.get() != secret.invalidations()) {
+            entries.remove(key);
+        }
+        return decode(secret.value());
+    }
+
+    /**
+     * Removes the secret from the cache.
+     *
+     * @param key the secret key.
+     */
+    public void invalidate(String key) {
+        invalidations.incrementAndGet();
+        entries.remove(key);
+    }
+
+    public long hitCount() {
+        return entries.statistics().hits();
+    }
+
+    public long missCount() {
+        return entries.statistics().misses();
+    }
+
+    public ConcurrentLoadingCache.Statistics statistics() {
+        return entries.statistics();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private byte[] encode(@NotNull String value) {
+        var plain = value.getBytes(UTF_8);
+        if (encryptionKey == null) {
+            return plain;
+        }
+        try {
+            var iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            var cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+            var encrypted = cipher.doFinal(plain);
+            return ByteBuffer.allocate(IV_LENGTH + encrypted.length).put(iv).put(encrypted).array();
+        } catch (GeneralSecurityException e) {
+            throw new EdcException("Failed to encrypt cached secret", e);
+        }
+    }
+
+    private String decode(byte[] value) {
+        if (encryptionKey == null) {
+            return new String(value, UTF_8);
+        }
+        try {
+            var cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_LENGTH_BITS, value, 0, IV_LENGTH));
+            return new String(cipher.doFinal(value, IV_LENGTH, value.length - IV_LENGTH), UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new EdcException("Failed to decrypt cached secret", e);
+        }
+    }
+
+    private static SecretKey generateKey() {
+        try {
+            var generator = KeyGenerator.getInstance("AES");
+            generator.init(256);
+            return generator.generateKey();
+        } catch (GeneralSecurityException e) {
+            throw new EdcException("Failed to generate the secret cache encryption key", e);
+        }
+    }
+
+    private record CachedSecret(byte[] value, long invalidations) {
+    }
+}
@@ -16,10 +16,13 @@ package org.eclipse.edc.vault.hashicorp;
 
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.vault.hashicorp.cache.SecretCache;
 import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -103,4 +106,40 @@ class HashicorpVaultTest {
         verify(vaultClient, times(1)).destroySecret(KEY);
         assertThat(returnValue.failed()).isTrue();
     }
+
+    @Test
+    void getSecret_withCache_shouldResolveFromVaultOnlyOnce() {
+        var cachingVault = new HashicorpVault(vaultClient, mock(), new SecretCache(Clock.systemUTC(), Duration.ofMinutes(1), 10, false));
+        when(vaultClient.getSecretValue(KEY)).thenReturn(Result.success("test-secret"));
+
+        assertThat(cachingVault.resolveSecret(KEY)).isEqualTo("test-secret");
+        assertThat(cachingVault.resolveSecret(KEY)).isEqualTo("test-secret");
+
+        verify(vaultClient, times(1)).getSecretValue(KEY);
+    }
+
+    @Test
+    void setSecret_withCache_shouldInvalidateCachedSecret() {
+        var cachingVault = new HashicorpVault(vaultClient, mock(), new SecretCache(Clock.systemUTC(), Duration.ofMinutes(1), 10, false));
+        when(vaultClient.getSecretValue(KEY)).thenReturn(Result.success("old-secret"), Result.success("new-secret"));
+        when(vaultClient.setSecret(KEY, "new-secret")).thenReturn(Result.success(null));
+
+        cachingVault.resolveSecret(KEY);
+        cachingVault.storeSecret(KEY, "new-secret");
+
+        assertThat(cachingVault.resolveSecret(KEY)).isEqualTo("new-secret");
+        verify(vaultClient, times(2)).getSecretValue(KEY);
+    }
+
+    @Test
+    void destroySecret_withCache_shouldInvalidateCachedSecret() {
+        var cachingVault = new HashicorpVault(vaultClient, mock(), new SecretCache(Clock.systemUTC(), Duration.ofMinutes(1), 10, false));
+        when(vaultClient.getSecretValue(KEY)).thenReturn(Result.success("test-secret"), Result.failure("not found"));
+        when(vaultClient.destroySecret(KEY)).thenReturn(Result.success());
+
+        cachingVault.resolveSecret(KEY);
+        cachingVault.deleteSecret(KEY);
+
+        assertThat(cachingVault.resolveSecret(KEY)).isNull();
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault.hashicorp.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SecretCacheTest {
+
+    private final Clock clock = mock();
+    private final Function<String, String> loader = mock();
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void get_shouldLoadOnceAndServeFromCache(boolean encrypted) {
+        when(clock.millis()).thenReturn(0L);
+        when(loader.apply("key")).thenReturn("secret");
+        var cache = new SecretCache(clock, Duration.ofSeconds(10), 10, encrypted);
+
+        assertThat(cache.get("key", loader)).isEqualTo("secret");
+        assertThat(cache.get("key", loader)).isEqualTo("secret");
+
+        verify(loader, times(1)).apply("key");
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldReload_whenExpired() {
+        when(clock.millis()).thenReturn(0L, 10_000L);
+        when(loader.apply("key")).thenReturn("old", "new");
+        var cache = new SecretCache(clock, Duration.ofSeconds(10), 10, false);
+
+        assertThat(cache.get("key", loader)).isEqualTo("old");
+        assertThat(cache.get("key", loader)).isEqualTo("new");
+    }
+
+    @Test
+    void get_shouldNotCacheMissingSecret() {
+        var cache = new SecretCache(Clock.fixed(Instant.EPOCH, ZoneOffset.UTC), Duration.ofSeconds(10), 10, false);
+
+        assertThat(cache.get("key", loader)).isNull();
+        assertThat(cache.get("key", loader)).isNull();
+
+        verify(loader, times(2)).apply("key");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_shouldEvictLeastRecentlyUsed_whenMaxSizeReached() {
+        when(loader.apply(anyString())).thenAnswer(i -> i.getArgument(0) + "-secret");
+        var cache = new SecretCache(Clock.fixed(Instant.EPOCH, ZoneOffset.UTC), Duration.ofSeconds(10), 2, false);
+
+        cache.get("key1", loader);
+        cache.get("key2", loader);
+        cache.get("key1", loader);
+        cache.get("key3", loader);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.statistics().evictions()).isEqualTo(1);
+        cache.get("key1", loader);
+        verify(loader, times(1)).apply("key1");
+        cache.get("key2", loader);
+        verify(loader, times(2)).apply("key2");
+    }
+
+    @Test
+    void invalidate_shouldRemoveEntry() {
+        when(loader.apply("key")).thenReturn("old", "new");
+        var cache = new SecretCache(Clock.fixed(Instant.EPOCH, ZoneOffset.UTC), Duration.ofSeconds(10), 10, false);
+
+        cache.get("key", loader);
+        cache.invalidate("key");
+
+        assertThat(cache.get("key", loader)).isEqualTo("new");
+    }
+
+    @Test
+    void get_shouldNotCache_whenInvalidatedWhileLoading() {
+        var cache = new SecretCache(Clock.fixed(Instant.EPOCH, ZoneOffset.UTC), Duration.ofSeconds(10), 10, false);
+        when(loader.apply("key")).thenAnswer(i -> {
+            cache.invalidate("key");
+            return "stale";
+        });
+
+        cache.get("key", loader);
+
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -51,6 +51,18 @@ public interface AssetApi {
     )
     JsonObject createAssetV3(JsonObject asset);
 
+    @Operation(description = "Creates multiple assets at once, together with their data addresses. Either all assets are created or none is",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = AssetInputSchema.class)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Assets were created successfully. Returns the asset Ids and created timestamps",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.IdResponseSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was malformed",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class)))),
+                    @ApiResponse(responseCode = "409", description = "Could not create the assets, because an asset with one of the IDs already exists",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class)))) }
+    )
+    JsonArray createAssetsV3(JsonArray assets);
+
     @Operation(description = "Request all assets according to a particular query",
             requestBody = @RequestBody(
                     content = @Content(schema = @Schema(implementation = ApiCoreSchema.QuerySpecSchema.class))
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.controlplane.api.management.asset.v3;
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
@@ -80,6 +81,24 @@ public class AssetApiController implements AssetApi {
                 .orElseThrow(f -> new EdcException(f.getFailureDetail()));
     }
 
+    @POST
+    @Path("/bulk")
+    @Override
+    public JsonArray createAssetsV3(JsonArray assetsJson) {
+        var assets = assetsJson.stream().map(this::toAsset).toList();
+
+        return service.createAll(assets)
+                .orElseThrow(exceptionMapper(Asset.class, null))
+                .stream()
+                .map(a -> IdResponse.Builder.newInstance()
+                        .id(a.getId())
+                        .createdAt(a.getCreatedAt())
+                        .build())
+                .map(idResponse -> transformerRegistry.transform(idResponse, JsonObject.class)
+                        .orElseThrow(f -> new EdcException(f.getFailureDetail())))
+                .collect(toJsonArray());
+    }
+
     @POST
     @Path("/request")
     @Override
@@ -134,4 +153,15 @@ public class AssetApiController implements AssetApi {
                 .orElseThrow(exceptionMapper(Asset.class, assetResult.getId()));
     }
 
+    private Asset toAsset(JsonValue assetJson) {
+        if (!(assetJson instanceof JsonObject jsonObject)) {
+            throw new InvalidRequestException("Every element of the request body must be an asset object");
+        }
+
+        validator.validate(EDC_ASSET_TYPE, jsonObject).orElseThrow(ValidationFailureException::new);
+
+        return transformerRegistry.transform(jsonObject, Asset.class)
+                .orElseThrow(InvalidRequestException::new);
+    }
+
 }
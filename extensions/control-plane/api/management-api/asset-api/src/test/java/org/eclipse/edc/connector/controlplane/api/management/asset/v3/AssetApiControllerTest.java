@@ -37,6 +37,7 @@ import java.util.Map;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
+import static jakarta.json.Json.createArrayBuilder;
 import static jakarta.json.Json.createObjectBuilder;
 import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_CREATED_AT;
 import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_TYPE;
@@ -295,6 +296,52 @@ class AssetApiControllerTest extends RestControllerTestBase {
                 .statusCode(409);
     }
 
+    @Test
+    void createAssets() {
+        var asset = createAssetBuilder().dataAddress(DataAddress.Builder.newInstance().type("any").build()).build();
+        when(transformerRegistry.transform(any(JsonObject.class), eq(Asset.class))).thenReturn(Result.success(asset));
+        when(service.createAll(any())).thenReturn(ServiceResult.success(List.of(asset, asset)));
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+        baseRequest()
+                .contentType(JSON)
+                .body(createArrayBuilder().add(createAssetJson()).add(createAssetJson()).build())
+                .post("/assets/bulk")
+                .then()
+                .statusCode(200)
+                .contentType(JSON)
+                .body("size()", is(2));
+
+        verify(service).createAll(argThat(assets -> assets.size() == 2));
+    }
+
+    @Test
+    void createAssets_shouldReturnBadRequest_whenElementIsNotAnObject() {
+        baseRequest()
+                .contentType(JSON)
+                .body(createArrayBuilder().add("not an asset").build())
+                .post("/assets/bulk")
+                .then()
+                .statusCode(400);
+
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void createAssets_alreadyExists() {
+        var asset = createAssetBuilder().dataAddress(DataAddress.Builder.newInstance().type("any").build()).build();
+        when(transformerRegistry.transform(any(JsonObject.class), eq(Asset.class))).thenReturn(Result.success(asset));
+        when(service.createAll(any())).thenReturn(ServiceResult.conflict("already exists"));
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+        baseRequest()
+                .contentType(JSON)
+                .body(createArrayBuilder().add(createAssetJson()).build())
+                .post("/assets/bulk")
+                .then()
+                .statusCode(409);
+    }
+
     @Test
     void createAsset_emptyAttributes() {
         when(transformerRegistry.transform(isA(JsonObject.class), any())).thenReturn(Result.failure("Cannot be transformed"));
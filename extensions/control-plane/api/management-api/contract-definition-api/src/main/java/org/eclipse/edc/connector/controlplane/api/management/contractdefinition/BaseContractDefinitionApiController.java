@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.controlplane.api.management.contractdefinition
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.controlplane.services.spi.contractdefinition.ContractDefinitionService;
@@ -96,6 +97,21 @@ public abstract class BaseContractDefinitionApiController {
                 .orElseThrow(f -> new EdcException("Error creating response body: " + f.getFailureDetail()));
     }
 
+    public JsonArray createContractDefinitions(JsonArray createArray) {
+        var contractDefinitions = createArray.stream().map(this::toContractDefinition).toList();
+
+        return service.createAll(contractDefinitions)
+                .orElseThrow(exceptionMapper(ContractDefinition.class))
+                .stream()
+                .map(contractDefinition -> IdResponse.Builder.newInstance()
+                        .id(contractDefinition.getId())
+                        .createdAt(contractDefinition.getCreatedAt())
+                        .build())
+                .map(responseDto -> transformerRegistry.transform(responseDto, JsonObject.class)
+                        .orElseThrow(f -> new EdcException("Error creating response body: " + f.getFailureDetail())))
+                .collect(toJsonArray());
+    }
+
     public void deleteContractDefinition(String id) {
         service.delete(id).orElseThrow(exceptionMapper(ContractDefinition.class, id));
     }
@@ -109,4 +125,16 @@ public abstract class BaseContractDefinitionApiController {
 
         service.update(contractDefinition).orElseThrow(exceptionMapper(ContractDefinition.class));
     }
+
+    private ContractDefinition toContractDefinition(JsonValue value) {
+        if (!(value instanceof JsonObject jsonObject)) {
+            throw new InvalidRequestException("Every element of the request body must be a contract definition object");
+        }
+
+        validatorRegistry.validate(CONTRACT_DEFINITION_TYPE, jsonObject)
+                .orElseThrow(ValidationFailureException::new);
+
+        return transformerRegistry.transform(jsonObject, ContractDefinition.class)
+                .orElseThrow(InvalidRequestException::new);
+    }
 }
@@ -76,6 +76,18 @@ public interface ContractDefinitionApiV3 {
     )
     JsonObject createContractDefinitionV3(JsonObject createObject);
 
+    @Operation(description = "Creates multiple contract definitions at once. Either all contract definitions are created or none is",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContractDefinitionInputSchema.class)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "contract definitions were created successfully. Returns the Contract Definition Ids and created timestamps",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.IdResponseSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was malformed",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class)))),
+                    @ApiResponse(responseCode = "409", description = "Could not create the contract definitions, because a contract definition with one of the IDs already exists",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class)))) }
+    )
+    JsonArray createContractDefinitionsV3(JsonArray createArray);
+
     @Operation(description = "Removes a contract definition with the given ID if possible. " +
             "DANGER ZONE: Note that deleting contract definitions can have unexpected results, especially for contract offers that have been sent out or ongoing or contract negotiations.",
             responses = {
@@ -60,6 +60,13 @@ public class ContractDefinitionApiV3Controller extends BaseContractDefinitionApi
         return createContractDefinition(createObject);
     }
 
+    @POST
+    @Path("bulk")
+    @Override
+    public JsonArray createContractDefinitionsV3(JsonArray createArray) {
+        return createContractDefinitions(createArray);
+    }
+
     @DELETE
     @Path("{id}")
     @Override
@@ -15,11 +15,86 @@
 package org.eclipse.edc.connector.controlplane.api.management.contractdefinition.v3;
 
 import io.restassured.specification.RequestSpecification;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.api.management.contractdefinition.BaseContractDefinitionApiControllerTest;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
 
 import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static jakarta.json.Json.createArrayBuilder;
+import static jakarta.json.Json.createObjectBuilder;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition.CONTRACT_DEFINITION_TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 class ContractDefinitionApiV3ControllerTest extends BaseContractDefinitionApiControllerTest {
+
+    @Test
+    void createBulk() {
+        var first = contractDefinition("1");
+        var second = contractDefinition("2");
+        var requestBody = createArrayBuilder().add(contractDefinitionJson("1")).add(contractDefinitionJson("2")).build();
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(any(JsonObject.class), eq(ContractDefinition.class)))
+                .thenReturn(Result.success(first), Result.success(second));
+        when(service.createAll(anyList())).thenReturn(ServiceResult.success(List.of(first, second)));
+        when(transformerRegistry.transform(any(IdResponse.class), eq(JsonObject.class)))
+                .thenAnswer(i -> Result.success(createObjectBuilder().add(ID, i.getArgument(0, IdResponse.class).getId()).build()));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(requestBody)
+                .post("/bulk")
+                .then()
+                .statusCode(200)
+                .body(ID, contains("1", "2"));
+
+        verify(service).createAll(List.of(first, second));
+    }
+
+    @Test
+    void createBulk_shouldReturnBadRequest_whenElementIsNotAnObject() {
+        var requestBody = createArrayBuilder().add("not-an-object").build();
+
+        baseRequest()
+                .contentType(JSON)
+                .body(requestBody)
+                .post("/bulk")
+                .then()
+                .statusCode(400);
+
+        verifyNoInteractions(service, transformerRegistry);
+    }
+
+    @Test
+    void createBulk_exists() {
+        var entity = contractDefinition("1");
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(any(JsonObject.class), eq(ContractDefinition.class))).thenReturn(Result.success(entity));
+        when(service.createAll(anyList())).thenReturn(ServiceResult.conflict("test-message"));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(createArrayBuilder().add(contractDefinitionJson("1")).build())
+                .post("/bulk")
+                .then()
+                .statusCode(409);
+    }
+
     @Override
     protected RequestSpecification baseRequest() {
         return given()
@@ -32,4 +107,19 @@ class ContractDefinitionApiV3ControllerTest extends BaseContractDefinitionApiCon
     protected Object controller() {
         return new ContractDefinitionApiV3Controller(transformerRegistry, service, monitor, validatorRegistry);
     }
-}
\ No newline at end of file
+
+    private JsonObject contractDefinitionJson(String id) {
+        return createObjectBuilder()
+                .add(TYPE, CONTRACT_DEFINITION_TYPE)
+                .add(ID, id)
+                .build();
+    }
+
+    private ContractDefinition contractDefinition(String id) {
+        return ContractDefinition.Builder.newInstance()
+                .id(id)
+                .accessPolicyId("ap-id")
+                .contractPolicyId("cp-id")
+                .build();
+    }
+}
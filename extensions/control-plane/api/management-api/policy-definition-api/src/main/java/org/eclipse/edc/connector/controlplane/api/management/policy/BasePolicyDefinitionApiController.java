@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.controlplane.api.management.policy;
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
 import org.eclipse.edc.connector.controlplane.services.spi.policydefinition.PolicyDefinitionService;
@@ -97,6 +98,22 @@ public abstract class BasePolicyDefinitionApiController {
                 .orElseThrow(f -> new EdcException("Error creating response body: " + f.getFailureDetail()));
     }
 
+    public JsonArray createPolicyDefinitions(JsonArray request) {
+        var definitions = request.stream().map(this::toPolicyDefinition).toList();
+
+        return service.createAll(definitions)
+                .onSuccess(d -> monitor.debug(format("%d Policy Definitions created", d.size())))
+                .orElseThrow(exceptionMapper(PolicyDefinition.class, null))
+                .stream()
+                .map(d -> IdResponse.Builder.newInstance()
+                        .id(d.getId())
+                        .createdAt(d.getCreatedAt())
+                        .build())
+                .map(responseDto -> transformerRegistry.transform(responseDto, JsonObject.class)
+                        .orElseThrow(f -> new EdcException("Error creating response body: " + f.getFailureDetail())))
+                .collect(toJsonArray());
+    }
+
     public void deletePolicyDefinition(String id) {
         service.deleteById(id)
                 .onSuccess(d -> monitor.debug(format("Policy Definition deleted %s", d.getId())))
@@ -113,4 +130,15 @@ public abstract class BasePolicyDefinitionApiController {
                 .onSuccess(d -> monitor.debug(format("Policy Definition updated %s", d.getId())))
                 .orElseThrow(exceptionMapper(PolicyDefinition.class, id));
     }
+
+    private PolicyDefinition toPolicyDefinition(JsonValue value) {
+        if (!(value instanceof JsonObject jsonObject)) {
+            throw new InvalidRequestException("Every element of the request body must be a policy definition object");
+        }
+
+        validatorRegistry.validate(EDC_POLICY_DEFINITION_TYPE, jsonObject).orElseThrow(ValidationFailureException::new);
+
+        return transformerRegistry.transform(jsonObject, PolicyDefinition.class)
+                .orElseThrow(InvalidRequestException::new);
+    }
 }
@@ -72,6 +72,18 @@ public interface PolicyDefinitionApiV3 {
     )
     JsonObject createPolicyDefinitionV3(JsonObject policyDefinition);
 
+    @Operation(description = "Creates multiple policy definitions at once. Either all policy definitions are created or none is",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = PolicyDefinitionInputSchema.class)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "policy definitions were created successfully. Returns the Policy Definition Ids and created timestamps",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.IdResponseSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was malformed",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class)))),
+                    @ApiResponse(responseCode = "409", description = "Could not create the policy definitions, because a policy definition with one of the IDs already exists",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class)))) }
+    )
+    JsonArray createPolicyDefinitionsV3(JsonArray policyDefinitions);
+
     @Operation(description = "Removes a policy definition with the given ID if possible. Deleting a policy definition is " +
             "only possible if that policy definition is not yet referenced by a contract definition, in which case an error is returned. " +
             "DANGER ZONE: Note that deleting policy definitions can have unexpected results, do this at your own risk!",
@@ -60,6 +60,13 @@ public class PolicyDefinitionApiV3Controller extends BasePolicyDefinitionApiCont
         return createPolicyDefinition(request);
     }
 
+    @POST
+    @Path("bulk")
+    @Override
+    public JsonArray createPolicyDefinitionsV3(JsonArray request) {
+        return createPolicyDefinitions(request);
+    }
+
     @DELETE
     @Path("{id}")
     @Override
@@ -15,12 +15,87 @@
 package org.eclipse.edc.connector.controlplane.api.management.policy.v3;
 
 import io.restassured.specification.RequestSpecification;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.api.management.policy.BasePolicyDefinitionApiControllerTest;
+import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
 
 import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static jakarta.json.Json.createArrayBuilder;
+import static jakarta.json.Json.createObjectBuilder;
+import static org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition.EDC_POLICY_DEFINITION_TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 public class PolicyDefinitionApiV3ControllerTest extends BasePolicyDefinitionApiControllerTest {
 
+    @Test
+    void createBulk_shouldReturnDefinitionIds() {
+        var first = policyDefinition("first");
+        var second = policyDefinition("second");
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(any(), eq(PolicyDefinition.class))).thenReturn(Result.success(first), Result.success(second));
+        when(service.createAll(anyList())).thenReturn(ServiceResult.success(List.of(first, second)));
+        when(transformerRegistry.transform(any(IdResponse.class), eq(JsonObject.class)))
+                .thenAnswer(i -> Result.success(createObjectBuilder().add("id", i.getArgument(0, IdResponse.class).getId()).build()));
+
+        baseRequest()
+                .body(createArrayBuilder().add(policyDefinitionJson()).add(policyDefinitionJson()).build())
+                .contentType(JSON)
+                .post("/bulk")
+                .then()
+                .statusCode(200)
+                .contentType(JSON)
+                .body("id", contains("first", "second"));
+
+        verify(validatorRegistry, times(2)).validate(eq(EDC_POLICY_DEFINITION_TYPE), any());
+        verify(service).createAll(List.of(first, second));
+    }
+
+    @Test
+    void createBulk_shouldReturnBadRequest_whenElementIsNotAnObject() {
+        baseRequest()
+                .body(createArrayBuilder().add("not-an-object").build())
+                .contentType(JSON)
+                .post("/bulk")
+                .then()
+                .statusCode(400)
+                .contentType(JSON);
+
+        verifyNoInteractions(transformerRegistry, service);
+    }
+
+    @Test
+    void createBulk_shouldReturnConflict_whenOneAlreadyExists() {
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(any(), eq(PolicyDefinition.class))).thenReturn(Result.success(policyDefinition("id")));
+        when(service.createAll(anyList())).thenReturn(ServiceResult.conflict("already exists"));
+
+        baseRequest()
+                .body(createArrayBuilder().add(policyDefinitionJson()).build())
+                .contentType(JSON)
+                .post("/bulk")
+                .then()
+                .statusCode(409)
+                .contentType(JSON);
+    }
+
     @Override
     protected Object controller() {
         return new PolicyDefinitionApiV3Controller(monitor, transformerRegistry, service, validatorRegistry);
@@ -33,4 +108,20 @@ public class PolicyDefinitionApiV3ControllerTest extends BasePolicyDefinitionApi
                 .port(port);
     }
 
+    private JsonObject policyDefinitionJson() {
+        return createObjectBuilder()
+                .add("policy", createObjectBuilder()
+                        .add(CONTEXT, "context")
+                        .add(TYPE, "Set")
+                        .build())
+                .build();
+    }
+
+    private PolicyDefinition policyDefinition(String id) {
+        return PolicyDefinition.Builder.newInstance()
+                .id(id)
+                .policy(Policy.Builder.newInstance().build())
+                .build();
+    }
+
 }
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+
+/**
+ * Delivers non-transactional callbacks asynchronously. Every callback endpoint gets its own bulkhead: at most
+ * {@code maxConcurrency} deliveries are in flight per endpoint and at most {@code maxQueueSize} deliveries are pending,
+ * further deliveries are dropped. Failed deliveries are retried with exponential backoff. Deliveries for the same
+ * entity and endpoint are chained, so that they reach the endpoint in the order in which they were enqueued. An
+ * endpoint is dropped as soon as it has no pending deliveries left, so that the number of tracked endpoints is bounded by
+ * the ones that are currently in use.
+ */
+public class CallbackDeliveryQueue {
+    private static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+    // 2^16 ms already exceeds the maximum delay, a larger exponent could only overflow the shift
+    private static final int MAX_BACKOFF_EXPONENT = 16;
+
+    private final RemoteMessageDispatcherRegistry dispatcher;
+    private final ScheduledExecutorService executor;
+    private final Monitor monitor;
+    private final int maxConcurrency;
+    private final int maxQueueSize;
+    private final int maxRetries;
+    private final long retryDelayMillis;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public CallbackDeliveryQueue(RemoteMessageDispatcherRegistry dispatcher, ScheduledExecutorService executor, Monitor monitor,
+                                 int maxConcurrency, int maxQueueSize, int maxRetries, long retryDelayMillis) {
+        this.dispatcher = dispatcher;
+        this.executor = executor;
+        this.monitor = monitor;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueueSize = maxQueueSize;
+        this.maxRetries = maxRetries;
+        this.retryDelayMillis = retryDelayMillis;
+    }
+
+    /**
+     * Enqueues the delivery of a callback message.
+     *
+     * @param entityId the id of the entity the event refers to, deliveries with the same id are delivered in order.
+     * @param message  the callback message.
+     * @return a future that completes once the message has been delivered or definitely failed.
+     */
+    public CompletableFuture<Void> enqueue(String entityId, CallbackEventRemoteMessage<?> message) {
+        var uri = message.getCounterPartyAddress();
+        // pending deliveries are only counted up under the map lock, so that an idle endpoint cannot be dropped meanwhile
+        var endpoint = endpoints.compute(uri, (k, existing) -> {
+            var current = existing != null ? existing : new Endpoint();
+            current.pending.incrementAndGet();
+            return current;
+        });
+
+        if (endpoint.pending.get() > maxQueueSize) {
+            release(uri, endpoint);
+            monitor.warning(format("Callback queue for URI %s is full, dropping event %s", uri, message.getEventEnvelope().getId()));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        var future = new CompletableFuture<Void>();
+        var tail = endpoint.lanes.put(entityId, future);
+        var previous = tail != null ? tail : CompletableFuture.<Void>completedFuture(null);
+
+        previous.whenComplete((r, e) -> deliver(endpoint, message, 0, future));
+        // the returned stage completes once the endpoint has been released
+        return future.whenComplete((r, e) -> {
+            endpoint.lanes.remove(entityId, future);
+            release(uri, endpoint);
+        });
+    }
+
+    private void release(String uri, Endpoint endpoint) {
+        endpoint.pending.decrementAndGet();
+        endpoints.computeIfPresent(uri, (k, current) -> current == endpoint && current.pending.get() == 0 ? null : current);
+    }
+
+    private void deliver(Endpoint endpoint, CallbackEventRemoteMessage<?> message, int attempt, CompletableFuture<Void> result) {
+        endpoint.submit(() -> dispatch(message)
+                .whenComplete((statusResult, throwable) -> {
+                    endpoint.release();
+                    if (throwable == null && statusResult.succeeded()) {
+                        result.complete(null);
+                    } else if (attempt < maxRetries) {
+                        scheduleRetry(endpoint, message, attempt, result);
+                    } else {
+                        var reason = throwable != null ? throwable.getMessage() : statusResult.getFailureDetail();
+                        monitor.severe(format("Failed to invoke callback at URI %s after %s attempts: %s", message.getCounterPartyAddress(), attempt + 1, reason));
+                        result.complete(null);
+                    }
+                }));
+    }
+
+    private void scheduleRetry(Endpoint endpoint, CallbackEventRemoteMessage<?> message, int attempt, CompletableFuture<Void> result) {
+        var delay = Math.min(Math.min(retryDelayMillis, MAX_RETRY_DELAY_MILLIS) << Math.min(attempt, MAX_BACKOFF_EXPONENT), MAX_RETRY_DELAY_MILLIS);
+        try {
+            executor.schedule(() -> deliver(endpoint, message, attempt + 1, result), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            monitor.severe(format("Failed to schedule retry of callback at URI %s after %s attempts: executor rejected it", message.getCounterPartyAddress(), attempt + 1), e);
+            result.complete(null);
+        }
+    }
+
+    private CompletableFuture<StatusResult<Object>> dispatch(CallbackEventRemoteMessage<?> message) {
+        try {
+            return dispatcher.dispatch(Object.class, message);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private class Endpoint {
+        private final Map<String, CompletableFuture<Void>> lanes = new ConcurrentHashMap<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final Queue<Runnable> waiting = new ArrayDeque<>();
+        private int active;
+
+        synchronized void submit(Runnable task) {
+            if (active < maxConcurrency) {
+                active++;
+                executor.execute(task);
+            } else {
+                waiting.add(task);
+            }
+        }
+
+        synchronized void release() {
+            var next = waiting.poll();
+            if (next != null) {
+                executor.execute(next);
+            } else {
+                active--;
+            }
+        }
+    }
+}
@@ -14,9 +14,11 @@
 
 package org.eclipse.edc.connector.controlplane.callback.dispatcher;
 
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractnegotiation.ContractNegotiationEvent;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessEvent;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
@@ -24,6 +26,7 @@ import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.URI;
 import java.util.List;
@@ -35,21 +38,32 @@ import static java.lang.String.format;
 /**
  * Subscriber for invoking callbacks associated to {@link Event}. If the {@link CallbackAddress#getEvents()} matches
  * the {@link Event#name()}, the callback is the invoked using a {@link RemoteMessageDispatcherRegistry} with protocol
- * extracted by {@link CallbackAddress#getUri()}
+ * extracted by {@link CallbackAddress#getUri()}.
+ * Transactional callbacks are always invoked synchronously. Non-transactional callbacks are handed over to a
+ * {@link CallbackDeliveryQueue}, if one is configured, so that a slow endpoint does not delay other events.
  */
 public class CallbackEventDispatcher implements EventSubscriber {
+    private static final String DEFAULT_ORDERING_SCOPE = "";
+
     private final RemoteMessageDispatcherRegistry dispatcher;
     private final boolean transactional;
     private final Monitor monitor;
     private final CallbackRegistry callbackRegistry;
     private final CallbackProtocolResolverRegistry resolverRegistry;
+    private final CallbackDeliveryQueue deliveryQueue;
 
     public CallbackEventDispatcher(RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolveRegistry, boolean transactional, Monitor monitor) {
+        this(dispatcher, callbackRegistry, resolveRegistry, transactional, monitor, null);
+    }
+
+    public CallbackEventDispatcher(RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolveRegistry,
+                                   boolean transactional, Monitor monitor, @Nullable CallbackDeliveryQueue deliveryQueue) {
         this.dispatcher = dispatcher;
         this.callbackRegistry = callbackRegistry;
         this.transactional = transactional;
         this.resolverRegistry = resolveRegistry;
         this.monitor = monitor;
+        this.deliveryQueue = transactional ? null : deliveryQueue;
     }
 
     @Override
@@ -61,10 +75,12 @@ public class CallbackEventDispatcher implements EventSubscriber {
             if (matches(eventName, callback)) {
                 try {
                     var protocol = resolverRegistry.resolve(URI.create(callback.getUri()).getScheme());
-                    if (protocol != null) {
-                        dispatcher.dispatch(Object.class, new CallbackEventRemoteMessage<>(callback, eventEnvelope, protocol)).get();
-                    } else {
+                    if (protocol == null) {
                         monitor.warning(format("Failed to resolve protocol for URI %s", callback.getUri()));
+                    } else if (deliveryQueue != null) {
+                        deliveryQueue.enqueue(entityId(eventEnvelope.getPayload()), new CallbackEventRemoteMessage<>(callback, eventEnvelope, protocol));
+                    } else {
+                        dispatcher.dispatch(Object.class, new CallbackEventRemoteMessage<>(callback, eventEnvelope, protocol)).get();
                     }
                 } catch (Exception e) {
                     monitor.severe(format("Failed to invoke callback at URI: %s", callback.getUri()), e);
@@ -89,6 +105,20 @@ public class CallbackEventDispatcher implements EventSubscriber {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the id of the entity the event refers to, which defines the ordering scope of asynchronous deliveries.
+     * Events that do not refer to a process share the same scope.
+     */
+    private String entityId(Event event) {
+        if (event instanceof TransferProcessEvent transferProcessEvent) {
+            return transferProcessEvent.getTransferProcessId();
+        }
+        if (event instanceof ContractNegotiationEvent contractNegotiationEvent) {
+            return contractNegotiationEvent.getContractNegotiationId();
+        }
+        return DEFAULT_ORDERING_SCOPE;
+    }
+
     private boolean matches(String eventName, CallbackAddress callbackAddress) {
         return callbackAddress.getEvents().stream().anyMatch(eventName::startsWith);
     }
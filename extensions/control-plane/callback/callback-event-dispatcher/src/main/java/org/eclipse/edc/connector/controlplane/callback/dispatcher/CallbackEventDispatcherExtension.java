@@ -20,19 +20,41 @@ import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegi
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
 @Provides(CallbackProtocolResolverRegistry.class)
 @Extension(value = CallbackEventDispatcherExtension.NAME)
 public class CallbackEventDispatcherExtension implements ServiceExtension {
 
     public static final String NAME = "Callback dispatcher extension";
 
+    public static final int DEFAULT_THREADS = 4;
+    public static final int DEFAULT_MAX_CONCURRENCY_PER_ENDPOINT = 2;
+    public static final int DEFAULT_MAX_QUEUE_SIZE_PER_ENDPOINT = 1000;
+    public static final int DEFAULT_MAX_RETRIES = 3;
+    public static final long DEFAULT_RETRY_DELAY_MILLIS = 1000;
+
+    @Setting(value = "the number of threads used to deliver non-transactional callbacks. Default value " + DEFAULT_THREADS, type = "int")
+    public static final String CALLBACK_ASYNC_THREADS = "edc.callback.async.threads";
+    @Setting(value = "the maximum number of concurrent deliveries to a single callback endpoint. Default value " + DEFAULT_MAX_CONCURRENCY_PER_ENDPOINT, type = "int")
+    public static final String CALLBACK_ASYNC_MAX_CONCURRENCY = "edc.callback.async.endpoint.max-concurrency";
+    @Setting(value = "the maximum number of pending deliveries to a single callback endpoint, further deliveries are dropped. Default value " + DEFAULT_MAX_QUEUE_SIZE_PER_ENDPOINT, type = "int")
+    public static final String CALLBACK_ASYNC_MAX_QUEUE_SIZE = "edc.callback.async.endpoint.max-queue-size";
+    @Setting(value = "the number of times a failed non-transactional callback is retried. Default value " + DEFAULT_MAX_RETRIES, type = "int")
+    public static final String CALLBACK_ASYNC_MAX_RETRIES = "edc.callback.async.retry.max";
+    @Setting(value = "the delay in milliseconds before the first retry of a failed non-transactional callback, doubled on each further retry. Default value " + DEFAULT_RETRY_DELAY_MILLIS, type = "long")
+    public static final String CALLBACK_ASYNC_RETRY_DELAY_MILLIS = "edc.callback.async.retry.delay-millis";
+
     @Inject
     RemoteMessageDispatcherRegistry dispatcherRegistry;
 
@@ -45,6 +67,11 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
     @Inject
     CallbackRegistry callbackRegistry;
 
+    @Inject
+    ExecutorInstrumentation executorInstrumentation;
+
+    private ScheduledExecutorService deliveryExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -56,9 +83,23 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
         var resolverRegistry = new CallbackProtocolResolverRegistryImpl();
         context.registerService(CallbackProtocolResolverRegistry.class, resolverRegistry);
 
+        deliveryExecutor = executorInstrumentation.instrument(
+                Executors.newScheduledThreadPool(context.getSetting(CALLBACK_ASYNC_THREADS, DEFAULT_THREADS)), "callback-delivery");
+        var deliveryQueue = new CallbackDeliveryQueue(dispatcherRegistry, deliveryExecutor, monitor,
+                context.getSetting(CALLBACK_ASYNC_MAX_CONCURRENCY, DEFAULT_MAX_CONCURRENCY_PER_ENDPOINT),
+                context.getSetting(CALLBACK_ASYNC_MAX_QUEUE_SIZE, DEFAULT_MAX_QUEUE_SIZE_PER_ENDPOINT),
+                context.getSetting(CALLBACK_ASYNC_MAX_RETRIES, DEFAULT_MAX_RETRIES),
+                context.getSetting(CALLBACK_ASYNC_RETRY_DELAY_MILLIS, DEFAULT_RETRY_DELAY_MILLIS));
+
         // Event listener for invoking callbacks in sync (transactional) and async (not transactional)
         router.registerSync(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, true, monitor));
-        router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor));
+        router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor, deliveryQueue));
+    }
 
+    @Override
+    public void shutdown() {
+        if (deliveryExecutor != null) {
+            deliveryExecutor.shutdown();
+        }
     }
 }
@@ -0,0 +1,212 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CallbackDeliveryQueueTest {
+
+    private final RemoteMessageDispatcherRegistry registry = mock();
+    private final Monitor monitor = mock();
+    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void enqueue_shouldDeliverMessage() {
+        when(registry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+        var queue = queue(2, 10, 0);
+
+        assertThat(queue.enqueue("entity", message("http://endpoint"))).succeedsWithin(5, SECONDS);
+
+        verify(registry).dispatch(any(), any());
+    }
+
+    @Test
+    void enqueue_shouldRetry_whenDeliveryFails() {
+        when(registry.dispatch(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.failure(ERROR_RETRY, "error")))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+        var queue = queue(2, 10, 3);
+
+        assertThat(queue.enqueue("entity", message("http://endpoint"))).succeedsWithin(5, SECONDS);
+
+        verify(registry, times(3)).dispatch(any(), any());
+        verify(monitor, never()).severe(anyString());
+    }
+
+    @Test
+    void enqueue_shouldGiveUp_whenRetriesAreExhausted() {
+        when(registry.dispatch(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+        var queue = queue(2, 10, 2);
+
+        assertThat(queue.enqueue("entity", message("http://endpoint"))).succeedsWithin(5, SECONDS);
+
+        verify(registry, times(3)).dispatch(any(), any());
+        verify(monitor).severe(anyString());
+    }
+
+    @Test
+    void enqueue_shouldCapRetryDelay_whenRetriesAreMany() {
+        ScheduledExecutorService inlineExecutor = mock();
+        doAnswer(i -> {
+            i.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(inlineExecutor).execute(any());
+        doAnswer(i -> {
+            i.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(inlineExecutor).schedule(any(Runnable.class), anyLong(), any());
+        when(registry.dispatch(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+        var queue = new CallbackDeliveryQueue(registry, inlineExecutor, monitor, 1, 10, 100, 1);
+
+        assertThat(queue.enqueue("entity", message("http://endpoint"))).succeedsWithin(5, SECONDS);
+
+        verify(registry, times(101)).dispatch(any(), any());
+        verify(inlineExecutor, never()).schedule(any(Runnable.class), longThat(delay -> delay < 1 || delay > 60_000), any());
+        verify(inlineExecutor, times(84)).schedule(any(Runnable.class), eq(60_000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void enqueue_shouldGiveUp_whenRetryIsRejected() {
+        ScheduledExecutorService rejectingExecutor = mock();
+        doAnswer(i -> {
+            i.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(rejectingExecutor).execute(any());
+        when(rejectingExecutor.schedule(any(Runnable.class), anyLong(), any())).thenThrow(new RejectedExecutionException("shut down"));
+        when(registry.dispatch(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+        var queue = new CallbackDeliveryQueue(registry, rejectingExecutor, monitor, 1, 10, 3, 1);
+
+        assertThat(queue.enqueue("entity", message("http://endpoint"))).succeedsWithin(5, SECONDS);
+
+        verify(registry).dispatch(any(), any());
+        verify(monitor).severe(anyString(), any(RejectedExecutionException.class));
+    }
+
+    @Test
+    void enqueue_shouldDeliverInOrder_whenSameEntity() {
+        var first = new CompletableFuture<StatusResult<Object>>();
+        var firstMessage = message("http://endpoint");
+        var secondMessage = message("http://endpoint");
+        when(registry.dispatch(any(), any())).thenReturn(first, CompletableFuture.completedFuture(StatusResult.success("any")));
+        var queue = queue(2, 10, 0);
+
+        queue.enqueue("entity", firstMessage);
+        var second = queue.enqueue("entity", secondMessage);
+
+        assertThat(second).isNotDone();
+        verify(registry, never()).dispatch(any(), same(secondMessage));
+
+        first.complete(StatusResult.success("any"));
+
+        assertThat(second).succeedsWithin(5, SECONDS);
+        verify(registry).dispatch(any(), same(secondMessage));
+    }
+
+    @Test
+    void enqueue_shouldLimitConcurrencyPerEndpoint() {
+        var first = new CompletableFuture<StatusResult<Object>>();
+        var firstMessage = message("http://endpoint");
+        var secondMessage = message("http://endpoint");
+        var otherEndpointMessage = message("http://other");
+        when(registry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+        when(registry.dispatch(any(), same(firstMessage))).thenReturn(first);
+        var queue = queue(1, 10, 0);
+
+        queue.enqueue("entity1", firstMessage);
+        var second = queue.enqueue("entity2", secondMessage);
+
+        assertThat(queue.enqueue("entity3", otherEndpointMessage)).succeedsWithin(5, SECONDS);
+        assertThat(second).isNotDone();
+
+        first.complete(StatusResult.success("any"));
+
+        assertThat(second).succeedsWithin(5, SECONDS);
+    }
+
+    @Test
+    void enqueue_shouldDrop_whenQueueIsFull() {
+        when(registry.dispatch(any(), any())).thenReturn(new CompletableFuture<>());
+        var queue = queue(1, 1, 0);
+
+        queue.enqueue("entity1", message("http://endpoint"));
+        var dropped = queue.enqueue("entity2", message("http://endpoint"));
+
+        assertThat(dropped).isDone();
+        verify(monitor).warning(anyString());
+    }
+
+    @Test
+    void enqueue_shouldAcceptDeliveries_onceIdleEndpointHasBeenDropped() {
+        var first = new CompletableFuture<StatusResult<Object>>();
+        when(registry.dispatch(any(), any())).thenReturn(first, CompletableFuture.completedFuture(StatusResult.success("any")));
+        var queue = queue(1, 1, 0);
+
+        var delivered = queue.enqueue("entity1", message("http://endpoint"));
+        queue.enqueue("entity2", message("http://endpoint"));
+        first.complete(StatusResult.success("any"));
+        assertThat(delivered).succeedsWithin(5, SECONDS);
+
+        assertThat(queue.enqueue("entity3", message("http://endpoint"))).succeedsWithin(5, SECONDS);
+        verify(registry, times(2)).dispatch(any(), any());
+    }
+
+    private CallbackDeliveryQueue queue(int maxConcurrency, int maxQueueSize, int maxRetries) {
+        return new CallbackDeliveryQueue(registry, executor, monitor, maxConcurrency, maxQueueSize, maxRetries, 1);
+    }
+
+    private CallbackEventRemoteMessage<TransferProcessCompleted> message(String uri) {
+        var callback = CallbackAddress.Builder.newInstance().uri(uri).events(Set.of("transfer.process")).build();
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId("id").build();
+        var envelope = EventEnvelope.Builder.newInstance().id("test").at(10).payload(event).build();
+        return new CallbackEventRemoteMessage<>(callback, envelope, "http");
+    }
+}
@@ -19,6 +19,7 @@ import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,6 +42,7 @@ public class CallbackEventDispatcherExtensionTest {
     void setUp(ServiceExtensionContext context, ObjectFactory factory) {
         context.registerService(EventRouter.class, router);
         context.registerService(RemoteMessageDispatcherRegistry.class, mock(RemoteMessageDispatcherRegistry.class));
+        context.registerService(ExecutorInstrumentation.class, ExecutorInstrumentation.noop());
 
         extension = factory.constructInstance(CallbackEventDispatcherExtension.class);
     }
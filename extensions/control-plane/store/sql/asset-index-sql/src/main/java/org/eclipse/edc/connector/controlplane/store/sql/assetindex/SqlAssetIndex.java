@@ -27,6 +27,7 @@ import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.sql.store.LazyJson;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.Nullable;
@@ -95,13 +96,30 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
                     return StoreResult.alreadyExists(msg);
                 }
 
-                queryExecutor.execute(connection, assetStatements.getInsertAssetTemplate(),
-                        assetId,
-                        asset.getCreatedAt(),
-                        toJson(asset.getProperties()),
-                        toJson(asset.getPrivateProperties()),
-                        toJson(asset.getDataAddress().getProperties())
-                );
+                queryExecutor.execute(connection, assetStatements.getInsertAssetTemplate(), insertArguments(asset));
+
+                return StoreResult.success();
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public StoreResult<Void> createAll(List<Asset> assets) {
+        Objects.requireNonNull(assets);
+        assets.forEach(asset -> Objects.requireNonNull(asset.getDataAddress()));
+
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var assetIds = assets.stream().map(Asset::getId).toList();
+                var existingIds = findExistingIds(connection, assetStatements.getFindExistingIdsTemplate(), assetIds);
+                if (!existingIds.isEmpty()) {
+                    return StoreResult.alreadyExists(format(ASSET_EXISTS_TEMPLATE, String.join(", ", existingIds)));
+                }
+
+                var arguments = assets.stream().map(this::insertArguments).toList();
+                queryExecutor.executeBatch(connection, assetStatements.getInsertAssetTemplate(), arguments);
 
                 return StoreResult.success();
             } catch (Exception e) {
@@ -172,6 +190,40 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         return Optional.ofNullable(findById(assetId)).map(Asset::getDataAddress).orElse(null);
     }
 
+    /**
+     * Creates, if they do not exist yet, the indexes that permit to serve property queries without scanning the whole
+     * asset table: an expression index for every given property path and, optionally, a GIN index on the properties
+     * column (which must then be stored as JSONB).
+     *
+     * @param propertyPaths the property paths that should get an expression index.
+     * @param ginIndex whether the GIN index on the properties column should be created.
+     */
+    public void createPropertyIndexes(List<String> propertyPaths, boolean ginIndex) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                for (var propertyPath : propertyPaths) {
+                    var indexName = "%s_property_%08x_idx".formatted(assetStatements.getAssetTable(), propertyPath.hashCode());
+                    queryExecutor.execute(connection, assetStatements.getCreatePropertyIndexTemplate(indexName, propertyPath));
+                }
+                if (ginIndex) {
+                    queryExecutor.execute(connection, assetStatements.getCreatePropertiesGinIndexTemplate());
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private Object[] insertArguments(Asset asset) {
+        return new Object[]{
+                asset.getId(),
+                asset.getCreatedAt(),
+                toJson(asset.getProperties()),
+                toJson(asset.getPrivateProperties()),
+                toJson(asset.getDataAddress().getProperties())
+        };
+    }
+
     private int mapRowCount(ResultSet resultSet) throws SQLException {
         return resultSet.getInt(assetStatements.getCountVariableName());
     }
@@ -189,9 +241,9 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
                 .createdAt(resultSet.getLong(assetStatements.getCreatedAtColumn()))
                 .properties(fromJson(resultSet.getString(assetStatements.getPropertiesColumn()), getTypeRef()))
                 .privateProperties(fromJson(resultSet.getString(assetStatements.getPrivatePropertiesColumn()), getTypeRef()))
-                .dataAddress(DataAddress.Builder.newInstance()
-                        .properties(fromJson(resultSet.getString(assetStatements.getDataAddressColumn()), getTypeRef()))
-                        .build())
+                .deferredDataAddress(LazyJson.of(resultSet.getString(assetStatements.getDataAddressColumn()), json -> DataAddress.Builder.newInstance()
+                        .properties(fromJson(json, getTypeRef()))
+                        .build()))
                 .build();
     }
 
@@ -30,6 +30,9 @@ import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.util.Arrays;
+import java.util.List;
+
 @Provides({ AssetIndex.class, DataAddressResolver.class })
 @Extension(value = "SQL asset index")
 public class SqlAssetIndexServiceExtension implements ServiceExtension {
@@ -40,6 +43,15 @@ public class SqlAssetIndexServiceExtension implements ServiceExtension {
     @Setting(required = true)
     public static final String DATASOURCE_SETTING_NAME = "edc.datasource.asset.name";
 
+    @Setting(value = "If true, the asset properties column is expected to be JSONB and equality/contains property filters " +
+            "are translated into containment queries served by a GIN index, which is created at startup. A custom AssetStatements " +
+            "dialect has to do this translation itself", type = "boolean", defaultValue = "false")
+    public static final String PROPERTIES_JSONB_SETTING = "edc.sql.store.asset.properties.jsonb";
+
+    @Setting(value = "Comma-separated list of asset property paths that get an expression index at startup, to serve " +
+            "'=', 'in' and 'like' filters on them")
+    public static final String PROPERTIES_INDEXES_SETTING = "edc.sql.store.asset.properties.indexes";
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
 
@@ -55,17 +67,39 @@ public class SqlAssetIndexServiceExtension implements ServiceExtension {
     @Inject
     private QueryExecutor queryExecutor;
 
+    private SqlAssetIndex sqlAssetIndex;
+    private boolean jsonbProperties;
+    private List<String> indexedProperties;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var dataSourceName = context.getConfig().getString(DATASOURCE_SETTING_NAME, DataSourceRegistry.DEFAULT_DATASOURCE);
+        var config = context.getConfig();
+        var dataSourceName = config.getString(DATASOURCE_SETTING_NAME, DataSourceRegistry.DEFAULT_DATASOURCE);
+        jsonbProperties = config.getBoolean(PROPERTIES_JSONB_SETTING, false);
+        indexedProperties = Arrays.stream(config.getString(PROPERTIES_INDEXES_SETTING, "").split(","))
+                .map(String::trim)
+                .filter(it -> !it.isEmpty())
+                .toList();
 
-        var sqlAssetLoader = new SqlAssetIndex(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), getDialect(), queryExecutor);
+        if (jsonbProperties && dialect != null) {
+            context.getMonitor().warning(("%s is enabled with a custom AssetStatements dialect: the GIN index is created at startup, " +
+                    "but property filters are translated into containment queries only if the dialect does so").formatted(PROPERTIES_JSONB_SETTING));
+        }
 
-        context.registerService(AssetIndex.class, sqlAssetLoader);
-        context.registerService(DataAddressResolver.class, sqlAssetLoader);
+        sqlAssetIndex = new SqlAssetIndex(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), getDialect(), queryExecutor);
+
+        context.registerService(AssetIndex.class, sqlAssetIndex);
+        context.registerService(DataAddressResolver.class, sqlAssetIndex);
+    }
+
+    @Override
+    public void start() {
+        if (jsonbProperties || !indexedProperties.isEmpty()) {
+            sqlAssetIndex.createPropertyIndexes(indexedProperties, jsonbProperties);
+        }
     }
 
     private AssetStatements getDialect() {
-        return dialect != null ? dialect : new PostgresDialectStatements();
+        return dialect != null ? dialect : new PostgresDialectStatements(jsonbProperties);
     }
 }
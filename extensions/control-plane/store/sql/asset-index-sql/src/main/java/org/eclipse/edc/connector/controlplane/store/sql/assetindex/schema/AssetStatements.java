@@ -131,6 +131,11 @@ public interface AssetStatements extends SqlStatements {
      */
     String getCountAssetByIdClause();
 
+    /**
+     * SELECT clause for the IDs, out of an array of IDs, that belong to existing assets.
+     */
+    String getFindExistingIdsTemplate();
+
     /**
      * SELECT clause for all assets.
      */
@@ -141,6 +146,21 @@ public interface AssetStatements extends SqlStatements {
      */
     String getDeleteAssetByIdTemplate();
 
+    /**
+     * CREATE INDEX clause for an expression index on a single asset property, the index name and the property path
+     * are provided as arguments.
+     *
+     * @param indexName the name of the index.
+     * @param propertyPath the path of the property, in the same format used by the query criteria: a plain key, or a
+     *                     dot-separated path with quoted segments (e.g. {@code 'nested'.'key'}).
+     */
+    String getCreatePropertyIndexTemplate(String indexName, String propertyPath);
+
+    /**
+     * CREATE INDEX clause for a GIN index on the whole properties column. Requires the column to be stored as JSONB.
+     */
+    String getCreatePropertiesGinIndexTemplate();
+
     /**
      * The COUNT variable used in SELECT COUNT queries.
      */
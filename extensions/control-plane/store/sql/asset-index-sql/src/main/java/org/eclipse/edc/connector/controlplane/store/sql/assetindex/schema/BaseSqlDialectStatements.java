@@ -19,8 +19,10 @@ package org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema;
 import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.AssetMapping;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.translation.JsonFieldTranslator;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
+import org.eclipse.edc.util.reflection.PathItem;
 
 import java.util.List;
 
@@ -29,9 +31,15 @@ import static java.lang.String.format;
 public class BaseSqlDialectStatements implements AssetStatements {
 
     protected final SqlOperatorTranslator operatorTranslator;
+    protected final boolean jsonbProperties;
 
     public BaseSqlDialectStatements(SqlOperatorTranslator operatorTranslator) {
+        this(operatorTranslator, false);
+    }
+
+    public BaseSqlDialectStatements(SqlOperatorTranslator operatorTranslator, boolean jsonbProperties) {
         this.operatorTranslator = operatorTranslator;
+        this.jsonbProperties = jsonbProperties;
     }
 
     @Override
@@ -62,6 +70,14 @@ public class BaseSqlDialectStatements implements AssetStatements {
                 getAssetIdColumn());
     }
 
+    @Override
+    public String getFindExistingIdsTemplate() {
+        return format("SELECT %s FROM %s WHERE %s = ANY (?)",
+                getAssetIdColumn(),
+                getAssetTable(),
+                getAssetIdColumn());
+    }
+
     @Override
     public String getSelectAssetTemplate() {
         return format("SELECT * FROM %s AS a", getAssetTable());
@@ -73,6 +89,19 @@ public class BaseSqlDialectStatements implements AssetStatements {
                 .delete(getAssetTable(), getAssetIdColumn());
     }
 
+    @Override
+    public String getCreatePropertyIndexTemplate(String indexName, String propertyPath) {
+        var path = propertyPath.contains("'") ? propertyPath : "'%s'".formatted(propertyPath);
+        var expression = new JsonFieldTranslator(getPropertiesColumn()).getLeftOperand(PathItem.parse(path), String.class);
+        return format("CREATE INDEX IF NOT EXISTS %s ON %s ((%s) text_pattern_ops)", indexName, getAssetTable(), expression);
+    }
+
+    @Override
+    public String getCreatePropertiesGinIndexTemplate() {
+        return format("CREATE INDEX IF NOT EXISTS %s_%s_gin_idx ON %s USING GIN (%s jsonb_path_ops)",
+                getAssetTable(), getPropertiesColumn(), getAssetTable(), getPropertiesColumn());
+    }
+
     @Override
     public String getCountVariableName() {
         return "COUNT";
@@ -80,7 +109,7 @@ public class BaseSqlDialectStatements implements AssetStatements {
 
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
-        return new SqlQueryStatement(getSelectAssetTemplate(), querySpec, new AssetMapping(this), operatorTranslator);
+        return new SqlQueryStatement(getSelectAssetTemplate(), querySpec, new AssetMapping(this, jsonbProperties), operatorTranslator);
     }
 
     @Override
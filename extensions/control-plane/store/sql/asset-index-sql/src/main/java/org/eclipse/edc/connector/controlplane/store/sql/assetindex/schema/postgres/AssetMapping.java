@@ -18,6 +18,7 @@ import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.AssetStatements;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.sql.translation.JsonFieldTranslator;
+import org.eclipse.edc.sql.translation.JsonbFieldTranslator;
 import org.eclipse.edc.sql.translation.SqlOperator;
 import org.eclipse.edc.sql.translation.TranslationMapping;
 import org.eclipse.edc.sql.translation.WhereClause;
@@ -33,9 +34,22 @@ import static java.util.Objects.requireNonNullElse;
 public class AssetMapping extends TranslationMapping {
 
     public AssetMapping(AssetStatements statements) {
+        this(statements, false);
+    }
+
+    /**
+     * Creates the mapping.
+     *
+     * @param statements the asset statements.
+     * @param jsonbProperties whether the properties column is stored as JSONB, which permits to translate equality and
+     *                        contains criteria into GIN-indexable containment queries.
+     */
+    public AssetMapping(AssetStatements statements, boolean jsonbProperties) {
         add("id", statements.getAssetIdColumn());
         add("createdAt", statements.getCreatedAtColumn());
-        add("properties", new JsonFieldTranslator(statements.getPropertiesColumn()));
+        add("properties", jsonbProperties
+                ? new JsonbFieldTranslator(statements.getPropertiesColumn())
+                : new JsonFieldTranslator(statements.getPropertiesColumn()));
         add("privateProperties", new JsonFieldTranslator(statements.getPrivatePropertiesColumn()));
         add("dataAddress", new JsonFieldTranslator(statements.getDataAddressColumn()));
     }
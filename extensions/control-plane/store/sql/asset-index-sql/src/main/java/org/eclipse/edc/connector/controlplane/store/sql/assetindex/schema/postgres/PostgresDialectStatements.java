@@ -21,7 +21,11 @@ import org.eclipse.edc.sql.translation.PostgresqlOperatorTranslator;
 public class PostgresDialectStatements extends BaseSqlDialectStatements {
 
     public PostgresDialectStatements() {
-        super(new PostgresqlOperatorTranslator());
+        this(false);
+    }
+
+    public PostgresDialectStatements(boolean jsonbProperties) {
+        super(new PostgresqlOperatorTranslator(), jsonbProperties);
     }
 
     @Override
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.assetindex;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.asset.spi.testfixtures.AssetIndexTestBase;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.BaseSqlDialectStatements;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Runs the {@link AssetIndexTestBase} against an asset table with the properties column stored as JSONB and indexed.
+ */
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresJsonbAssetIndexTest extends AssetIndexTestBase {
+
+    private final BaseSqlDialectStatements sqlStatements = new PostgresDialectStatements(true);
+
+    private SqlAssetIndex sqlAssetIndex;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension setupExtension, QueryExecutor queryExecutor) throws IOException {
+        sqlAssetIndex = new SqlAssetIndex(setupExtension.getDataSourceRegistry(), setupExtension.getDatasourceName(),
+                setupExtension.getTransactionContext(), new ObjectMapper(), sqlStatements, queryExecutor);
+
+        var schema = Files.readString(Paths.get("docs/schema.sql"));
+        setupExtension.runQuery(schema);
+        setupExtension.runQuery("ALTER TABLE %s ALTER COLUMN %s TYPE JSONB USING %s::jsonb"
+                .formatted(sqlStatements.getAssetTable(), sqlStatements.getPropertiesColumn(), sqlStatements.getPropertiesColumn()));
+        sqlAssetIndex.createPropertyIndexes(List.of(Asset.PROPERTY_ID, "'nested'.'key'"), true);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension setupExtension) {
+        setupExtension.runQuery("DROP TABLE " + sqlStatements.getAssetTable() + " CASCADE");
+    }
+
+    @Test
+    void createPropertyIndexes_shouldBeIdempotent() {
+        assertThatNoException().isThrownBy(() -> sqlAssetIndex.createPropertyIndexes(List.of(Asset.PROPERTY_ID), true));
+    }
+
+    @Test
+    void queryAssets_shouldMatchContainedValue_whenPropertyIsArray() {
+        var asset = Asset.Builder.newInstance()
+                .id("id1")
+                .property("tags", List.of("foo", "bar"))
+                .dataAddress(DataAddress.Builder.newInstance().type("type").build())
+                .build();
+        sqlAssetIndex.create(asset);
+
+        var result = sqlAssetIndex.queryAssets(QuerySpec.Builder.newInstance()
+                .filter(criterion("tags", "contains", "bar"))
+                .build());
+
+        assertThat(result).extracting(Asset::getId).containsExactly("id1");
+    }
+
+    @Override
+    protected SqlAssetIndex getAssetIndex() {
+        return sqlAssetIndex;
+    }
+
+}
@@ -14,10 +14,13 @@
 
 package org.eclipse.edc.connector.controlplane.store.sql.assetindex;
 
+import org.eclipse.edc.boot.system.injection.ObjectFactory;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.DataAddressResolver;
+import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.AssetStatements;
 import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.configuration.Config;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -28,7 +31,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.controlplane.store.sql.assetindex.SqlAssetIndexServiceExtension.DATASOURCE_SETTING_NAME;
+import static org.eclipse.edc.connector.controlplane.store.sql.assetindex.SqlAssetIndexServiceExtension.PROPERTIES_JSONB_SETTING;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -57,4 +62,19 @@ public class SqlAssetIndexServiceExtensionTest {
 
         verify(config).getString(DATASOURCE_SETTING_NAME, DataSourceRegistry.DEFAULT_DATASOURCE);
     }
+
+    @Test
+    void shouldWarn_whenJsonbEnabledWithCustomDialect(ServiceExtensionContext context, ObjectFactory factory) {
+        Monitor monitor = mock();
+        var config = mock(Config.class);
+        when(context.getMonitor()).thenReturn(monitor);
+        when(context.getConfig()).thenReturn(config);
+        when(config.getString(any(), any())).thenReturn("test");
+        when(config.getBoolean(PROPERTIES_JSONB_SETTING, false)).thenReturn(true);
+        context.registerService(AssetStatements.class, mock());
+
+        factory.constructInstance(SqlAssetIndexServiceExtension.class).initialize(context);
+
+        verify(monitor).warning(contains(PROPERTIES_JSONB_SETTING));
+    }
 }
@@ -104,6 +104,26 @@ public class SqlContractDefinitionStore extends AbstractSqlStore implements Cont
         });
     }
 
+    @Override
+    public StoreResult<Void> saveAll(List<ContractDefinition> definitions) {
+        Objects.requireNonNull(definitions);
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var definitionIds = definitions.stream().map(ContractDefinition::getId).toList();
+                var existingIds = findExistingIds(connection, statements.getFindExistingIdsTemplate(), definitionIds);
+                if (!existingIds.isEmpty()) {
+                    return StoreResult.alreadyExists(format(CONTRACT_DEFINITION_EXISTS, String.join(", ", existingIds)));
+                }
+
+                var arguments = definitions.stream().map(this::insertArguments).toList();
+                queryExecutor.executeBatch(connection, statements.getInsertTemplate(), arguments);
+                return StoreResult.success();
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
     @Override
     public StoreResult<Void> update(ContractDefinition definition) {
         return transactionContext.execute(() -> {
@@ -153,16 +173,21 @@ public class SqlContractDefinitionStore extends AbstractSqlStore implements Cont
 
     private void insertInternal(Connection connection, ContractDefinition definition) {
         transactionContext.execute(() -> {
-            queryExecutor.execute(connection, statements.getInsertTemplate(),
-                    definition.getId(),
-                    definition.getAccessPolicyId(),
-                    definition.getContractPolicyId(),
-                    toJson(definition.getAssetsSelector()),
-                    definition.getCreatedAt(),
-                    toJson(definition.getPrivateProperties()));
+            queryExecutor.execute(connection, statements.getInsertTemplate(), insertArguments(definition));
         });
     }
 
+    private Object[] insertArguments(ContractDefinition definition) {
+        return new Object[]{
+                definition.getId(),
+                definition.getAccessPolicyId(),
+                definition.getContractPolicyId(),
+                toJson(definition.getAssetsSelector()),
+                definition.getCreatedAt(),
+                toJson(definition.getPrivateProperties())
+        };
+    }
+
     private void updateInternal(Connection connection, ContractDefinition definition) {
         Objects.requireNonNull(definition);
         queryExecutor.execute(connection, statements.getUpdateTemplate(),
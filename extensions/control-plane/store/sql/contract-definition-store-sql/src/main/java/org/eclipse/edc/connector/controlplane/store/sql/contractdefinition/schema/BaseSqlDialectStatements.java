@@ -59,6 +59,14 @@ public class BaseSqlDialectStatements implements ContractDefinitionStatements {
                 getIdColumn());
     }
 
+    @Override
+    public String getFindExistingIdsTemplate() {
+        return format("SELECT %s FROM %s WHERE %s = ANY (?)",
+                getIdColumn(),
+                getContractDefinitionTable(),
+                getIdColumn());
+    }
+
     @Override
     public String getUpdateTemplate() {
         return executeStatement()
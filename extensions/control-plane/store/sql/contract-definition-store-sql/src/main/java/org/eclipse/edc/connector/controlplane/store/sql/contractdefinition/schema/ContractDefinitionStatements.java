@@ -63,6 +63,8 @@ public interface ContractDefinitionStatements extends SqlStatements {
 
     String getCountTemplate();
 
+    String getFindExistingIdsTemplate();
+
     String getUpdateTemplate();
 
     SqlQueryStatement createQuery(QuerySpec querySpec);
@@ -42,11 +42,15 @@ import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
+import static org.eclipse.edc.transaction.spi.TransactionContext.TransactionSynchronization.afterCommit;
 
 /**
  * SQL-based implementation of the {@link ContractNegotiationStore}
@@ -56,6 +60,8 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
     private final ContractNegotiationStatements statements;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final List<TrackedColumn> trackedColumns;
+    private final Map<List<String>, String> partialUpdateTemplates = new ConcurrentHashMap<>();
 
     public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
                                        TransactionContext transactionContext, ObjectMapper objectMapper,
@@ -65,6 +71,13 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         this.statements = statements;
         this.clock = clock;
         leaseContext = SqlLeaseContextBuilder.with(transactionContext, connectorId, statements, clock, queryExecutor);
+        trackedColumns = List.of(
+                new TrackedColumn("correlationId", statements.getCorrelationIdColumn(), ContractNegotiation::getCorrelationId),
+                new TrackedColumn("contractAgreement", statements.getContractAgreementIdFkColumn(),
+                        negotiation -> ofNullable(negotiation.getContractAgreement()).map(ContractAgreement::getId).orElse(null)),
+                new TrackedColumn("contractOffers", statements.getContractOffersColumn(), negotiation -> toJson(negotiation.getContractOffers())),
+                new TrackedColumn("protocolMessages", statements.getProtocolMessagesColumn(), negotiation -> toJson(negotiation.getProtocolMessages()))
+        );
     }
 
     @Override
@@ -105,13 +118,11 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         var id = negotiation.getId();
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var existing = findInternal(connection, id);
-                if (existing == null) {
-                    insert(connection, negotiation);
-                } else {
-                    leaseContext.withConnection(connection).breakLease(id);
-                    update(connection, id, negotiation);
+                if (!negotiation.tracksChanges() || !update(connection, negotiation)) {
+                    upsert(connection, id, negotiation);
                 }
+                // restart tracking only once the changes are durable, a rollback keeps them for the next save
+                transactionContext.registerSynchronization(afterCommit(negotiation::trackChanges));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -184,7 +195,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                     var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
             ) {
                 var negotiations = stream.collect(toList());
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
+                leaseContext.withConnection(connection).acquireLeases(negotiations.stream().map(ContractNegotiation::getId).toList());
                 return negotiations;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -253,40 +264,37 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         return queryExecutor.single(connection, false, contractNegotiationMapper(), sql, id);
     }
 
-    private void update(Connection connection, String negotiationId, ContractNegotiation updatedValues) {
-        var stmt = statements.getUpdateNegotiationTemplate();
-
-        if (updatedValues.getContractAgreement() != null) {
-            upsertAgreement(updatedValues.getContractAgreement());
+    /**
+     * Writes only the state related columns and the ones of the fields changed since the negotiation has been loaded or
+     * saved. Returns false if the negotiation has not been updated, because the row does not exist (anymore).
+     */
+    private boolean update(Connection connection, ContractNegotiation negotiation) {
+        var changedFields = negotiation.changedFields();
+        var agreement = negotiation.getContractAgreement();
+        if (agreement != null && changedFields.contains("contractAgreement")) {
+            upsertAgreement(connection, agreement);
         }
 
-        queryExecutor.execute(connection, stmt,
-                updatedValues.getState(),
-                updatedValues.getStateCount(),
-                updatedValues.getStateTimestamp(),
-                updatedValues.getErrorDetail(),
-                toJson(updatedValues.getContractOffers()),
-                toJson(updatedValues.getCallbackAddresses()),
-                toJson(updatedValues.getTraceContext()),
-                ofNullable(updatedValues.getContractAgreement()).map(ContractAgreement::getId).orElse(null),
-                updatedValues.getUpdatedAt(),
-                updatedValues.isPending(),
-                updatedValues.getCorrelationId(),
-                toJson(updatedValues.getProtocolMessages()),
-                negotiationId);
+        var changedColumns = trackedColumns.stream().filter(column -> changedFields.contains(column.field())).toList();
+        var updateStatement = partialUpdateTemplates.computeIfAbsent(changedColumns.stream().map(TrackedColumn::name).toList(),
+                statements::getPartialUpdateNegotiationTemplate);
+        var values = Stream.concat(
+                Stream.<Object>of(negotiation.getState(), negotiation.getStateCount(), negotiation.getStateTimestamp(),
+                        negotiation.getErrorDetail(), negotiation.getUpdatedAt(), negotiation.isPending()),
+                changedColumns.stream().map(column -> column.value().apply(negotiation)));
+
+        return leaseContext.withConnection(connection).updateAndBreakLease(negotiation.getId(), updateStatement, values.toArray());
     }
 
-    private void insert(Connection connection, ContractNegotiation negotiation) {
-        String agrId = null;
+    private void upsert(Connection connection, String negotiationId, ContractNegotiation negotiation) {
         var agreement = negotiation.getContractAgreement();
         if (agreement != null) {
-            agrId = agreement.getId();
-            upsertAgreement(agreement);
+            upsertAgreement(connection, agreement);
         }
 
-        var stmt = statements.getInsertNegotiationTemplate();
-        queryExecutor.execute(connection, stmt,
-                negotiation.getId(),
+        var stmt = statements.getUpsertNegotiationTemplate();
+        leaseContext.withConnection(connection).upsertAndBreakLease(negotiationId, stmt,
+                negotiationId,
                 negotiation.getCorrelationId(),
                 negotiation.getCounterPartyId(),
                 negotiation.getCounterPartyAddress(),
@@ -296,7 +304,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 negotiation.getStateCount(),
                 negotiation.getStateTimestamp(),
                 negotiation.getErrorDetail(),
-                agrId,
+                ofNullable(agreement).map(ContractAgreement::getId).orElse(null),
                 toJson(negotiation.getContractOffers()),
                 toJson(negotiation.getCallbackAddresses()),
                 toJson(negotiation.getTraceContext()),
@@ -306,37 +314,15 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 toJson(negotiation.getProtocolMessages()));
     }
 
-    private void upsertAgreement(ContractAgreement contractAgreement) {
-        transactionContext.execute(() -> {
-            try (var connection = getConnection()) {
-                var agrId = contractAgreement.getId();
-
-                if (findContractAgreement(agrId) == null) {
-                    // insert agreement
-                    var sql = statements.getInsertAgreementTemplate();
-                    queryExecutor.execute(connection, sql, contractAgreement.getId(),
-                            contractAgreement.getProviderId(),
-                            contractAgreement.getConsumerId(),
-                            contractAgreement.getContractSigningDate(),
-                            contractAgreement.getAssetId(),
-                            toJson(contractAgreement.getPolicy())
-                    );
-                } else {
-                    // update agreement
-                    var query = statements.getUpdateAgreementTemplate();
-                    queryExecutor.execute(connection, query, contractAgreement.getProviderId(),
-                            contractAgreement.getConsumerId(),
-                            contractAgreement.getContractSigningDate(),
-                            contractAgreement.getAssetId(),
-                            toJson(contractAgreement.getPolicy()),
-                            agrId);
-                }
-
-            } catch (SQLException e) {
-                throw new EdcPersistenceException(e);
-            }
-        });
-
+    private void upsertAgreement(Connection connection, ContractAgreement contractAgreement) {
+        var sql = statements.getUpsertAgreementTemplate();
+        queryExecutor.execute(connection, sql, contractAgreement.getId(),
+                contractAgreement.getProviderId(),
+                contractAgreement.getConsumerId(),
+                contractAgreement.getContractSigningDate(),
+                contractAgreement.getAssetId(),
+                toJson(contractAgreement.getPolicy())
+        );
     }
 
     @Nullable
@@ -379,7 +365,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
     }
 
     private ContractNegotiation mapContractNegotiation(ResultSet resultSet, ResultSetMapper<ContractAgreement> agreementMapper) throws Exception {
-        return ContractNegotiation.Builder.newInstance()
+        var negotiation = ContractNegotiation.Builder.newInstance()
                 .id(resultSet.getString(statements.getIdColumn()))
                 .counterPartyId(resultSet.getString(statements.getCounterPartyIdColumn()))
                 .counterPartyAddress(resultSet.getString(statements.getCounterPartyAddressColumn()))
@@ -389,7 +375,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 .state(resultSet.getInt(statements.getStateColumn()))
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
                 .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
-                .contractOffers(fromJson(resultSet.getString(statements.getContractOffersColumn()), new TypeReference<>() {
+                .deferredContractOffers(lazyFromJson(resultSet.getString(statements.getContractOffersColumn()), new TypeReference<>() {
                 }))
                 .callbackAddresses(fromJson(resultSet.getString(statements.getCallbackAddressesColumn()), new TypeReference<>() {
                 }))
@@ -403,10 +389,15 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 .pending(resultSet.getBoolean(statements.getPendingColumn()))
                 .protocolMessages(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class))
                 .build();
+        negotiation.trackChanges();
+        return negotiation;
     }
 
     private ContractAgreement extractContractAgreement(ResultSet resultSet) throws SQLException {
         return resultSet.getString(statements.getContractAgreementIdFkColumn()) == null ? null : mapContractAgreement(resultSet);
     }
 
+    private record TrackedColumn(String field, String name, Function<ContractNegotiation, Object> value) {
+    }
+
 }
@@ -15,9 +15,13 @@
 package org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.schema;
 
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.List;
+import java.util.Set;
+
 import static java.lang.String.format;
 import static org.eclipse.edc.sql.statement.SqlExecuteStatement.equalTo;
 import static org.eclipse.edc.sql.statement.SqlExecuteStatement.isNull;
@@ -65,26 +69,32 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
 
     @Override
     public String getInsertNegotiationTemplate() {
-        return executeStatement()
-                .column(getIdColumn())
-                .column(getCorrelationIdColumn())
-                .column(getCounterPartyIdColumn())
-                .column(getCounterPartyAddressColumn())
-                .column(getTypeColumn())
-                .column(getProtocolColumn())
+        return negotiationColumns().insertInto(getContractNegotiationTable());
+    }
+
+    @Override
+    public String getUpsertNegotiationTemplate() {
+        return getUpsertAndReleaseLeaseTemplate(negotiationColumns());
+    }
+
+    @Override
+    public String getPartialUpdateNegotiationTemplate(List<String> changedColumns) {
+        var jsonColumns = Set.of(getContractOffersColumn(), getProtocolMessagesColumn());
+        var statement = executeStatement()
                 .column(getStateColumn())
                 .column(getStateCountColumn())
                 .column(getStateTimestampColumn())
                 .column(getErrorDetailColumn())
-                .column(getContractAgreementIdFkColumn())
-                .jsonColumn(getContractOffersColumn())
-                .jsonColumn(getCallbackAddressesColumn())
-                .jsonColumn(getTraceContextColumn())
-                .column(getCreatedAtColumn())
                 .column(getUpdatedAtColumn())
-                .column(getPendingColumn())
-                .jsonColumn(getProtocolMessagesColumn())
-                .insertInto(getContractNegotiationTable());
+                .column(getPendingColumn());
+        changedColumns.forEach(column -> {
+            if (jsonColumns.contains(column)) {
+                statement.jsonColumn(column);
+            } else {
+                statement.column(column);
+            }
+        });
+        return getUpdateAndReleaseLeaseTemplate(statement);
     }
 
     @Override
@@ -101,14 +111,7 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
 
     @Override
     public String getInsertAgreementTemplate() {
-        return executeStatement()
-                .column(getContractAgreementIdColumn())
-                .column(getProviderAgentColumn())
-                .column(getConsumerAgentColumn())
-                .column(getSigningDateColumn())
-                .column(getAssetIdColumn())
-                .jsonColumn(getPolicyColumn())
-                .insertInto(getContractAgreementTable());
+        return agreementColumns().insertInto(getContractAgreementTable());
     }
 
     @Override
@@ -123,6 +126,11 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
 
     }
 
+    @Override
+    public String getUpsertAgreementTemplate() {
+        return agreementColumns().upsertInto(getContractAgreementTable(), getContractAgreementIdColumn());
+    }
+
     @Override
     public String getSelectNegotiationsTemplate() {
         return format("SELECT * FROM %s LEFT JOIN %s agr ON %s.%s = agr.%s", getContractNegotiationTable(), getContractAgreementTable(), getContractNegotiationTable(), getContractAgreementIdFkColumn(), getContractAgreementIdColumn());
@@ -171,4 +179,46 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 getLeaseTableName(), getLeaseIdColumn(), getContractNegotiationTable(), getIdColumn());
     }
 
+    @Override
+    public String getLeasedEntityTableName() {
+        return getContractNegotiationTable();
+    }
+
+    @Override
+    public String getLeasedEntityIdColumn() {
+        return getIdColumn();
+    }
+
+    private SqlExecuteStatement negotiationColumns() {
+        return executeStatement()
+                .column(getIdColumn())
+                .column(getCorrelationIdColumn())
+                .column(getCounterPartyIdColumn())
+                .column(getCounterPartyAddressColumn())
+                .column(getTypeColumn())
+                .column(getProtocolColumn())
+                .column(getStateColumn())
+                .column(getStateCountColumn())
+                .column(getStateTimestampColumn())
+                .column(getErrorDetailColumn())
+                .column(getContractAgreementIdFkColumn())
+                .jsonColumn(getContractOffersColumn())
+                .jsonColumn(getCallbackAddressesColumn())
+                .jsonColumn(getTraceContextColumn())
+                .column(getCreatedAtColumn())
+                .column(getUpdatedAtColumn())
+                .column(getPendingColumn())
+                .jsonColumn(getProtocolMessagesColumn());
+    }
+
+    private SqlExecuteStatement agreementColumns() {
+        return executeStatement()
+                .column(getContractAgreementIdColumn())
+                .column(getProviderAgentColumn())
+                .column(getConsumerAgentColumn())
+                .column(getSigningDateColumn())
+                .column(getAssetIdColumn())
+                .jsonColumn(getPolicyColumn());
+    }
+
 }
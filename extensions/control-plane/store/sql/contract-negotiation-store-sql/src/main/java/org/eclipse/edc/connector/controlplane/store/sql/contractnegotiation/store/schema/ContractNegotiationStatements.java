@@ -19,6 +19,8 @@ import org.eclipse.edc.sql.lease.LeaseStatements;
 import org.eclipse.edc.sql.lease.StatefulEntityStatements;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.List;
+
 /**
  * Provides database-related constants, such as column names, table names and statement templates. Methods to compose
  * statements must be overridden by implementors.
@@ -32,6 +34,16 @@ public interface ContractNegotiationStatements extends StatefulEntityStatements,
 
     String getInsertNegotiationTemplate();
 
+    String getUpsertNegotiationTemplate();
+
+    /**
+     * Updates the state, state count, state timestamp, error detail, updated at and pending columns, followed by the
+     * passed ones, releasing the lease, see {@link LeaseStatements#getUpdateAndReleaseLeaseTemplate}.
+     *
+     * @param changedColumns the other columns to be updated.
+     */
+    String getPartialUpdateNegotiationTemplate(List<String> changedColumns);
+
     String getDeleteTemplate();
 
     String getSelectFromAgreementsTemplate();
@@ -40,6 +52,8 @@ public interface ContractNegotiationStatements extends StatefulEntityStatements,
 
     String getUpdateAgreementTemplate();
 
+    String getUpsertAgreementTemplate();
+
     String getSelectNegotiationsTemplate();
 
     default String getContractNegotiationTable() {
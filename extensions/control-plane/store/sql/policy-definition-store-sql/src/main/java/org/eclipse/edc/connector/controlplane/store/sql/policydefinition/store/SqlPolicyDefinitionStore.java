@@ -108,6 +108,26 @@ public class SqlPolicyDefinitionStore extends AbstractSqlStore implements Policy
         });
     }
 
+    @Override
+    public StoreResult<Void> createAll(List<PolicyDefinition> policies) {
+        Objects.requireNonNull(policies);
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var policyIds = policies.stream().map(PolicyDefinition::getId).toList();
+                var existingIds = findExistingIds(connection, statements.getFindExistingIdsTemplate(), policyIds);
+                if (!existingIds.isEmpty()) {
+                    return StoreResult.alreadyExists(format(POLICY_ALREADY_EXISTS, String.join(", ", existingIds)));
+                }
+
+                var arguments = policies.stream().map(this::insertArguments).toList();
+                queryExecutor.executeBatch(connection, statements.getInsertTemplate(), arguments);
+                return StoreResult.success();
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
     @Override
     public StoreResult<PolicyDefinition> update(PolicyDefinition policyDefinition) {
         var policyId = policyDefinition.getId();
@@ -140,27 +160,31 @@ public class SqlPolicyDefinitionStore extends AbstractSqlStore implements Policy
     private void insert(PolicyDefinition def) {
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var policy = def.getPolicy();
-                var id = def.getId();
-                queryExecutor.execute(connection, statements.getInsertTemplate(),
-                        id,
-                        toJson(policy.getPermissions(), permissionListType),
-                        toJson(policy.getProhibitions(), prohibitionListType),
-                        toJson(policy.getObligations(), dutyListType),
-                        toJson(policy.getExtensibleProperties()),
-                        policy.getInheritsFrom(),
-                        policy.getAssigner(),
-                        policy.getAssignee(),
-                        policy.getTarget(),
-                        toJson(policy.getType(), policyType),
-                        def.getCreatedAt(),
-                        toJson(def.getPrivateProperties()));
+                queryExecutor.execute(connection, statements.getInsertTemplate(), insertArguments(def));
             } catch (Exception e) {
                 throw new EdcPersistenceException(e.getMessage(), e);
             }
         });
     }
 
+    private Object[] insertArguments(PolicyDefinition def) {
+        var policy = def.getPolicy();
+        return new Object[]{
+                def.getId(),
+                toJson(policy.getPermissions(), permissionListType),
+                toJson(policy.getProhibitions(), prohibitionListType),
+                toJson(policy.getObligations(), dutyListType),
+                toJson(policy.getExtensibleProperties()),
+                policy.getInheritsFrom(),
+                policy.getAssigner(),
+                policy.getAssignee(),
+                policy.getTarget(),
+                toJson(policy.getType(), policyType),
+                def.getCreatedAt(),
+                toJson(def.getPrivateProperties())
+        };
+    }
+
     private void updateInternal(PolicyDefinition def) {
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
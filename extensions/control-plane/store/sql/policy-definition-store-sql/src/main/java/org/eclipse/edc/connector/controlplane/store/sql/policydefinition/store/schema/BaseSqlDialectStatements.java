@@ -51,6 +51,12 @@ public class BaseSqlDialectStatements implements SqlPolicyStoreStatements {
                 .insertInto(getPolicyTable());
     }
 
+    @Override
+    public String getFindExistingIdsTemplate() {
+        return String.format("SELECT %s FROM %s WHERE %s = ANY (?)",
+                getPolicyIdColumn(), getPolicyTable(), getPolicyIdColumn());
+    }
+
     @Override
     public String getUpdateTemplate() {
         return executeStatement()
@@ -35,6 +35,11 @@ public interface SqlPolicyStoreStatements extends SqlStatements {
      */
     String getInsertTemplate();
 
+    /**
+     * SELECT statement for the IDs, out of an array of IDs, that belong to existing policies.
+     */
+    String getFindExistingIdsTemplate();
+
     /**
      * UPDATE statement for policy.
      */
@@ -42,13 +42,17 @@ import java.sql.SQLException;
 import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.eclipse.edc.transaction.spi.TransactionContext.TransactionSynchronization.afterCommit;
 
 /**
  * Implementation of the {@link TransferProcessStore} based on SQL.
@@ -58,6 +62,8 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     private final String leaseHolderName;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final List<TrackedColumn> trackedColumns;
+    private final Map<List<String>, String> partialUpdateTemplates = new ConcurrentHashMap<>();
 
     public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName,
                                    TransactionContext transactionContext, ObjectMapper objectMapper,
@@ -68,6 +74,16 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         this.leaseHolderName = leaseHolderName;
         this.clock = clock;
         leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
+        trackedColumns = List.of(
+                new TrackedColumn("resourceManifest", statements.getResourceManifestColumn(), process -> toJson(process.getResourceManifest())),
+                new TrackedColumn("provisionedResourceSet", statements.getProvisionedResourceSetColumn(), process -> toJson(process.getProvisionedResourceSet())),
+                new TrackedColumn("contentDataAddress", statements.getContentDataAddressColumn(), process -> toJson(process.getContentDataAddress())),
+                new TrackedColumn("deprovisionedResources", statements.getDeprovisionedResourcesColumn(), process -> toJson(process.getDeprovisionedResources())),
+                new TrackedColumn("protocolMessages", statements.getProtocolMessagesColumn(), process -> toJson(process.getProtocolMessages())),
+                new TrackedColumn("dataPlaneId", statements.getDataPlaneIdColumn(), TransferProcess::getDataPlaneId),
+                new TrackedColumn("correlationId", statements.getCorrelationIdColumn(), TransferProcess::getCorrelationId),
+                new TrackedColumn("dataDestination", statements.getDataDestinationColumn(), process -> toJson(process.getDataDestination()))
+        );
     }
 
     @Override
@@ -83,7 +99,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                     var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var transferProcesses = stream.collect(Collectors.toList());
-                transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
+                leaseContext.withConnection(connection).acquireLeases(transferProcesses.stream().map(TransferProcess::getId).toList());
                 return transferProcesses;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -139,13 +155,11 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         Objects.requireNonNull(entity.getId(), "TransferProcesses must have an ID!");
         transactionContext.execute(() -> {
             try (var conn = getConnection()) {
-                var existing = findByIdInternal(conn, entity.getId());
-                if (existing != null) {
-                    leaseContext.by(leaseHolderName).withConnection(conn).breakLease(entity.getId());
-                    update(conn, entity);
-                } else {
-                    insert(conn, entity);
+                if (!entity.tracksChanges() || !update(conn, entity)) {
+                    upsert(conn, entity);
                 }
+                // restart tracking only once the changes are durable, a rollback keeps them for the next save
+                transactionContext.registerSynchronization(afterCommit(entity::trackChanges));
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -224,33 +238,6 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         return queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters());
     }
 
-    private void update(Connection conn, TransferProcess process) {
-        var updateStmt = statements.getUpdateTransferProcessTemplate();
-        queryExecutor.execute(conn, updateStmt,
-                process.getState(),
-                process.getStateCount(),
-                process.getStateTimestamp(),
-                process.getUpdatedAt(),
-                toJson(process.getTraceContext()),
-                process.getErrorDetail(),
-                toJson(process.getResourceManifest()),
-                toJson(process.getProvisionedResourceSet()),
-                toJson(process.getContentDataAddress()),
-                toJson(process.getDeprovisionedResources()),
-                toJson(process.getCallbackAddresses()),
-                process.isPending(),
-                process.getTransferType(),
-                toJson(process.getProtocolMessages()),
-                process.getDataPlaneId(),
-                process.getCorrelationId(),
-                process.getCounterPartyAddress(),
-                process.getProtocol(),
-                process.getAssetId(),
-                process.getContractId(),
-                toJson(process.getDataDestination()),
-                process.getId());
-    }
-
     /**
      * Returns either a single element from the list, or null if empty. Throws an IllegalStateException if the list has
      * more than 1 element
@@ -267,9 +254,27 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         return format("Expected to find %d items, but found %d", expectedSize, actualSize);
     }
 
-    private void insert(Connection conn, TransferProcess process) {
-        var insertTpStatement = statements.getInsertStatement();
-        queryExecutor.execute(conn, insertTpStatement, process.getId(),
+    /**
+     * Writes only the state related columns and the ones of the fields changed since the process has been loaded or
+     * saved. Returns false if the process has not been updated, because the row does not exist (anymore).
+     */
+    private boolean update(Connection conn, TransferProcess process) {
+        var changedFields = process.changedFields();
+        var changedColumns = trackedColumns.stream().filter(column -> changedFields.contains(column.field())).toList();
+        var updateStatement = partialUpdateTemplates.computeIfAbsent(changedColumns.stream().map(TrackedColumn::name).toList(),
+                statements::getPartialUpdateTransferProcessTemplate);
+        var values = Stream.concat(
+                Stream.<Object>of(process.getState(), process.getStateCount(), process.getStateTimestamp(), process.getUpdatedAt(),
+                        process.getErrorDetail(), process.isPending()),
+                changedColumns.stream().map(column -> column.value().apply(process)));
+
+        return leaseContext.by(leaseHolderName).withConnection(conn).updateAndBreakLease(process.getId(), updateStatement, values.toArray());
+    }
+
+    private void upsert(Connection conn, TransferProcess process) {
+        var upsertStatement = statements.getUpsertTransferProcessTemplate();
+        leaseContext.by(leaseHolderName).withConnection(conn).upsertAndBreakLease(process.getId(), upsertStatement,
+                process.getId(),
                 process.getState(),
                 process.getStateCount(),
                 process.getStateTimestamp(),
@@ -297,7 +302,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     }
 
     private TransferProcess mapTransferProcess(ResultSet resultSet) throws SQLException {
-        return TransferProcess.Builder.newInstance()
+        var transferProcess = TransferProcess.Builder.newInstance()
                 .id(resultSet.getString(statements.getIdColumn()))
                 .type(TransferProcess.Type.valueOf(resultSet.getString(statements.getTypeColumn())))
                 .createdAt(resultSet.getLong(statements.getCreatedAtColumn()))
@@ -307,16 +312,16 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
                 .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
                 .resourceManifest(fromJson(resultSet.getString(statements.getResourceManifestColumn()), ResourceManifest.class))
-                .provisionedResourceSet(fromJson(resultSet.getString(statements.getProvisionedResourceSetColumn()), ProvisionedResourceSet.class))
+                .deferredProvisionedResourceSet(lazyFromJson(resultSet.getString(statements.getProvisionedResourceSetColumn()), ProvisionedResourceSet.class))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
                 .correlationId(resultSet.getString(statements.getCorrelationIdColumn()))
                 .assetId(resultSet.getString(statements.getAssetIdColumn()))
                 .protocol(resultSet.getString(statements.getProtocolColumn()))
-                .dataDestination(fromJson(resultSet.getString(statements.getDataDestinationColumn()), DataAddress.class))
+                .deferredDataDestination(lazyFromJson(resultSet.getString(statements.getDataDestinationColumn()), DataAddress.class))
                 .counterPartyAddress(resultSet.getString(statements.getCounterPartyAddressColumn()))
                 .contractId(resultSet.getString(statements.getContractIdColumn()))
-                .contentDataAddress(fromJson(resultSet.getString(statements.getContentDataAddressColumn()), DataAddress.class))
-                .deprovisionedResources(fromJson(resultSet.getString(statements.getDeprovisionedResourcesColumn()), new TypeReference<>() {
+                .deferredContentDataAddress(lazyFromJson(resultSet.getString(statements.getContentDataAddressColumn()), DataAddress.class))
+                .deferredDeprovisionedResources(lazyFromJson(resultSet.getString(statements.getDeprovisionedResourcesColumn()), new TypeReference<>() {
                 }))
                 .callbackAddresses(fromJson(resultSet.getString(statements.getCallbackAddressesColumn()), new TypeReference<>() {
                 }))
@@ -326,6 +331,11 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 .protocolMessages(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class))
                 .dataPlaneId(resultSet.getString(statements.getDataPlaneIdColumn()))
                 .build();
+        transferProcess.trackChanges();
+        return transferProcess;
+    }
+
+    private record TrackedColumn(String field, String name, Function<TransferProcess, Object> value) {
     }
 
 }
@@ -17,9 +17,13 @@ package org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.s
 
 import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres.TransferProcessMapping;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.List;
+import java.util.Set;
+
 import static java.lang.String.format;
 
 /**
@@ -61,23 +65,39 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 getLeaseTableName(), getLeaseIdColumn(), getTransferProcessTableName(), getIdColumn());
     }
 
+    @Override
+    public String getLeasedEntityTableName() {
+        return getTransferProcessTableName();
+    }
+
+    @Override
+    public String getLeasedEntityIdColumn() {
+        return getIdColumn();
+    }
+
     @Override
     public String getInsertStatement() {
+        return transferProcessColumns().insertInto(getTransferProcessTableName());
+    }
+
+    @Override
+    public String getDeleteTransferProcessTemplate() {
+        return executeStatement().delete(getTransferProcessTableName(), getIdColumn());
+    }
+
+    @Override
+    public String getUpdateTransferProcessTemplate() {
         return executeStatement()
-                .column(getIdColumn())
                 .column(getStateColumn())
                 .column(getStateCountColumn())
                 .column(getStateTimestampColumn())
-                .column(getCreatedAtColumn())
                 .column(getUpdatedAtColumn())
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .jsonColumn(getResourceManifestColumn())
                 .jsonColumn(getProvisionedResourceSetColumn())
                 .jsonColumn(getContentDataAddressColumn())
-                .column(getTypeColumn())
                 .jsonColumn(getDeprovisionedResourcesColumn())
-                .jsonColumn(getPrivatePropertiesColumn())
                 .jsonColumn(getCallbackAddressesColumn())
                 .column(getPendingColumn())
                 .column(getTransferTypeColumn())
@@ -89,27 +109,61 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .column(getAssetIdColumn())
                 .column(getContractIdColumn())
                 .jsonColumn(getDataDestinationColumn())
-                .insertInto(getTransferProcessTableName());
+                .update(getTransferProcessTableName(), getIdColumn());
     }
 
     @Override
-    public String getDeleteTransferProcessTemplate() {
-        return executeStatement().delete(getTransferProcessTableName(), getIdColumn());
+    public String getUpsertTransferProcessTemplate() {
+        return getUpsertAndReleaseLeaseTemplate(transferProcessColumns());
     }
 
     @Override
-    public String getUpdateTransferProcessTemplate() {
+    public String getPartialUpdateTransferProcessTemplate(List<String> changedColumns) {
+        var jsonColumns = Set.of(getResourceManifestColumn(), getProvisionedResourceSetColumn(), getContentDataAddressColumn(),
+                getDeprovisionedResourcesColumn(), getProtocolMessagesColumn(), getDataDestinationColumn());
+        var statement = executeStatement()
+                .column(getStateColumn())
+                .column(getStateCountColumn())
+                .column(getStateTimestampColumn())
+                .column(getUpdatedAtColumn())
+                .column(getErrorDetailColumn())
+                .column(getPendingColumn());
+        changedColumns.forEach(column -> {
+            if (jsonColumns.contains(column)) {
+                statement.jsonColumn(column);
+            } else {
+                statement.column(column);
+            }
+        });
+        return getUpdateAndReleaseLeaseTemplate(statement);
+    }
+
+    @Override
+    public String getSelectTemplate() {
+        return "SELECT * FROM %s".formatted(getTransferProcessTableName());
+    }
+
+    @Override
+    public SqlQueryStatement createQuery(QuerySpec querySpec) {
+        return new SqlQueryStatement(getSelectTemplate(), querySpec, new TransferProcessMapping(this), operatorTranslator);
+    }
+
+    private SqlExecuteStatement transferProcessColumns() {
         return executeStatement()
+                .column(getIdColumn())
                 .column(getStateColumn())
                 .column(getStateCountColumn())
                 .column(getStateTimestampColumn())
+                .column(getCreatedAtColumn())
                 .column(getUpdatedAtColumn())
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .jsonColumn(getResourceManifestColumn())
                 .jsonColumn(getProvisionedResourceSetColumn())
                 .jsonColumn(getContentDataAddressColumn())
+                .column(getTypeColumn())
                 .jsonColumn(getDeprovisionedResourcesColumn())
+                .jsonColumn(getPrivatePropertiesColumn())
                 .jsonColumn(getCallbackAddressesColumn())
                 .column(getPendingColumn())
                 .column(getTransferTypeColumn())
@@ -120,18 +174,7 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .column(getProtocolColumn())
                 .column(getAssetIdColumn())
                 .column(getContractIdColumn())
-                .jsonColumn(getDataDestinationColumn())
-                .update(getTransferProcessTableName(), getIdColumn());
-    }
-
-    @Override
-    public String getSelectTemplate() {
-        return "SELECT * FROM %s".formatted(getTransferProcessTableName());
-    }
-
-    @Override
-    public SqlQueryStatement createQuery(QuerySpec querySpec) {
-        return new SqlQueryStatement(getSelectTemplate(), querySpec, new TransferProcessMapping(this), operatorTranslator);
+                .jsonColumn(getDataDestinationColumn());
     }
 
 }
@@ -21,6 +21,8 @@ import org.eclipse.edc.sql.lease.LeaseStatements;
 import org.eclipse.edc.sql.lease.StatefulEntityStatements;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.List;
+
 /**
  * Statement templates and SQL table+column names required for the TransferProcessStore
  */
@@ -33,6 +35,16 @@ public interface TransferProcessStoreStatements extends StatefulEntityStatements
 
     String getUpdateTransferProcessTemplate();
 
+    String getUpsertTransferProcessTemplate();
+
+    /**
+     * Updates the state, state count, state timestamp, updated at, error detail and pending columns, followed by the
+     * passed ones, releasing the lease, see {@link LeaseStatements#getUpdateAndReleaseLeaseTemplate}.
+     *
+     * @param changedColumns the other columns to be updated.
+     */
+    String getPartialUpdateTransferProcessTemplate(List<String> changedColumns);
+
     String getSelectTemplate();
 
     default String getTransferProcessTableName() {
@@ -144,7 +144,7 @@ public class SqlDataPlaneInstanceStore extends AbstractSqlStore implements DataP
                     var stream = queryExecutor.query(connection, true, this::mapResultSet, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
+                leaseContext.withConnection(connection).acquireLeases(entries.stream().map(DataPlaneInstance::getId).toList());
                 return entries;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -90,7 +90,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                     var stream = queryExecutor.query(connection, true, this::mapDataFlow, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
+                leaseContext.withConnection(connection).acquireLeases(entries.stream().map(DataFlow::getId).toList());
                 return entries;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -121,22 +121,16 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
     public void save(DataFlow entity) {
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var existing = findByIdInternal(connection, entity.getId());
-                if (existing != null) {
-                    leaseContext.by(leaseHolderName).withConnection(connection).breakLease(entity.getId());
-                    update(connection, entity);
-                } else {
-                    insert(connection, entity);
-                }
+                upsert(connection, entity);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
-    private void insert(Connection connection, DataFlow dataFlow) {
-        var sql = statements.getInsertTemplate();
-        queryExecutor.execute(connection, sql,
+    private void upsert(Connection connection, DataFlow dataFlow) {
+        var sql = statements.getUpsertTemplate();
+        leaseContext.by(leaseHolderName).withConnection(connection).upsertAndBreakLease(dataFlow.getId(), sql,
                 dataFlow.getId(),
                 dataFlow.getState(),
                 dataFlow.getCreatedAt(),
@@ -153,23 +147,6 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
         );
     }
 
-    private void update(Connection connection, DataFlow dataFlow) {
-        var sql = statements.getUpdateTemplate();
-        queryExecutor.execute(connection, sql,
-                dataFlow.getState(),
-                dataFlow.getUpdatedAt(),
-                dataFlow.getStateCount(),
-                dataFlow.getStateTimestamp(),
-                toJson(dataFlow.getTraceContext()),
-                dataFlow.getErrorDetail(),
-                Optional.ofNullable(dataFlow.getCallbackAddress()).map(URI::toString).orElse(null),
-                toJson(dataFlow.getSource()),
-                toJson(dataFlow.getDestination()),
-                toJson(dataFlow.getProperties()),
-                dataFlow.getFlowType().toString(),
-                dataFlow.getId());
-    }
-
     private DataFlow mapDataFlow(ResultSet resultSet) throws SQLException {
         return DataFlow.Builder.newInstance()
                 .id(resultSet.getString(statements.getIdColumn()))
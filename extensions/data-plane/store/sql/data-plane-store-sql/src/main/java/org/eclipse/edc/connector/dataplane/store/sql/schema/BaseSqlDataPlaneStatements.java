@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.store.sql.schema;
 
 import org.eclipse.edc.connector.dataplane.store.sql.schema.postgres.DataPlaneMapping;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
@@ -31,21 +32,7 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
 
     @Override
     public String getInsertTemplate() {
-        return executeStatement()
-                .column(getIdColumn())
-                .column(getStateColumn())
-                .column(getCreatedAtColumn())
-                .column(getUpdatedAtColumn())
-                .column(getStateCountColumn())
-                .column(getStateTimestampColumn())
-                .jsonColumn(getTraceContextColumn())
-                .column(getErrorDetailColumn())
-                .column(getCallbackAddressColumn())
-                .jsonColumn(getSourceColumn())
-                .jsonColumn(getDestinationColumn())
-                .jsonColumn(getPropertiesColumn())
-                .column(getFlowTypeColumn())
-                .insertInto(getDataPlaneTable());
+        return dataFlowColumns().insertInto(getDataPlaneTable());
     }
 
     @Override
@@ -65,6 +52,11 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
                 .update(getDataPlaneTable(), getIdColumn());
     }
 
+    @Override
+    public String getUpsertTemplate() {
+        return getUpsertAndReleaseLeaseTemplate(dataFlowColumns());
+    }
+
     @Override
     public String getSelectTemplate() {
         return "SELECT * FROM %s".formatted(getDataPlaneTable());
@@ -102,4 +94,31 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
         return format("SELECT * FROM %s  WHERE %s = (SELECT lease_id FROM %s WHERE %s=? )",
                 getLeaseTableName(), getLeaseIdColumn(), getDataPlaneTable(), getIdColumn());
     }
+
+    @Override
+    public String getLeasedEntityTableName() {
+        return getDataPlaneTable();
+    }
+
+    @Override
+    public String getLeasedEntityIdColumn() {
+        return getIdColumn();
+    }
+
+    private SqlExecuteStatement dataFlowColumns() {
+        return executeStatement()
+                .column(getIdColumn())
+                .column(getStateColumn())
+                .column(getCreatedAtColumn())
+                .column(getUpdatedAtColumn())
+                .column(getStateCountColumn())
+                .column(getStateTimestampColumn())
+                .jsonColumn(getTraceContextColumn())
+                .column(getErrorDetailColumn())
+                .column(getCallbackAddressColumn())
+                .jsonColumn(getSourceColumn())
+                .jsonColumn(getDestinationColumn())
+                .jsonColumn(getPropertiesColumn())
+                .column(getFlowTypeColumn());
+    }
 }
@@ -56,6 +56,8 @@ public interface DataPlaneStatements extends StatefulEntityStatements, LeaseStat
 
     String getUpdateTemplate();
 
+    String getUpsertTemplate();
+
     String getSelectTemplate();
 
     SqlQueryStatement createQuery(QuerySpec querySpec);
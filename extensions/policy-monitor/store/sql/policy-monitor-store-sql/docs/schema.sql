@@ -28,5 +28,10 @@ CREATE TABLE IF NOT EXISTS edc_policy_monitor
                     REFERENCES edc_lease
                     ON DELETE SET NULL,
     properties           JSON,
-    contract_id          VARCHAR
+    contract_id          VARCHAR,
+    next_evaluation      BIGINT  DEFAULT 0 NOT NULL
 );
+
+COMMENT ON COLUMN edc_policy_monitor.next_evaluation IS 'point in time (epoch millis) from which the entry needs to be evaluated again';
+
+CREATE INDEX IF NOT EXISTS policy_monitor_state_next_evaluation_index ON edc_policy_monitor (state, next_evaluation);
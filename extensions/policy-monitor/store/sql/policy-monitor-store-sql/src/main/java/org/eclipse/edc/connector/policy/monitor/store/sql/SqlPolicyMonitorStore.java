@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.policy.monitor.store.sql.schema.PolicyMonitorSt
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
@@ -83,7 +84,34 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                     var stream = queryExecutor.query(connection, true, this::mapEntry, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
+                leaseContext.withConnection(connection).acquireLeases(entries.stream().map(PolicyMonitorEntry::getId).toList());
+                return entries;
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public @NotNull List<PolicyMonitorEntry> nextDueNotLeased(int max, Criterion... criteria) {
+        return transactionContext.execute(() -> {
+            var now = clock.millis();
+            var querySpec = QuerySpec.Builder.newInstance()
+                    .filter(Arrays.stream(criteria).toList())
+                    .sortField("nextEvaluation")
+                    .sortOrder(SortOrder.ASC)
+                    .limit(max)
+                    .build();
+            var statement = statements.createQuery(querySpec)
+                    .addWhereClause(statements.getNotLeasedFilter(), now)
+                    .addWhereClause(statements.getDueFilter(), now);
+
+            try (
+                    var connection = getConnection();
+                    var stream = queryExecutor.query(connection, true, this::mapEntry, statement.getQueryAsString(), statement.getParameters())
+            ) {
+                var entries = stream.collect(Collectors.toList());
+                leaseContext.withConnection(connection).acquireLeases(entries.stream().map(PolicyMonitorEntry::getId).toList());
                 return entries;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -114,13 +142,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
     public void save(PolicyMonitorEntry entity) {
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var existing = findByIdInternal(connection, entity.getId());
-                if (existing != null) {
-                    leaseContext.by(leaseHolderName).withConnection(connection).breakLease(entity.getId());
-                    update(connection, entity);
-                } else {
-                    insert(connection, entity);
-                }
+                upsert(connection, entity);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -136,9 +158,9 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
         });
     }
 
-    private void insert(Connection connection, PolicyMonitorEntry entry) {
-        var sql = statements.getInsertTemplate();
-        queryExecutor.execute(connection, sql,
+    private void upsert(Connection connection, PolicyMonitorEntry entry) {
+        var sql = statements.getUpsertTemplate();
+        leaseContext.by(leaseHolderName).withConnection(connection).upsertAndBreakLease(entry.getId(), sql,
                 entry.getId(),
                 entry.getState(),
                 entry.getCreatedAt(),
@@ -147,21 +169,9 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 entry.getStateTimestamp(),
                 toJson(entry.getTraceContext()),
                 entry.getErrorDetail(),
-                entry.getContractId()
-        );
-    }
-
-    private void update(Connection connection, PolicyMonitorEntry entry) {
-        var sql = statements.getUpdateTemplate();
-        queryExecutor.execute(connection, sql,
-                entry.getState(),
-                entry.getUpdatedAt(),
-                entry.getStateCount(),
-                entry.getStateTimestamp(),
-                toJson(entry.getTraceContext()),
-                entry.getErrorDetail(),
                 entry.getContractId(),
-                entry.getId());
+                entry.getNextEvaluation()
+        );
     }
 
     private PolicyMonitorEntry mapEntry(ResultSet resultSet) throws SQLException {
@@ -175,6 +185,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
                 .contractId(resultSet.getString(statements.getContractIdColumn()))
+                .nextEvaluation(resultSet.getLong(statements.getNextEvaluationColumn()))
                 .build();
     }
 }
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.policy.monitor.store.sql.schema;
 
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
@@ -30,17 +31,7 @@ public class BaseSqlPolicyMonitorStatements implements PolicyMonitorStatements {
 
     @Override
     public String getInsertTemplate() {
-        return executeStatement()
-                .column(getIdColumn())
-                .column(getStateColumn())
-                .column(getCreatedAtColumn())
-                .column(getUpdatedAtColumn())
-                .column(getStateCountColumn())
-                .column(getStateTimestampColumn())
-                .jsonColumn(getTraceContextColumn())
-                .column(getErrorDetailColumn())
-                .column(getContractIdColumn())
-                .insertInto(getPolicyMonitorTable());
+        return entryColumns().insertInto(getPolicyMonitorTable());
     }
 
     @Override
@@ -53,9 +44,15 @@ public class BaseSqlPolicyMonitorStatements implements PolicyMonitorStatements {
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .column(getContractIdColumn())
+                .column(getNextEvaluationColumn())
                 .update(getPolicyMonitorTable(), getIdColumn());
     }
 
+    @Override
+    public String getUpsertTemplate() {
+        return getUpsertAndReleaseLeaseTemplate(entryColumns());
+    }
+
     @Override
     public String getSelectTemplate() {
         return "SELECT * FROM %s".formatted(getPolicyMonitorTable());
@@ -93,4 +90,28 @@ public class BaseSqlPolicyMonitorStatements implements PolicyMonitorStatements {
         return format("SELECT * FROM %s WHERE %s = (SELECT lease_id FROM %s WHERE %s=? )",
                 getLeaseTableName(), getLeaseIdColumn(), getPolicyMonitorTable(), getIdColumn());
     }
+
+    @Override
+    public String getLeasedEntityTableName() {
+        return getPolicyMonitorTable();
+    }
+
+    @Override
+    public String getLeasedEntityIdColumn() {
+        return getIdColumn();
+    }
+
+    private SqlExecuteStatement entryColumns() {
+        return executeStatement()
+                .column(getIdColumn())
+                .column(getStateColumn())
+                .column(getCreatedAtColumn())
+                .column(getUpdatedAtColumn())
+                .column(getStateCountColumn())
+                .column(getStateTimestampColumn())
+                .jsonColumn(getTraceContextColumn())
+                .column(getErrorDetailColumn())
+                .column(getContractIdColumn())
+                .column(getNextEvaluationColumn());
+    }
 }
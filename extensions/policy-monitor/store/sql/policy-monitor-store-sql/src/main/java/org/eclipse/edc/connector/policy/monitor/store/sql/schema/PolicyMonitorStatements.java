@@ -33,10 +33,23 @@ public interface PolicyMonitorStatements extends StatefulEntityStatements, Lease
         return "contract_id";
     }
 
+    default String getNextEvaluationColumn() {
+        return "next_evaluation";
+    }
+
+    /**
+     * WHERE clause that selects the entries whose next evaluation is due at the given time.
+     */
+    default String getDueFilter() {
+        return "%s <= ?".formatted(getNextEvaluationColumn());
+    }
+
     String getInsertTemplate();
 
     String getUpdateTemplate();
 
+    String getUpsertTemplate();
+
     String getSelectTemplate();
 
     SqlQueryStatement createQuery(QuerySpec querySpec);
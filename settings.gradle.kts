@@ -267,6 +267,7 @@ include(":spi:policy-monitor:policy-monitor-spi")
 include(":tests:junit-base")
 
 // modules for system tests ------------------------------------------------------------------------
+include(":system-tests:benchmarks")
 include(":system-tests:e2e-transfer-test:control-plane")
 include(":system-tests:e2e-transfer-test:data-plane")
 include(":system-tests:e2e-transfer-test:runner")
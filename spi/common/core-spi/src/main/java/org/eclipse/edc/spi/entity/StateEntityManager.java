@@ -28,4 +28,12 @@ public interface StateEntityManager {
      * stop the manager.
      */
     void stop();
+
+    /**
+     * Signals the manager that some entities could need to be processed, so it shouldn't wait for the next polling
+     * iteration. Managers that don't support it just ignore the signal.
+     */
+    default void wakeUp() {
+
+    }
 }
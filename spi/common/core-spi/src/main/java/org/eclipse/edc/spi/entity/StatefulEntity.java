@@ -21,7 +21,9 @@ import org.eclipse.edc.spi.telemetry.TraceCarrier;
 import java.time.Clock;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -36,10 +38,11 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
     protected Map<String, String> traceContext = new HashMap<>();
     protected String errorDetail;
     protected boolean pending = false;
+    private Set<String> changedFields;
 
     protected StatefulEntity() {
     }
-    
+
     public int getState() {
         return state;
     }
@@ -82,6 +85,33 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
         stateTimestamp = clock.millis();
     }
 
+    /**
+     * Starts tracking which fields get changed, discarding the changes tracked so far. Stores call this on the entities
+     * they load, and on the entities they save once the transaction has been committed, so that saving them again only
+     * needs to write the fields that have been changed.
+     */
+    public void trackChanges() {
+        changedFields = new HashSet<>();
+    }
+
+    /**
+     * Whether changes are being tracked, see {@link #trackChanges()}. If they are not, every field has to be considered
+     * changed.
+     */
+    public boolean tracksChanges() {
+        return changedFields != null;
+    }
+
+    /**
+     * Returns the names of the fields changed since {@link #trackChanges()} has been called. The fields declared by this
+     * class are not tracked, as they potentially change on every transition.
+     *
+     * @return the changed fields, empty if changes are not tracked.
+     */
+    public Set<String> changedFields() {
+        return changedFields == null ? Collections.emptySet() : Collections.unmodifiableSet(changedFields);
+    }
+
     public abstract T copy();
 
     /**
@@ -98,6 +128,17 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
         setModified();
     }
 
+    /**
+     * Records a change on a field of a subclass, to be called by every method that modifies it.
+     *
+     * @param field the name of the field.
+     */
+    protected void changed(String field) {
+        if (changedFields != null) {
+            changedFields.add(field);
+        }
+    }
+
     protected <B extends Builder<T, B>> T copy(Builder<T, B> builder) {
         return builder
                 .id(id)
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.jsonld.spi;
 
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.spi.result.Result;
 
@@ -52,6 +54,31 @@ public interface JsonLd {
      */
     Result<JsonObject> compact(JsonObject json, String scope);
 
+    /**
+     * Compact every {@link JsonObject} contained in a {@link JsonArray}, other values are kept as they are. Every
+     * compacted object carries the context, as if it was compacted on its own with {@link #compact(JsonObject, String)}.
+     * Implementations may compact all the objects in a single pass.
+     *
+     * @param json  the expanded json objects.
+     * @param scope the scope to apply during the compaction process
+     * @return a successful {@link Result} containing the compacted {@link JsonArray} if the operation succeed, a failed one otherwise
+     */
+    default Result<JsonArray> compactAll(JsonArray json, String scope) {
+        var builder = Json.createArrayBuilder();
+        for (var value : json) {
+            if (value instanceof JsonObject jsonObject) {
+                var compacted = compact(jsonObject, scope);
+                if (compacted.failed()) {
+                    return compacted.mapFailure();
+                }
+                builder.add(compacted.getContent());
+            } else {
+                builder.add(value);
+            }
+        }
+        return Result.success(builder.build());
+    }
+
     /**
      * Register a JsonLD namespace in the default scope
      *
@@ -44,6 +44,8 @@ public class NoopTransactionContext implements TransactionContext {
     private void notifyAndClearSyncs() {
         var syncList = synchronizations.get();
         syncList.forEach(TransactionSynchronization::beforeCompletion);
+        syncList.forEach(TransactionSynchronization::afterCompletion);
+        syncList.forEach(TransactionSynchronization::afterCommit);
         syncList.clear();
     }
 
@@ -40,7 +40,7 @@ public interface TransactionContext {
     <T> T execute(ResultTransactionBlock<T> block);
 
     /**
-     * Registers a synchronization that will be called before a transaction commits or is rolled back.
+     * Registers a synchronization that will be called before and after a transaction commits or is rolled back.
      */
     void registerSynchronization(TransactionSynchronization sync);
 
@@ -66,10 +66,59 @@ public interface TransactionContext {
     }
 
     /**
-     * Implementations receive callbacks before a transaction commits or is rolled back.
+     * Implementations receive callbacks before and after a transaction commits or is rolled back.
      */
     @FunctionalInterface
     interface TransactionSynchronization {
+
+        /**
+         * Creates a synchronization that runs the action once the transaction has been completed.
+         */
+        static TransactionSynchronization afterCompletion(Runnable action) {
+            return new TransactionSynchronization() {
+                @Override
+                public void beforeCompletion() {
+
+                }
+
+                @Override
+                public void afterCompletion() {
+                    action.run();
+                }
+            };
+        }
+
+        /**
+         * Creates a synchronization that runs the action only if the transaction has been committed successfully.
+         */
+        static TransactionSynchronization afterCommit(Runnable action) {
+            return new TransactionSynchronization() {
+                @Override
+                public void beforeCompletion() {
+
+                }
+
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            };
+        }
+
         void beforeCompletion();
+
+        /**
+         * Called after the transaction has been committed or rolled back.
+         */
+        default void afterCompletion() {
+
+        }
+
+        /**
+         * Called after {@link #afterCompletion()} if the transaction has been committed successfully. Not called on rollback.
+         */
+        default void afterCommit() {
+
+        }
     }
 }
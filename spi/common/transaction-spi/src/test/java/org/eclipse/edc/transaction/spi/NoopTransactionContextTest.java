@@ -36,6 +36,7 @@ class NoopTransactionContextTest {
         });
 
         verify(sync, times(1)).beforeCompletion();
+        verify(sync, times(1)).afterCompletion();
     }
 
     @BeforeEach
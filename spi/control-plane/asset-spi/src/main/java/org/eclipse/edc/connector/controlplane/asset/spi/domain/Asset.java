@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
@@ -49,7 +50,7 @@ public class Asset extends Entity {
     public static final String EDC_ASSET_DATA_ADDRESS = EDC_NAMESPACE + "dataAddress";
     private final Map<String, Object> properties = new HashMap<>();
     private final Map<String, Object> privateProperties = new HashMap<>();
-    private DataAddress dataAddress;
+    private Supplier<DataAddress> dataAddress = () -> null;
 
     private Asset() {
     }
@@ -110,7 +111,7 @@ public class Asset extends Entity {
     }
 
     public DataAddress getDataAddress() {
-        return dataAddress;
+        return dataAddress.get();
     }
 
     public Builder toBuilder() {
@@ -118,7 +119,7 @@ public class Asset extends Entity {
                 .id(id)
                 .properties(properties)
                 .privateProperties(privateProperties)
-                .dataAddress(dataAddress)
+                .deferredDataAddress(dataAddress)
                 .createdAt(createdAt);
     }
 
@@ -210,6 +211,14 @@ public class Asset extends Entity {
         }
 
         public Builder dataAddress(DataAddress dataAddress) {
+            return deferredDataAddress(() -> dataAddress);
+        }
+
+        /**
+         * Sets the data address, that will be obtained from the supplier on first access.
+         */
+        @JsonIgnore
+        public Builder deferredDataAddress(Supplier<DataAddress> dataAddress) {
             entity.dataAddress = dataAddress;
             return self();
         }
@@ -25,6 +25,8 @@ import org.eclipse.edc.spi.result.StoreResult;
 import java.util.List;
 import java.util.stream.Stream;
 
+import static java.lang.String.format;
+
 /**
  * Query interface for {@link Asset} objects.
  * <br>
@@ -70,6 +72,31 @@ public interface AssetIndex extends DataAddressResolver {
      */
     StoreResult<Void> create(Asset asset);
 
+    /**
+     * Stores all the {@link Asset}s in the asset index, if none of their IDs already exists. Either all assets are stored
+     * or none is.
+     * <p>
+     * The default implementation checks for existing IDs first and then stores the assets one by one, implementors
+     * should override it when the backend offers a more efficient bulk insert.
+     *
+     * @param assets The {@link Asset}s to store
+     * @return {@link StoreResult#success()} if the objects were stored, {@link StoreResult#alreadyExists(String)} when an object with the same ID already exists.
+     */
+    default StoreResult<Void> createAll(List<Asset> assets) {
+        var existingIds = assets.stream().map(Asset::getId).filter(id -> findById(id) != null).toList();
+        if (!existingIds.isEmpty()) {
+            return StoreResult.alreadyExists(format(ASSET_EXISTS_TEMPLATE, String.join(", ", existingIds)));
+        }
+
+        for (var asset : assets) {
+            var result = create(asset);
+            if (result.failed()) {
+                return result;
+            }
+        }
+        return StoreResult.success();
+    }
+
     /**
      * Deletes an asset if it exists.
      *
@@ -159,6 +159,34 @@ public abstract class AssetIndexTestBase {
         }
     }
 
+    @Nested
+    class CreateAll {
+        @Test
+        void shouldStoreAllAssets() {
+            var assets = range(0, 5).mapToObj(i -> createAsset("test-asset", "id" + i)).toList();
+
+            var result = getAssetIndex().createAll(assets);
+
+            assertThat(result.succeeded()).isTrue();
+            assertThat(getAssetIndex().queryAssets(QuerySpec.none())).hasSize(5)
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyInAnyOrderElementsOf(assets);
+        }
+
+        @Test
+        void shouldStoreNothing_whenAnAssetAlreadyExists() {
+            var existing = createAsset("test-asset", "existing");
+            getAssetIndex().create(existing);
+
+            var result = getAssetIndex().createAll(List.of(createAsset("test-asset", "new"), createAsset("test-asset", "existing")));
+
+            assertThat(result.succeeded()).isFalse();
+            assertThat(result.reason()).isEqualTo(ALREADY_EXISTS);
+            assertThat(result.getFailureDetail()).contains("existing");
+            assertThat(getAssetIndex().findById("new")).isNull();
+        }
+    }
+
     @Nested
     class DeleteById {
 
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.catalog.spi;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Caches the {@link Dataset}s resolved by the {@link DatasetResolver} for a catalog request. The default implementation
+ * is local to the runtime, a shared implementation can be provided to share entries between the replicas of a
+ * connector.
+ */
+@ExtensionPoint
+public interface DatasetCache {
+
+    /**
+     * Returns the cached datasets.
+     *
+     * @param key the cache key, derived from the participant agent and the query.
+     * @return the datasets, null if there is no valid entry for the key.
+     */
+    @Nullable
+    List<Dataset> get(String key);
+
+    /**
+     * Caches the datasets.
+     *
+     * @param key      the cache key, derived from the participant agent and the query.
+     * @param datasets the datasets.
+     */
+    void put(String key, List<Dataset> datasets);
+
+    /**
+     * Removes all the entries, called when an asset, a policy definition or a contract definition changes.
+     */
+    void invalidateAll();
+}
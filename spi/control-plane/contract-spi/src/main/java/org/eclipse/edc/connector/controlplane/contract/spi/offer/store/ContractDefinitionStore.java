@@ -21,8 +21,11 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.stream.Stream;
 
+import static java.lang.String.format;
+
 /**
  * Persists {@link ContractDefinition}s.
  */
@@ -60,6 +63,32 @@ public interface ContractDefinitionStore {
      */
     StoreResult<Void> save(ContractDefinition definition);
 
+    /**
+     * Stores all the contract definitions if none of their IDs already exists. Either all contract definitions are
+     * stored or none is.
+     * <p>
+     * The default implementation checks for existing IDs first and then stores the definitions one by one, implementors
+     * should override it when the backend offers a more efficient bulk insert.
+     *
+     * @param definitions {@link ContractDefinition}s to store.
+     * @return {@link StoreResult#success()} if the contract definitions were stored, {@link StoreResult#alreadyExists(String)} if a contract
+     *         definition with the same ID already exists.
+     */
+    default StoreResult<Void> saveAll(List<ContractDefinition> definitions) {
+        var existingIds = definitions.stream().map(ContractDefinition::getId).filter(id -> findById(id) != null).toList();
+        if (!existingIds.isEmpty()) {
+            return StoreResult.alreadyExists(format(CONTRACT_DEFINITION_EXISTS, String.join(", ", existingIds)));
+        }
+
+        for (var definition : definitions) {
+            var result = save(definition);
+            if (result.failed()) {
+                return result;
+            }
+        }
+        return StoreResult.success();
+    }
+
     /**
      * Update the contract definition if a contract definition with the same ID exists.
      *
@@ -17,6 +17,7 @@
 package org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
@@ -34,6 +35,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation.Type.CONSUMER;
@@ -69,7 +71,7 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
     private String protocol;
     private Type type = CONSUMER;
     private ContractAgreement contractAgreement;
-    private List<ContractOffer> contractOffers = new ArrayList<>();
+    private Supplier<List<ContractOffer>> contractOffers = value(new ArrayList<>());
     private ProtocolMessages protocolMessages = new ProtocolMessages();
 
     public Type getType() {
@@ -107,7 +109,7 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
      * @return The contract offers.
      */
     public List<ContractOffer> getContractOffers() {
-        return contractOffers;
+        return contractOffers.get();
     }
 
     /**
@@ -125,13 +127,15 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
      * @param offer The offer to add.
      */
     public void addContractOffer(ContractOffer offer) {
-        contractOffers.add(offer);
+        getContractOffers().add(offer);
+        changed("contractOffers");
     }
 
     /**
      * Returns the last offer in the list of contract offers.
      */
     public ContractOffer getLastContractOffer() {
+        var contractOffers = getContractOffers();
         var size = contractOffers.size();
         if (size == 0) {
             return null;
@@ -153,6 +157,7 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
      */
     public void setContractAgreement(ContractAgreement agreement) {
         contractAgreement = agreement;
+        changed("contractAgreement");
         setModified();
     }
 
@@ -170,10 +175,12 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
 
     public void lastSentProtocolMessage(String id) {
         protocolMessages.setLastSent(id);
+        changed("protocolMessages");
     }
 
     public void protocolMessageReceived(String id) {
         protocolMessages.addReceived(id);
+        changed("protocolMessages");
     }
 
     /**
@@ -351,7 +358,7 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
                 .protocol(protocol)
                 .type(type)
                 .contractAgreement(contractAgreement)
-                .contractOffers(contractOffers)
+                .deferredContractOffers(contractOffers)
                 .callbackAddresses(callbackAddresses)
                 .protocolMessages(protocolMessages);
         return copy(builder);
@@ -364,7 +371,7 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, correlationId, counterPartyId, clock, protocol, traceContext, type, state, stateCount, stateTimestamp, contractAgreement, contractOffers);
+        return Objects.hash(id, correlationId, counterPartyId, clock, protocol, traceContext, type, state, stateCount, stateTimestamp, contractAgreement, getContractOffers());
     }
 
     @Override
@@ -380,7 +387,11 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
                 Objects.equals(correlationId, that.correlationId) && Objects.equals(counterPartyId, that.counterPartyId) &&
                 Objects.equals(clock, that.clock) &&
                 Objects.equals(protocol, that.protocol) && Objects.equals(traceContext, that.traceContext) &&
-                type == that.type && Objects.equals(contractAgreement, that.contractAgreement) && Objects.equals(contractOffers, that.contractOffers);
+                type == that.type && Objects.equals(contractAgreement, that.contractAgreement) && Objects.equals(getContractOffers(), that.getContractOffers());
+    }
+
+    private static <T> Supplier<T> value(T value) {
+        return () -> value;
     }
 
     /**
@@ -407,8 +418,9 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
             throw new IllegalStateException(format("Cannot transition from state %s to %s", ContractNegotiationStates.from(state), ContractNegotiationStates.from(targetState)));
         }
 
-        if (state != targetState) {
+        if (state != targetState && protocolMessages.getLastSent() != null) {
             protocolMessages.setLastSent(null);
+            changed("protocolMessages");
         }
 
         transitionTo(targetState);
@@ -422,6 +434,7 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
      */
     public void setCorrelationId(String correlationId) {
         this.correlationId = correlationId;
+        changed("correlationId");
     }
 
     public enum Type {
@@ -470,6 +483,14 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
 
         //used mainly for JSON deserialization
         public Builder contractOffers(List<ContractOffer> contractOffers) {
+            return deferredContractOffers(value(contractOffers));
+        }
+
+        /**
+         * Sets the contract offers, that will be obtained from the supplier on first access.
+         */
+        @JsonIgnore
+        public Builder deferredContractOffers(Supplier<List<ContractOffer>> contractOffers) {
             entity.contractOffers = contractOffers;
             return this;
         }
@@ -480,7 +501,7 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
         }
 
         public Builder contractOffer(ContractOffer contractOffer) {
-            entity.contractOffers.add(contractOffer);
+            entity.getContractOffers().add(contractOffer);
             return this;
         }
 
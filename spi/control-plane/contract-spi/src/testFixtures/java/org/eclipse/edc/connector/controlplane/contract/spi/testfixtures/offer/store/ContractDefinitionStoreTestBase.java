@@ -146,6 +146,33 @@ public abstract class ContractDefinitionStoreTestBase {
         }
     }
 
+    @Nested
+    class SaveAll {
+
+        @Test
+        void shouldStoreAllDefinitions() {
+            var definitions = createContractDefinitions(10);
+
+            var result = getContractDefinitionStore().saveAll(definitions);
+
+            assertThat(result).isSucceeded();
+            assertThat(getContractDefinitionStore().findAll(QuerySpec.max()))
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyInAnyOrderElementsOf(definitions);
+        }
+
+        @Test
+        void shouldStoreNothing_whenADefinitionAlreadyExists() {
+            var existing = createContractDefinition("existing");
+            getContractDefinitionStore().save(existing);
+
+            var result = getContractDefinitionStore().saveAll(List.of(createContractDefinition("new"), existing));
+
+            assertThat(result).isFailed().extracting(StoreFailure::getReason).isEqualTo(ALREADY_EXISTS);
+            assertThat(getContractDefinitionStore().findById("new")).isNull();
+        }
+    }
+
     @Nested
     class Update {
         @Test
@@ -60,6 +60,14 @@ public interface AssetService {
      */
     ServiceResult<Asset> create(Asset asset);
 
+    /**
+     * Create multiple assets at once. Either all assets are created or none is.
+     *
+     * @param assets the assets
+     * @return successful result if all the assets are created correctly, failure otherwise
+     */
+    ServiceResult<List<Asset>> createAll(List<Asset> assets);
+
     /**
      * Delete an asset
      *
@@ -64,6 +64,15 @@ public interface ContractDefinitionService {
      */
     ServiceResult<ContractDefinition> create(ContractDefinition contractDefinition);
 
+    /**
+     * Create multiple contract definitions at once. Either all definitions are created or none is. If a definition
+     * with one of the ids exists, returns CONFLICT failure.
+     *
+     * @param contractDefinitions the contract definitions
+     * @return successful result if all the contract definitions are created correctly, failure otherwise
+     */
+    ServiceResult<List<ContractDefinition>> createAll(List<ContractDefinition> contractDefinitions);
+
     /**
      * Update a contract definition. If a definition with the input id doesn't exist, returns
      * NOT_FOUND failure.
@@ -78,6 +78,15 @@ public interface PolicyDefinitionService {
     @NotNull
     ServiceResult<PolicyDefinition> create(PolicyDefinition policy);
 
+    /**
+     * Create multiple policies at once. Either all policies are created or none is.
+     *
+     * @param policies the policies
+     * @return successful result if all the policies are created correctly, failure otherwise
+     */
+    @NotNull
+    ServiceResult<List<PolicyDefinition>> createAll(List<PolicyDefinition> policies);
+
     /**
      * Updates a policy. If the policy does not yet exist, {@link ServiceResult#notFound(String)} will be returned.
      *
@@ -21,8 +21,11 @@ import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 
+import java.util.List;
 import java.util.stream.Stream;
 
+import static java.lang.String.format;
+
 /**
  * Persists {@link Policy}.
  */
@@ -59,6 +62,31 @@ public interface PolicyDefinitionStore {
      */
     StoreResult<PolicyDefinition> create(PolicyDefinition policy);
 
+    /**
+     * Persists all the policies, if none of them exists yet. Either all policies are stored or none is.
+     * <p>
+     * The default implementation checks for existing IDs first and then stores the policies one by one, implementors
+     * should override it when the backend offers a more efficient bulk insert.
+     *
+     * @param policies to be saved.
+     * @return {@link StoreResult#success()} if they could be stored, {@link StoreResult#alreadyExists(String)} if a policy with the same ID already exists.
+     * @throws EdcPersistenceException if something goes wrong.
+     */
+    default StoreResult<Void> createAll(List<PolicyDefinition> policies) {
+        var existingIds = policies.stream().map(PolicyDefinition::getId).filter(id -> findById(id) != null).toList();
+        if (!existingIds.isEmpty()) {
+            return StoreResult.alreadyExists(format(POLICY_ALREADY_EXISTS, String.join(", ", existingIds)));
+        }
+
+        for (var policy : policies) {
+            var result = create(policy);
+            if (result.failed()) {
+                return result.mapFailure();
+            }
+        }
+        return StoreResult.success();
+    }
+
     /**
      * Updates the policy.
      *
@@ -31,6 +31,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -107,6 +108,35 @@ public abstract class PolicyDefinitionStoreTestBase {
         }
     }
 
+    @Nested
+    class CreateAll {
+
+        @Test
+        void shouldStoreAllPolicies() {
+            var policies = IntStream.range(0, 5).mapToObj(i -> TestFunctions.createPolicy(getRandomId())).toList();
+
+            var result = getPolicyDefinitionStore().createAll(policies);
+
+            assertThat(result.succeeded()).isTrue();
+            assertThat(getPolicyDefinitionStore().findAll(QuerySpec.max()))
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyInAnyOrderElementsOf(policies);
+        }
+
+        @Test
+        void shouldStoreNothing_whenAPolicyAlreadyExists() {
+            var existing = TestFunctions.createPolicy(getRandomId());
+            var notExisting = TestFunctions.createPolicy(getRandomId());
+            getPolicyDefinitionStore().create(existing);
+
+            var result = getPolicyDefinitionStore().createAll(List.of(notExisting, existing));
+
+            assertThat(result.succeeded()).isFalse();
+            assertThat(result.reason()).isEqualTo(ALREADY_EXISTS);
+            assertThat(getPolicyDefinitionStore().findById(notExisting.getId())).isNull();
+        }
+    }
+
     @Nested
     class Update {
         @Test
@@ -39,6 +39,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
@@ -126,13 +127,13 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
     private String protocol;
     private String correlationId;
     private String counterPartyAddress;
-    private DataAddress dataDestination;
+    private Supplier<DataAddress> dataDestination = () -> null;
     private String assetId;
     private String contractId;
-    private DataAddress contentDataAddress;
+    private Supplier<DataAddress> contentDataAddress = () -> null;
     private ResourceManifest resourceManifest;
-    private ProvisionedResourceSet provisionedResourceSet = ProvisionedResourceSet.Builder.newInstance().build();
-    private List<DeprovisionedResource> deprovisionedResources = new ArrayList<>();
+    private Supplier<ProvisionedResourceSet> provisionedResourceSet = value(ProvisionedResourceSet.Builder.newInstance().build());
+    private Supplier<List<DeprovisionedResource>> deprovisionedResources = value(new ArrayList<>());
     private Map<String, Object> privateProperties = new HashMap<>();
     private List<CallbackAddress> callbackAddresses = new ArrayList<>();
     private ProtocolMessages protocolMessages = new ProtocolMessages();
@@ -144,7 +145,7 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
     }
 
     public List<DeprovisionedResource> getDeprovisionedResources() {
-        return deprovisionedResources;
+        return deprovisionedResources.get();
     }
 
     public Type getType() {
@@ -156,31 +157,34 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
     }
 
     public ProvisionedResourceSet getProvisionedResourceSet() {
-        return provisionedResourceSet;
+        return provisionedResourceSet.get();
     }
 
     public DataAddress getContentDataAddress() {
-        return contentDataAddress;
+        return contentDataAddress.get();
     }
 
     public void setContentDataAddress(DataAddress dataAddress) {
-        contentDataAddress = dataAddress;
+        contentDataAddress = value(dataAddress);
+        changed("contentDataAddress");
     }
 
     public void transitionProvisioning(ResourceManifest manifest) {
         transition(PROVISIONING, INITIAL, PROVISIONING);
         resourceManifest = manifest;
         resourceManifest.setTransferProcessId(id);
+        changed("resourceManifest");
     }
 
     public void addProvisionedResource(ProvisionedResource resource) {
-        provisionedResourceSet.addResource(resource);
+        getProvisionedResourceSet().addResource(resource);
+        changed("provisionedResourceSet");
         setModified();
-
     }
 
     public void addDeprovisionedResource(DeprovisionedResource resource) {
-        deprovisionedResources.add(resource);
+        getDeprovisionedResources().add(resource);
+        changed("deprovisionedResources");
         setModified();
     }
 
@@ -198,6 +202,7 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
         if (resourceManifest == null) {
             return emptyList();
         }
+        var provisionedResourceSet = getProvisionedResourceSet();
         if (provisionedResourceSet == null) {
             return unmodifiableList(resourceManifest.getDefinitions());
         }
@@ -219,11 +224,12 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
     @JsonIgnore
     @NotNull
     public List<ProvisionedResource> getResourcesToDeprovision() {
+        var provisionedResourceSet = getProvisionedResourceSet();
         if (provisionedResourceSet == null) {
             return emptyList();
         }
 
-        var deprovisionedResources = this.deprovisionedResources.stream().map(DeprovisionedResource::getProvisionedResourceId).collect(toSet());
+        var deprovisionedResources = getDeprovisionedResources().stream().map(DeprovisionedResource::getProvisionedResourceId).collect(toSet());
         return provisionedResourceSet.getResources().stream().filter(r -> !deprovisionedResources.contains(r.getId())).collect(toList());
     }
 
@@ -253,10 +259,12 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
 
     public void lastSentProtocolMessage(String id) {
         protocolMessages.setLastSent(id);
+        changed("protocolMessages");
     }
 
     public void protocolMessageReceived(String id) {
         protocolMessages.addReceived(id);
+        changed("protocolMessages");
     }
 
     public void transitionProvisioningRequested() {
@@ -300,6 +308,7 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
             transition(STARTED, state -> canBeStartedConsumer());
         } else {
             this.dataPlaneId = dataPlaneId;
+            changed("dataPlaneId");
             transition(STARTED, STARTED, STARTING, SUSPENDED, RESUMING);
         }
     }
@@ -403,6 +412,7 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
      */
     public void setCorrelationId(String correlationId) {
         this.correlationId = correlationId;
+        changed("correlationId");
     }
 
     @JsonIgnore
@@ -435,7 +445,7 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
 
     @JsonIgnore
     public DataAddress getDataDestination() {
-        return dataDestination;
+        return dataDestination.get();
     }
 
     @JsonIgnore
@@ -445,12 +455,13 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
 
     @JsonIgnore
     public void updateDestination(DataAddress dataAddress) {
-        this.dataDestination = dataAddress;
+        this.dataDestination = value(dataAddress);
+        changed("dataDestination");
     }
 
     @JsonIgnore
     public String getDestinationType() {
-        return dataDestination.getType();
+        return getDataDestination().getType();
     }
 
     public String getDataPlaneId() {
@@ -464,12 +475,12 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
                 .protocol(protocol)
                 .correlationId(correlationId)
                 .counterPartyAddress(counterPartyAddress)
-                .dataDestination(dataDestination)
+                .deferredDataDestination(dataDestination)
                 .assetId(assetId)
                 .contractId(contractId)
-                .provisionedResourceSet(provisionedResourceSet)
-                .contentDataAddress(contentDataAddress)
-                .deprovisionedResources(deprovisionedResources)
+                .deferredProvisionedResourceSet(provisionedResourceSet)
+                .deferredContentDataAddress(contentDataAddress)
+                .deferredDeprovisionedResources(deprovisionedResources)
                 .privateProperties(privateProperties)
                 .callbackAddresses(callbackAddresses)
                 .transferType(transferType)
@@ -514,6 +525,10 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
                 '}';
     }
 
+    private static <T> Supplier<T> value(T value) {
+        return () -> value;
+    }
+
     private void transition(TransferProcessStates end, TransferProcessStates... starts) {
         transition(end, (state) -> Arrays.stream(starts).anyMatch(s -> s == state));
     }
@@ -531,8 +546,9 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
             throw new IllegalStateException(format("Cannot transition from state %s to %s", TransferProcessStates.from(state), TransferProcessStates.from(targetState)));
         }
 
-        if (state != targetState) {
+        if (state != targetState && protocolMessages.getLastSent() != null) {
             protocolMessages.setLastSent(null);
+            changed("protocolMessages");
         }
 
         transitionTo(targetState);
@@ -565,16 +581,40 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
         }
 
         public Builder contentDataAddress(DataAddress dataAddress) {
+            return deferredContentDataAddress(value(dataAddress));
+        }
+
+        /**
+         * Sets the content data address, that will be obtained from the supplier on first access.
+         */
+        @JsonIgnore
+        public Builder deferredContentDataAddress(Supplier<DataAddress> dataAddress) {
             entity.contentDataAddress = dataAddress;
             return this;
         }
 
         public Builder provisionedResourceSet(ProvisionedResourceSet set) {
+            return deferredProvisionedResourceSet(value(set));
+        }
+
+        /**
+         * Sets the provisioned resource set, that will be obtained from the supplier on first access.
+         */
+        @JsonIgnore
+        public Builder deferredProvisionedResourceSet(Supplier<ProvisionedResourceSet> set) {
             entity.provisionedResourceSet = set;
             return this;
         }
 
         public Builder deprovisionedResources(List<DeprovisionedResource> resources) {
+            return deferredDeprovisionedResources(value(resources));
+        }
+
+        /**
+         * Sets the deprovisioned resources, that will be obtained from the supplier on first access.
+         */
+        @JsonIgnore
+        public Builder deferredDeprovisionedResources(Supplier<List<DeprovisionedResource>> resources) {
             entity.deprovisionedResources = resources;
             return this;
         }
@@ -620,6 +660,14 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
         }
 
         public Builder dataDestination(DataAddress dataDestination) {
+            return deferredDataDestination(value(dataDestination));
+        }
+
+        /**
+         * Sets the data destination, that will be obtained from the supplier on first access.
+         */
+        @JsonIgnore
+        public Builder deferredDataDestination(Supplier<DataAddress> dataDestination) {
             entity.dataDestination = dataDestination;
             return this;
         }
@@ -362,4 +362,40 @@ class TransferProcessTest {
         assertThat(process.deprovisionComplete()).isFalse();
     }
 
+    @Test
+    void trackChanges_shouldTrackChangedFields() {
+        var process = TransferProcess.Builder.newInstance().id("1").type(TransferProcess.Type.PROVIDER)
+                .state(TransferProcessStates.STARTING.code()).build();
+        process.lastSentProtocolMessage("message-id");
+        process.trackChanges();
+
+        process.transitionStarted("dataPlaneId");
+        process.updateDestination(DataAddress.Builder.newInstance().type("test").build());
+
+        assertThat(process.tracksChanges()).isTrue();
+        assertThat(process.changedFields()).containsExactlyInAnyOrder("dataPlaneId", "dataDestination", "protocolMessages");
+    }
+
+    @Test
+    void trackChanges_shouldNotTrackStateFields() {
+        var process = TransferProcess.Builder.newInstance().id("1").state(TransferProcessStates.STARTED.code()).build();
+        process.trackChanges();
+
+        process.transitionCompleting();
+        process.setPending(true);
+        process.setErrorDetail("error");
+
+        assertThat(process.changedFields()).isEmpty();
+    }
+
+    @Test
+    void changedFields_shouldBeEmpty_whenChangesAreNotTracked() {
+        var process = TransferProcess.Builder.newInstance().id("1").build();
+
+        process.setCorrelationId("correlationId");
+
+        assertThat(process.tracksChanges()).isFalse();
+        assertThat(process.changedFields()).isEmpty();
+    }
+
 }
@@ -26,10 +26,11 @@ import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntrySta
 public class PolicyMonitorEntry extends StatefulEntity<PolicyMonitorEntry> {
 
     private String contractId;
+    private long nextEvaluation;
 
     @Override
     public PolicyMonitorEntry copy() {
-        var builder = Builder.newInstance().contractId(contractId);
+        var builder = Builder.newInstance().contractId(contractId).nextEvaluation(nextEvaluation);
         return copy(builder);
     }
 
@@ -42,6 +43,17 @@ public class PolicyMonitorEntry extends StatefulEntity<PolicyMonitorEntry> {
         return contractId;
     }
 
+    /**
+     * The point in time (epoch millis) from which the entry needs to be evaluated again, 0 means as soon as possible.
+     */
+    public long getNextEvaluation() {
+        return nextEvaluation;
+    }
+
+    public void scheduleEvaluation(long nextEvaluation) {
+        this.nextEvaluation = nextEvaluation;
+    }
+
     public void transitionToStarted() {
         transitionTo(STARTED.code());
     }
@@ -70,6 +82,11 @@ public class PolicyMonitorEntry extends StatefulEntity<PolicyMonitorEntry> {
             return this;
         }
 
+        public Builder nextEvaluation(long nextEvaluation) {
+            entity.nextEvaluation = nextEvaluation;
+            return this;
+        }
+
         @Override
         public Builder self() {
             return this;
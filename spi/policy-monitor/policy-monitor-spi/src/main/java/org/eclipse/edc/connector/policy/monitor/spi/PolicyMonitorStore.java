@@ -15,6 +15,21 @@
 package org.eclipse.edc.connector.policy.monitor.spi;
 
 import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.query.Criterion;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
 
 public interface PolicyMonitorStore extends StateEntityStore<PolicyMonitorEntry> {
+
+    /**
+     * Returns a list of entries that are not leased and whose next evaluation is due, ordered by next evaluation time
+     * (earliest first). The returned entries are leased.
+     *
+     * @param max the max number of entries returned.
+     * @param criteria additional filtering criteria.
+     * @return the list of due entries.
+     */
+    @NotNull
+    List<PolicyMonitorEntry> nextDueNotLeased(int max, Criterion... criteria);
 }
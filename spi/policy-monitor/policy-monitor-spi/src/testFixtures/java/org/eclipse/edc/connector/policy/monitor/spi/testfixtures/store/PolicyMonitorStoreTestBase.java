@@ -182,6 +182,40 @@ public abstract class PolicyMonitorStoreTestBase {
         }
     }
 
+    @Nested
+    class NextDueNotLeased {
+
+        @Test
+        void shouldReturnOnlyDueEntries_orderedByNextEvaluation() {
+            var now = System.currentTimeMillis();
+            var notDue = createPolicyMonitorEntry("not-due", STARTED);
+            notDue.scheduleEvaluation(now + Duration.ofHours(1).toMillis());
+            var dueLater = createPolicyMonitorEntry("due-later", STARTED);
+            dueLater.scheduleEvaluation(now - 1000);
+            var dueFirst = createPolicyMonitorEntry("due-first", STARTED);
+            dueFirst.scheduleEvaluation(now - 2000);
+            getStore().save(notDue);
+            getStore().save(dueLater);
+            getStore().save(dueFirst);
+
+            var leased = getStore().nextDueNotLeased(5, hasState(STARTED.code()));
+
+            assertThat(leased).extracting(PolicyMonitorEntry::getId).containsExactly("due-first", "due-later");
+            assertThat(isLeasedBy("not-due", CONNECTOR_NAME)).isFalse();
+        }
+
+        @Test
+        void shouldNotReturnLeasedEntries() {
+            var entry = createPolicyMonitorEntry("id", STARTED);
+            getStore().save(entry);
+            leaseEntity(entry.getId(), "another-owner");
+
+            var leased = getStore().nextDueNotLeased(5, hasState(STARTED.code()));
+
+            assertThat(leased).isEmpty();
+        }
+    }
+
     @Nested
     class FindByIdAndLease {
         @Test
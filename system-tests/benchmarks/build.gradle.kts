@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmhImplementation(project(":spi:common:core-spi"))
+    jmhImplementation(project(":spi:common:json-ld-spi"))
+    jmhImplementation(project(":spi:common:policy-engine-spi"))
+    jmhImplementation(project(":spi:control-plane:asset-spi"))
+    jmhImplementation(project(":spi:control-plane:catalog-spi"))
+    jmhImplementation(project(":spi:control-plane:contract-spi"))
+    jmhImplementation(project(":spi:control-plane:policy-spi"))
+    jmhImplementation(project(":core:common:lib:json-ld-lib"))
+    jmhImplementation(project(":core:common:lib:policy-engine-lib"))
+    jmhImplementation(project(":core:common:lib:query-lib"))
+    jmhImplementation(project(":core:common:lib:transform-lib"))
+    jmhImplementation(project(":core:control-plane:control-plane-catalog"))
+    jmhImplementation(project(":core:control-plane:control-plane-contract"))
+    jmhImplementation(project(":core:control-plane:control-plane-core"))
+    jmhImplementation(project(":core:control-plane:control-plane-transform"))
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    // short default run, meant to be executed on a developer machine before and after a change
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
+
+edcBuild {
+    publish.set(false)
+}
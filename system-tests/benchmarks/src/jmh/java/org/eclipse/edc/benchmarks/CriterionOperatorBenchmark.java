@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.connector.controlplane.query.asset.AssetPropertyLookup;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.benchmarks.Fixtures.CATEGORY_PROPERTY;
+import static org.eclipse.edc.benchmarks.Fixtures.category;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Measures the predicates created by {@link CriterionOperatorRegistry} when filtering assets in memory, as done by the
+ * in-memory stores and by contract definition asset selectors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CriterionOperatorBenchmark {
+
+    private static final int ASSETS = 10_000;
+
+    private CriterionOperatorRegistry registry;
+    private List<Asset> assets;
+
+    @Setup
+    public void setup() {
+        registry = CriterionOperatorRegistryImpl.ofDefaults();
+        registry.registerPropertyLookup(new AssetPropertyLookup());
+        assets = Fixtures.assets(ASSETS).toList();
+    }
+
+    @Benchmark
+    public long equal() {
+        return count(criterion(CATEGORY_PROPERTY, "=", category(3)));
+    }
+
+    @Benchmark
+    public long in() {
+        var ids = IntStream.range(0, 100).mapToObj(i -> "asset-" + i * 100).toList();
+        return count(criterion(Asset.PROPERTY_ID, "in", ids));
+    }
+
+    @Benchmark
+    public long like() {
+        return count(criterion(Asset.PROPERTY_NAME, "like", "Asset 9%"));
+    }
+
+    private long count(Criterion criterion) {
+        var predicate = registry.<Asset>toPredicate(criterion);
+        return assets.stream().filter(predicate).count();
+    }
+}
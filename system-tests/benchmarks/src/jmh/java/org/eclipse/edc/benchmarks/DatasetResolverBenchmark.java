@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.connector.controlplane.catalog.DatasetResolverImpl;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
+import org.eclipse.edc.connector.controlplane.contract.offer.ContractDefinitionResolverImpl;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.controlplane.defaults.storage.assetindex.InMemoryAssetIndex;
+import org.eclipse.edc.connector.controlplane.defaults.storage.contractdefinition.InMemoryContractDefinitionStore;
+import org.eclipse.edc.connector.controlplane.defaults.storage.policydefinition.InMemoryPolicyDefinitionStore;
+import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
+import org.eclipse.edc.connector.controlplane.query.asset.AssetPropertyLookup;
+import org.eclipse.edc.policy.engine.PolicyEngineImpl;
+import org.eclipse.edc.policy.engine.RuleBindingRegistryImpl;
+import org.eclipse.edc.policy.engine.ScopeFilter;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.benchmarks.Fixtures.CATEGORIES;
+import static org.eclipse.edc.benchmarks.Fixtures.CATEGORY_PROPERTY;
+import static org.eclipse.edc.benchmarks.Fixtures.CONSTRAINT_VALUE;
+import static org.eclipse.edc.benchmarks.Fixtures.category;
+import static org.eclipse.edc.benchmarks.Fixtures.constraintKey;
+import static org.eclipse.edc.connector.controlplane.contract.spi.offer.ContractDefinitionResolver.CATALOGING_SCOPE;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Measures {@link DatasetResolver#query} on a catalog of 100k assets, offered through one contract definition per
+ * asset category, each guarded by an access policy with several constraints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DatasetResolverBenchmark {
+
+    private static final int ASSETS = 100_000;
+    private static final int POLICY_CONSTRAINTS = 5;
+    private static final int PAGE_SIZE = 50;
+
+    private final ParticipantAgent agent = new ParticipantAgent(Map.of(), Map.of());
+    private DatasetResolver datasetResolver;
+
+    @Setup
+    public void setup() {
+        var criterionOperatorRegistry = CriterionOperatorRegistryImpl.ofDefaults();
+        criterionOperatorRegistry.registerPropertyLookup(new AssetPropertyLookup());
+
+        var ruleBindingRegistry = new RuleBindingRegistryImpl();
+        var policyEngine = new PolicyEngineImpl(new ScopeFilter(ruleBindingRegistry));
+        ruleBindingRegistry.bind("use", CATALOGING_SCOPE);
+        for (var i = 0; i < POLICY_CONSTRAINTS; i++) {
+            ruleBindingRegistry.bind(constraintKey(i), CATALOGING_SCOPE);
+            policyEngine.registerFunction(CATALOGING_SCOPE, Permission.class, constraintKey(i), (operator, rightValue, permission, context) -> CONSTRAINT_VALUE.equals(rightValue));
+        }
+
+        var policyStore = new InMemoryPolicyDefinitionStore(criterionOperatorRegistry);
+        policyStore.create(PolicyDefinition.Builder.newInstance().id("policy").policy(Fixtures.policy(POLICY_CONSTRAINTS)).build());
+
+        var contractDefinitionStore = new InMemoryContractDefinitionStore(criterionOperatorRegistry);
+        for (var i = 0; i < CATEGORIES; i++) {
+            contractDefinitionStore.save(ContractDefinition.Builder.newInstance()
+                    .id("definition-" + i)
+                    .accessPolicyId("policy")
+                    .contractPolicyId("policy")
+                    .assetsSelectorCriterion(criterion(CATEGORY_PROPERTY, "=", category(i)))
+                    .build());
+        }
+
+        var assetIndex = new InMemoryAssetIndex(criterionOperatorRegistry);
+        Fixtures.assets(ASSETS).forEach(assetIndex::create);
+
+        var contractDefinitionResolver = new ContractDefinitionResolverImpl(new ConsoleMonitor(), contractDefinitionStore, policyEngine, policyStore);
+        datasetResolver = new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyStore, asset -> List.of(), criterionOperatorRegistry);
+    }
+
+    @Benchmark
+    public List<Dataset> firstPage() {
+        return query(QuerySpec.Builder.newInstance().offset(0).limit(PAGE_SIZE).build());
+    }
+
+    @Benchmark
+    public List<Dataset> lastPage() {
+        return query(QuerySpec.Builder.newInstance().offset(ASSETS - PAGE_SIZE).limit(PAGE_SIZE).build());
+    }
+
+    @Benchmark
+    public List<Dataset> filteredByCategory() {
+        return query(QuerySpec.Builder.newInstance().offset(0).limit(PAGE_SIZE)
+                .filter(criterion(CATEGORY_PROPERTY, "=", category(3)))
+                .build());
+    }
+
+    private List<Dataset> query(QuerySpec querySpec) {
+        return datasetResolver.query(agent, querySpec).toList();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_SCHEMA;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Fixtures shared by the benchmarks. Sizes are chosen to resemble production workloads rather than unit test data.
+ */
+final class Fixtures {
+
+    static final String DSPACE_SCHEMA = "https://w3id.org/dspace/v0.8/";
+    static final String CONSTRAINT_VALUE = "value";
+    static final String CATEGORY_PROPERTY = EDC_NAMESPACE + "category";
+    static final int CATEGORIES = 10;
+
+    private Fixtures() {
+    }
+
+    /**
+     * A policy with a single permission constrained by {@code constraints} atomic constraints, with left operands
+     * {@code constraint0 .. constraintN}.
+     */
+    static Policy policy(int constraints) {
+        var permission = Permission.Builder.newInstance()
+                .action(Action.Builder.newInstance().type("use").build());
+        IntStream.range(0, constraints)
+                .mapToObj(i -> AtomicConstraint.Builder.newInstance()
+                        .leftExpression(new LiteralExpression(constraintKey(i)))
+                        .operator(Operator.EQ)
+                        .rightExpression(new LiteralExpression(CONSTRAINT_VALUE))
+                        .build())
+                .forEach(permission::constraint);
+        return Policy.Builder.newInstance().permission(permission.build()).build();
+    }
+
+    static String constraintKey(int index) {
+        return "constraint" + index;
+    }
+
+    /**
+     * Generates {@code count} assets evenly spread over {@link #CATEGORIES} categories.
+     */
+    static Stream<Asset> assets(int count) {
+        return IntStream.range(0, count).mapToObj(i -> Asset.Builder.newInstance()
+                .id("asset-" + i)
+                .name("Asset " + i)
+                .description("benchmark asset number " + i)
+                .contentType("application/json")
+                .property(CATEGORY_PROPERTY, category(i % CATEGORIES))
+                .dataAddress(DataAddress.Builder.newInstance().type("HttpData").property("baseUrl", "https://example.com/" + i).build())
+                .build());
+    }
+
+    static String category(int index) {
+        return "category-" + index;
+    }
+
+    /**
+     * A DSP {@code ContractRequestMessage} in compacted form, carrying an offer with {@code constraints} constraints.
+     * The context is inlined, so no document loading takes place while processing it.
+     */
+    static JsonObject contractRequestMessage(int constraints) {
+        var constraintArray = Json.createArrayBuilder();
+        IntStream.range(0, constraints).forEach(i -> constraintArray.add(Json.createObjectBuilder()
+                .add("odrl:leftOperand", constraintKey(i))
+                .add("odrl:operator", Json.createObjectBuilder().add("@id", "odrl:eq"))
+                .add("odrl:rightOperand", CONSTRAINT_VALUE)));
+
+        var offer = Json.createObjectBuilder()
+                .add("@type", "odrl:Offer")
+                .add("@id", "offer-id")
+                .add("odrl:target", Json.createObjectBuilder().add("@id", "asset-1"))
+                .add("odrl:assigner", "provider")
+                .add("odrl:permission", Json.createArrayBuilder().add(Json.createObjectBuilder()
+                        .add("odrl:action", Json.createObjectBuilder().add("@id", "odrl:use"))
+                        .add("odrl:constraint", constraintArray)));
+
+        return Json.createObjectBuilder()
+                .add("@context", Json.createObjectBuilder()
+                        .add("@vocab", EDC_NAMESPACE)
+                        .add("edc", EDC_NAMESPACE)
+                        .add("dspace", DSPACE_SCHEMA)
+                        .add("odrl", ODRL_SCHEMA))
+                .add("@type", "dspace:ContractRequestMessage")
+                .add("dspace:consumerPid", "consumer-pid")
+                .add("dspace:callbackAddress", "https://consumer.example.com/protocol")
+                .add("dspace:offer", offer)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.benchmarks.Fixtures.DSPACE_SCHEMA;
+import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_SCHEMA;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Measures {@link TitaniumJsonLd} expansion and compaction of a DSP contract request message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonLdBenchmark {
+
+    private static final String SCOPE = "DSP";
+
+    @Param({ "1", "50" })
+    private int constraints;
+
+    private JsonLd jsonLd;
+    private JsonObject compacted;
+    private JsonObject expanded;
+
+    @Setup
+    public void setup() {
+        jsonLd = new TitaniumJsonLd(new ConsoleMonitor());
+        jsonLd.registerNamespace("edc", EDC_NAMESPACE, SCOPE);
+        jsonLd.registerNamespace("dspace", DSPACE_SCHEMA, SCOPE);
+        jsonLd.registerNamespace("odrl", ODRL_SCHEMA, SCOPE);
+
+        compacted = Fixtures.contractRequestMessage(constraints);
+        expanded = jsonLd.expand(compacted).orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+    }
+
+    @Benchmark
+    public Result<JsonObject> expand() {
+        return jsonLd.expand(compacted);
+    }
+
+    @Benchmark
+    public Result<JsonObject> compact() {
+        return jsonLd.compact(expanded, SCOPE);
+    }
+}
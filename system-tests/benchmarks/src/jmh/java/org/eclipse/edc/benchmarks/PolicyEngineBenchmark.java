@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.policy.engine.PolicyEngineImpl;
+import org.eclipse.edc.policy.engine.RuleBindingRegistryImpl;
+import org.eclipse.edc.policy.engine.ScopeFilter;
+import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
+import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.benchmarks.Fixtures.CONSTRAINT_VALUE;
+import static org.eclipse.edc.benchmarks.Fixtures.constraintKey;
+
+/**
+ * Measures {@link PolicyEngine#evaluate} on a policy with many atomic constraints, each bound to a constraint function.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PolicyEngineBenchmark {
+
+    private static final String SCOPE = "benchmark";
+
+    @Param({ "10", "100" })
+    private int constraints;
+
+    private PolicyEngine policyEngine;
+    private Policy policy;
+
+    @Setup
+    public void setup() {
+        var ruleBindingRegistry = new RuleBindingRegistryImpl();
+        policyEngine = new PolicyEngineImpl(new ScopeFilter(ruleBindingRegistry));
+        ruleBindingRegistry.bind("use", SCOPE);
+        for (var i = 0; i < constraints; i++) {
+            var key = constraintKey(i);
+            ruleBindingRegistry.bind(key, SCOPE);
+            policyEngine.registerFunction(SCOPE, Permission.class, key, (operator, rightValue, permission, context) -> CONSTRAINT_VALUE.equals(rightValue));
+        }
+        policy = Fixtures.policy(constraints);
+    }
+
+    @Benchmark
+    public Result<Void> evaluate() {
+        return policyEngine.evaluate(SCOPE, policy, PolicyContextImpl.Builder.newInstance().build());
+    }
+
+    @Benchmark
+    public Policy filter() {
+        return policyEngine.filter(policy, SCOPE);
+    }
+}
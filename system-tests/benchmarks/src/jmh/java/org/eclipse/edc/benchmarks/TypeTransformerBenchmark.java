@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.connector.controlplane.transform.odrl.from.JsonObjectFromPolicyTransformer;
+import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToActionTransformer;
+import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToConstraintTransformer;
+import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToDutyTransformer;
+import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToOperatorTransformer;
+import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToPermissionTransformer;
+import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToPolicyTransformer;
+import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToProhibitionTransformer;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.agent.ParticipantIdMapper;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.TypeTransformerRegistryImpl;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.benchmarks.Fixtures.DSPACE_SCHEMA;
+
+/**
+ * Measures the {@link TypeTransformerRegistry} transforming an expanded ODRL offer to a {@link Policy} and back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TypeTransformerBenchmark {
+
+    @Param({ "1", "50" })
+    private int constraints;
+
+    private TypeTransformerRegistry registry;
+    private JsonObject policyJson;
+    private Policy policy;
+
+    @Setup
+    public void setup() {
+        var participantIdMapper = new IdentityParticipantIdMapper();
+        registry = new TypeTransformerRegistryImpl();
+        registry.register(new JsonObjectToPolicyTransformer(participantIdMapper));
+        registry.register(new JsonObjectToPermissionTransformer());
+        registry.register(new JsonObjectToProhibitionTransformer());
+        registry.register(new JsonObjectToDutyTransformer());
+        registry.register(new JsonObjectToActionTransformer());
+        registry.register(new JsonObjectToConstraintTransformer());
+        registry.register(new JsonObjectToOperatorTransformer());
+        registry.register(new JsonObjectFromPolicyTransformer(Json.createBuilderFactory(Map.of()), participantIdMapper));
+
+        var message = new TitaniumJsonLd(new ConsoleMonitor()).expand(Fixtures.contractRequestMessage(constraints))
+                .orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+        policyJson = message.getJsonArray(DSPACE_SCHEMA + "offer").getJsonObject(0);
+        policy = registry.transform(policyJson, Policy.class)
+                .orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+    }
+
+    @Benchmark
+    public Result<Policy> toPolicy() {
+        return registry.transform(policyJson, Policy.class);
+    }
+
+    @Benchmark
+    public Result<JsonObject> fromPolicy() {
+        return registry.transform(policy, JsonObject.class);
+    }
+
+    private static class IdentityParticipantIdMapper implements ParticipantIdMapper {
+
+        @Override
+        public String toIri(String participantId) {
+            return participantId;
+        }
+
+        @Override
+        public String fromIri(String iriParticipantId) {
+            return iriParticipantId;
+        }
+    }
+}